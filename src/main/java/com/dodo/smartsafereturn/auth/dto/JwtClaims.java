@@ -0,0 +1,17 @@
+package com.dodo.smartsafereturn.auth.dto;
+
+/**
+ * 서명 검증이 끝난 JWT claims 값
+ * - JwtUtil.parseClaims() 로 한 번만 파싱 + 서명 검증 후 필요한 값을 모두 담아서 반환
+ * - expiration : 만료 시각 (epoch millis)
+ */
+public record JwtClaims(String type, Long memberNumber, String id, String role, long expiration) {
+
+    public boolean isType(JwtType jwtType) {
+        return jwtType.getValue().equals(type);
+    }
+
+    public boolean isExpired(long now) {
+        return expiration <= now;
+    }
+}
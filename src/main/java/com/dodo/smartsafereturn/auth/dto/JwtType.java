@@ -7,7 +7,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum JwtType {
 
-    ACCESS("access"), REFRESH("refresh"), RESET("reset");
+    ACCESS("access"), REFRESH("refresh"), RESET("reset"), STREAM("stream");
 
     private final String value;
 }
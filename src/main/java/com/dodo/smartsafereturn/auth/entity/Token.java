@@ -1,5 +1,6 @@
 package com.dodo.smartsafereturn.auth.entity;
 
+import com.dodo.smartsafereturn.auth.utils.TokenDigest;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -7,14 +8,28 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Slf4j
+@Table(
+        name = "token",
+        indexes = {
+                @Index(name = "uk_token_token_hash", columnList = "token_hash", unique = true),
+                @Index(name = "idx_token_expires_at", columnList = "expires_at")
+        }
+)
 public class Token {
     /**
      * 레디스와 달리 RDB 사용함으로 TTL 시간 설정이 불가능.
-     * todo 데이터가 계속 쌓이므로 스케쥴링을 통해 관리하는 기능이 필요함
+     * -> RefreshTokenPurger 가 만료된 토큰을 배치 단위로 주기적으로 삭제
+     *
+     * 토큰 원문은 저장하지 않고 SHA-256 다이제스트 (64자리 hex) 만 저장
+     * - 고정 길이 + unique 인덱스 -> 조회 / 삭제가 인덱스 한 번으로 끝남
+     * - DB 가 유출되어도 리프레시 토큰 원문을 재사용할 수 없음
      */
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,19 +39,31 @@ public class Token {
     // unique 설정 X : 하나의 회원이 여러 기기로 리프레시 토큰을 가질 수 있음
     private String memberId;
 
-    @Column(columnDefinition = "TEXT")
-    private String token;
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
 
-    private String expiration;
+    // 만료 시각 -> 인덱스를 타고 만료 토큰만 정리
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
 
     @Enumerated(EnumType.STRING)
     private TokenType type;
 
     @Builder
-    public Token(String memberId, String token, String expiration, TokenType type) {
+    public Token(String memberId, String tokenHash, LocalDateTime expiresAt, TokenType type) {
         this.memberId = memberId;
-        this.token = token;
-        this.expiration = expiration;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
         this.type = type;
     }
+
+    // 리프레시 토큰 저장용 생성 메서드 -> 원문은 다이제스트로 변환해서 저장
+    public static Token ofRefreshToken(String memberId, String refreshToken, Long refreshExpiration) {
+        return Token.builder()
+                .memberId(memberId)
+                .tokenHash(TokenDigest.sha256(refreshToken))
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration)))
+                .type(TokenType.REFRESH_TOKEN)
+                .build();
+    }
 }
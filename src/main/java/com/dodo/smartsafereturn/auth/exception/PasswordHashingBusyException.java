@@ -0,0 +1,31 @@
+package com.dodo.smartsafereturn.auth.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 로그인 비밀번호 검증 전용 스레드 풀이 포화 상태일 때 발생
+ * - 로그인 필터에서 503 (Retry-After) 로 바로 응답 -> 요청 스레드가 BCrypt 대기열에 묶이지 않도록 함
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    // 클라이언트 재시도 대기 시간 (초)
+    public static final String RETRY_AFTER_SECONDS = "1";
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    // 인증 매니저에서 다른 예외로 감싸져 올 수 있으므로 cause 체인까지 확인
+    public static boolean isCauseOf(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof PasswordHashingBusyException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,9 +2,27 @@ package com.dodo.smartsafereturn.auth.repository;
 
 import com.dodo.smartsafereturn.auth.entity.Token;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 public interface TokenRepository extends JpaRepository<Token, Long> {
 
-    Boolean existsByToken(String token);
-    void deleteByToken(String token);
+    // token_hash unique 인덱스 조회
+    boolean existsByTokenHash(String tokenHash);
+
+    // 엔티티 로딩 없이 바로 삭제 -> 삭제된 행 수 반환 (0 이면 저장소에 없던 토큰)
+    @Modifying
+    @Query("delete from Token t where t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // 만료된 토큰을 batchSize 만큼만 삭제 (expires_at 인덱스 사용, 긴 락 방지)
+    @Transactional
+    @Modifying
+    @Query(value = "delete from token where token_id in " +
+            "(select token_id from token where expires_at < :now limit :batchSize)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 }
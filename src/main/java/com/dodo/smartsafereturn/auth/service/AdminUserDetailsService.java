@@ -8,14 +8,16 @@ import com.dodo.smartsafereturn.auth.entity.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class AdminUserDetailsService implements UserDetailsService {
+public class AdminUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AdminRepository adminRepository;
 
@@ -33,4 +35,21 @@ public class AdminUserDetailsService implements UserDetailsService {
                 .role(Role.ROLE_ADMIN.getValue()) // 관리자 역할 지정
                 .build());
     }
+
+    // 로그인 성공 시 BCrypt cost 가 바뀐 비밀번호 재해싱 저장
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        adminRepository.findByIdAndIsDeletedIsFalse(user.getUsername())
+                .ifPresent(admin -> admin.update(newPassword));
+
+        CustomUserDetails details = (CustomUserDetails) user;
+        return new CustomUserDetails(
+                JwtMemberInfoDto.builder()
+                        .memberNumber(details.getMemberInfoDto().getMemberNumber())
+                        .id(details.getUsername())
+                        .password(newPassword)
+                        .role(Role.ROLE_ADMIN.getValue())
+                        .build());
+    }
 }
@@ -1,11 +1,12 @@
 package com.dodo.smartsafereturn.auth.service;
 
+import com.dodo.smartsafereturn.auth.dto.JwtClaims;
 import com.dodo.smartsafereturn.auth.dto.JwtType;
 import com.dodo.smartsafereturn.auth.dto.RefreshValidationResultDto;
 import com.dodo.smartsafereturn.auth.entity.Token;
-import com.dodo.smartsafereturn.auth.entity.TokenType;
 import com.dodo.smartsafereturn.auth.repository.TokenRepository;
 import com.dodo.smartsafereturn.auth.utils.JwtUtil;
+import com.dodo.smartsafereturn.auth.utils.TokenDigest;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -15,8 +16,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Date;
-
 /**
  * - reissue 메서드
  * 리프레시 토큰 기반으로 엑세스 토큰을 재발급 해주는 로직
@@ -54,9 +53,10 @@ public class AuthServiceImpl implements AuthService {
         // "Bearer " 제거
         refreshToken = refreshToken.split(" ")[1];
 
-        // 리프레시 토큰 만료 여부 검증
+        // 리프레시 토큰 만료 여부 검증 (파싱 + 서명 검증은 한 번만)
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(refreshToken);
+            claims = jwtUtil.parseClaims(refreshToken);
         } catch (ExpiredJwtException e) {
             // 만료 응답
             result.setBody("refresh token is expired");
@@ -65,15 +65,17 @@ public class AuthServiceImpl implements AuthService {
         }
 
         // refresh 토큰인지 타입 검증
-        if (!jwtUtil.getType(refreshToken).equals("refresh")) {
+        if (!claims.isType(JwtType.REFRESH)) {
             result.setBody("invalid refresh token");
             result.setStatus(HttpStatus.BAD_REQUEST);
             return result;
         }
 
         // 리프레시 토큰 저장소에 등록된 토큰인지 검증 -> 서버측 검증
-        Boolean isExist = tokenRepository.existsByToken(refreshToken);
-        if (!isExist) {
+        // 조회 + 삭제를 한 번에 (token_hash unique 인덱스) -> 삭제된 행이 없으면 저장소에 없는 토큰
+        // 주의점 - 재발급을 해도 이전의 토큰을 가지고 서버에 가져가도 인증이 됨 -> 먼저 삭제해서 재사용 차단
+        int deleted = tokenRepository.deleteByTokenHash(TokenDigest.sha256(refreshToken));
+        if (deleted == 0) {
             log.info("[AuthService] invalid refresh token : 리프레시 토큰 저장소 검증 실패");
             result.setBody("invalid refresh token");
             result.setStatus(HttpStatus.BAD_REQUEST);
@@ -81,9 +83,9 @@ public class AuthServiceImpl implements AuthService {
         }
 
         // 리프레시 토큰 값으로 엑세스 토큰 생성
-        Long memberNumber = jwtUtil.getMemberNumber(refreshToken);
-        String id = jwtUtil.getId(refreshToken);
-        String role = jwtUtil.getRole(refreshToken);
+        Long memberNumber = claims.memberNumber();
+        String id = claims.id();
+        String role = claims.role();
 
         // 새롭게 엑세스 토큰 발급 후, 다시 Authorization 헤더에 첨부
         String reissuedAccessToken = jwtUtil.generateToken(JwtType.ACCESS.getValue(), memberNumber, id, role, accessExpiration);
@@ -92,18 +94,7 @@ public class AuthServiceImpl implements AuthService {
         // RTR 기법 추가 (리프레시 토큰 재발급)
         String reissuedRefreshToken = jwtUtil.generateToken(JwtType.REFRESH.getValue(), memberNumber, id, role, refreshExpiration);
         response.addHeader("refresh", "Bearer " + reissuedRefreshToken);
-        /**
-         * 주의점 - 재발급을 해도 이전의 토큰을 가지고 서버에 가져가도 인증이 됨 -> 리프레시 토큰 저장소 검증
-         */
-        tokenRepository.deleteByToken(refreshToken);
-        tokenRepository.save(
-                Token.builder()
-                        .memberId(id)
-                        .token(reissuedRefreshToken)
-                        .expiration(new Date(System.currentTimeMillis() + refreshExpiration).toString())
-                        .type(TokenType.REFRESH_TOKEN)
-                        .build()
-        );
+        tokenRepository.save(Token.ofRefreshToken(id, reissuedRefreshToken, refreshExpiration));
 
         result.setBody("access token reissued successfully");
         result.setStatus(HttpStatus.OK);
@@ -112,19 +103,17 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public void logout(String refreshToken, HttpServletResponse response) {
-        // DB에 해당 토큰이 있는지 확인
-        if (!tokenRepository.existsByToken(refreshToken)) {
-            // DB에 없다면 이미 로그아웃된 상태여야하므로 400 던짐
-            log.info("[JWT logout 기능] 이미 로그아웃되어 없는 리프레시 토큰입니다.");
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            return;
-        }
-
         /**
          * 로그아웃 로직 수행
          * 헤더로 받은 refresh token 을 기반으로 토큰 저장소에서 삭제
          * - 프론트의 경우 -> access , refresh 모두 저장소에서 삭제하고, refresh 만 헤더로 추가해서 logout 경로로 요청하면 끝.
+         * - 조회 후 삭제하지 않고 바로 삭제 -> 삭제된 행이 없다면 이미 로그아웃된 상태
          */
-        tokenRepository.deleteByToken(refreshToken);
+        int deleted = tokenRepository.deleteByTokenHash(TokenDigest.sha256(refreshToken));
+        if (deleted == 0) {
+            // DB에 없다면 이미 로그아웃된 상태여야하므로 400 던짐
+            log.info("[JWT logout 기능] 이미 로그아웃되어 없는 리프레시 토큰입니다.");
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        }
     }
 }
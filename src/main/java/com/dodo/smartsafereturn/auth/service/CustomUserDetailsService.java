@@ -8,14 +8,16 @@ import com.dodo.smartsafereturn.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
@@ -33,4 +35,27 @@ public class CustomUserDetailsService implements UserDetailsService {
                         .password(member.getPassword())
                         .build());
     }
+
+    /**
+     * 로그인 성공 시 저장된 해시의 BCrypt cost 가 목표 cost 와 다르면 DaoAuthenticationProvider 가 호출
+     * -> 이미 검증된 평문 비밀번호로 재해싱한 값을 저장 (cost 변경 후 점진적 마이그레이션)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        memberRepository.findMemberByIdNotDeleted(user.getUsername())
+                .ifPresent(member -> {
+                    member.changePassword(newPassword);
+                    log.info("[CustomUserDetailsService] password rehashed : id={}", member.getId());
+                });
+
+        CustomUserDetails details = (CustomUserDetails) user;
+        return new CustomUserDetails(
+                JwtMemberInfoDto.builder()
+                        .id(details.getUsername())
+                        .memberNumber(details.getMemberInfoDto().getMemberNumber())
+                        .role(Role.ROLE_USER.getValue())
+                        .password(newPassword)
+                        .build());
+    }
 }
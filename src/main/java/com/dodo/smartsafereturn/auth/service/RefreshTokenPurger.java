@@ -0,0 +1,51 @@
+package com.dodo.smartsafereturn.auth.service;
+
+import com.dodo.smartsafereturn.auth.repository.TokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 리프레시 토큰 정리 스케쥴러
+ * - RDB 는 TTL 이 없으므로 주기적으로 expires_at 이 지난 토큰을 삭제
+ * - 한 번에 batch-size 만큼만 삭제하고 트랜잭션을 끊어서 테이블 락 / undo 부담을 줄임
+ * - max-batches 만큼 돌고도 남아있으면 다음 주기에 이어서 정리
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurger {
+
+    private final TokenRepository tokenRepository;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public RefreshTokenPurger(TokenRepository tokenRepository,
+                              @Value("${jwt.purge.batch-size:1000}") int batchSize,
+                              @Value("${jwt.purge.max-batches:100}") int maxBatches) {
+        this.tokenRepository = tokenRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.purge.interval:PT10M}", initialDelayString = "${jwt.purge.initial-delay:PT1M}")
+    public void purgeExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+
+        for (int i = 0; i < maxBatches; i++) {
+            // 배치 하나당 트랜잭션 하나 (TokenRepository.deleteExpiredBatch)
+            int deleted = tokenRepository.deleteExpiredBatch(now, batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("[RefreshTokenPurger] 만료된 리프레시 토큰 {}건 삭제", total);
+        }
+    }
+}
@@ -4,7 +4,7 @@ import com.dodo.smartsafereturn.auth.dto.JwtType;
 import com.dodo.smartsafereturn.auth.dto.LoginDto;
 import com.dodo.smartsafereturn.auth.entity.CustomUserDetails;
 import com.dodo.smartsafereturn.auth.entity.Token;
-import com.dodo.smartsafereturn.auth.entity.TokenType;
+import com.dodo.smartsafereturn.auth.exception.PasswordHashingBusyException;
 import com.dodo.smartsafereturn.auth.repository.TokenRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
@@ -19,7 +19,6 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.io.IOException;
-import java.util.Date;
 
 /**
  * 로그인 필터 -> security 필터체인을 통해 로그인을 성공했을 경우 JWT를 발급한다
@@ -108,14 +107,7 @@ public class AdminLoginFilter extends UsernamePasswordAuthenticationFilter {
         String refreshToken = jwtUtil.generateToken(JwtType.REFRESH.getValue(), memberNumber, id, role, refreshExpiration);
 
         // 리프레시 토큰 저장소에 생성한 토큰 저장
-        tokenRepository.save(
-                Token.builder()
-                        .memberId(id)
-                        .token(refreshToken)
-                        .expiration(new Date(System.currentTimeMillis() + refreshExpiration).toString())
-                        .type(TokenType.REFRESH_TOKEN)
-                        .build()
-        );
+        tokenRepository.save(Token.ofRefreshToken(id, refreshToken, refreshExpiration));
 
         // Authorization 헤더에 "Bearer " 붙여서 토큰 보내야함 -> HTTP 인증 방식을 RFC 7235 정의해놓은 규격이 있어서 맞춰주는게 좋음
         // 리프레시 토큰 또한 refresh 헤더에 모두 보내줌
@@ -128,6 +120,13 @@ public class AdminLoginFilter extends UsernamePasswordAuthenticationFilter {
     // 로그인 실패 시 실행하는 메서드
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException, ServletException {
+        // 비밀번호 검증 풀 포화 -> 자격 증명 실패가 아니므로 503 + Retry-After 로 바로 응답
+        if (PasswordHashingBusyException.isCauseOf(failed)) {
+            log.warn("[loginFilter] password hashing pool is busy");
+            response.setHeader("Retry-After", PasswordHashingBusyException.RETRY_AFTER_SECONDS);
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
         log.info("[loginFilter] Unsuccessful authentication");
         // 응답에 401 에러 보내기
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -0,0 +1,50 @@
+package com.dodo.smartsafereturn.auth.utils;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로그인 인증 매니저 전용 PasswordEncoder
+ * - 실제 BCrypt 연산은 PasswordHashingExecutor 의 전용 풀에서 수행
+ * - upgradeEncoding : 저장된 해시의 cost 가 목표 cost 와 다르면 true
+ *   -> DaoAuthenticationProvider 가 로그인 성공 시 UserDetailsPasswordService 로 재해싱한 비밀번호 저장
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+    private final int targetStrength;
+
+    public BoundedPasswordEncoder(BCryptPasswordEncoder delegate, PasswordHashingExecutor executor, int targetStrength) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.targetStrength = targetStrength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(1)) != targetStrength;
+    }
+}
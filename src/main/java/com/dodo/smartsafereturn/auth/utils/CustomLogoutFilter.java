@@ -1,5 +1,7 @@
 package com.dodo.smartsafereturn.auth.utils;
 
+import com.dodo.smartsafereturn.auth.dto.JwtClaims;
+import com.dodo.smartsafereturn.auth.dto.JwtType;
 import com.dodo.smartsafereturn.auth.service.AuthService;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
@@ -57,19 +59,22 @@ public class CustomLogoutFilter extends GenericFilterBean {
         // Bearer 포장 떼기
         refreshToken = refreshToken.split(" ")[1];
 
-        // refresh 타입의 토큰인지 검증
-        if (!jwtUtil.getType(refreshToken).equals("refresh")) {
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            return;
-        }
-
-        // 만료 검증
+        // 토큰 파싱 + 만료 검증 (한 번만 수행)
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(refreshToken);
+            claims = jwtUtil.parseClaims(refreshToken);
         } catch (ExpiredJwtException e) {
             // 이미 만료되었어도 이미 오랜시간 프론트에서 있다가 로그아웃한 경우가 있으므로 사용자 경험 측면에서 그냥 로그아웃하게 해주는게 맞음
             // 단지 리프레시 토큰 만료만 알려주기
             response.getWriter().write("refresh token expired");
+            authService.logout(refreshToken, response);
+            return;
+        }
+
+        // refresh 타입의 토큰인지 검증
+        if (!claims.isType(JwtType.REFRESH)) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
         }
 
         // 로그아웃 로직 수행
@@ -0,0 +1,99 @@
+package com.dodo.smartsafereturn.auth.utils;
+
+import com.dodo.smartsafereturn.auth.dto.JwtClaims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 엑세스 토큰 claims 캐시
+ * - 같은 엑세스 토큰으로 반복 요청하는 모바일 클라이언트는 토큰이 만료될 때까지 서명 검증을 건너뜀
+ * - 키 : 토큰 원문의 SHA-256 다이제스트 (원문 토큰은 메모리에 들고 있지 않음)
+ * - TTL : 토큰 자체의 만료 시각 -> 만료된 항목은 조회 시 제거하고 다시 파싱 (ExpiredJwtException 흐름 유지)
+ * - 크기 제한 : max-size 도달 시 만료된 항목부터 정리, 그래도 가득 차 있으면 캐싱하지 않음
+ *
+ * 메트릭
+ * - auth.jwt.claims.cache.requests{result=hit|miss}
+ * - auth.jwt.claims.cache.hit.ratio, auth.jwt.claims.cache.size
+ */
+@Slf4j
+@Component
+public class JwtClaimsCache {
+
+    private final JwtUtil jwtUtil;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, JwtClaims> cache = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public JwtClaimsCache(JwtUtil jwtUtil,
+                          MeterRegistry meterRegistry,
+                          @Value("${jwt.claims-cache.max-size:10000}") int maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.maxSize = maxSize;
+        this.hitCounter = Counter.builder("auth.jwt.claims.cache.requests")
+                .tag("result", "hit")
+                .description("서명 검증을 건너뛴 엑세스 토큰 요청 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("auth.jwt.claims.cache.requests")
+                .tag("result", "miss")
+                .description("서명 검증을 수행한 엑세스 토큰 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.jwt.claims.cache.hit.ratio", this, JwtClaimsCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("auth.jwt.claims.cache.size", cache, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환, 없으면 한 번 파싱 + 서명 검증 후 캐싱
+     * - 만료 / 위조 토큰은 JwtUtil.parseClaims() 의 예외가 그대로 전파됨
+     */
+    public JwtClaims getOrParse(String token) {
+        String key = TokenDigest.sha256(token);
+        long now = System.currentTimeMillis();
+
+        JwtClaims cached = cache.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                hitCounter.increment();
+                return cached;
+            }
+            // 만료된 항목 -> 제거 후 다시 파싱해서 만료 예외를 그대로 던지도록 함
+            cache.remove(key, cached);
+        }
+
+        missCounter.increment();
+        JwtClaims claims = jwtUtil.parseClaims(token);
+        put(key, claims, now);
+        return claims;
+    }
+
+    private void put(String key, JwtClaims claims, long now) {
+        if (cache.size() >= maxSize) {
+            evictExpired(now);
+            if (cache.size() >= maxSize) {
+                // 유효한 토큰으로 가득 찬 상태 -> 캐싱하지 않고 매번 검증 (메모리 상한 유지)
+                log.debug("[JwtClaimsCache] cache is full : size={}", cache.size());
+                return;
+            }
+        }
+        cache.put(key, claims);
+    }
+
+    private void evictExpired(long now) {
+        cache.values().removeIf(claims -> claims.isExpired(now));
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+}
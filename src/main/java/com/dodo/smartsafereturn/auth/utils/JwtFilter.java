@@ -1,5 +1,6 @@
 package com.dodo.smartsafereturn.auth.utils;
 
+import com.dodo.smartsafereturn.auth.dto.JwtClaims;
 import com.dodo.smartsafereturn.auth.dto.JwtType;
 import com.dodo.smartsafereturn.auth.entity.CustomUserDetails;
 import com.dodo.smartsafereturn.auth.dto.JwtMemberInfoDto;
@@ -21,12 +22,13 @@ import java.io.IOException;
  * 2025-03-27 : access / refresh token 구현
  * 기능 : 요청 헤더 Authorization 에서 JWT 추출 -> 강제로 SecurityContextHolder 세션 생성 (STATELESS 상태로 관리)
  * - 1. 액세스 토큰이 만료된 경우 -> 리프레시 토큰 검증 요청을 다시 프론트로 보내야함
+ * - 2. 토큰 파싱 / 서명 검증은 요청당 최대 한 번 (JwtClaimsCache)
  */
 @Slf4j
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtClaimsCache jwtClaimsCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -45,9 +47,10 @@ public class JwtFilter extends OncePerRequestFilter {
         String accessToken = authorization.split(" ")[1];
 
 
-        // 토큰 소멸시간 검증
+        // 토큰 파싱 + 서명 검증 + 소멸시간 검증 (한 번만 수행, 검증된 토큰은 만료 전까지 캐시 사용)
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = jwtClaimsCache.getOrParse(accessToken);
         } catch (ExpiredJwtException e) {
 
             // response body
@@ -59,8 +62,7 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         // 토큰이 access token 인지 검증
-        String type = jwtUtil.getType(accessToken);
-        if (!type.equals(JwtType.ACCESS.getValue())) {
+        if (!claims.isType(JwtType.ACCESS)) {
             // response body
             response.getWriter().print("access_invalid");
             // 엑세스 토큰이 잘못됨 -> 프론트와 협의한 에러 코드를 보내서 리프레시토큰을 요구하도록 함 (401)
@@ -69,9 +71,9 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         // 토큰에서 claims 얻기
-        Long memberNumber = jwtUtil.getMemberNumber(accessToken);
-        String id = jwtUtil.getId(accessToken);
-        String role = jwtUtil.getRole(accessToken);
+        Long memberNumber = claims.memberNumber();
+        String id = claims.id();
+        String role = claims.role();
 
         JwtMemberInfoDto dto = JwtMemberInfoDto.builder()
                 .memberNumber(memberNumber)
@@ -1,6 +1,8 @@
 package com.dodo.smartsafereturn.auth.utils;
 
+import com.dodo.smartsafereturn.auth.dto.JwtClaims;
 import com.dodo.smartsafereturn.auth.dto.JwtType;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,31 +31,38 @@ public class JwtUtil {
                 );
     }
 
-    public Long getMemberNumber(String token) {
-        return Jwts.parser()
+    /**
+     * - 토큰을 한 번만 파싱 + 서명 검증해서 claims 전체를 반환
+     * - 만료된 토큰이면 ExpiredJwtException, 서명 / 형식이 잘못된 경우 JwtException 발생
+     * @param token
+     * @return 검증된 claims
+     */
+    public JwtClaims parseClaims(String token) {
+        Claims claims = Jwts.parser()
                 .verifyWith(secretKey)
                 .build()
                 .parseSignedClaims(token)
-                .getPayload()
-                .get("memberNumber", Long.class);
+                .getPayload();
+
+        return new JwtClaims(
+                claims.get("type", String.class),
+                claims.get("memberNumber", Long.class),
+                claims.get("id", String.class),
+                claims.get("role", String.class), // 일반회원이면 무조건 ROLE_USER 가짐
+                claims.getExpiration().getTime()
+        );
+    }
+
+    public Long getMemberNumber(String token) {
+        return parseClaims(token).memberNumber();
     }
 
     public String getId(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("id", String.class);
+        return parseClaims(token).id();
     }
 
     public String getRole(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class); // 일반회원이면 무조건 ROLE_USER 가짐
+        return parseClaims(token).role();
     }
 
     /**
@@ -61,13 +70,7 @@ public class JwtUtil {
      * @return false : 유효함
      */
     public boolean isExpired(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration()
-                .before(new Date());
+        return parseClaims(token).isExpired(System.currentTimeMillis());
     }
 
     /**
@@ -76,12 +79,7 @@ public class JwtUtil {
      * @return
      */
     public String getType(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("type", String.class);
+        return parseClaims(token).type();
     }
 
     /**
@@ -120,4 +118,39 @@ public class JwtUtil {
                 .signWith(secretKey)
                 .compact();
     }
+
+    /**
+     * 경로 실시간 위치 구독용 토큰 (비상연락망에 공유)
+     * - 회원 정보 없이 구독 가능한 경로 ID 만 담음
+     */
+    public String generateStreamToken(Long safeRouteId, long expiration) {
+        return Jwts.builder()
+                .header()
+                .add("typ", "JWT")
+                .and()
+                .claim("type", JwtType.STREAM.getValue()) // stream
+                .claim("safeRouteId", safeRouteId)
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + expiration))
+                .signWith(secretKey)
+                .compact();
+    }
+
+    /**
+     * 경로 실시간 위치 구독용 토큰 검증
+     * - 만료된 토큰이면 ExpiredJwtException, 서명 / 형식이 잘못된 경우 JwtException 발생
+     * @return 구독 가능한 경로 ID (구독용 토큰이 아니면 null)
+     */
+    public Long parseStreamToken(String token) {
+        Claims claims = Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+
+        if (!JwtType.STREAM.getValue().equals(claims.get("type", String.class))) {
+            return null;
+        }
+        return claims.get("safeRouteId", Long.class);
+    }
 }
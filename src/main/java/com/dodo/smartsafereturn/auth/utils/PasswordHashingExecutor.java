@@ -0,0 +1,93 @@
+package com.dodo.smartsafereturn.auth.utils;
+
+import com.dodo.smartsafereturn.auth.exception.PasswordHashingBusyException;
+import com.dodo.smartsafereturn.global.utils.NamedThreadFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 BCrypt 연산 전용 스레드 풀
+ * - 톰캣 요청 스레드에서 바로 BCrypt 를 돌리면 로그인 폭주 시 모든 코어를 점유해서 SOS 요청까지 밀림
+ * - pool-size 만큼만 동시에 해싱하고, 대기열(queue-capacity) 이 가득 차면 바로 PasswordHashingBusyException (503)
+ * - 대기 시간이 timeout 을 넘겨도 503 으로 응답
+ *
+ * 메트릭
+ * - auth.password.hashing.queue.size / active / rejected
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${security.bcrypt.pool-size:2}") int poolSize,
+                                   @Value("${security.bcrypt.queue-capacity:64}") int queueCapacity,
+                                   @Value("${security.bcrypt.timeout:PT5S}") Duration timeout) {
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("auth.password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 검증 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 검증 중인 스레드 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+                .description("풀 포화로 503 처리된 로그인 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전용 풀에서 작업을 실행하고 결과를 기다림
+     * @throws PasswordHashingBusyException 대기열 포화 or 대기 시간 초과
+     */
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("로그인 요청이 많아 잠시 후 다시 시도해주세요", e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("로그인 처리 시간이 초과되었습니다", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("로그인 처리 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,29 @@
+package com.dodo.smartsafereturn.auth.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 사용할 SHA-256 다이제스트 생성기
+ * - 캐시 키 / 저장소 키로 원문 토큰을 들고 있지 않기 위함
+ * - 결과는 항상 64자리 hex 문자열 (고정 길이)
+ */
+public final class TokenDigest {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private TokenDigest() {
+    }
+
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현체는 SHA-256 을 반드시 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+}
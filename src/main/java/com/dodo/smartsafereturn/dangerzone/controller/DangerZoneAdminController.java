@@ -0,0 +1,247 @@
+package com.dodo.smartsafereturn.dangerzone.controller;
+
+import com.dodo.smartsafereturn.dangerzone.dto.DangerZoneCreateDto;
+import com.dodo.smartsafereturn.dangerzone.dto.DangerZoneResponseDto;
+import com.dodo.smartsafereturn.dangerzone.dto.DangerZoneUpdateDto;
+import com.dodo.smartsafereturn.dangerzone.service.DangerZoneService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/danger-zone")
+@RequiredArgsConstructor
+@Tag(name = "위험 구역 관리자 API", description = "조명 없는 골목 / 사건 발생 지역 등 위험 구역 CRUD (관리자 전용)")
+public class DangerZoneAdminController {
+
+    private final DangerZoneService dangerZoneService;
+
+    // 위험 구역 등록
+    @Operation(
+            summary = "위험 구역 등록",
+            description = "위험 구역을 외곽선 좌표 (3개 이상) 로 등록합니다. 첫 좌표로 닫지 않아도 되며, 외곽선이 자기 자신과 교차하면 거부됩니다. " +
+                    "이후 등록 / 수정되는 안전 귀가 경로가 이 구역을 지나면 is_risky 가 true 로 표시됩니다.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "등록할 위험 구역 정보",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = DangerZoneCreateDto.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "위험 구역 등록 요청 예시",
+                                            summary = "가로등 없는 골목",
+                                            value = """
+                                                    {
+                                                      "name": "방배동 골목 (가로등 없음)",
+                                                      "description": "22시 이후 조명 없음",
+                                                      "area": [
+                                                        { "lat": 37.4812, "lng": 126.9761 },
+                                                        { "lat": 37.4812, "lng": 126.9775 },
+                                                        { "lat": 37.4821, "lng": 126.9775 },
+                                                        { "lat": 37.4821, "lng": 126.9761 }
+                                                      ]
+                                                    }
+                                                    """
+                                    )
+                            }
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "위험 구역 등록 성공 (등록된 위험 구역 ID 반환)"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "잘못된 요청 (좌표 범위 오류 / 자기 교차 영역)",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("")
+    public ResponseEntity<Long> create(@Validated @RequestBody DangerZoneCreateDto dto) {
+        return ResponseEntity.ok(dangerZoneService.create(dto));
+    }
+
+    // 위험 구역 수정
+    @Operation(
+            summary = "위험 구역 수정",
+            description = "위험 구역의 이름 / 설명 / 영역을 수정합니다. 이미 등록된 경로의 is_risky 는 다시 판정하지 않습니다.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "수정할 위험 구역 정보",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = DangerZoneUpdateDto.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "위험 구역 수정 요청 예시",
+                                            summary = "영역 확장",
+                                            value = """
+                                                    {
+                                                      "danger_zone_id": 1,
+                                                      "name": "방배동 골목 (가로등 없음)",
+                                                      "description": "21시 이후 조명 없음",
+                                                      "area": [
+                                                        { "lat": 37.4810, "lng": 126.9760 },
+                                                        { "lat": 37.4810, "lng": 126.9778 },
+                                                        { "lat": 37.4823, "lng": 126.9778 },
+                                                        { "lat": 37.4823, "lng": 126.9760 }
+                                                      ]
+                                                    }
+                                                    """
+                                    )
+                            }
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "위험 구역 수정 성공"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "존재하지 않는 위험 구역 / 잘못된 영역",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @PutMapping("")
+    public ResponseEntity<?> update(@Validated @RequestBody DangerZoneUpdateDto dto) {
+        dangerZoneService.update(dto);
+        return ResponseEntity.ok().build();
+    }
+
+    // 위험 구역 삭제
+    @Operation(
+            summary = "위험 구역 삭제",
+            description = "위험 구역을 삭제합니다.",
+            parameters = {
+                    @Parameter(name = "dangerZoneId", description = "삭제할 위험 구역 ID", required = true, example = "1")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "위험 구역 삭제 성공"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "존재하지 않는 위험 구역",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @DeleteMapping("/{dangerZoneId}")
+    public ResponseEntity<?> delete(@PathVariable Long dangerZoneId) {
+        dangerZoneService.delete(dangerZoneId);
+        return ResponseEntity.ok().build();
+    }
+
+    // 위험 구역 단건 조회
+    @Operation(
+            summary = "위험 구역 조회",
+            description = "위험 구역 하나를 조회합니다. area 는 마지막 좌표가 첫 좌표와 같은 닫힌 외곽선입니다.",
+            parameters = {
+                    @Parameter(name = "dangerZoneId", description = "조회할 위험 구역 ID", required = true, example = "1")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "위험 구역 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = DangerZoneResponseDto.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "위험 구역 조회 응답 예시",
+                                                    summary = "위험 구역 정보",
+                                                    value = """
+                                                            {
+                                                              "danger_zone_id": 1,
+                                                              "name": "방배동 골목 (가로등 없음)",
+                                                              "description": "22시 이후 조명 없음",
+                                                              "area": [
+                                                                { "lat": 37.4812, "lng": 126.9761 },
+                                                                { "lat": 37.4812, "lng": 126.9775 },
+                                                                { "lat": 37.4821, "lng": 126.9775 },
+                                                                { "lat": 37.4821, "lng": 126.9761 },
+                                                                { "lat": 37.4812, "lng": 126.9761 }
+                                                              ],
+                                                              "modified_date": "2025-04-03T17:20:15"
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "존재하지 않는 위험 구역",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{dangerZoneId}")
+    public ResponseEntity<DangerZoneResponseDto> getDangerZone(@PathVariable Long dangerZoneId) {
+        return ResponseEntity.ok(dangerZoneService.getDangerZone(dangerZoneId));
+    }
+
+    // 위험 구역 목록 조회
+    @Operation(
+            summary = "위험 구역 목록 조회",
+            description = "등록된 모든 위험 구역을 조회합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "위험 구역 목록 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = DangerZoneResponseDto.class, type = "array")
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("")
+    public ResponseEntity<List<DangerZoneResponseDto>> getDangerZones() {
+        return ResponseEntity.ok(dangerZoneService.getDangerZones());
+    }
+}
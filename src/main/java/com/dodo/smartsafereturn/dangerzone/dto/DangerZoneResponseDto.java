@@ -0,0 +1,24 @@
+package com.dodo.smartsafereturn.dangerzone.dto;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DangerZoneResponseDto {
+
+    private Long dangerZoneId;
+    private String name;
+    private String description;
+    // 외곽선 좌표 (마지막 좌표 = 첫 좌표)
+    private List<LatLngPoint> area;
+    private LocalDateTime modifiedDate;
+}
@@ -0,0 +1,28 @@
+package com.dodo.smartsafereturn.dangerzone.dto;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DangerZoneUpdateDto {
+
+    @NotNull(message = "danger_zone_id 는 필수 값")
+    private Long dangerZoneId;
+    @NotBlank(message = "name 은 필수 값")
+    private String name;
+    private String description;
+    @NotNull(message = "area 는 필수 값")
+    @Size(min = 3, message = "area 는 좌표 3개 이상")
+    private List<LatLngPoint> area;
+}
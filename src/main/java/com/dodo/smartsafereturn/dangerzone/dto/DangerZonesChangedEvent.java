@@ -0,0 +1,7 @@
+package com.dodo.smartsafereturn.dangerzone.dto;
+
+/**
+ * 위험 구역 등록 / 수정 / 삭제 -> 커밋 후 DangerZoneIndex 재구성
+ */
+public record DangerZonesChangedEvent(Long dangerZoneId) {
+}
@@ -0,0 +1,41 @@
+package com.dodo.smartsafereturn.dangerzone.entity;
+
+import com.dodo.smartsafereturn.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * 관리자가 지정한 위험 구역 (조명 없는 골목, 최근 사건 발생 지역 등)
+ * - 영역은 GiST 인덱스 (db/schema/024) -> 경로 교차 판정은 메모리의 DangerZoneIndex 에서 수행
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DangerZone extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "danger_zone_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String description;
+
+    @Column(name = "area", nullable = false, columnDefinition = "geometry(Polygon,4326)")
+    private Polygon area;
+
+    @Builder
+    public DangerZone(String name, String description, Polygon area) {
+        this.name = name;
+        this.description = description;
+        this.area = area;
+    }
+
+    public void update(String name, String description, Polygon area) {
+        this.name = name;
+        this.description = description;
+        this.area = area;
+    }
+}
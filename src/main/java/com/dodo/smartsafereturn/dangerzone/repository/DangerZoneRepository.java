@@ -0,0 +1,7 @@
+package com.dodo.smartsafereturn.dangerzone.repository;
+
+import com.dodo.smartsafereturn.dangerzone.entity.DangerZone;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DangerZoneRepository extends JpaRepository<DangerZone, Long> {
+}
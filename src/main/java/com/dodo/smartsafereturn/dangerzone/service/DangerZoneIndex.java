@@ -0,0 +1,97 @@
+package com.dodo.smartsafereturn.dangerzone.service;
+
+import com.dodo.smartsafereturn.dangerzone.dto.DangerZonesChangedEvent;
+import com.dodo.smartsafereturn.dangerzone.entity.DangerZone;
+import com.dodo.smartsafereturn.dangerzone.repository.DangerZoneRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 위험 구역 메모리 인덱스 (경로 교차 판정)
+ * - 구역마다 PreparedGeometry 를 만들어 STRtree 에 넣어 둠 -> 경로 하나를 모든 구역과 비교할 때 DB 왕복 없이 bbox 후보만 정밀 판정
+ * - 구역이 바뀌면 전체를 새로 만들어 volatile 참조를 통째로 교체 (copy-on-write)
+ *   -> 조회는 락 없이 그 시점의 인덱스를 읽음 (build 된 STRtree / PreparedGeometry 는 읽기 전용으로 여러 스레드에서 사용 가능)
+ * - 구역 쓰기 트랜잭션 커밋 후 재구성, 다른 인스턴스의 변경은 refresh-interval 주기로 반영
+ *
+ * 메트릭
+ * - danger_zone.index.size : 인덱스에 올라간 구역 수
+ */
+@Slf4j
+@Component
+public class DangerZoneIndex {
+
+    private final DangerZoneRepository dangerZoneRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public DangerZoneIndex(DangerZoneRepository dangerZoneRepository, MeterRegistry meterRegistry) {
+        this.dangerZoneRepository = dangerZoneRepository;
+        Gauge.builder("danger_zone.index.size", this, index -> index.snapshot.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 경로가 위험 구역 중 하나라도 지나는지 (경계에 닿는 경우 포함)
+     */
+    public boolean intersects(Geometry geometry) {
+        Snapshot current = snapshot;
+        if (current.size() == 0 || geometry == null || geometry.isEmpty()) {
+            return false;
+        }
+        for (Object candidate : current.tree().query(geometry.getEnvelopeInternal())) {
+            if (((Zone) candidate).area().intersects(geometry)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 기동 시 + 주기적으로 DB 기준 재구성 (재구성끼리는 순서대로 -> 마지막에 읽은 구역 목록이 남음)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${danger-zone.refresh-interval:PT1M}", initialDelayString = "${danger-zone.refresh-interval:PT1M}")
+    public synchronized void rebuild() {
+        List<DangerZone> zones = dangerZoneRepository.findAll();
+        STRtree tree = new STRtree();
+        for (DangerZone zone : zones) {
+            tree.insert(zone.getArea().getEnvelopeInternal(), new Zone(zone.getId(), PreparedGeometryFactory.prepare(zone.getArea())));
+        }
+        tree.build();
+
+        int previous = snapshot.size();
+        snapshot = new Snapshot(tree, zones.size());
+        if (previous != zones.size()) {
+            log.info("[DangerZoneIndex] rebuild() : {} danger zones indexed", zones.size());
+        }
+    }
+
+    // 구역 쓰기 트랜잭션 커밋 후 재구성 (트랜잭션 밖에서 발행된 이벤트도 처리)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDangerZonesChanged(DangerZonesChangedEvent event) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영
+            log.warn("[DangerZoneIndex] onDangerZonesChanged() : 인덱스 재구성 실패 dangerZoneId={}", event.dangerZoneId(), e);
+        }
+    }
+
+    private record Zone(Long dangerZoneId, PreparedGeometry area) {
+    }
+
+    private record Snapshot(STRtree tree, int size) {
+        static final Snapshot EMPTY = new Snapshot(null, 0);
+    }
+}
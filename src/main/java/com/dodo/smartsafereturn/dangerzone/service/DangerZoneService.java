@@ -0,0 +1,21 @@
+package com.dodo.smartsafereturn.dangerzone.service;
+
+import com.dodo.smartsafereturn.dangerzone.dto.DangerZoneCreateDto;
+import com.dodo.smartsafereturn.dangerzone.dto.DangerZoneResponseDto;
+import com.dodo.smartsafereturn.dangerzone.dto.DangerZoneUpdateDto;
+
+import java.util.List;
+
+public interface DangerZoneService {
+
+    // 위험 구역 등록
+    Long create(DangerZoneCreateDto dto);
+    // 위험 구역 수정
+    void update(DangerZoneUpdateDto dto);
+    // 위험 구역 삭제
+    void delete(Long dangerZoneId);
+    // 위험 구역 단건 조회
+    DangerZoneResponseDto getDangerZone(Long dangerZoneId);
+    // 위험 구역 목록 조회
+    List<DangerZoneResponseDto> getDangerZones();
+}
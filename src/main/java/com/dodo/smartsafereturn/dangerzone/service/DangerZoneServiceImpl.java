@@ -0,0 +1,98 @@
+package com.dodo.smartsafereturn.dangerzone.service;
+
+import com.dodo.smartsafereturn.dangerzone.dto.DangerZoneCreateDto;
+import com.dodo.smartsafereturn.dangerzone.dto.DangerZoneResponseDto;
+import com.dodo.smartsafereturn.dangerzone.dto.DangerZoneUpdateDto;
+import com.dodo.smartsafereturn.dangerzone.dto.DangerZonesChangedEvent;
+import com.dodo.smartsafereturn.dangerzone.entity.DangerZone;
+import com.dodo.smartsafereturn.dangerzone.repository.DangerZoneRepository;
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.utils.GeoBounds;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class DangerZoneServiceImpl implements DangerZoneService {
+
+    private final DangerZoneRepository dangerZoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DangerZoneServiceImpl(DangerZoneRepository dangerZoneRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.dangerZoneRepository = dangerZoneRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    @Override
+    public Long create(DangerZoneCreateDto dto) {
+        DangerZone dangerZone = dangerZoneRepository.save(
+                DangerZone.builder()
+                        .name(dto.getName())
+                        .description(dto.getDescription())
+                        .area(GeoBounds.polygonOf(dto.getArea()))
+                        .build()
+        );
+
+        eventPublisher.publishEvent(new DangerZonesChangedEvent(dangerZone.getId()));
+        return dangerZone.getId();
+    }
+
+    @Transactional
+    @Override
+    public void update(DangerZoneUpdateDto dto) {
+        DangerZone dangerZone = dangerZoneRepository.findById(dto.getDangerZoneId())
+                .orElseThrow(() -> new RuntimeException("[DangerZoneService] update() : 존재하지 않는 위험 구역"));
+
+        dangerZone.update(dto.getName(), dto.getDescription(), GeoBounds.polygonOf(dto.getArea()));
+        eventPublisher.publishEvent(new DangerZonesChangedEvent(dangerZone.getId()));
+    }
+
+    @Transactional
+    @Override
+    public void delete(Long dangerZoneId) {
+        DangerZone dangerZone = dangerZoneRepository.findById(dangerZoneId)
+                .orElseThrow(() -> new RuntimeException("[DangerZoneService] delete() : 존재하지 않는 위험 구역"));
+
+        dangerZoneRepository.delete(dangerZone);
+        eventPublisher.publishEvent(new DangerZonesChangedEvent(dangerZoneId));
+    }
+
+    @Override
+    public DangerZoneResponseDto getDangerZone(Long dangerZoneId) {
+        return dangerZoneRepository.findById(dangerZoneId)
+                .map(DangerZoneServiceImpl::ofDto)
+                .orElseThrow(() -> new RuntimeException("[DangerZoneService] getDangerZone() : 존재하지 않는 위험 구역"));
+    }
+
+    @Override
+    public List<DangerZoneResponseDto> getDangerZones() {
+        return dangerZoneRepository.findAll()
+                .stream()
+                .map(DangerZoneServiceImpl::ofDto)
+                .toList();
+    }
+
+    private static DangerZoneResponseDto ofDto(DangerZone dangerZone) {
+        Coordinate[] coordinates = dangerZone.getArea().getExteriorRing().getCoordinates();
+        List<LatLngPoint> area = new ArrayList<>(coordinates.length);
+        for (Coordinate coordinate : coordinates) {
+            area.add(new LatLngPoint(coordinate.getY(), coordinate.getX()));
+        }
+        return DangerZoneResponseDto.builder()
+                .dangerZoneId(dangerZone.getId())
+                .name(dangerZone.getName())
+                .description(dangerZone.getDescription())
+                .area(area)
+                .modifiedDate(dangerZone.getModifiedDate())
+                .build();
+    }
+}
@@ -13,4 +13,8 @@ public interface EmergencyContactRepository extends JpaRepository<EmergencyConta
 
     @Query("select ec from EmergencyContact ec where ec.member.memberNumber = :memberNumber and ec.member.isDeleted = false ")
     List<EmergencyContact> findMemberContacts(@Param("memberNumber") Long memberNumber);
+
+    // SOS 발송용 -> 엔티티 로딩 없이 전화번호만 조회
+    @Query("select ec.phone from EmergencyContact ec where ec.member.memberNumber = :memberNumber and ec.member.isDeleted = false ")
+    List<String> findMemberContactPhones(@Param("memberNumber") Long memberNumber);
 }
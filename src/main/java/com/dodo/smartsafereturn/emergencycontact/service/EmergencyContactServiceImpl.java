@@ -7,8 +7,10 @@ import com.dodo.smartsafereturn.emergencycontact.entity.EmergencyContact;
 import com.dodo.smartsafereturn.emergencycontact.repository.EmergencyContactRepository;
 import com.dodo.smartsafereturn.member.entity.Member;
 import com.dodo.smartsafereturn.member.repository.MemberRepository;
+import com.dodo.smartsafereturn.sosmessage.dto.SosRecipientsChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class EmergencyContactServiceImpl implements EmergencyContactService {
 
     private final EmergencyContactRepository emergencyContactRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -46,6 +49,8 @@ public class EmergencyContactServiceImpl implements EmergencyContactService {
                         .build()
         );
 
+        // SOS 발송 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(new SosRecipientsChangedEvent(createDto.getMemberNumber()));
     }
 
     @Transactional
@@ -56,12 +61,17 @@ public class EmergencyContactServiceImpl implements EmergencyContactService {
                 .orElseThrow(() -> new RuntimeException("[EmergencyContactService] update() : 존재하지 않는 비상연락망"));
 
         emergencyContact.update(updateDto);
+
+        eventPublisher.publishEvent(new SosRecipientsChangedEvent(emergencyContact.getMember().getMemberNumber()));
     }
 
     @Transactional
     @Override
     public void delete(Long emergencyContactId) {
-        // 물리 삭제
+        // 물리 삭제 (캐시 무효화를 위해 회원 번호 먼저 확인)
+        emergencyContactRepository.findById(emergencyContactId)
+                .ifPresent(emergencyContact -> eventPublisher.publishEvent(
+                        new SosRecipientsChangedEvent(emergencyContact.getMember().getMemberNumber())));
         emergencyContactRepository.deleteById(emergencyContactId);
     }
 
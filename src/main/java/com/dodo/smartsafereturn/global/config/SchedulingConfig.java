@@ -0,0 +1,13 @@
+package com.dodo.smartsafereturn.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케쥴링 활성화 (@Scheduled)
+ * - 스케쥴러 스레드 풀 크기는 spring.task.scheduling.pool.size 로 설정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
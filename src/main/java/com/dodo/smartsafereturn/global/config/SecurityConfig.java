@@ -5,6 +5,10 @@ import com.dodo.smartsafereturn.auth.service.AdminUserDetailsService;
 import com.dodo.smartsafereturn.auth.service.AuthService;
 import com.dodo.smartsafereturn.auth.service.CustomUserDetailsService;
 import com.dodo.smartsafereturn.auth.utils.*;
+import com.dodo.smartsafereturn.global.filter.GzipRequestFilter;
+import com.dodo.smartsafereturn.global.ratelimit.RateLimitFilter;
+import com.dodo.smartsafereturn.global.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -23,6 +27,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -40,6 +45,7 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JwtUtil jwtUtil;
+    private final JwtClaimsCache jwtClaimsCache;
     private final TokenRepository tokenRepository;
     private final AuthService authService;
 
@@ -52,6 +58,22 @@ public class SecurityConfig {
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration;
 
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper; // 요청 제한 필터가 본문 필드 이름을 같은 이름 규칙으로 읽도록
+
+    // 리버스 프록시 뒤에서 실행할 때만 true (X-Forwarded-For 첫 번째 값을 클라이언트 IP 로 사용)
+    @Value("${rate-limit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    // BCrypt cost (기존 해시와 다르면 로그인 성공 시 재해싱)
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    // gzip 요청 본문의 압축 해제 후 최대 크기 (오프라인 일괄 업로드)
+    @Value("${safe-route.sync.max-decompressed-size:10MB}")
+    private DataSize maxDecompressedSize;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
@@ -75,6 +97,8 @@ public class SecurityConfig {
                                 auth
                                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                                         .requestMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html").permitAll()
+                                        .requestMatchers("/actuator/health").permitAll() // 헬스 체크
+                                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 메트릭 조회는 관리자만
                                         .requestMatchers("/api/auth/login", "/api/auth/admin/login","/api/auth/logout").permitAll()
                                         .requestMatchers(HttpMethod.POST, "/api/auth/reissue").permitAll() // 리프레시 토큰 재발급 로직 경로
                                         .requestMatchers(HttpMethod.POST, "/api/member").permitAll() // 회원 가입
@@ -82,7 +106,11 @@ public class SecurityConfig {
                                         .requestMatchers(HttpMethod.POST, "/api/member/*/password-check").hasRole("USER") // 비밀번호 체크 엔드포인트 - 회원만
                                         .requestMatchers(HttpMethod.POST, "/api/verification/**").permitAll() // 인증 관련 요청 엔드포인트
                                         .requestMatchers(HttpMethod.PUT, "/api/verification/password/reset").permitAll() // 비밀 번호 변경 엔드포인트 허용
+                                        .requestMatchers(HttpMethod.GET, "/api/safe-route/*/stream").permitAll() // 실시간 위치 구독 - 구독 토큰으로 검증 (비상연락망은 비회원)
                                         .requestMatchers(HttpMethod.DELETE, "/api/message-log/**").hasRole("ADMIN") // SMS 메시지 로그 관리 (삭제)
+                                        .requestMatchers("/api/admin/sms/**").hasRole("ADMIN") // SMS 잔액 장부 관리는 관리자만
+                                        .requestMatchers("/api/admin/safe-route/**", "/api/admin/message-log/**", "/api/admin/tiles/**").hasRole("ADMIN") // 경로 / SOS 위치 공간 검색 / 지도 타일은 관리자만
+                                        .requestMatchers("/api/admin/danger-zone/**").hasRole("ADMIN") // 위험 구역 관리는 관리자만
                                         .requestMatchers("/api/question-category/**").hasRole("ADMIN") // 카테고리 관리는 관리자만
                                         .requestMatchers("/api/answer/**").hasRole("ADMIN") // 답변 글 관리는 관리자만
                                         .requestMatchers("/api/test/jwtTest1").hasAnyRole("ADMIN", "USER")
@@ -90,6 +118,10 @@ public class SecurityConfig {
                                         .anyRequest().authenticated()
 //                                        .anyRequest().permitAll()
                 )
+                // 요청 제한 필터 : 로그인 / 인증 / 중복 체크 요청을 인증 필터들보다 먼저 검사
+                // gzip 요청 본문 압축 해제 필터 : 압축 해제 크기 제한
+                .addFilterBefore(new GzipRequestFilter(maxDecompressedSize.toBytes()), LogoutFilter.class)
+                .addFilterBefore(new RateLimitFilter(rateLimiter, trustForwardedFor, objectMapper.getPropertyNamingStrategy()), LogoutFilter.class)
                 // 시큐리티의 아이디 비밀번호 인증 필터 대신 인증 및 jwt 발급하는 custom 필터 사용
                 // 필터 등록 시 적절한 위치와 별도의 AuthenticationManager 사용
                 .addFilterAt(
@@ -113,7 +145,7 @@ public class SecurityConfig {
                         LoginFilter.class // LoginFilter 이전에 실행되도록 설정
                 )
                 // jwt 필터 체인
-                .addFilterBefore(new JwtFilter(jwtUtil), LoginFilter.class)
+                .addFilterBefore(new JwtFilter(jwtClaimsCache), LoginFilter.class)
                 // 로그아웃 필터 등록 : 기존 시큐리티의 LogoutFilter 필터보다 먼저 수행되도록 하기
                 // LogoutFilter 은 여전히 존재하는 시큐리티 컨텍스트의 인증정보을 지우기 위해 존재해야함
                 .addFilterBefore(new CustomLogoutFilter(authService, jwtUtil), LogoutFilter.class);
@@ -128,7 +160,8 @@ public class SecurityConfig {
     public AuthenticationManager memberAuthManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(memberUserDetailsService); // 회원용 UserDetailsService
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(loginPasswordEncoder()); // 로그인 BCrypt 는 전용 풀에서 수행
+        provider.setUserDetailsPasswordService(memberUserDetailsService); // cost 변경 시 재해싱 저장
         return new ProviderManager(provider);
     }
 
@@ -136,7 +169,8 @@ public class SecurityConfig {
     public AuthenticationManager adminAuthManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(adminUserDetailsService); // 관리자용 UserDetailsService
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(loginPasswordEncoder()); // 로그인 BCrypt 는 전용 풀에서 수행
+        provider.setUserDetailsPasswordService(adminUserDetailsService); // cost 변경 시 재해싱 저장
         return new ProviderManager(provider);
     }
 
@@ -160,6 +194,11 @@ public class SecurityConfig {
 
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
+    }
+
+    // 로그인 인증 매니저 전용 -> 빈으로 등록하지 않음 (PasswordEncoder 주입 대상이 둘이 되지 않도록)
+    private BoundedPasswordEncoder loginPasswordEncoder() {
+        return new BoundedPasswordEncoder(passwordEncoder(), passwordHashingExecutor, bcryptStrength);
     }
 }
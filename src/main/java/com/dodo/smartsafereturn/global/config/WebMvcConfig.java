@@ -0,0 +1,51 @@
+package com.dodo.smartsafereturn.global.config;
+
+import com.dodo.smartsafereturn.safeRoute.utils.PolylineJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 경로 압축 JSON 컨버터 (application/vnd.smartsafereturn.polyline+json)
+     * - 기본 ObjectMapper 설정 (snake_case, JtsModule 등) 을 복사한 뒤 LineString 만 polyline 문자열로 직렬화
+     * - 기본 Jackson 컨버터도 application/*+json 을 쓸 수 있으므로 맨 앞에 등록해야 Accept 헤더로 선택했을 때 이 컨버터가 씀
+     * - 대신 응답 가능한 타입 목록에는 올리지 않음 (ExplicitMediaTypeConverter)
+     *   -> Accept 가 없거나 * / * 인 요청 (curl, Swagger UI, OkHttp 기본값) 은 기존처럼 application/json
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        ObjectMapper polylineMapper = objectMapper.copy().registerModule(new PolylineJacksonModule());
+        converters.add(0, new ExplicitMediaTypeConverter(polylineMapper, PolylineJacksonModule.MEDIA_TYPE));
+    }
+
+    /**
+     * Accept 헤더에 지원 타입을 직접 적은 요청에만 쓰는 Jackson 컨버터
+     * - 응답 타입 결정 전 (mediaType == null) 에는 쓸 수 없다고 답함 -> 응답 가능한 타입 목록에서 빠짐
+     * - 응답 타입이 지원 타입으로 결정된 뒤에는 기본 Jackson 컨버터보다 먼저 선택됨
+     */
+    static class ExplicitMediaTypeConverter extends MappingJackson2HttpMessageConverter {
+
+        ExplicitMediaTypeConverter(ObjectMapper objectMapper, MediaType mediaType) {
+            super(objectMapper);
+            setSupportedMediaTypes(List.of(mediaType));
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+            return mediaType != null && !mediaType.isWildcardType() && !mediaType.isWildcardSubtype()
+                    && super.canWrite(clazz, mediaType);
+        }
+    }
+}
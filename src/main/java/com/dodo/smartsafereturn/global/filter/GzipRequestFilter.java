@@ -0,0 +1,172 @@
+package com.dodo.smartsafereturn.global.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Content-Encoding: gzip 요청 본문 압축 해제 필터
+ * - 오프라인 동안 모아둔 좌표 일괄 업로드 (POST /api/safe-route/sync) 등 큰 본문을 압축해서 보낼 수 있도록 함
+ * - 본문 전체를 메모리에 올리지 않고 읽는 만큼만 압축 해제 (스트리밍)
+ * - 압축 해제 크기가 maxBytes 를 넘으면 IOException -> 요청 본문 읽기 실패 (압축 폭탄 방지)
+ */
+@RequiredArgsConstructor
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+    private final long maxBytes;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (encoding == null || !encoding.trim().equalsIgnoreCase("gzip")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        filterChain.doFilter(new GzipRequest(request, maxBytes), response);
+    }
+
+    private static final class GzipRequest extends HttpServletRequestWrapper {
+
+        private final long maxBytes;
+        private ServletInputStream inputStream;
+
+        private GzipRequest(HttpServletRequest request, long maxBytes) {
+            super(request);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new LimitedStream(new GZIPInputStream(super.getInputStream()), maxBytes);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        // 압축 해제 후 길이는 알 수 없음
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        // 뒤쪽 필터 / 컨트롤러에는 압축되지 않은 요청으로 보이도록 Content-Encoding / Content-Length 숨김
+        @Override
+        public String getHeader(String name) {
+            return isHidden(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isHidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isHidden(name))
+                    .toList());
+        }
+
+        private static boolean isHidden(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    private static final class LimitedStream extends ServletInputStream {
+
+        private final InputStream in;
+        private final long maxBytes;
+        private long read;
+        private boolean finished;
+
+        private LimitedStream(InputStream in, long maxBytes) {
+            this.in = in;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            count(b < 0 ? -1 : 1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            count(n);
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            if (n < 0) {
+                finished = true;
+                return;
+            }
+            read += n;
+            if (read > maxBytes) {
+                throw new IOException("[GzipRequestFilter] 압축 해제한 요청 본문이 최대 크기를 넘음 : " + maxBytes + " bytes");
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        // 원본 스트림을 blocking 으로 읽으므로 항상 읽을 수 있음 -> 바로 알리고, 끝까지 읽었으면 완료 알림
+        // (압축 해제 크기 초과 등 읽는 중 IOException 은 onError)
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            Objects.requireNonNull(readListener, "readListener");
+            try {
+                readListener.onDataAvailable();
+                if (finished) {
+                    readListener.onAllDataRead();
+                }
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
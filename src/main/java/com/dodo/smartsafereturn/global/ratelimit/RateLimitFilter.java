@@ -0,0 +1,154 @@
+package com.dodo.smartsafereturn.global.ratelimit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 제한 필터 -> DB, CoolSMS, BCrypt 에 닿기 전에 과도한 요청을 429 로 차단
+ *
+ * 대상 경로
+ * - POST /api/auth/login, /api/auth/admin/login : IP + 로그인 아이디 (본문 id)
+ * - /api/verification/** : IP + 전화번호 (본문 phone, 없으면 회원 아이디 -> 필드 이름은 Jackson 이름 규칙을 따름, prod : member_id)
+ * - GET /api/member/check-duplicate : IP
+ *
+ * 본문 식별자 추출
+ * - Content-Length 가 MAX_BODY_BYTES 이하인 JSON 요청만 본문을 미리 읽어 CachedBodyRequest 로 다음 필터에 전달
+ * - 그 외 요청은 IP 기준으로만 제한
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int MAX_BODY_BYTES = 4096;
+
+    private final RateLimiter rateLimiter;
+    private final boolean trustForwardedFor;
+    private final String memberIdField;
+
+    public RateLimitFilter(RateLimiter rateLimiter, boolean trustForwardedFor, PropertyNamingStrategy namingStrategy) {
+        this.rateLimiter = rateLimiter;
+        this.trustForwardedFor = trustForwardedFor;
+        // DTO 가 받는 필드 이름과 같게 (SNAKE_CASE -> member_id, 설정 없음 -> memberId)
+        this.memberIdField = namingStrategy instanceof PropertyNamingStrategies.NamingBase naming
+                ? naming.translate("memberId")
+                : "memberId";
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        RateLimiter.Route route = resolveRoute(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest forwardRequest = request;
+        String identity = null;
+
+        if (route != RateLimiter.Route.DUPLICATE_CHECK) {
+            CachedBodyRequest cached = cacheBody(request);
+            if (cached != null) {
+                forwardRequest = cached;
+                identity = route == RateLimiter.Route.LOGIN
+                        ? readField(cached.getBody(), "id", null)
+                        : readField(cached.getBody(), "phone", memberIdField);
+            }
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(route, clientIp(request), identity);
+        if (waitNanos > 0L) {
+            reject(response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(forwardRequest, response);
+    }
+
+    private RateLimiter.Route resolveRoute(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String method = request.getMethod();
+
+        if (HttpMethod.POST.matches(method)
+                && (uri.equals("/api/auth/login") || uri.equals("/api/auth/admin/login"))) {
+            return RateLimiter.Route.LOGIN;
+        }
+        if (uri.startsWith("/api/verification/") && !HttpMethod.OPTIONS.matches(method)) {
+            return RateLimiter.Route.VERIFICATION;
+        }
+        if (HttpMethod.GET.matches(method) && uri.equals("/api/member/check-duplicate")) {
+            return RateLimiter.Route.DUPLICATE_CHECK;
+        }
+        return null;
+    }
+
+    private CachedBodyRequest cacheBody(HttpServletRequest request) throws IOException {
+        int length = request.getContentLength();
+        String contentType = request.getContentType();
+        if (length <= 0 || length > MAX_BODY_BYTES
+                || contentType == null || !contentType.startsWith(MediaType.APPLICATION_JSON_VALUE)) {
+            return null;
+        }
+        return new CachedBodyRequest(request, request.getInputStream().readNBytes(length));
+    }
+
+    // 최상위 문자열 필드만 스트리밍으로 찾음 (트리 생성 X) -> 형식이 잘못된 본문은 식별자 없이 IP 만 검사
+    private String readField(byte[] body, String field, String fallbackField) {
+        String fallback = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_STRING) {
+                    if (name.equals(field)) {
+                        return parser.getText();
+                    }
+                    if (name.equals(fallbackField)) {
+                        fallback = parser.getText();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            log.debug("[RateLimitFilter] readField() : invalid json body");
+        }
+        return fallback;
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(429); // Too Many Requests
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,23 @@
+package com.dodo.smartsafereturn.global.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 경로 그룹별 토큰 버킷 설정
+ * - capacity : 버킷 최대 토큰 수 (순간적으로 허용하는 요청 수)
+ * - refillPeriod : 토큰 1개가 다시 채워지는 시간
+ * ex) capacity 5, refillPeriod 12s -> 연속 5회 후 분당 5회
+ */
+public record RateLimitPolicy(String name, int capacity, Duration refillPeriod) {
+
+    public RateLimitPolicy {
+        if (capacity <= 0 || refillPeriod.isZero() || refillPeriod.isNegative()) {
+            throw new IllegalArgumentException("[RateLimitPolicy] invalid policy : " + name);
+        }
+    }
+
+    // 빈 버킷이 가득 찰 때까지 걸리는 시간 -> 이 시간 동안 요청이 없던 버킷은 새 버킷과 같으므로 제거해도 됨
+    public long fullRefillNanos() {
+        return refillPeriod.toNanos() * capacity;
+    }
+}
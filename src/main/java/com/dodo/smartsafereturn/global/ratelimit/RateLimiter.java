@@ -0,0 +1,125 @@
+package com.dodo.smartsafereturn.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 인증 없이 호출 가능한 비싼 엔드포인트용 in-process 요청 제한기
+ * - LOGIN : 로그인 (BCrypt)
+ * - VERIFICATION : SMS 인증 발송 / 확인 (CoolSMS 과금)
+ * - DUPLICATE_CHECK : 아이디 중복 체크 (아이디 수집 방지)
+ *
+ * 그룹마다 IP 기준 버킷과 식별자 (아이디 / 전화번호) 기준 버킷을 따로 둠
+ * - IP 기준 : 한 곳에서 여러 계정을 두드리는 요청 차단
+ * - 식별자 기준 : 여러 IP 에서 한 계정 / 한 번호를 두드리는 요청 차단
+ *
+ * 메트릭
+ * - rate.limit.rejected{route=...}, rate.limit.buckets{route=...}
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    public enum Route {
+        LOGIN, VERIFICATION, DUPLICATE_CHECK
+    }
+
+    private final Map<Route, TokenBucketTable> ipTables = new EnumMap<>(Route.class);
+    private final Map<Route, TokenBucketTable> identityTables = new EnumMap<>(Route.class);
+    private final Map<Route, Counter> rejectedCounters = new EnumMap<>(Route.class);
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${rate-limit.stripes:64}") int stripes,
+                       @Value("${rate-limit.max-keys:100000}") int maxKeys,
+                       @Value("${rate-limit.login.ip.capacity:20}") int loginIpCapacity,
+                       @Value("${rate-limit.login.ip.refill-period:PT3S}") Duration loginIpRefill,
+                       @Value("${rate-limit.login.id.capacity:5}") int loginIdCapacity,
+                       @Value("${rate-limit.login.id.refill-period:PT1M}") Duration loginIdRefill,
+                       @Value("${rate-limit.verification.ip.capacity:10}") int verificationIpCapacity,
+                       @Value("${rate-limit.verification.ip.refill-period:PT30S}") Duration verificationIpRefill,
+                       @Value("${rate-limit.verification.phone.capacity:5}") int verificationPhoneCapacity,
+                       @Value("${rate-limit.verification.phone.refill-period:PT2M}") Duration verificationPhoneRefill,
+                       @Value("${rate-limit.duplicate-check.ip.capacity:30}") int duplicateIpCapacity,
+                       @Value("${rate-limit.duplicate-check.ip.refill-period:PT2S}") Duration duplicateIpRefill) {
+
+        register(Route.LOGIN, stripes, maxKeys,
+                new RateLimitPolicy("login-ip", loginIpCapacity, loginIpRefill),
+                new RateLimitPolicy("login-id", loginIdCapacity, loginIdRefill));
+        register(Route.VERIFICATION, stripes, maxKeys,
+                new RateLimitPolicy("verification-ip", verificationIpCapacity, verificationIpRefill),
+                new RateLimitPolicy("verification-phone", verificationPhoneCapacity, verificationPhoneRefill));
+        register(Route.DUPLICATE_CHECK, stripes, maxKeys,
+                new RateLimitPolicy("duplicate-check-ip", duplicateIpCapacity, duplicateIpRefill),
+                null);
+
+        for (Route route : Route.values()) {
+            String tag = route.name().toLowerCase();
+            rejectedCounters.put(route, Counter.builder("rate.limit.rejected")
+                    .tag("route", tag)
+                    .description("요청 제한으로 429 응답한 요청 수")
+                    .register(meterRegistry));
+            Gauge.builder("rate.limit.buckets", this, limiter -> limiter.bucketCount(route))
+                    .tag("route", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    private void register(Route route, int stripes, int maxKeys, RateLimitPolicy ipPolicy, RateLimitPolicy identityPolicy) {
+        ipTables.put(route, new TokenBucketTable(ipPolicy, stripes, maxKeys));
+        if (identityPolicy != null) {
+            identityTables.put(route, new TokenBucketTable(identityPolicy, stripes, maxKeys));
+        }
+    }
+
+    /**
+     * IP 버킷 -> 식별자 버킷 순서로 토큰 사용 시도
+     * @param identity 아이디 / 전화번호 (없으면 null -> IP 만 검사)
+     * @return 0 이면 허용, 양수면 재시도까지 기다려야 하는 시간 (나노초)
+     */
+    public long tryAcquire(Route route, String clientIp, String identity) {
+        long now = System.nanoTime();
+
+        long wait = ipTables.get(route).tryAcquire(clientIp, now);
+        if (wait == 0L && identity != null) {
+            TokenBucketTable identityTable = identityTables.get(route);
+            if (identityTable != null) {
+                wait = identityTable.tryAcquire(identity, now);
+            }
+        }
+
+        if (wait > 0L) {
+            rejectedCounters.get(route).increment();
+        }
+        return wait;
+    }
+
+    // 오래 요청이 없던 버킷 정리 (가득 찬 버킷과 동일하므로 제거해도 제한 결과는 같음)
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (TokenBucketTable table : ipTables.values()) {
+            evicted += table.evictIdle(now);
+        }
+        for (TokenBucketTable table : identityTables.values()) {
+            evicted += table.evictIdle(now);
+        }
+        if (evicted > 0) {
+            log.debug("[RateLimiter] evictIdleBuckets() : evicted={}", evicted);
+        }
+    }
+
+    private double bucketCount(Route route) {
+        TokenBucketTable identityTable = identityTables.get(route);
+        return ipTables.get(route).size() + (identityTable == null ? 0 : identityTable.size());
+    }
+}
@@ -0,0 +1,134 @@
+package com.dodo.smartsafereturn.global.ratelimit;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키(IP, 전화번호, 아이디 등) 별 토큰 버킷 테이블
+ * - lock striping : 키 해시로 stripe 를 고르고 stripe 단위로만 잠금 -> 서로 다른 키끼리는 거의 경합하지 않음
+ * - 버킷 상태는 long 두 개 (남은 토큰 * refill 시간, 마지막 갱신 시각) -> 처음 보는 키일 때만 객체 생성
+ * - 시간은 System.nanoTime() 기준 (벽시계 변경 영향 없음)
+ * - stripe 당 최대 키 수를 넘으면 유휴 버킷을 먼저 정리하고, 그래도 가득 차 있으면 가장 오래 사용하지 않은 버킷을 제거 (메모리 상한 유지)
+ *   -> 새 키도 항상 추적 (가득 찬 stripe 에서 제한 없이 통과하지 않음)
+ */
+public class TokenBucketTable {
+
+    private final RateLimitPolicy policy;
+    private final Stripe[] stripes;
+    private final int mask;
+    private final int maxKeysPerStripe;
+
+    // 토큰 1개 = refillNanos 만큼의 크레딧
+    private final long refillNanos;
+    private final long capacityCredit;
+
+    public TokenBucketTable(RateLimitPolicy policy, int stripeCount, int maxKeys) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.policy = policy;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / size);
+        this.refillNanos = policy.refillPeriod().toNanos();
+        this.capacityCredit = policy.fullRefillNanos();
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @return 0 이면 허용, 양수면 다음 토큰까지 기다려야 하는 시간 (나노초)
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                if (stripe.buckets.size() >= maxKeysPerStripe) {
+                    stripe.evictIdle(nowNanos, capacityCredit);
+                    if (stripe.buckets.size() >= maxKeysPerStripe) {
+                        stripe.evictEldest();
+                    }
+                }
+                // 새 버킷은 가득 찬 상태에서 토큰 1개 사용
+                stripe.buckets.put(key, new Bucket(capacityCredit - refillNanos, nowNanos));
+                return 0L;
+            }
+            return bucket.take(nowNanos, refillNanos, capacityCredit);
+        }
+    }
+
+    /**
+     * 가득 찬 상태와 구분할 수 없는 (= 충분히 오래 요청이 없던) 버킷 제거
+     * @return 제거한 버킷 수
+     */
+    public int evictIdle(long nowNanos) {
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                evicted += stripe.evictIdle(nowNanos, capacityCredit);
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    public RateLimitPolicy getPolicy() {
+        return policy;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Stripe {
+        // 접근 순서 -> 첫 항목이 가장 오래 사용하지 않은 버킷
+        private final Map<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+
+        private int evictIdle(long nowNanos, long capacityCredit) {
+            int before = buckets.size();
+            buckets.values().removeIf(bucket -> nowNanos - bucket.updatedAt >= capacityCredit);
+            return before - buckets.size();
+        }
+
+        private void evictEldest() {
+            Iterator<Bucket> iterator = buckets.values().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static final class Bucket {
+        // 남은 토큰을 시간 크레딧 (토큰 수 * refillNanos) 으로 저장 -> 실수 연산 없이 refill 계산
+        private long credit;
+        private long updatedAt;
+
+        private Bucket(long credit, long updatedAt) {
+            this.credit = credit;
+            this.updatedAt = updatedAt;
+        }
+
+        private long take(long nowNanos, long refillNanos, long capacityCredit) {
+            long elapsed = nowNanos - updatedAt;
+            if (elapsed > 0) {
+                credit = Math.min(capacityCredit, credit + elapsed);
+                updatedAt = nowNanos;
+            }
+            if (credit >= refillNanos) {
+                credit -= refillNanos;
+                return 0L;
+            }
+            return refillNanos - credit;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.dodo.smartsafereturn.global.utils;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 백그라운드 작업 스레드 생성 (prefix + 순번 이름, daemon)
+ * - 스레드 덤프 / 로그에서 어느 풀의 스레드인지 구분
+ * - daemon -> 종료 처리 (@PreDestroy) 가 끝나지 않아도 JVM 종료를 막지 않음
+ */
+public class NamedThreadFactory implements ThreadFactory {
+
+    private final String prefix;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public NamedThreadFactory(String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -108,4 +108,9 @@ public class Member extends BaseTimeEntity {
 
         this.isDeleted = !this.isDeleted;
     }
+
+    // 로그인 시 BCrypt cost 변경에 따른 재해싱 비밀번호 반영
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
 }
@@ -0,0 +1,219 @@
+package com.dodo.smartsafereturn.messagelog.controller;
+
+import com.dodo.smartsafereturn.messagelog.dto.MessageLogResponseDto;
+import com.dodo.smartsafereturn.messagelog.dto.SosHeatmapTileDto;
+import com.dodo.smartsafereturn.messagelog.service.MessageLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/message-log")
+@RequiredArgsConstructor
+@Tag(name = "SMS 메시지 로그 관리자 API", description = "SOS 메시지 발송 위치 공간 검색 / 히트맵 (관리자 전용)")
+public class MessageLogAdminController {
+
+    private final MessageLogService messageLogService;
+
+    // bbox 영역 안에서 발송된 SOS 메시지 검색
+    @Operation(
+            summary = "영역 내 SOS 메시지 검색",
+            description = "지정한 사각 영역(bbox) 안에서 발송된 SOS 메시지를 최신순으로 페이징 조회합니다. (location GiST 인덱스 사용, 페이지 크기 최대 100)",
+            parameters = {
+                    @Parameter(name = "min_lat", description = "남쪽 위도", required = true, example = "37.39"),
+                    @Parameter(name = "min_lng", description = "서쪽 경도", required = true, example = "127.10"),
+                    @Parameter(name = "max_lat", description = "북쪽 위도", required = true, example = "37.40"),
+                    @Parameter(name = "max_lng", description = "동쪽 경도", required = true, example = "127.12"),
+                    @Parameter(name = "page", description = "페이지 번호 (0부터)", example = "0"),
+                    @Parameter(name = "size", description = "페이지 크기", example = "20")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "SOS 메시지 검색 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Page.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "영역 내 SOS 메시지 검색 응답 예시",
+                                                    summary = "영역 안에서 발송된 메시지",
+                                                    value = """
+                                                            {
+                                                              "content": [
+                                                                {
+                                                                  "message_log_id": 5,
+                                                                  "message": "[안전 귀가 알림] 귀가 중 도움이 필요합니다. 연락 부탁드립니다.",
+                                                                  "create_date": "2025-04-03T21:25:00",
+                                                                  "location": { "type": "Point", "coordinates": [127.1087, 37.3947] }
+                                                                }
+                                                              ],
+                                                              "total_pages": 1,
+                                                              "total_elements": 1,
+                                                              "size": 20,
+                                                              "number": 0
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "영역 좌표 범위 오류",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/box")
+    public ResponseEntity<Page<MessageLogResponseDto>> searchInBox(@RequestParam("min_lat") double minLat,
+                                                                   @RequestParam("min_lng") double minLng,
+                                                                   @RequestParam("max_lat") double maxLat,
+                                                                   @RequestParam("max_lng") double maxLng,
+                                                                   @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(messageLogService.searchMessagesInBox(minLat, minLng, maxLat, maxLng, pageable));
+    }
+
+    // 한 지점 반경 이내에서 발송된 SOS 메시지 검색
+    @Operation(
+            summary = "반경 내 SOS 메시지 검색",
+            description = "지정한 지점에서 반경(m) 이내에서 발송된 SOS 메시지를 최신순으로 페이징 조회합니다. (location GiST 인덱스 사용, 반경 최대 50km, 페이지 크기 최대 100)",
+            parameters = {
+                    @Parameter(name = "lat", description = "중심 위도", required = true, example = "37.3947"),
+                    @Parameter(name = "lng", description = "중심 경도", required = true, example = "127.1087"),
+                    @Parameter(name = "radius", description = "반경 (m)", required = true, example = "200"),
+                    @Parameter(name = "page", description = "페이지 번호 (0부터)", example = "0"),
+                    @Parameter(name = "size", description = "페이지 크기", example = "20")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "SOS 메시지 검색 성공 (응답 형식은 영역 내 SOS 메시지 검색과 동일)",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "위도 / 경도 / 반경 범위 오류",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/near")
+    public ResponseEntity<Page<MessageLogResponseDto>> searchNear(@RequestParam("lat") double lat,
+                                                                  @RequestParam("lng") double lng,
+                                                                  @RequestParam("radius") double radius,
+                                                                  @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(messageLogService.searchMessagesNear(lat, lng, radius, pageable));
+    }
+
+    // SOS 발송 위치 히트맵 타일 조회
+    @Operation(
+            summary = "SOS 히트맵 타일 조회",
+            description = "Web Mercator 타일(z/x/y) 안에서 발송된 SOS 메시지 수를 하위 칸별로 조회합니다. " +
+                    "메모리 집계 결과를 반환하므로 DB 를 조회하지 않습니다. (zoom 6 ~ 16, 칸은 z + 3 zoom 기준, 메시지가 있는 칸만 포함)",
+            parameters = {
+                    @Parameter(name = "z", description = "타일 zoom", required = true, example = "12"),
+                    @Parameter(name = "x", description = "타일 x", required = true, example = "3493"),
+                    @Parameter(name = "y", description = "타일 y", required = true, example = "1588")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "히트맵 타일 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SosHeatmapTileDto.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "SOS 히트맵 타일 응답 예시",
+                                                    summary = "메시지가 있는 칸만 포함",
+                                                    value = """
+                                                            {
+                                                              "z": 12,
+                                                              "x": 3493,
+                                                              "y": 1588,
+                                                              "total": 7,
+                                                              "cell_zoom": 15,
+                                                              "cells": [
+                                                                { "x": 27948, "y": 12707, "count": 5 },
+                                                                { "x": 27950, "y": 12709, "count": 2 }
+                                                              ],
+                                                              "rebuilt_at": "2025-04-03T21:00:10"
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "지원하지 않는 zoom / 타일 좌표 범위 오류",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/heatmap/{z}/{x}/{y}")
+    public ResponseEntity<SosHeatmapTileDto> getHeatmapTile(@PathVariable("z") int z,
+                                                            @PathVariable("x") int x,
+                                                            @PathVariable("y") int y) {
+        return ResponseEntity.ok(messageLogService.getHeatmapTile(z, x, y));
+    }
+
+    // SOS 발송 위치 히트맵 즉시 재집계
+    @Operation(
+            summary = "SOS 히트맵 재집계",
+            description = "DB 의 전체 SOS 메시지 위치로 히트맵을 다시 집계합니다. (주기적인 재집계를 기다리지 않고 즉시 보정할 때 사용, 이미 재집계 중이면 0 반환)",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "재집계 성공 (집계한 메시지 수)",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    examples = @ExampleObject(value = "1523")
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/heatmap/rebuild")
+    public ResponseEntity<Integer> rebuildHeatmap() {
+        return ResponseEntity.ok(messageLogService.rebuildHeatmap());
+    }
+}
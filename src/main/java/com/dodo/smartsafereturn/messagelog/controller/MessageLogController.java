@@ -4,6 +4,7 @@ package com.dodo.smartsafereturn.messagelog.controller;
 import com.dodo.smartsafereturn.messagelog.dto.MessageLogCreateDto;
 import com.dodo.smartsafereturn.messagelog.dto.MessageLogResponseDto;
 import com.dodo.smartsafereturn.messagelog.service.MessageLogService;
+import com.dodo.smartsafereturn.sms.dto.SmsDispatchStatusDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -30,12 +31,13 @@ public class MessageLogController {
     private final MessageLogService messageLogService;
 
     /**
-     * sms 메시지 등록 + coolSms 메시지 보내기
+     * sms 메시지 등록 + coolSms 메시지 발송 예약
      * - safeRoute 시간 내로 도착 실패 시 -> 프론트에서 /api/message-log [POST] 요청
+     * - 실제 발송은 비동기 (outbox) -> 발송 결과는 /api/message-log/{messageLogId}/dispatch 로 확인
      */
     @Operation(
             summary = "SMS 메시지 전송 및 로그 등록",
-            description = "새로운 SMS 메시지를 전송하고 로그를 등록합니다. 안전 귀가 경로 시간 내 도착 실패 시 프론트에서 호출해야 합니다.",
+            description = "SMS 메시지 로그를 등록하고 발송을 예약합니다. 실제 발송은 비동기로 처리되며 응답으로 받은 메시지 로그 ID 로 발송 상태를 조회할 수 있습니다. 안전 귀가 경로 시간 내 도착 실패 시 프론트에서 호출해야 합니다.",
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "전송할 SMS 메시지 정보",
                     required = true,
@@ -64,7 +66,12 @@ public class MessageLogController {
             responses = {
                     @ApiResponse(
                             responseCode = "200",
-                            description = "SMS 메시지 전송 및 로그 등록 성공"
+                            description = "SMS 메시지 로그 등록 및 발송 예약 성공 (메시지 로그 ID 반환)",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Long.class),
+                                    examples = @ExampleObject(value = "5")
+                            )
                     ),
                     @ApiResponse(
                             responseCode = "400",
@@ -75,9 +82,8 @@ public class MessageLogController {
     )
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("")
-    public ResponseEntity<?> save(@Validated @RequestBody MessageLogCreateDto dto) {
-        messageLogService.save(dto);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Long> save(@Validated @RequestBody MessageLogCreateDto dto) {
+        return ResponseEntity.ok(messageLogService.save(dto));
     }
 
     // sms 메시지 삭제
@@ -152,6 +158,51 @@ public class MessageLogController {
         return ResponseEntity.ok(messageLogService.getMessage(messageLogId));
     }
 
+    // sms 메시지 발송 상태 조회
+    @Operation(
+            summary = "SMS 메시지 발송 상태 조회",
+            description = "메시지 로그의 SMS 발송 상태를 조회합니다. (PENDING : 발송 대기 / 재시도 대기, SENDING : 발송 중, SENT : 발송 완료, FAILED : 재시도 초과)",
+            parameters = {
+                    @Parameter(name = "messageLogId", description = "조회할 메시지 로그 ID", required = true, example = "1")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "발송 상태 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SmsDispatchStatusDto.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "발송 상태 조회 응답 예시",
+                                                    summary = "재시도 대기 중인 메시지",
+                                                    value = """
+                                                            {
+                                                              "message_log_id": 5,
+                                                              "status": "PENDING",
+                                                              "attempts": 2,
+                                                              "next_attempt_at": "2025-04-03T14:31:05.123",
+                                                              "sent_at": null,
+                                                              "last_error": "SMS 발송 실패"
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "발송 기록을 찾을 수 없음",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{messageLogId}/dispatch")
+    public ResponseEntity<SmsDispatchStatusDto> getDispatchStatus(@PathVariable Long messageLogId) {
+        return ResponseEntity.ok(messageLogService.getDispatchStatus(messageLogId));
+    }
+
     // sms 메시지 귀가 루트별 조회
     @Operation(
             summary = "귀가 경로별 SMS 메시지 로그 목록 조회",
@@ -0,0 +1,9 @@
+package com.dodo.smartsafereturn.messagelog.dto;
+
+import org.locationtech.jts.geom.Point;
+
+/**
+ * 히트맵 재집계용 projection (메시지 본문은 읽지 않음)
+ */
+public record MessageLogLocation(Long messageLogId, Point location) {
+}
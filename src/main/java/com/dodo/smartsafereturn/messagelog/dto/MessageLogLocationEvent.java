@@ -0,0 +1,11 @@
+package com.dodo.smartsafereturn.messagelog.dto;
+
+import org.locationtech.jts.geom.Point;
+
+/**
+ * 위치가 있는 메시지 로그가 등록 / 삭제되었음을 알리는 이벤트
+ * - MessageLogServiceImpl 의 save / delete 에서 발행
+ * - 트랜잭션 커밋 후 SosHeatmap 집계에 반영 (등록 +1, 삭제 -1)
+ */
+public record MessageLogLocationEvent(Long messageLogId, Point location, boolean deleted) {
+}
@@ -0,0 +1,33 @@
+package com.dodo.smartsafereturn.messagelog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SOS 히트맵 타일 (Web Mercator z/x/y)
+ * - total : 타일 안 SOS 메시지 수
+ * - cellZoom : cells 의 zoom (타일을 2^(cellZoom - z) x 2^(cellZoom - z) 칸으로 나눔)
+ * - cells : 메시지가 있는 칸만 포함
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SosHeatmapTileDto {
+
+    private int z;
+    private int x;
+    private int y;
+    private long total;
+    private int cellZoom;
+    private List<Cell> cells;
+    private LocalDateTime rebuiltAt;
+
+    public record Cell(int x, int y, long count) {
+    }
+}
@@ -21,7 +21,7 @@ public class MessageLog extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String message;
 
-    // 도착 위치의 지리적 좌표 포인트
+    // 도착 위치의 지리적 좌표 포인트 -> GiST 인덱스 (db/schema/011) 로 관리자 공간 검색
     @Column(name = "location", columnDefinition = "geometry(Point,4326)")
     private Point location;
 
@@ -1,7 +1,53 @@
 package com.dodo.smartsafereturn.messagelog.repository;
 
+import com.dodo.smartsafereturn.messagelog.dto.MessageLogLocation;
 import com.dodo.smartsafereturn.messagelog.entity.MessageLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface MessageLogRepository extends JpaRepository<MessageLog, Long>, CustomMessageLogRepository {
+
+    /**
+     * bbox 영역 안에서 발송된 SOS 메시지 (관리자 공간 검색)
+     * - 점 geometry 는 && (bbox 겹침) 만으로 영역 포함 여부가 결정됨 -> GiST 인덱스만으로 처리
+     */
+    @Query(value = "select * from message_log ml " +
+            "where ml.location && ST_MakeEnvelope(:minLng, :minLat, :maxLng, :maxLat, 4326) " +
+            "order by ml.message_log_id desc",
+            countQuery = "select count(*) from message_log ml " +
+                    "where ml.location && ST_MakeEnvelope(:minLng, :minLat, :maxLng, :maxLat, 4326)",
+            nativeQuery = true)
+    Page<MessageLog> findWithinBox(@Param("minLat") double minLat,
+                                   @Param("minLng") double minLng,
+                                   @Param("maxLat") double maxLat,
+                                   @Param("maxLng") double maxLng,
+                                   Pageable pageable);
+
+    /**
+     * 한 지점에서 radiusMeters 이내에서 발송된 SOS 메시지 (관리자 공간 검색)
+     * - location && ST_Expand(...) 로 GiST 인덱스 후보를 추린 뒤 ST_DWithin(geography) 로 정확한 거리 확인
+     */
+    @Query(value = "select * from message_log ml " +
+            "where ml.location && ST_Expand(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326), :radiusDegrees) " +
+            "and ST_DWithin(ml.location::geography, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography, :radiusMeters) " +
+            "order by ml.message_log_id desc",
+            countQuery = "select count(*) from message_log ml " +
+                    "where ml.location && ST_Expand(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326), :radiusDegrees) " +
+                    "and ST_DWithin(ml.location::geography, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography, :radiusMeters)",
+            nativeQuery = true)
+    Page<MessageLog> findNear(@Param("lat") double lat,
+                              @Param("lng") double lng,
+                              @Param("radiusMeters") double radiusMeters,
+                              @Param("radiusDegrees") double radiusDegrees,
+                              Pageable pageable);
+
+    // 히트맵 재집계용 전체 메시지 위치 (엔티티 / 연관관계 로딩 없이 ID + 좌표만)
+    @Query("select new com.dodo.smartsafereturn.messagelog.dto.MessageLogLocation(ml.id, ml.location) " +
+            "from MessageLog ml where ml.location is not null")
+    List<MessageLogLocation> findAllLocations();
 }
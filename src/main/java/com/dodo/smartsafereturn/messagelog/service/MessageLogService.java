@@ -2,21 +2,35 @@ package com.dodo.smartsafereturn.messagelog.service;
 
 import com.dodo.smartsafereturn.messagelog.dto.MessageLogCreateDto;
 import com.dodo.smartsafereturn.messagelog.dto.MessageLogResponseDto;
+import com.dodo.smartsafereturn.messagelog.dto.SosHeatmapTileDto;
+import com.dodo.smartsafereturn.sms.dto.SmsDispatchStatusDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface MessageLogService {
 
-    // sms 메시지 등록 + 실제 sms 전송
-    void save(MessageLogCreateDto dto);
+    // sms 메시지 등록 + sms 발송 outbox 저장 (발송은 비동기)
+    Long save(MessageLogCreateDto dto);
     // sms 메시지 삭제
     void delete(Long messageLogId);
     // sms 메시지 한건 조회
     MessageLogResponseDto getMessage(Long messageLogId);
+    // sms 메시지 발송 상태 조회
+    SmsDispatchStatusDto getDispatchStatus(Long messageLogId);
     // sms 메시지 귀가 루트별 조회
     List<MessageLogResponseDto> getMessagesBySafeRouteId(Long safeRouteId);
     // sms 메시지 회원별 조회
     List<MessageLogResponseDto> getMessagesByMemberNumber(Long memberNumber);
     // sms 메시지 전체 조회 (ADMIN 전용)
     List<MessageLogResponseDto> getMessages();
+    // bbox 영역 안에서 발송된 sms 메시지 검색 (ADMIN 전용)
+    Page<MessageLogResponseDto> searchMessagesInBox(double minLat, double minLng, double maxLat, double maxLng, Pageable pageable);
+    // 한 지점 반경 radiusMeters 이내에서 발송된 sms 메시지 검색 (ADMIN 전용)
+    Page<MessageLogResponseDto> searchMessagesNear(double lat, double lng, double radiusMeters, Pageable pageable);
+    // SOS 발송 위치 히트맵 타일 조회 (ADMIN 전용)
+    SosHeatmapTileDto getHeatmapTile(int z, int x, int y);
+    // SOS 발송 위치 히트맵 DB 재집계 (ADMIN 전용)
+    int rebuildHeatmap();
 }
@@ -3,18 +3,28 @@ package com.dodo.smartsafereturn.messagelog.service;
 import com.dodo.smartsafereturn.emergencycontact.dto.EmergencyContactResponseDto;
 import com.dodo.smartsafereturn.emergencycontact.service.EmergencyContactService;
 import com.dodo.smartsafereturn.messagelog.dto.MessageLogCreateDto;
+import com.dodo.smartsafereturn.messagelog.dto.MessageLogLocationEvent;
 import com.dodo.smartsafereturn.messagelog.dto.MessageLogResponseDto;
+import com.dodo.smartsafereturn.messagelog.dto.SosHeatmapTileDto;
 import com.dodo.smartsafereturn.messagelog.entity.MessageLog;
 import com.dodo.smartsafereturn.messagelog.repository.MessageLogRepository;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStatsDelta;
 import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
 import com.dodo.smartsafereturn.safeRoute.entity.SafeRoute;
+import com.dodo.smartsafereturn.safeRoute.repository.MemberRouteStatsCounterRepository;
 import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRepository;
-import com.dodo.smartsafereturn.sms.service.SmsService;
+import com.dodo.smartsafereturn.safeRoute.utils.GeoBounds;
+import com.dodo.smartsafereturn.sms.dto.SmsDispatchStatusDto;
+import com.dodo.smartsafereturn.sms.service.SmsOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -25,29 +35,29 @@ public class MessageLogServiceImpl implements MessageLogService {
 
     private final MessageLogRepository messageLogRepository;
     private final SafeRouteRepository safeRouteRepository;
-    private final SmsService smsService; // sms 서비스
+    private final MemberRouteStatsCounterRepository memberRouteStatsCounterRepository; // 회원 경로 통계 (실패 수)
+    private final SmsOutboxService smsOutboxService; // sms 발송 outbox
     private final EmergencyContactService emergencyContactService;
+    private final SosHeatmap sosHeatmap; // SOS 위치 히트맵 (메모리 집계)
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Cool SMS 실제 메시지 보내기 -> 메시지 로그 등록
+     * 메시지 로그 등록 + SMS 발송 outbox 저장 (같은 트랜잭션)
+     * - 실제 CoolSMS 발송은 커밋 후 SmsOutboxRelay 워커가 수행 -> 발송 상태는 getDispatchStatus() 로 조회
      * @param dto
+     * @return 등록된 메시지 로그 ID
      */
     @Transactional
     @Override
-    public void save(MessageLogCreateDto dto) {
+    public Long save(MessageLogCreateDto dto) {
         // 연관 귀가 루트 있는지 여부 확인
         SafeRoute safeRoute = safeRouteRepository.findById(dto.getSafeRouteId())
                 .orElseThrow(() -> new RuntimeException("[MessageLogService] save() : 존재 하지 않는 귀가루트"));
 
         List<String> toList = dto.getPhoneList();
 
-        // cool sms 전송
-        if (toList.isEmpty()) {
+        if (toList == null || toList.isEmpty()) {
             throw new RuntimeException("[MessageLogService] coolSms 전송 실패 -> 비상연락망 등록한 사람이 없음");
-        } else if (toList.size() == 1) {
-            smsService.sendSms(toList.getFirst(), dto.getMessage());
-        } else {
-            smsService.sendSmsToMany(toList, dto.getMessage());
         }
 
         MessageLog savedMessageLog = messageLogRepository.save(
@@ -61,18 +71,40 @@ public class MessageLogServiceImpl implements MessageLogService {
         // 양방향 연관관계 설정
         safeRoute.addMessageLog(savedMessageLog);
 
-        // 혹시 모를 SafeRoute State 실패로 변경 (메시지는 FAIL 일시만 전송됨)
-        safeRoute.changeIsSuccess(RouteState.FAILED);
+        // 혹시 모를 SafeRoute State 실패로 변경 (메시지는 FAIL 일시만 전송됨) -> 회원 경로 통계도 같은 트랜잭션에서 반영
+        RouteStatsDelta before = RouteStatsDelta.of(safeRoute);
+        LocalDateTime now = LocalDateTime.now();
+        safeRoute.changeIsSuccess(RouteState.FAILED, now);
+        if (safeRoute.getMember() != null) {
+            memberRouteStatsCounterRepository.apply(safeRoute.getMember().getMemberNumber(), before,
+                    RouteStatsDelta.of(safeRoute), now);
+        }
+
+        // 발송 outbox 저장 -> 커밋되면 워커가 발송
+        smsOutboxService.enqueue(savedMessageLog.getId(), toList, dto.getMessage());
+
+        // 커밋 후 히트맵 칸 +1
+        if (dto.getLocation() != null) {
+            eventPublisher.publishEvent(new MessageLogLocationEvent(savedMessageLog.getId(), dto.getLocation(), false));
+        }
+
+        return savedMessageLog.getId();
     }
 
     @Transactional
     @Override
     public void delete(Long messageLogId) {
         // 실제하는 메시지인지 확인
-        messageLogRepository.findById(messageLogId)
+        MessageLog messageLog = messageLogRepository.findById(messageLogId)
                         .orElseThrow(() -> new RuntimeException("실제 존재하지 않는 sms 메시지 입니다"));
 
+        smsOutboxService.deleteByMessageLogId(messageLogId);
         messageLogRepository.deleteById(messageLogId);
+
+        // 커밋 후 히트맵 칸 -1
+        if (messageLog.getLocation() != null) {
+            eventPublisher.publishEvent(new MessageLogLocationEvent(messageLogId, messageLog.getLocation(), true));
+        }
     }
 
     @Override
@@ -89,6 +121,11 @@ public class MessageLogServiceImpl implements MessageLogService {
                 .build();
     }
 
+    @Override
+    public SmsDispatchStatusDto getDispatchStatus(Long messageLogId) {
+        return smsOutboxService.getDispatchStatus(messageLogId);
+    }
+
     @Override
     public List<MessageLogResponseDto> getMessagesBySafeRouteId(Long safeRouteId) {
         return messageLogRepository.getMessagesBySafeRouteId(safeRouteId);
@@ -103,4 +140,41 @@ public class MessageLogServiceImpl implements MessageLogService {
     public List<MessageLogResponseDto> getMessages() {
         return messageLogRepository.getMessages();
     }
+
+    @Override
+    public Page<MessageLogResponseDto> searchMessagesInBox(double minLat, double minLng, double maxLat, double maxLng, Pageable pageable) {
+        GeoBounds.validateBox(minLat, minLng, maxLat, maxLng);
+
+        return messageLogRepository.findWithinBox(minLat, minLng, maxLat, maxLng, GeoBounds.searchPage(pageable))
+                .map(MessageLogServiceImpl::ofDto);
+    }
+
+    @Override
+    public Page<MessageLogResponseDto> searchMessagesNear(double lat, double lng, double radiusMeters, Pageable pageable) {
+        GeoBounds.validatePoint(lat, lng);
+        GeoBounds.validateRadius(radiusMeters);
+
+        return messageLogRepository.findNear(lat, lng, radiusMeters,
+                        GeoBounds.degreesForMeters(lat, radiusMeters), GeoBounds.searchPage(pageable))
+                .map(MessageLogServiceImpl::ofDto);
+    }
+
+    @Override
+    public SosHeatmapTileDto getHeatmapTile(int z, int x, int y) {
+        return sosHeatmap.getTile(z, x, y);
+    }
+
+    @Override
+    public int rebuildHeatmap() {
+        return sosHeatmap.rebuild();
+    }
+
+    private static MessageLogResponseDto ofDto(MessageLog messageLog) {
+        return MessageLogResponseDto.builder()
+                .messageLogId(messageLog.getId())
+                .message(messageLog.getMessage())
+                .createDate(messageLog.getCreatedDate())
+                .location(messageLog.getLocation())
+                .build();
+    }
 }
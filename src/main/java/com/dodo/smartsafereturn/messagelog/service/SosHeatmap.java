@@ -0,0 +1,194 @@
+package com.dodo.smartsafereturn.messagelog.service;
+
+import com.dodo.smartsafereturn.messagelog.dto.MessageLogLocation;
+import com.dodo.smartsafereturn.messagelog.dto.MessageLogLocationEvent;
+import com.dodo.smartsafereturn.messagelog.dto.SosHeatmapTileDto;
+import com.dodo.smartsafereturn.messagelog.repository.MessageLogRepository;
+import com.dodo.smartsafereturn.safeRoute.utils.TileKey;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SOS 메시지 위치 히트맵 집계 (메모리)
+ * - 메시지 위치를 Web Mercator 타일 (z/x/y, quadkey 와 같은 격자) 로 나눠 min-zoom ~ max-zoom 각 zoom 의 칸별 개수를 보관
+ * - 칸 키 : zoom / x / y 를 long 하나로 묶은 값 -> 칸당 맵 항목 하나
+ * - 메시지 등록 / 삭제 커밋 후 해당 좌표가 속한 zoom 별 칸만 +1 / -1 (zoom 수만큼의 연산)
+ * - rebuild-interval 주기로 DB 에서 전체 재집계 후 교체 (삭제 누락 등 오차 보정)
+ *
+ * 타일 조회는 하위 칸 최대 4^detail-zoom 개 조회만 수행 (DB 조회 없음)
+ *
+ * 메트릭
+ * - sos.heatmap.cells
+ */
+@Slf4j
+@Component
+public class SosHeatmap {
+
+    // Web Mercator 위도 한계
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    private final MessageLogRepository messageLogRepository;
+    private final int minZoom;
+    private final int maxZoom;
+    private final int detailZoom;
+
+    // 칸 키 -> 메시지 수 (재집계 시 통째로 교체)
+    private volatile ConcurrentHashMap<Long, AtomicInteger> cells = new ConcurrentHashMap<>();
+    private volatile LocalDateTime rebuiltAt;
+
+    // 재집계 중에 들어온 등록 이벤트 -> 재집계 결과에 없는 메시지만 다시 반영
+    private volatile ConcurrentLinkedQueue<MessageLogLocationEvent> duringRebuild;
+    private final Object rebuildLock = new Object();
+
+    public SosHeatmap(MessageLogRepository messageLogRepository,
+                      MeterRegistry meterRegistry,
+                      @Value("${sos.heatmap.min-zoom:6}") int minZoom,
+                      @Value("${sos.heatmap.max-zoom:16}") int maxZoom,
+                      @Value("${sos.heatmap.detail-zoom:3}") int detailZoom) {
+        if (minZoom < 0 || maxZoom > 28 || minZoom > maxZoom) {
+            throw new IllegalArgumentException("sos.heatmap zoom range must be within 0..28 : " + minZoom + ".." + maxZoom);
+        }
+        this.messageLogRepository = messageLogRepository;
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+        this.detailZoom = Math.max(0, Math.min(detailZoom, 4));
+        Gauge.builder("sos.heatmap.cells", this, heatmap -> heatmap.cells.size())
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLocationChanged(MessageLogLocationEvent event) {
+        if (event.location() == null) {
+            return;
+        }
+        // 재집계 결과 교체와 겹치지 않도록 같은 락 안에서 반영 (SOS 발생 빈도에서는 경합 무시 가능)
+        synchronized (rebuildLock) {
+            ConcurrentLinkedQueue<MessageLogLocationEvent> pending = duringRebuild;
+            if (pending != null && !event.deleted()) {
+                pending.add(event);
+            }
+            apply(cells, event.location(), event.deleted() ? -1 : 1);
+        }
+    }
+
+    /**
+     * DB 전체 재집계 후 교체
+     * - 재집계 도중 등록된 메시지는 조회 결과의 최대 ID 보다 큰 것만 다시 반영 (중복 집계 방지)
+     * - 재집계 도중 삭제된 메시지는 다음 재집계에서 보정
+     * @return 집계한 메시지 수
+     */
+    @Scheduled(fixedDelayString = "${sos.heatmap.rebuild-interval:PT1H}", initialDelayString = "${sos.heatmap.initial-delay:PT10S}")
+    public int rebuild() {
+        ConcurrentLinkedQueue<MessageLogLocationEvent> pending = new ConcurrentLinkedQueue<>();
+        synchronized (rebuildLock) {
+            if (duringRebuild != null) {
+                return 0; // 이미 재집계 중
+            }
+            duringRebuild = pending;
+        }
+
+        try {
+            List<MessageLogLocation> locations = messageLogRepository.findAllLocations();
+            ConcurrentHashMap<Long, AtomicInteger> rebuilt = new ConcurrentHashMap<>();
+            long maxId = 0;
+            for (MessageLogLocation location : locations) {
+                apply(rebuilt, location.location(), 1);
+                maxId = Math.max(maxId, location.messageLogId());
+            }
+
+            synchronized (rebuildLock) {
+                for (MessageLogLocationEvent event : pending) {
+                    if (event.messageLogId() > maxId) {
+                        apply(rebuilt, event.location(), 1);
+                    }
+                }
+                cells = rebuilt;
+                rebuiltAt = LocalDateTime.now();
+                duringRebuild = null;
+            }
+            log.info("[SosHeatmap] rebuild() : messages={}, cells={}", locations.size(), rebuilt.size());
+            return locations.size();
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                duringRebuild = null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 타일 조회
+     * - 타일을 cellZoom (= z + detail-zoom, 최대 max-zoom) 칸으로 나눠 메시지가 있는 칸만 반환
+     */
+    public SosHeatmapTileDto getTile(int z, int x, int y) {
+        if (z < minZoom || z > maxZoom) {
+            throw new RuntimeException("[SosHeatmap] getTile() : 지원하지 않는 zoom (" + minZoom + " ~ " + maxZoom + ")");
+        }
+        int size = 1 << z;
+        if (x < 0 || y < 0 || x >= size || y >= size) {
+            throw new RuntimeException("[SosHeatmap] getTile() : 타일 좌표 범위를 벗어남");
+        }
+
+        ConcurrentHashMap<Long, AtomicInteger> current = cells;
+        int cellZoom = Math.min(z + detailZoom, maxZoom);
+        int shift = cellZoom - z;
+        List<SosHeatmapTileDto.Cell> tileCells = new ArrayList<>();
+        for (int cx = x << shift; cx < (x + 1) << shift; cx++) {
+            for (int cy = y << shift; cy < (y + 1) << shift; cy++) {
+                AtomicInteger count = current.get(TileKey.of(cellZoom, cx, cy));
+                if (count != null && count.get() > 0) {
+                    tileCells.add(new SosHeatmapTileDto.Cell(cx, cy, count.get()));
+                }
+            }
+        }
+
+        AtomicInteger total = current.get(TileKey.of(z, x, y));
+        return SosHeatmapTileDto.builder()
+                .z(z)
+                .x(x)
+                .y(y)
+                .total(total != null ? Math.max(total.get(), 0) : 0)
+                .cellZoom(cellZoom)
+                .cells(tileCells)
+                .rebuiltAt(rebuiltAt)
+                .build();
+    }
+
+    // 좌표가 속한 min-zoom ~ max-zoom 칸에 delta 반영 (max-zoom 타일 좌표를 오른쪽으로 밀어서 상위 zoom 타일 계산)
+    private void apply(ConcurrentHashMap<Long, AtomicInteger> target, Point location, int delta) {
+        double lat = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, location.getY()));
+        double lng = location.getX();
+        int n = 1 << maxZoom;
+        int tileX = clamp((int) Math.floor((lng + 180.0) / 360.0 * n), n);
+        double latRad = Math.toRadians(lat);
+        int tileY = clamp((int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n), n);
+
+        for (int z = minZoom; z <= maxZoom; z++) {
+            int shift = maxZoom - z;
+            long key = TileKey.of(z, tileX >> shift, tileY >> shift);
+            if (delta > 0) {
+                target.computeIfAbsent(key, k -> new AtomicInteger()).addAndGet(delta);
+            } else {
+                target.computeIfPresent(key, (k, count) -> count.addAndGet(delta) <= 0 ? null : count);
+            }
+        }
+    }
+
+    private static int clamp(int tile, int n) {
+        return Math.max(0, Math.min(tile, n - 1));
+    }
+}
@@ -0,0 +1,73 @@
+package com.dodo.smartsafereturn.safeRoute.controller;
+
+import com.dodo.smartsafereturn.safeRoute.service.SafeRouteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/tiles")
+@RequiredArgsConstructor
+@Tag(name = "관리자 지도 타일 API", description = "안전 귀가 경로 / SOS 발송 위치 벡터 타일 (관리자 전용)")
+public class MapTileController {
+
+    public static final String MVT_MEDIA_TYPE = "application/vnd.mapbox-vector-tile";
+
+    private final SafeRouteService safeRouteService;
+
+    // 경로 / SOS 발송 위치 벡터 타일 조회
+    @Operation(
+            summary = "지도 벡터 타일 조회",
+            description = "Web Mercator 타일(z/x/y) 영역의 경로와 SOS 발송 위치를 Mapbox Vector Tile 로 반환합니다. " +
+                    "routes 레이어(safe_route_id, state) 와 sos 레이어(message_log_id, safe_route_id) 로 구성되며, " +
+                    "경로는 zoom 별로 화면 1px 기준으로 단순화됩니다. (zoom 10 ~ 20, 레이어당 최대 5000개, 최근 조회 타일은 서버에서 캐싱)",
+            parameters = {
+                    @Parameter(name = "z", description = "타일 zoom", required = true, example = "15"),
+                    @Parameter(name = "x", description = "타일 x", required = true, example = "27948"),
+                    @Parameter(name = "y", description = "타일 y", required = true, example = "12707")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "타일 조회 성공",
+                            content = @Content(mediaType = MVT_MEDIA_TYPE, schema = @Schema(type = "string", format = "binary"))
+                    ),
+                    @ApiResponse(
+                            responseCode = "204",
+                            description = "타일 영역에 경로 / SOS 발송 위치가 없음"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "지원하지 않는 zoom / 타일 좌표 범위 오류",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping(value = "/{z}/{x}/{y}.mvt", produces = MVT_MEDIA_TYPE)
+    public ResponseEntity<byte[]> getTile(@PathVariable("z") int z,
+                                          @PathVariable("x") int x,
+                                          @PathVariable("y") int y) {
+        byte[] tile = safeRouteService.getMapTile(z, x, y);
+        if (tile.length == 0) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(tile);
+    }
+}
@@ -0,0 +1,162 @@
+package com.dodo.smartsafereturn.safeRoute.controller;
+
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStationaryStateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteResponseDto;
+import com.dodo.smartsafereturn.safeRoute.service.SafeRouteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/safe-route")
+@RequiredArgsConstructor
+@Tag(name = "안전 귀가 경로 관리자 API", description = "안전 귀가 경로 공간 검색 및 진행 중 경로 감시 (관리자 전용)")
+public class SafeRouteAdminController {
+
+    private final SafeRouteService safeRouteService;
+
+    // 한 지점 반경 이내를 지나간 경로 검색
+    @Operation(
+            summary = "반경 내 경로 검색",
+            description = "지정한 지점에서 반경(m) 이내를 지나간 안전 귀가 경로를 최신순으로 페이징 조회합니다. (route_path GiST 인덱스 사용, 반경 최대 50km, 페이지 크기 최대 100)",
+            parameters = {
+                    @Parameter(name = "lat", description = "중심 위도", required = true, example = "37.3947"),
+                    @Parameter(name = "lng", description = "중심 경도", required = true, example = "127.1087"),
+                    @Parameter(name = "radius", description = "반경 (m)", required = true, example = "200"),
+                    @Parameter(name = "page", description = "페이지 번호 (0부터)", example = "0"),
+                    @Parameter(name = "size", description = "페이지 크기", example = "20")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "경로 검색 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Page.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "반경 내 경로 검색 응답 예시",
+                                                    summary = "200m 이내를 지나간 경로",
+                                                    value = """
+                                                            {
+                                                              "content": [
+                                                                {
+                                                                  "safe_route_id": 12,
+                                                                  "member_number": 3,
+                                                                  "start_location": "경기도 성남시 분당구 판교역로 235",
+                                                                  "end_location": "경기도 성남시 분당구 삼평동 681",
+                                                                  "start_time": "2025-04-03T21:10:00",
+                                                                  "end_time": "2025-04-03T21:40:00",
+                                                                  "is_success": "FINISHED",
+                                                                  "route_path": ["geometry(lineString, 4326)"]
+                                                                }
+                                                              ],
+                                                              "total_pages": 1,
+                                                              "total_elements": 1,
+                                                              "size": 20,
+                                                              "number": 0
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "위도 / 경도 / 반경 범위 오류",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/near")
+    public ResponseEntity<Page<SafeRouteResponseDto>> searchNear(@RequestParam("lat") double lat,
+                                                                 @RequestParam("lng") double lng,
+                                                                 @RequestParam("radius") double radius,
+                                                                 @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(safeRouteService.searchRoutesNear(lat, lng, radius, pageable));
+    }
+
+    // bbox 영역을 지나간 경로 검색
+    @Operation(
+            summary = "영역 내 경로 검색",
+            description = "지정한 사각 영역(bbox)을 지나간 안전 귀가 경로를 최신순으로 페이징 조회합니다. (route_path GiST 인덱스 사용, 페이지 크기 최대 100)",
+            parameters = {
+                    @Parameter(name = "min_lat", description = "남쪽 위도", required = true, example = "37.39"),
+                    @Parameter(name = "min_lng", description = "서쪽 경도", required = true, example = "127.10"),
+                    @Parameter(name = "max_lat", description = "북쪽 위도", required = true, example = "37.40"),
+                    @Parameter(name = "max_lng", description = "동쪽 경도", required = true, example = "127.12"),
+                    @Parameter(name = "page", description = "페이지 번호 (0부터)", example = "0"),
+                    @Parameter(name = "size", description = "페이지 크기", example = "20")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "경로 검색 성공 (응답 형식은 반경 내 경로 검색과 동일)",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "영역 좌표 범위 오류",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/box")
+    public ResponseEntity<Page<SafeRouteResponseDto>> searchInBox(@RequestParam("min_lat") double minLat,
+                                                                  @RequestParam("min_lng") double minLng,
+                                                                  @RequestParam("max_lat") double maxLat,
+                                                                  @RequestParam("max_lng") double maxLng,
+                                                                  @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(safeRouteService.searchRoutesInBox(minLat, minLng, maxLat, maxLng, pageable));
+    }
+
+    // 현재 멈춤 상태인 경로 목록
+    @Operation(
+            summary = "멈춤 상태 경로 목록",
+            description = "진행 중인 경로 중 현재 멈춤(stalled) 상태인 경로의 감시 상태를 조회합니다. (메모리 조회, DB 조회 없음)",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "멈춤 상태 경로 조회 성공",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = RouteStationaryStateDto.class, type = "array"))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/stalled")
+    public ResponseEntity<List<RouteStationaryStateDto>> getStalledRoutes() {
+        return ResponseEntity.ok(safeRouteService.getStalledRoutes());
+    }
+}
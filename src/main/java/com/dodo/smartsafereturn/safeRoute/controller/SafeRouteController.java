@@ -1,10 +1,27 @@
 package com.dodo.smartsafereturn.safeRoute.controller;
 
+import com.dodo.smartsafereturn.auth.entity.CustomUserDetails;
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.dto.MemberRouteStatsDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDetail;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDeviationStateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RoutePointPageDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStationaryStateDto;
 import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteChangeStateDto;
 import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteCreateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointAppendDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointAppendResultDto;
 import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteResponseDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSosDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteStreamTokenDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSummaryPageDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncResultDto;
 import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteUpdateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.TimedLatLngPoint;
 import com.dodo.smartsafereturn.safeRoute.service.SafeRouteService;
+import com.dodo.smartsafereturn.safeRoute.utils.VarintRouteCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,10 +32,17 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Slf4j
@@ -28,12 +52,15 @@ import java.util.List;
 @Tag(name = "안전 귀가 경로 관리 API", description = "안전 귀가 경로 CRUD 및 상태 관리 API")
 public class SafeRouteController {
 
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private final SafeRouteService safeRouteService;
+    private final ObjectMapper objectMapper;
 
     // 안전 귀가 루트 등록
     @Operation(
             summary = "안전 귀가 경로 등록",
-            description = "새로운 안전 귀가 경로를 등록합니다.",
+            description = "새로운 안전 귀가 경로를 등록합니다. route_path 는 좌표 배열 대신 Google encoded polyline 문자열로도 보낼 수 있습니다.",
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "등록할 안전 귀가 경로 정보",
                     required = true,
@@ -118,6 +145,10 @@ public class SafeRouteController {
                                                               "start_time": "2025-04-03T16:20:15.789Z",
                                                               "end_time": "2025-04-03T17:20:15.789Z",
                                                               "is_success": "STARTED",
+                                                              "distance_meters": 1523.4,
+                                                              "point_count": 240,
+                                                              "bounds": { "min_lat": 37.4812, "min_lng": 126.9761, "max_lat": 37.4935, "max_lng": 126.9902 },
+                                                              "is_risky": false,
                                                               "route_path": ["geometry(lineString, 4326)"]
                                                             }
                                                             """
@@ -136,8 +167,7 @@ public class SafeRouteController {
     @PostMapping("")
     public ResponseEntity<SafeRouteResponseDto> create(@Validated @RequestBody SafeRouteCreateDto dto) {
 
-        log.info("dto = {}", dto.toString());
-        log.info("dto = {}", dto.getRoutePath());
+        log.info("dto = {}, points = {}", dto, dto.getRoutePath() != null ? dto.getRoutePath().size() : 0);
 
         return ResponseEntity.ok(safeRouteService.create(dto));
     }
@@ -145,7 +175,7 @@ public class SafeRouteController {
     // 안전 귀가 루트 수정 (도착지, 도착시간)
     @Operation(
             summary = "안전 귀가 경로 수정",
-            description = "기존 안전 귀가 경로의 도착지 및 도착 시간을 수정합니다.",
+            description = "기존 안전 귀가 경로의 도착지, 도착 시간, 계획 경로를 수정합니다. 이미 받은 이동 좌표 (측정 시각 포함) 는 그대로 유지됩니다. route_path 는 좌표 배열 대신 Google encoded polyline 문자열로도 보낼 수 있습니다.",
             parameters = {
                     @Parameter(name = "safeRouteId", description = "수정할 안전 귀가 경로 ID", required = true, example = "1")
             },
@@ -256,6 +286,252 @@ public class SafeRouteController {
         return ResponseEntity.ok().build();
     }
 
+    // 이동 경로 좌표 추가 (새 좌표만 전송)
+    @Operation(
+            summary = "이동 경로 좌표 추가",
+            description = "진행 중인 안전 귀가 경로에 새로 이동한 좌표만 이어붙입니다. 전체 경로를 다시 보내지 않아도 됩니다. " +
+                    "from_seq 는 points 첫 번째 좌표의 순번이며 (경로 첫 좌표가 0), 이미 받은 순번의 좌표는 무시됩니다. " +
+                    "순번이 비어 있으면 (GAP) 아무것도 반영하지 않으므로 응답의 last_seq + 1 부터 다시 전송해야 합니다. " +
+                    "points 는 좌표 배열 대신 encoded polyline 문자열로도 보낼 수 있습니다.",
+            parameters = {
+                    @Parameter(name = "safeRouteId", description = "좌표를 추가할 안전 귀가 경로 ID", required = true, example = "1")
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "추가할 좌표 목록",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SafeRoutePointAppendDto.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "좌표 추가 요청 예시",
+                                            summary = "순번 42 부터 좌표 2개 추가",
+                                            value = """
+                                                    {
+                                                      "from_seq": 42,
+                                                      "points": [
+                                                        { "lat": 37.48587764427854, "lng": 126.87672122242071 },
+                                                        { "lat": 37.485998822934334, "lng": 126.87705359907585 }
+                                                      ]
+                                                    }
+                                                    """
+                                    )
+                            }
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "처리 결과 (APPENDED : 추가됨, DUPLICATE : 이미 받은 좌표, GAP : 순번 누락)",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SafeRoutePointAppendResultDto.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "좌표 추가 응답 예시",
+                                                    summary = "좌표 2개 추가",
+                                                    value = """
+                                                            {
+                                                              "safe_route_id": 1,
+                                                              "last_seq": 43,
+                                                              "appended": 2,
+                                                              "result": "APPENDED"
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "존재하지 않거나 진행 중이 아닌 경로",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/{safeRouteId}/points")
+    public ResponseEntity<SafeRoutePointAppendResultDto> appendPoints(@PathVariable Long safeRouteId,
+                                                                      @Validated @RequestBody SafeRoutePointAppendDto dto) {
+        return ResponseEntity.ok(safeRouteService.appendPoints(safeRouteId, dto));
+    }
+
+    // 이동 경로 좌표 추가 (바이너리 본문)
+    @Operation(
+            summary = "이동 경로 좌표 추가 (바이너리)",
+            description = "좌표 추가 API 와 동일하게 동작하며, 좌표 목록을 delta-zigzag-varint 바이너리 본문(application/octet-stream)으로 받습니다. " +
+                    "본문 형식 : 버전(1 byte, 1) + 좌표 수(varint) + 좌표마다 위도 / 경도 차이값(zigzag varint, 1e6 단위, 첫 좌표는 0 기준). " +
+                    "좌표 1개당 보통 2 ~ 4 byte 입니다.",
+            parameters = {
+                    @Parameter(name = "safeRouteId", description = "좌표를 추가할 안전 귀가 경로 ID", required = true, example = "1"),
+                    @Parameter(name = "from_seq", description = "본문 첫 번째 좌표의 순번 (경로 첫 좌표가 0)", required = true, example = "42")
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "delta-zigzag-varint 로 인코딩한 좌표 목록",
+                    required = true,
+                    content = @Content(mediaType = "application/octet-stream", schema = @Schema(type = "string", format = "binary"))
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "처리 결과 (APPENDED : 추가됨, DUPLICATE : 이미 받은 좌표, GAP : 순번 누락)",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SafeRoutePointAppendResultDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "잘못된 바이너리 형식 또는 존재하지 않거나 진행 중이 아닌 경로",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping(value = "/{safeRouteId}/points", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<SafeRoutePointAppendResultDto> appendPointsBinary(@PathVariable Long safeRouteId,
+                                                                            @RequestParam("from_seq") Long fromSeq,
+                                                                            @RequestBody byte[] body) {
+        List<LatLngPoint> points = VarintRouteCodec.decode(body);
+        if (fromSeq < 0 || points.isEmpty()) {
+            throw new RuntimeException("[SafeRouteController] appendPointsBinary() : 순번 또는 좌표가 올바르지 않음");
+        }
+        return ResponseEntity.ok(safeRouteService.appendPoints(safeRouteId, new SafeRoutePointAppendDto(fromSeq, points)));
+    }
+
+    // 오프라인 좌표 / 상태 일괄 업로드
+    @Operation(
+            summary = "오프라인 좌표 / 상태 일괄 업로드",
+            description = "네트워크가 끊긴 동안 단말에 모아둔 좌표와 상태 변경을 배치 단위로 한 번에 업로드합니다. " +
+                    "배치마다 batch_id 를 붙여 보내면 요청 순서대로 배치별 ack 를 반환하며, 잘못된 배치(좌표 범위 오류, 미래 측정 시각 등)만 REJECTED 되고 나머지는 반영됩니다. " +
+                    "좌표는 seq 순으로 정렬 / 중복 제거 후 서버의 마지막 순번 다음부터 이어지는 좌표만 추가되고, 상태 변경은 경로별로 changed_at 이 가장 늦은 것만 적용됩니다. " +
+                    "GAP 을 받은 배치는 ack 의 last_seq + 1 부터 다시 전송해야 합니다. " +
+                    "본문은 Content-Encoding: gzip 으로 압축해서 보낼 수 있습니다. (압축 해제 후 최대 10MB, 한 요청당 배치 100개 / 좌표 20000개까지)",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "업로드할 배치 목록",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SafeRouteSyncDto.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "일괄 업로드 요청 예시",
+                                            summary = "좌표 2개 + 도착 완료",
+                                            value = """
+                                                    {
+                                                      "batches": [
+                                                        {
+                                                          "batch_id": "b-20240501-0007",
+                                                          "safe_route_id": 1,
+                                                          "points": [
+                                                            { "seq": 42, "lat": 37.48587764427854, "lng": 126.87672122242071, "recorded_at": "2024-05-01T21:13:05", "accuracy": 8.5 },
+                                                            { "seq": 43, "lat": 37.485998822934334, "lng": 126.87705359907585, "recorded_at": "2024-05-01T21:13:10", "accuracy": 6.0 }
+                                                          ],
+                                                          "states": [
+                                                            { "state": "FINISHED", "changed_at": "2024-05-01T21:20:00" }
+                                                          ]
+                                                        }
+                                                      ]
+                                                    }
+                                                    """
+                                    )
+                            }
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "배치별 처리 결과 (APPENDED : 추가됨, DUPLICATE : 이미 받은 좌표, GAP : 순번 누락, REJECTED : 잘못된 배치)",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SafeRouteSyncResultDto.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "일괄 업로드 응답 예시",
+                                                    summary = "좌표 2개 추가 + 도착 완료",
+                                                    value = """
+                                                            {
+                                                              "acks": [
+                                                                {
+                                                                  "batch_id": "b-20240501-0007",
+                                                                  "safe_route_id": 1,
+                                                                  "result": "APPENDED",
+                                                                  "last_seq": 43,
+                                                                  "appended": 2,
+                                                                  "state": "FINISHED",
+                                                                  "message": null
+                                                                }
+                                                              ]
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "요청 형식 오류 또는 배치 / 좌표 수 초과, 압축 해제 크기 초과",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/sync")
+    public ResponseEntity<SafeRouteSyncResultDto> sync(@Validated @RequestBody SafeRouteSyncDto dto) {
+        return ResponseEntity.ok(safeRouteService.sync(dto));
+    }
+
+    // SOS 발송 (서버에서 비상연락망 / SOS 메시지 조회 후 발송)
+    @Operation(
+            summary = "SOS 발송",
+            description = "회원의 비상연락망과 SOS 메시지를 서버에서 조회해 메시지 로그를 등록하고, 경로 상태를 FAILED 로 변경한 뒤 SMS 발송을 예약합니다. " +
+                    "SOS 메시지를 등록하지 않은 회원은 기본 문구로 발송됩니다. 응답으로 받은 메시지 로그 ID 로 발송 상태(/api/message-log/{messageLogId}/dispatch)를 조회할 수 있습니다.",
+            parameters = {
+                    @Parameter(name = "safeRouteId", description = "SOS 를 발송할 안전 귀가 경로 ID", required = true, example = "1")
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "SOS 발생 위치 (선택)",
+                    required = false,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SafeRouteSosDto.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "SOS 요청 예시",
+                                            summary = "현재 위치 포함",
+                                            value = """
+                                                    {
+                                                      "location": { "lat": 37.3947, "lng": 127.1087 }
+                                                    }
+                                                    """
+                                    )
+                            }
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "SOS 등록 및 발송 예약 성공 (메시지 로그 ID 반환)",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Long.class),
+                                    examples = @ExampleObject(value = "5")
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "존재하지 않는 경로 또는 비상연락망 없음",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/{safeRouteId}/sos")
+    public ResponseEntity<Long> sos(@PathVariable Long safeRouteId,
+                                    @RequestBody(required = false) SafeRouteSosDto dto) {
+        return ResponseEntity.ok(safeRouteService.sos(safeRouteId, dto));
+    }
+
     // 안전 귀가 루트 삭제
     @Operation(
             summary = "안전 귀가 경로 삭제",
@@ -285,9 +561,11 @@ public class SafeRouteController {
     // 안전 귀가 루트 가져오기 (현재 한 건)
     @Operation(
             summary = "안전 귀가 경로 상세 조회",
-            description = "특정 안전 귀가 경로의 상세 정보를 조회합니다.",
+            description = "특정 안전 귀가 경로의 상세 정보를 조회합니다. " +
+                    "Accept: application/vnd.smartsafereturn.polyline+json 으로 요청하면 route_path 를 GeoJSON 대신 encoded polyline 문자열로 응답합니다.",
             parameters = {
-                    @Parameter(name = "safeRouteId", description = "조회할 안전 귀가 경로 ID", required = true, example = "1")
+                    @Parameter(name = "safeRouteId", description = "조회할 안전 귀가 경로 ID", required = true, example = "1"),
+                    @Parameter(name = "detail", description = "경로 상세 수준 (preview : 지도 미리보기용 단순화 경로, full : 저장된 경로 - 기본값, raw : 단순화 전 원본 경로)", example = "full")
             },
             responses = {
                     @ApiResponse(
@@ -305,6 +583,10 @@ public class SafeRouteController {
                                                               "safe_route_id": 1,
                                                               "end_location": "서울시 서초구 방배동 789-10",
                                                               "end_time": "2025-04-03T17:20:15.789Z",
+                                                              "distance_meters": 1523.4,
+                                                              "point_count": 240,
+                                                              "bounds": { "min_lat": 37.4812, "min_lng": 126.9761, "max_lat": 37.4935, "max_lng": 126.9902 },
+                                                              "is_risky": false,
                                                               "route_path": ["geometry(lineString, 4326)"]
                                                             }
                                                             """
@@ -321,16 +603,326 @@ public class SafeRouteController {
     )
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/{safeRouteId}")
-    public ResponseEntity<SafeRouteResponseDto> getOne(@PathVariable Long safeRouteId) {
-        return ResponseEntity.ok(safeRouteService.getSafeRoute(safeRouteId));
+    public ResponseEntity<SafeRouteResponseDto> getOne(@PathVariable Long safeRouteId,
+                                                       @RequestParam(value = "detail", required = false) String detail) {
+        return ResponseEntity.ok(safeRouteService.getSafeRoute(safeRouteId, RouteDetail.from(detail)));
+    }
+
+    // 안전 귀가 루트 경로만 가져오기 (바이너리)
+    @Operation(
+            summary = "안전 귀가 경로 좌표 조회 (바이너리)",
+            description = "경로 좌표만 delta-zigzag-varint 바이너리(application/octet-stream)로 조회합니다. 형식은 바이너리 좌표 추가 API 와 같습니다. " +
+                    "JSON 응답이 필요하면 상세 조회 API 를 Accept: application/vnd.smartsafereturn.polyline+json 으로 호출하면 route_path 가 encoded polyline 문자열로 내려갑니다.",
+            parameters = {
+                    @Parameter(name = "safeRouteId", description = "조회할 안전 귀가 경로 ID", required = true, example = "1"),
+                    @Parameter(name = "detail", description = "경로 상세 수준 (preview : 지도 미리보기용 단순화 경로, full : 저장된 경로 - 기본값, raw : 단순화 전 원본 경로)", example = "full")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "경로 좌표 조회 성공",
+                            content = @Content(mediaType = "application/octet-stream", schema = @Schema(type = "string", format = "binary"))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "안전 귀가 경로를 찾을 수 없음",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping(value = "/{safeRouteId}/path", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getPath(@PathVariable Long safeRouteId,
+                                          @RequestParam(value = "detail", required = false) String detail) {
+        SafeRouteResponseDto route = safeRouteService.getSafeRoute(safeRouteId, RouteDetail.from(detail));
+        return ResponseEntity.ok(VarintRouteCodec.encode(route.getRoutePath()));
+    }
+
+    // 경로 좌표 재생 (측정 시각 포함)
+    @Operation(
+            summary = "안전 귀가 경로 좌표 재생 조회",
+            description = "경로 좌표를 측정 시각 / 정확도와 함께 순번 순으로 조회합니다. after_seq 다음 순번부터 size 개 (최대 1000) 를 반환하며, " +
+                    "다음 페이지는 응답의 next_seq 를 after_seq 로 넘겨 조회합니다. (has_next 가 false 면 마지막 페이지) " +
+                    "Accept: application/x-ndjson 으로 호출하면 after_seq 이후 좌표 전체를 한 줄에 좌표 하나씩 스트리밍합니다. " +
+                    "실시간 추가 API 로 들어온 좌표의 측정 시각은 서버 수신 시각입니다.",
+            parameters = {
+                    @Parameter(name = "safeRouteId", description = "조회할 안전 귀가 경로 ID", required = true, example = "1"),
+                    @Parameter(name = "after_seq", description = "이 순번 다음부터 조회 (처음부터는 -1)", example = "-1"),
+                    @Parameter(name = "size", description = "페이지 크기 (최대 1000, 스트리밍 시 무시)", example = "500")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "좌표 조회 성공",
+                            content = {
+                                    @Content(
+                                            mediaType = "application/json",
+                                            schema = @Schema(implementation = RoutePointPageDto.class),
+                                            examples = {
+                                                    @ExampleObject(
+                                                            name = "좌표 재생 응답 예시",
+                                                            summary = "좌표 2개, 다음 페이지 있음",
+                                                            value = """
+                                                                    {
+                                                                      "safe_route_id": 1,
+                                                                      "points": [
+                                                                        { "seq": 0, "lat": 37.48587764427854, "lng": 126.87672122242071, "recorded_at": "2024-05-01T21:03:05", "accuracy": 8.5 },
+                                                                        { "seq": 1, "lat": 37.485998822934334, "lng": 126.87705359907585, "recorded_at": "2024-05-01T21:03:10", "accuracy": null }
+                                                                      ],
+                                                                      "next_seq": 1,
+                                                                      "has_next": true
+                                                                    }
+                                                                    """
+                                                    )
+                                            }
+                                    ),
+                                    @Content(
+                                            mediaType = NDJSON_MEDIA_TYPE,
+                                            schema = @Schema(implementation = TimedLatLngPoint.class)
+                                    )
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "존재하지 않는 안전 귀가 경로",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{safeRouteId}/points")
+    public ResponseEntity<RoutePointPageDto> getPoints(@PathVariable Long safeRouteId,
+                                                       @RequestParam(value = "after_seq", defaultValue = "-1") long afterSeq,
+                                                       @RequestParam(value = "size", defaultValue = "500") int size) {
+        return ResponseEntity.ok(safeRouteService.getPoints(safeRouteId, afterSeq, size));
+    }
+
+    // 경로 좌표 전체 재생 (NDJSON 스트리밍)
+    @Operation(hidden = true) // 문서는 JSON 조회 API 에 함께 기재
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping(value = "/{safeRouteId}/points", produces = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamPoints(@PathVariable Long safeRouteId,
+                                                              @RequestParam(value = "after_seq", defaultValue = "-1") long afterSeq) {
+        // 첫 페이지는 요청 스레드에서 조회 (존재하지 않는 경로는 스트리밍 전에 오류 응답)
+        RoutePointPageDto first = safeRouteService.getPoints(safeRouteId, afterSeq, Integer.MAX_VALUE);
+        StreamingResponseBody body = out -> {
+            writeLines(out, first.getPoints());
+            if (first.isHasNext()) {
+                try {
+                    safeRouteService.replayPoints(safeRouteId, first.getNextSeq(), points -> {
+                        try {
+                            writeLines(out, points);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause(); // 클라이언트 연결 끊김
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+                .body(body);
+    }
+
+    // 경로 이탈 감시 상태 조회
+    @Operation(
+            summary = "경로 이탈 상태 조회",
+            description = "진행 중인 안전 귀가 경로의 이탈 감시 상태를 조회합니다. 계획 경로에서 corridor_meters 이상 벗어난 좌표가 연속으로 들어오면 deviated 가 true 가 되고, " +
+                    "경로 구간으로 돌아오면 다시 false 가 됩니다. 진행 중이 아니거나 감시 구간이 아직 없는 경로는 tracked 가 false 입니다.",
+            parameters = {
+                    @Parameter(name = "safeRouteId", description = "조회할 안전 귀가 경로 ID", required = true, example = "1")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "경로 이탈 상태 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = RouteDeviationStateDto.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "경로 이탈 상태 응답 예시",
+                                                    summary = "좌표 3개 연속 경로 이탈",
+                                                    value = """
+                                                            {
+                                                              "safe_route_id": 1,
+                                                              "tracked": true,
+                                                              "deviated": true,
+                                                              "consecutive_outside": 3,
+                                                              "corridor_meters": 50.0,
+                                                              "last_position": { "lat": 37.3961, "lng": 127.1102 },
+                                                              "last_checked_at": "2025-04-03T21:25:30.120",
+                                                              "deviated_since": "2025-04-03T21:25:30.118"
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "존재하지 않는 경로",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{safeRouteId}/deviation")
+    public ResponseEntity<RouteDeviationStateDto> getDeviationState(@PathVariable Long safeRouteId) {
+        return ResponseEntity.ok(safeRouteService.getDeviationState(safeRouteId));
+    }
+
+    // 경로 멈춤 감시 상태 조회
+    @Operation(
+            summary = "경로 멈춤 상태 조회",
+            description = "진행 중인 안전 귀가 경로의 멈춤 감시 상태를 조회합니다. 최근 좌표들이 반경(기본 30m) 안에서 기준 시간(기본 10분) 이상 머물면 stalled 가 true 가 되고, " +
+                    "반경을 벗어나 이동하면 다시 false 가 됩니다. 진행 중이 아니거나 아직 좌표를 받지 않은 경로는 tracked 가 false 입니다.",
+            parameters = {
+                    @Parameter(name = "safeRouteId", description = "조회할 안전 귀가 경로 ID", required = true, example = "1")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "경로 멈춤 상태 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = RouteStationaryStateDto.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "경로 멈춤 상태 응답 예시",
+                                                    summary = "12분째 같은 위치",
+                                                    value = """
+                                                            {
+                                                              "safe_route_id": 1,
+                                                              "tracked": true,
+                                                              "stalled": true,
+                                                              "center": { "lat": 37.3961, "lng": 127.1102 },
+                                                              "dwell_radius_meters": 8.4,
+                                                              "stationary_seconds": 720,
+                                                              "stationary_since": "2025-04-03T21:13:30.000",
+                                                              "last_position_at": "2025-04-03T21:25:30.000"
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "존재하지 않는 경로",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{safeRouteId}/stationary")
+    public ResponseEntity<RouteStationaryStateDto> getStationaryState(@PathVariable Long safeRouteId) {
+        return ResponseEntity.ok(safeRouteService.getStationaryState(safeRouteId));
+    }
+
+    // 실시간 위치 구독용 토큰 발급
+    @Operation(
+            summary = "실시간 위치 구독 토큰 발급",
+            description = "진행 중인 본인 안전 귀가 경로의 실시간 위치 구독(SSE) 토큰을 발급합니다. " +
+                    "비상연락망에 GET /api/safe-route/{safeRouteId}/stream?token={stream_token} 링크로 공유하면 로그인 없이 구독할 수 있습니다. (기본 유효 시간 3시간)",
+            parameters = {
+                    @Parameter(name = "safeRouteId", description = "구독할 안전 귀가 경로 ID", required = true, example = "1")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "구독 토큰 발급 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SafeRouteStreamTokenDto.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "구독 토큰 발급 응답 예시",
+                                                    summary = "3시간 유효한 구독 토큰",
+                                                    value = """
+                                                            {
+                                                              "safe_route_id": 1,
+                                                              "stream_token": "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9...",
+                                                              "expires_at": "2025-04-04T00:10:00.000"
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "존재하지 않는 경로 / 본인 경로가 아님 / 진행 중인 경로가 아님",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/{safeRouteId}/stream-token")
+    public ResponseEntity<SafeRouteStreamTokenDto> issueStreamToken(@PathVariable Long safeRouteId,
+                                                                    @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(safeRouteService.issueStreamToken(safeRouteId, userDetails.getMemberInfoDto().getMemberNumber()));
+    }
+
+    // 실시간 위치 / 상태 구독 (SSE)
+    @Operation(
+            summary = "실시간 위치 / 상태 구독",
+            description = "진행 중인 안전 귀가 경로의 위치와 상태 변화를 Server-Sent Events 로 받습니다. 구독 직후 현재 상태(STATE) 를 보내고, " +
+                    "이후 좌표 추가(POSITION), 상태 변경(STATE), 경로 이탈(DEVIATED), 멈춤(STALLED), 안심 구역 진입 / 이탈(ZONE_ENTERED / ZONE_EXITED) 이벤트를 보냅니다. " +
+                    "경로가 종료(FINISHED / FAILED / CANCELLED) 되거나 삭제되면 마지막 STATE 이벤트 후 연결이 종료됩니다. " +
+                    "수신이 밀려 서버 버퍼(기본 64건) 를 넘으면 연결이 끊기므로 다시 연결해야 하며, 15초마다 heartbeat 주석을 보냅니다. (최대 연결 30분)",
+            parameters = {
+                    @Parameter(name = "safeRouteId", description = "구독할 안전 귀가 경로 ID", required = true, example = "1"),
+                    @Parameter(name = "token", description = "구독 토큰 (stream-token 발급 결과)", required = true)
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "구독 시작",
+                            content = @Content(
+                                    mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "이벤트 스트림 예시",
+                                                    summary = "현재 상태 + 위치 이벤트",
+                                                    value = """
+                                                            id:0
+                                                            event:STATE
+                                                            data:{"seq":0,"safe_route_id":1,"type":"STATE","position":null,"point_seq":null,"state":"IN_PROGRESS","at":"2025-04-03T21:10:00.000"}
+
+                                                            id:1
+                                                            event:POSITION
+                                                            data:{"seq":1,"safe_route_id":1,"type":"POSITION","position":{"lat":37.3947,"lng":127.1087},"point_seq":42,"state":null,"at":"2025-04-03T21:10:05.000"}
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "잘못된 / 만료된 구독 토큰, 진행 중인 경로가 아님, 구독자 수 초과",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @GetMapping(value = "/{safeRouteId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long safeRouteId,
+                             @RequestParam("token") String token) {
+        return safeRouteService.subscribeStream(safeRouteId, token);
     }
 
     // 안전 귀가 루트 가져오기 (마이페이지 - 회원 귀가 루트 내역 List)
     @Operation(
             summary = "회원별 안전 귀가 경로 목록 조회",
-            description = "특정 회원의 모든 안전 귀가 경로 목록을 조회합니다.",
+            description = "특정 회원의 모든 안전 귀가 경로 목록을 경로 좌표와 함께 조회합니다. " +
+                    "경로가 많은 회원은 응답이 커지므로 목록 화면은 요약 목록 조회 API (/member/{memberNumber}/summaries) 를 사용하세요. " +
+                    "Accept: application/vnd.smartsafereturn.polyline+json 으로 요청하면 route_path 를 encoded polyline 문자열로 응답합니다.",
+            deprecated = true,
             parameters = {
-                    @Parameter(name = "memberNumber", description = "회원 번호", required = true, example = "1")
+                    @Parameter(name = "memberNumber", description = "회원 번호", required = true, example = "1"),
+                    @Parameter(name = "detail", description = "경로 상세 수준 (preview : 지도 미리보기용 단순화 경로, full : 저장된 경로 - 기본값, raw : 단순화 전 원본 경로)", example = "full")
             },
             responses = {
                     @ApiResponse(
@@ -372,7 +964,133 @@ public class SafeRouteController {
     )
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/member/{memberNumber}")
-    public ResponseEntity<List<SafeRouteResponseDto>> getMemberRouteList(@PathVariable Long memberNumber) {
-        return ResponseEntity.ok(safeRouteService.getMemberSafeRoutes(memberNumber));
+    public ResponseEntity<List<SafeRouteResponseDto>> getMemberRouteList(@PathVariable Long memberNumber,
+                                                                         @RequestParam(value = "detail", required = false) String detail) {
+        return ResponseEntity.ok(safeRouteService.getMemberSafeRoutes(memberNumber, RouteDetail.from(detail)));
+    }
+
+    // 회원 귀가 루트 요약 목록 (마이페이지 목록 화면 - 경로 좌표 없음)
+    @Operation(
+            summary = "회원별 안전 귀가 경로 요약 목록 조회",
+            description = "특정 회원의 안전 귀가 경로를 출발 시각 최신순으로 size 개 (최대 100) 씩 조회합니다. " +
+                    "경로 좌표 없이 측지선 이동 거리 (m), 좌표 수, bbox 만 반환하며, 경로 좌표는 단건 조회 API 로 조회합니다. " +
+                    "다음 페이지는 응답의 next_cursor 를 cursor 로 넘겨 조회합니다. (has_next 가 false 면 마지막 페이지)",
+            parameters = {
+                    @Parameter(name = "memberNumber", description = "회원 번호", required = true, example = "1"),
+                    @Parameter(name = "cursor", description = "이전 페이지 응답의 next_cursor (첫 페이지는 생략)"),
+                    @Parameter(name = "size", description = "페이지 크기 (최대 100)", example = "20")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "안전 귀가 경로 요약 목록 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SafeRouteSummaryPageDto.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "회원별 안전 귀가 경로 요약 목록 응답 예시",
+                                                    summary = "경로 2개, 다음 페이지 있음",
+                                                    value = """
+                                                            {
+                                                              "routes": [
+                                                                {
+                                                                  "safe_route_id": 2,
+                                                                  "start_location": "서울시 서초구 방배동 123-45",
+                                                                  "end_location": "서울시 서초구 방배동 789-15",
+                                                                  "start_time": "2025-04-03T18:00:15",
+                                                                  "end_time": "2025-04-03T18:20:15",
+                                                                  "is_success": "FINISHED",
+                                                                  "distance_meters": 1523.4,
+                                                                  "point_count": 240,
+                                                                  "bounds": { "min_lat": 37.4812, "min_lng": 126.9761, "max_lat": 37.4935, "max_lng": 126.9902 },
+                                                                  "is_risky": true
+                                                                },
+                                                                {
+                                                                  "safe_route_id": 1,
+                                                                  "start_location": "서울시 서초구 방배동 123-45",
+                                                                  "end_location": "서울시 서초구 방배동 789-10",
+                                                                  "start_time": "2025-04-03T17:00:15",
+                                                                  "end_time": "2025-04-03T17:20:15",
+                                                                  "is_success": "CANCELLED",
+                                                                  "distance_meters": 310.2,
+                                                                  "point_count": 52,
+                                                                  "bounds": { "min_lat": 37.4812, "min_lng": 126.9761, "max_lat": 37.4839, "max_lng": 126.9788 },
+                                                                  "is_risky": false
+                                                                }
+                                                              ],
+                                                              "next_cursor": "MjAyNS0wNC0wM1QxNzowMDoxNXwx",
+                                                              "has_next": true
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "잘못된 페이지 커서",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/member/{memberNumber}/summaries")
+    public ResponseEntity<SafeRouteSummaryPageDto> getMemberRouteSummaries(@PathVariable Long memberNumber,
+                                                                           @RequestParam(value = "cursor", required = false) String cursor,
+                                                                           @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(safeRouteService.getMemberSafeRouteSummaries(memberNumber, cursor, size));
+    }
+
+    // 회원 귀가 루트 통계 (마이페이지 - 완수 / 실패 / 총 이동 거리 / 평균 소요 시간)
+    @Operation(
+            summary = "회원별 안전 귀가 경로 통계 조회",
+            description = "특정 회원의 경로 수, 완수 / 실패 / 취소 경로 수, 총 이동 거리 (m), 완수 경로의 평균 소요 시간 (초) 을 조회합니다. " +
+                    "경로 등록 / 수정 / 상태 변경 시 함께 갱신되는 통계를 회원 번호로 한 번에 조회하며, 경로가 없는 회원은 0 을 반환합니다. " +
+                    "평균 소요 시간은 출발 ~ 실제 도착 (FINISHED 변경, 오프라인 업로드는 단말의 변경 시각) 기준이며 완수 경로가 없으면 null 입니다.",
+            parameters = {
+                    @Parameter(name = "memberNumber", description = "회원 번호", required = true, example = "1")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "안전 귀가 경로 통계 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = MemberRouteStatsDto.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "회원별 안전 귀가 경로 통계 응답 예시",
+                                                    summary = "경로 12개 (완수 9, 실패 1, 취소 1, 진행 중 1)",
+                                                    value = """
+                                                            {
+                                                              "member_number": 1,
+                                                              "route_count": 12,
+                                                              "finished_count": 9,
+                                                              "failed_count": 1,
+                                                              "cancelled_count": 1,
+                                                              "total_distance_meters": 18432.7,
+                                                              "average_duration_seconds": 1260
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/member/{memberNumber}/stats")
+    public ResponseEntity<MemberRouteStatsDto> getMemberRouteStats(@PathVariable Long memberNumber) {
+        return ResponseEntity.ok(safeRouteService.getMemberRouteStats(memberNumber));
+    }
+
+    // 좌표 한 줄에 하나씩 (페이지마다 flush)
+    private void writeLines(OutputStream out, List<TimedLatLngPoint> points) throws IOException {
+        for (TimedLatLngPoint point : points) {
+            out.write(objectMapper.writeValueAsBytes(point));
+            out.write('\n');
+        }
+        out.flush();
     }
-}
\ No newline at end of file
+}
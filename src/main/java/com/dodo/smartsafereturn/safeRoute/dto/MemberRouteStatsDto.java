@@ -0,0 +1,46 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.entity.MemberRouteStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 경로 통계 응답
+ * - average_duration_seconds : 완수 경로의 출발 ~ 실제 도착 시각 평균 (완수 경로가 없으면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberRouteStatsDto {
+
+    private Long memberNumber;
+    private long routeCount;
+    private long finishedCount;
+    private long failedCount;
+    private long cancelledCount;
+    private double totalDistanceMeters;
+    private Long averageDurationSeconds;
+
+    public static MemberRouteStatsDto of(MemberRouteStats stats) {
+        return MemberRouteStatsDto.builder()
+                .memberNumber(stats.getMemberNumber())
+                .routeCount(stats.getRouteCount())
+                .finishedCount(stats.getFinishedCount())
+                .failedCount(stats.getFailedCount())
+                .cancelledCount(stats.getCancelledCount())
+                .totalDistanceMeters(stats.getTotalDistanceMeters())
+                .averageDurationSeconds(stats.getFinishedCount() > 0
+                        ? stats.getFinishedDurationSeconds() / stats.getFinishedCount() : null)
+                .build();
+    }
+
+    // 아직 경로가 없는 회원
+    public static MemberRouteStatsDto empty(Long memberNumber) {
+        return MemberRouteStatsDto.builder()
+                .memberNumber(memberNumber)
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+/**
+ * 도착 예정 시각이 지난 경로 처리 방식 (safe-route.overdue.action)
+ * - FAILED : 경로 상태만 FAILED 로 변경
+ * - SOS : FAILED 로 변경 후 비상연락망으로 SOS 발송
+ */
+public enum OverdueAction {
+    FAILED, SOS
+}
@@ -0,0 +1,29 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 경로 bbox (위경도) -> 지도 화면 맞춤 / 영역 집계용 (geometry 없이)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteBoundsDto {
+
+    private Double minLat;
+    private Double minLng;
+    private Double maxLat;
+    private Double maxLng;
+
+    // bbox 가 계산되지 않은 경로 (경로 좌표 없음) 는 null
+    public static RouteBoundsDto of(Double minLat, Double minLng, Double maxLat, Double maxLng) {
+        if (minLat == null || minLng == null || maxLat == null || maxLng == null) {
+            return null;
+        }
+        return new RouteBoundsDto(minLat, minLng, maxLat, maxLng);
+    }
+}
@@ -0,0 +1,11 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도착 예정 시각 감시용 projection (경로 geometry 는 읽지 않음)
+ */
+public record RouteDeadline(Long safeRouteId, RouteState state, LocalDateTime endTime) {
+}
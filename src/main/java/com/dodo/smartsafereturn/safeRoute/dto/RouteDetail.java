@@ -0,0 +1,23 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+/**
+ * 경로 조회 시 routePath 상세 수준 (?detail=)
+ * - PREVIEW : 지도 미리보기용 (preview-tolerance-meters 로 한 번 더 단순화)
+ * - FULL : 저장된 경로 (수집 시 tolerance-meters 로 단순화된 경로) - 기본값
+ * - RAW : 단순화 전 원본 경로 (keep-raw 설정 시에만 저장, 없으면 FULL 과 동일)
+ */
+public enum RouteDetail {
+    PREVIEW, FULL, RAW;
+
+    // 대소문자 구분 없이 변환, 값이 없으면 FULL
+    public static RouteDetail from(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        try {
+            return RouteDetail.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("[RouteDetail] 지원하지 않는 detail 값 : " + value);
+        }
+    }
+}
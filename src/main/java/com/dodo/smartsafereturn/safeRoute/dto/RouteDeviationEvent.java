@@ -0,0 +1,10 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 경로에서 계획 경로 구간 밖 좌표가 연속으로 들어왔음을 알리는 이벤트
+ * - RouteDeviationDetector 가 연속 횟수가 기준에 처음 도달했을 때 한 번만 발행 (구간으로 돌아오면 다시 감시)
+ */
+public record RouteDeviationEvent(Long safeRouteId, LatLngPoint position, int consecutiveOutside, LocalDateTime deviatedAt) {
+}
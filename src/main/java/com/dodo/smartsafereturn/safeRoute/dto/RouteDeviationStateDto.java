@@ -0,0 +1,30 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경로 이탈 감시 상태
+ * - tracked : 이탈 감시 중인지 여부 (진행 중이 아니거나 아직 좌표를 받지 않은 경로는 false)
+ * - deviated : 구간 밖 좌표가 기준 횟수 이상 연속으로 들어온 상태
+ * - consecutiveOutside : 현재 연속으로 구간 밖에 있는 좌표 수
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RouteDeviationStateDto {
+
+    private Long safeRouteId;
+    private boolean tracked;
+    private boolean deviated;
+    private int consecutiveOutside;
+    private double corridorMeters;
+    private LatLngPoint lastPosition;
+    private LocalDateTime lastCheckedAt;
+    private LocalDateTime deviatedSince;
+}
@@ -0,0 +1,41 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 경로 목록 keyset 페이징 위치 (마지막으로 받은 경로의 출발 시각 + ID)
+ * - 클라이언트에는 base64url 문자열로만 전달 (형식에 의존하지 않도록)
+ */
+public record RouteListCursor(LocalDateTime startTime, Long safeRouteId) {
+
+    public static RouteListCursor of(SafeRouteSummaryDto last) {
+        return new RouteListCursor(last.getStartTime(), last.getSafeRouteId());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((startTime + "|" + safeRouteId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return null : 첫 페이지
+     * @throws RuntimeException 잘못된 커서
+     */
+    public static RouteListCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            return new RouteListCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new RuntimeException("[RouteListCursor] decode() : 잘못된 페이지 커서");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.utils.Geodesic;
+import org.locationtech.jts.geom.CoordinateSequence;
+
+/**
+ * 수집 시 한 번만 계산해서 safe_route 에 저장하는 경로 요약 값
+ * - 측지선 길이 (m) + bbox (위경도) 를 좌표 열 한 번 순회로 계산 -> 목록 / 통계 조회에서 geometry 를 읽지 않음
+ * - 좌표 수는 last_point_seq + 1 (별도 컬럼 X)
+ */
+public record RouteMetrics(double lengthMeters, double minLat, double minLng, double maxLat, double maxLng) {
+
+    public static RouteMetrics of(CoordinateSequence coordinates) {
+        if (coordinates.size() == 0) {
+            throw new RuntimeException("[RouteMetrics] of() : 좌표가 없는 경로");
+        }
+        double minLat = Double.POSITIVE_INFINITY;
+        double minLng = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double maxLng = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < coordinates.size(); i++) {
+            double lat = coordinates.getY(i);
+            double lng = coordinates.getX(i);
+            minLat = Math.min(minLat, lat);
+            maxLat = Math.max(maxLat, lat);
+            minLng = Math.min(minLng, lng);
+            maxLng = Math.max(maxLng, lng);
+        }
+        return new RouteMetrics(Geodesic.lengthMeters(coordinates), minLat, minLng, maxLat, maxLng);
+    }
+}
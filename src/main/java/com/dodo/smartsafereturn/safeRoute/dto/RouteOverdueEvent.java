@@ -0,0 +1,10 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 경로가 도착 예정 시각 + 유예 시간을 넘겼음을 알리는 이벤트
+ * - OverdueRouteWheel 이 발행 -> OverdueRouteEscalator 가 FAILED 처리 / SOS 발송
+ */
+public record RouteOverdueEvent(Long safeRouteId, LocalDateTime endTime) {
+}
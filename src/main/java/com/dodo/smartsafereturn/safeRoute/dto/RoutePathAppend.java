@@ -0,0 +1,10 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import java.util.List;
+
+/**
+ * 경로에 추가할 좌표 (SafeRoutePathBatchRepository / RoutePointRepository 일괄 반영 단위)
+ * - expectedLastSeq 일 때만 last_point_seq = newLastSeq 로 갱신, points 는 route_point 에 행으로 추가
+ */
+public record RoutePathAppend(Long safeRouteId, long expectedLastSeq, long newLastSeq, List<TimedLatLngPoint> points) {
+}
@@ -0,0 +1,12 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌표 추가 전 확인용 projection (경로 geometry 는 읽지 않음)
+ * - recordedFrom : 등록 / 출발 시각 중 이른 쪽 -> 좌표 측정 시각의 하한 (route_point 조회 시 파티션 범위 조건과 같은 기준)
+ */
+public record RoutePathCursor(Long lastPointSeq, RouteState state, LocalDateTime recordedFrom) {
+}
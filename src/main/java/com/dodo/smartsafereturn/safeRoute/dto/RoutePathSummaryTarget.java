@@ -0,0 +1,8 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+/**
+ * 요약 경로 (route_path) 에 아직 반영되지 않은 좌표가 있는 경로
+ * - pathSeq 다음부터 lastPointSeq 까지 route_point 에서 읽어서 이어붙임
+ */
+public record RoutePathSummaryTarget(Long safeRouteId, long pathSeq, long lastPointSeq) {
+}
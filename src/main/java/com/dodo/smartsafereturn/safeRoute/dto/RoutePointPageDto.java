@@ -0,0 +1,24 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 경로 좌표 재생 한 페이지 (순번 keyset 페이징)
+ * - 다음 페이지는 after_seq = next_seq 로 요청, has_next 가 false 면 마지막 페이지
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutePointPageDto {
+
+    private Long safeRouteId;
+    private List<TimedLatLngPoint> points;
+    private Long nextSeq;
+    private boolean hasNext;
+}
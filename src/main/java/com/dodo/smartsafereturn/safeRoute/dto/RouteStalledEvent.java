@@ -0,0 +1,10 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 경로의 위치가 일정 시간 이상 거의 움직이지 않았음을 알리는 이벤트
+ * - RouteStationaryDetector 가 멈춤 상태가 된 순간 한 번만 발행 (다시 움직이면 초기화)
+ */
+public record RouteStalledEvent(Long safeRouteId, LatLngPoint center, LocalDateTime stationarySince) {
+}
@@ -0,0 +1,25 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오프라인 동안 단말에서 발생한 경로 상태 변경 (일괄 업로드)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteStateChangeDto {
+
+    @NotNull(message = "변경할 상태를 넣어주세요")
+    private RouteState state;
+    @NotNull(message = "변경 시각을 넣어주세요")
+    private LocalDateTime changedAt;
+}
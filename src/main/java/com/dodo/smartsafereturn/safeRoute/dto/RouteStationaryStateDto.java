@@ -0,0 +1,31 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경로 멈춤 감시 상태
+ * - tracked : 멈춤 감시 중인지 여부 (진행 중이 아니거나 아직 좌표를 받지 않은 경로는 false)
+ * - stalled : dwellRadiusMeters 안에서 기준 시간 이상 머무른 상태
+ * - dwellRadiusMeters : 최근 좌표들이 중심에서 떨어진 최대 거리
+ * - stationarySeconds : 마지막 좌표 기준으로 현재 위치 근처에 머문 시간
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RouteStationaryStateDto {
+
+    private Long safeRouteId;
+    private boolean tracked;
+    private boolean stalled;
+    private LatLngPoint center;
+    private double dwellRadiusMeters;
+    private long stationarySeconds;
+    private LocalDateTime stationarySince;
+    private LocalDateTime lastPositionAt;
+}
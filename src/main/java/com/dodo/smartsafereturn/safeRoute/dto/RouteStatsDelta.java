@@ -0,0 +1,70 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import com.dodo.smartsafereturn.safeRoute.entity.SafeRoute;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 회원 경로 통계 (member_route_stats) 의 증감분
+ * - 경로 하나가 통계에 더하는 값은 of() -> 변경 시에는 after.minus(before) 만큼만 카운터에 더함
+ * - 재계산 (MemberRouteStatsCounterRepository.rebuild) 결과는 회원의 모든 경로에 대한 of() 의 합과 같아야 함
+ * - 소요 시간은 완수 (FINISHED) 경로의 출발 ~ 실제 도착 시각 (finished_at, 초)
+ */
+public record RouteStatsDelta(long routeCount, long finishedCount, long failedCount, long cancelledCount,
+                              double distanceMeters, long finishedDurationSeconds) {
+
+    public static final RouteStatsDelta ZERO = new RouteStatsDelta(0, 0, 0, 0, 0.0, 0);
+
+    public static RouteStatsDelta of(SafeRoute safeRoute) {
+        return of(safeRoute.getIsSuccess(), safeRoute.getDistanceMeters(), safeRoute.getStartTime(), safeRoute.getFinishedAt());
+    }
+
+    public static RouteStatsDelta of(RouteState state, Double distanceMeters, LocalDateTime startTime, LocalDateTime finishedAt) {
+        boolean finished = state == RouteState.FINISHED;
+        return new RouteStatsDelta(
+                1,
+                finished ? 1 : 0,
+                state == RouteState.FAILED ? 1 : 0,
+                state == RouteState.CANCELLED ? 1 : 0,
+                distanceMeters != null ? distanceMeters : 0.0,
+                finished ? durationSeconds(startTime, finishedAt) : 0
+        );
+    }
+
+    public RouteStatsDelta plus(RouteStatsDelta other) {
+        return new RouteStatsDelta(
+                routeCount + other.routeCount,
+                finishedCount + other.finishedCount,
+                failedCount + other.failedCount,
+                cancelledCount + other.cancelledCount,
+                distanceMeters + other.distanceMeters,
+                finishedDurationSeconds + other.finishedDurationSeconds
+        );
+    }
+
+    public RouteStatsDelta minus(RouteStatsDelta other) {
+        return new RouteStatsDelta(
+                routeCount - other.routeCount,
+                finishedCount - other.finishedCount,
+                failedCount - other.failedCount,
+                cancelledCount - other.cancelledCount,
+                distanceMeters - other.distanceMeters,
+                finishedDurationSeconds - other.finishedDurationSeconds
+        );
+    }
+
+    public boolean isZero() {
+        return routeCount == 0 && finishedCount == 0 && failedCount == 0 && cancelledCount == 0
+                && distanceMeters == 0.0 && finishedDurationSeconds == 0;
+    }
+
+    // 재계산 SQL 과 같은 기준 (초 단위 버림, 음수면 0)
+    private static long durationSeconds(LocalDateTime startTime, LocalDateTime finishedAt) {
+        if (startTime == null || finishedAt == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(startTime, finishedAt).getSeconds());
+    }
+}
@@ -0,0 +1,36 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경로 실시간 구독 (SSE) 으로 보내는 이벤트 한 건
+ * - seq : 경로별 이벤트 순번 (SSE id)
+ * - POSITION : position / pointSeq (좌표 추가 요청의 마지막 좌표)
+ * - STATE : state (진행 중이 아닌 상태면 마지막 이벤트, null 이면 삭제된 경로)
+ * - DEVIATED / STALLED : position (경로 이탈 / 멈춤 감지 위치)
+ * - ZONE_ENTERED / ZONE_EXITED : position (안심 구역 진입 / 이탈이 확정된 위치)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RouteStreamFrameDto {
+
+    private long seq;
+    private Long safeRouteId;
+    private FrameType type;
+    private LatLngPoint position;
+    private Long pointSeq;
+    private RouteState state;
+    private LocalDateTime at;
+
+    public enum FrameType {
+        POSITION, STATE, DEVIATED, STALLED, ZONE_ENTERED, ZONE_EXITED
+    }
+}
@@ -0,0 +1,11 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * 지도에 그려지는 경로가 바뀐 영역 (경도 / 위도 bbox) 을 알리는 이벤트
+ * - create / update / 좌표 추가 / 상태 변경 / 삭제 시 발행 (update 는 변경 전 + 변경 후 경로 영역)
+ * - 트랜잭션 커밋 후 MapTileCache 가 영역과 겹치는 캐시 타일만 제거
+ */
+public record SafeRouteAreaChangedEvent(Long safeRouteId, Envelope area) {
+}
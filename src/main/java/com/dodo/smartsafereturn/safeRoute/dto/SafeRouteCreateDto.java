@@ -1,15 +1,18 @@
 package com.dodo.smartsafereturn.safeRoute.dto;
 
+import com.dodo.smartsafereturn.safeRoute.utils.PackedPathDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.LineString;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Data
 @AllArgsConstructor
@@ -27,7 +30,10 @@ public class SafeRouteCreateDto {
     private LocalDateTime startTime;
     @NotNull(message = "도착시간을 적어주세요")
     private LocalDateTime endTime;
-    // 경로 데이터
-    private List<LatLngPoint> routePath;
+    // 경로 데이터 (좌표 배열 또는 encoded polyline 문자열)
+    // 좌표마다 객체를 만들지 않고 double[] 하나로 받음 (경도, 위도 순서) -> 로그에 좌표 전체가 찍히지 않도록 toString 제외
+    @JsonDeserialize(using = PackedPathDeserializer.class)
+    @ToString.Exclude
+    private CoordinateSequence routePath;
 
 }
@@ -0,0 +1,18 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경로의 상태 or 도착 예정 시각이 변경되었음을 알리는 이벤트
+ * - SafeRouteServiceImpl 의 create / update / changeStatus / sos / delete 에서 발행
+ * - 트랜잭션 커밋 후 OverdueRouteWheel 에 반영 (진행 중이면 예약, 아니면 취소)
+ * - state 가 null 이면 삭제된 경로
+ */
+public record SafeRouteDeadlineChangedEvent(Long safeRouteId, RouteState state, LocalDateTime endTime) {
+
+    public boolean isActive() {
+        return state != null && state.isActive() && endTime != null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import org.locationtech.jts.geom.LineString;
+
+/**
+ * 경로 전체가 새로 저장되었음을 알리는 이벤트 (create / update)
+ * - 트랜잭션 커밋 후 RouteDeviationDetector 가 계획 경로 기준 이탈 감시 구간을 다시 만듦
+ */
+public record SafeRoutePathChangedEvent(Long safeRouteId, LineString routePath) {
+}
@@ -0,0 +1,33 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.utils.LatLngPathDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 이동 경로 좌표 추가 요청
+ * - fromSeq : points 첫 번째 좌표의 순번 (경로 첫 좌표가 0, 이후 1씩 증가)
+ * - points : 좌표 배열 또는 encoded polyline 문자열
+ * - 이미 받은 순번의 좌표는 무시, 중간 순번이 빠진 요청은 통째로 무시 (응답의 lastSeq + 1 부터 다시 전송)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SafeRoutePointAppendDto {
+
+    @NotNull(message = "시작 순번을 넣어주세요")
+    @PositiveOrZero(message = "순번은 0 이상이어야 합니다")
+    private Long fromSeq;
+    @NotEmpty(message = "추가할 좌표를 넣어주세요")
+    @JsonDeserialize(using = LatLngPathDeserializer.class)
+    private List<LatLngPoint> points;
+}
@@ -0,0 +1,34 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이동 경로 좌표 추가 결과
+ * - lastSeq : 서버에 저장된 마지막 좌표 순번 -> 다음 요청은 lastSeq + 1 부터
+ * - appended : 이번 요청으로 실제 추가된 좌표 수
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SafeRoutePointAppendResultDto {
+
+    private Long safeRouteId;
+    private Long lastSeq;
+    private int appended;
+    private AppendResult result;
+
+    public enum AppendResult {
+        // 새 좌표 추가
+        APPENDED,
+        // 이미 받은 좌표만 있음 (재전송)
+        DUPLICATE,
+        // 중간 순번이 빠져 있음 -> lastSeq + 1 부터 다시 전송
+        GAP,
+        // 검증 실패 / 진행 중이 아닌 경로 (일괄 업로드) -> 다시 보내도 반영되지 않음
+        REJECTED
+    }
+}
@@ -0,0 +1,14 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 진행 중인 경로에 새 좌표가 추가되었음을 알리는 이벤트
+ * - SafeRouteServiceImpl.appendPoints() / sync() 에서 실제로 추가된 좌표만 담아서 발행 (중복 / 순번 누락 요청은 발행 X)
+ * - 트랜잭션 커밋 후 위치 감시 (경로 이탈 등) 에서 사용
+ * - fromSeq : points 첫 번째 좌표의 순번
+ * - recordedAts : points 와 같은 순서의 측정 시각 (실시간 추가는 서버 수신 시각, 일괄 업로드는 단말 측정 시각)
+ */
+public record SafeRoutePointsAppendedEvent(Long safeRouteId, long fromSeq, List<LatLngPoint> points, List<LocalDateTime> recordedAts) {
+}
@@ -23,5 +23,11 @@ public class SafeRouteResponseDto {
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private RouteState isSuccess;
+    // 수집 시 미리 계산한 값 (측지선 거리 m, 좌표 수, bbox)
+    private Double distanceMeters;
+    private Long pointCount;
+    private RouteBoundsDto bounds;
+    // 위험 구역 (관리자 지정) 을 지나는 경로인지
+    private Boolean isRisky;
     private LineString routePath;
 }
@@ -0,0 +1,19 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * SOS 요청 본문 (선택)
+ * - location : SOS 발생 시점 현재 위치 (없으면 위치 없이 로그 등록)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SafeRouteSosDto {
+
+    private LatLngPoint location;
+}
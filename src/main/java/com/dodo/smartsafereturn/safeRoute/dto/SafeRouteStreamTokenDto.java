@@ -0,0 +1,23 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경로 실시간 위치 구독용 토큰 발급 결과
+ * - streamToken : GET /api/safe-route/{safeRouteId}/stream?token= 에 사용 (비상연락망에 링크로 공유)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SafeRouteStreamTokenDto {
+
+    private Long safeRouteId;
+    private String streamToken;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,45 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경로 목록용 요약 (geometry 없음)
+ * - 거리 / 좌표 수 / bbox 는 수집 시 미리 계산해 둔 컬럼에서 읽음
+ * - 경로 좌표는 단건 조회 (GET /api/safe-route/{safeRouteId}) 에서만 내려감
+ */
+@Data
+@NoArgsConstructor
+public class SafeRouteSummaryDto {
+
+    private Long safeRouteId;
+    private String startLocation;
+    private String endLocation;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private RouteState isSuccess;
+    private Double distanceMeters;
+    private Long pointCount;
+    private RouteBoundsDto bounds;
+    private Boolean isRisky;
+
+    @QueryProjection
+    public SafeRouteSummaryDto(Long safeRouteId, String startLocation, String endLocation, LocalDateTime startTime,
+                               LocalDateTime endTime, RouteState isSuccess, Double distanceMeters, Long lastPointSeq,
+                               Double minLat, Double minLng, Double maxLat, Double maxLng, Boolean isRisky) {
+        this.safeRouteId = safeRouteId;
+        this.startLocation = startLocation;
+        this.endLocation = endLocation;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.isSuccess = isSuccess;
+        this.distanceMeters = distanceMeters;
+        this.pointCount = lastPointSeq + 1; // 순번은 0 부터
+        this.bounds = RouteBoundsDto.of(minLat, minLng, maxLat, maxLng);
+        this.isRisky = isRisky;
+    }
+}
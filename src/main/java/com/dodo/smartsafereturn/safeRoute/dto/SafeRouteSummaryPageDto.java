@@ -0,0 +1,23 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 경로 목록 한 페이지 (출발 시각 최신순 keyset 페이징)
+ * - 다음 페이지는 cursor = next_cursor 로 요청, has_next 가 false 면 마지막 페이지
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SafeRouteSummaryPageDto {
+
+    private List<SafeRouteSummaryDto> routes;
+    private String nextCursor;
+    private boolean hasNext;
+}
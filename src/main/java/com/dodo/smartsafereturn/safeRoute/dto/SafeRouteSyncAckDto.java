@@ -0,0 +1,29 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 업로드 배치별 처리 결과
+ * - lastSeq : 처리 후 서버에 저장된 경로의 마지막 좌표 순번 -> 다음 업로드는 lastSeq + 1 부터
+ * - appended : 이 배치에서 실제 추가된 좌표 수
+ * - state : 처리 후 경로 상태
+ * - message : REJECTED 사유
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SafeRouteSyncAckDto {
+
+    private String batchId;
+    private Long safeRouteId;
+    private SafeRoutePointAppendResultDto.AppendResult result;
+    private Long lastSeq;
+    private int appended;
+    private RouteState state;
+    private String message;
+}
@@ -0,0 +1,36 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 업로드 배치 하나 (경로 하나의 좌표 + 상태 변경)
+ * - batchId : 단말이 붙인 배치 ID -> 응답 ack 에 그대로 돌려줌
+ * - points : 순서가 섞여 있어도 됨 (서버에서 순번 순으로 정렬, 같은 순번은 첫 번째만 사용)
+ * - states : 좌표 반영 후 변경 시각 순으로 적용 (마지막 상태가 최종 상태)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SafeRouteSyncBatchDto {
+
+    @NotBlank(message = "배치 ID 를 넣어주세요")
+    private String batchId;
+    @NotNull(message = "안전 귀가 경로 ID 를 넣어주세요")
+    private Long safeRouteId;
+    @Valid
+    @Builder.Default
+    private List<TimedLatLngPoint> points = new ArrayList<>();
+    @Valid
+    @Builder.Default
+    private List<RouteStateChangeDto> states = new ArrayList<>();
+}
@@ -0,0 +1,25 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 오프라인 좌표 / 상태 일괄 업로드 요청 (여러 경로, 여러 배치)
+ * - Content-Encoding: gzip 으로 압축해서 보낼 수 있음 (GzipRequestFilter)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SafeRouteSyncDto {
+
+    @NotEmpty(message = "업로드할 배치를 넣어주세요")
+    @Valid
+    private List<SafeRouteSyncBatchDto> batches;
+}
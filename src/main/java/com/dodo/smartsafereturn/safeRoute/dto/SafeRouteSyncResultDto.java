@@ -0,0 +1,20 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 오프라인 좌표 / 상태 일괄 업로드 결과 (요청 배치 순서대로 ack)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SafeRouteSyncResultDto {
+
+    private List<SafeRouteSyncAckDto> acks;
+}
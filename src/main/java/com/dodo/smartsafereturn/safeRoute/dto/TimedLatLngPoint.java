@@ -0,0 +1,31 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 측정 시각이 있는 좌표 (오프라인 일괄 업로드)
+ * - seq : 경로 내 좌표 순번 (경로 첫 좌표가 0)
+ * - accuracy : 단말이 보고한 위치 정확도 (m, 없으면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimedLatLngPoint {
+
+    @NotNull(message = "좌표 순번을 넣어주세요")
+    @PositiveOrZero(message = "순번은 0 이상이어야 합니다")
+    private Long seq;
+    private double lat;
+    private double lng;
+    @NotNull(message = "측정 시각을 넣어주세요")
+    private LocalDateTime recordedAt;
+    private Double accuracy;
+}
@@ -0,0 +1,52 @@
+package com.dodo.smartsafereturn.safeRoute.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 경로 통계 (읽기 모델)
+ * - 경로 등록 / 수정 / 상태 변경 / 삭제와 같은 트랜잭션에서 카운터 UPDATE 로만 갱신 (MemberRouteStatsCounterRepository)
+ * - 조회는 회원 번호 PK 한 번 -> 회원의 경로를 읽지 않음
+ * - 주기적으로 safe_route 기준으로 재계산 (MemberRouteStatsRebuilder)
+ */
+@Entity
+@Table(name = "member_route_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberRouteStats {
+
+    @Id
+    @Column(name = "member_number")
+    private Long memberNumber;
+
+    @Column(name = "route_count", nullable = false)
+    private Long routeCount;
+
+    // 완수 / 실패 / 취소 경로 수 (진행 중 경로는 route_count 에만 포함)
+    @Column(name = "finished_count", nullable = false)
+    private Long finishedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private Long failedCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private Long cancelledCount;
+
+    // 모든 경로의 이동 거리 합 (m)
+    @Column(name = "total_distance_meters", nullable = false)
+    private Double totalDistanceMeters;
+
+    // 완수 경로의 출발 ~ 실제 도착 시각 (finished_at) 합 (초) -> 평균 소요 시간 = finished_duration_seconds / finished_count
+    @Column(name = "finished_duration_seconds", nullable = false)
+    private Long finishedDurationSeconds;
+
+    @Column(name = "modified_date", nullable = false)
+    private LocalDateTime modifiedDate;
+}
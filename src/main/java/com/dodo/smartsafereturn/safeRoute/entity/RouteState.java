@@ -1,6 +1,22 @@
 package com.dodo.smartsafereturn.safeRoute.entity;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum RouteState {
     // 진행 중, 방금 시작, 완수, 실패, 사용자가 직접 취소
-    IN_PROGRESS, STARTED, FINISHED, FAILED, CANCELLED
+    IN_PROGRESS, STARTED, FINISHED, FAILED, CANCELLED;
+
+    // 귀가 중인 상태 (도착 예정 시각 / 이탈 / 안심 구역 감시 대상, 진행 중 경로 조회 조건)
+    public static final Set<RouteState> ACTIVE_STATES = Collections.unmodifiableSet(EnumSet.of(STARTED, IN_PROGRESS));
+
+    public boolean isActive() {
+        return ACTIVE_STATES.contains(this);
+    }
+
+    // 상태는 앞으로만 진행 (STARTED -> IN_PROGRESS -> 종료 상태) -> 종료된 경로는 다시 진행 중으로 돌아가지 않음
+    public boolean canChangeTo(RouteState next) {
+        return isActive() && next != this && !(this == IN_PROGRESS && next == STARTED);
+    }
 }
@@ -3,19 +3,27 @@ package com.dodo.smartsafereturn.safeRoute.entity;
 import com.dodo.smartsafereturn.global.entity.BaseTimeEntity;
 import com.dodo.smartsafereturn.member.entity.Member;
 import com.dodo.smartsafereturn.messagelog.entity.MessageLog;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteMetrics;
 import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteUpdateDto;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.DynamicUpdate;
 import org.locationtech.jts.geom.LineString;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 안전 귀가 경로
+ * - last_point_seq / path_seq / route_path / distance_meters / bbox 는 JDBC 로도 갱신됨 (좌표 추가, RoutePathSummarizer)
+ *   -> @DynamicUpdate : 엔티티 flush 시 변경한 컬럼만 UPDATE (상태 변경 등이 읽어둔 예전 순번 / 경로로 덮어쓰지 않도록)
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
 @Slf4j
 public class SafeRoute extends BaseTimeEntity {
 
@@ -39,10 +47,53 @@ public class SafeRoute extends BaseTimeEntity {
     @Column(nullable = false)
     private LocalDateTime endTime;
 
-    // 경로 전체의 LineString (이동 경로)
+    // 실제 도착 (FINISHED 로 변경된) 시각 -> 완수 경로 소요 시간 = finished_at - start_time (회원 경로 통계), FINISHED 가 아니면 null
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // 마지막 상태 변경 시각 (단말 기준 변경 시각 포함) -> 늦게 도착한 오프라인 상태 변경이 더 최근 변경을 덮어쓰지 않도록, 등록 후 변경이 없으면 null
+    @Column(name = "state_changed_at")
+    private LocalDateTime stateChangedAt;
+
+    // 경로 전체의 LineString (이동 경로) -> GiST 인덱스 (db/schema/011) 로 관리자 공간 검색
+    // 수집 시 단순화된 경로 -> 원본은 SafeRouteRawPath 에 별도 보관
+    // 좌표 추가 시에는 route_point 에만 쌓이고, 이 경로는 RoutePathSummarizer 가 path_seq 이후 좌표를 이어붙여 갱신 (요약본)
     @Column(name = "route_path", columnDefinition = "geometry(LineString,4326)")
     private LineString routePath;
 
+    // 수신한 원본 좌표 기준 마지막 순번 (첫 좌표 0) -> 좌표 추가 요청 중복 / 순서 확인용 (routePath 는 단순화되므로 좌표 수와 다를 수 있음)
+    @Column(name = "last_point_seq", nullable = false)
+    private Long lastPointSeq;
+
+    // routePath 에 반영된 마지막 좌표 순번 -> lastPointSeq 보다 작으면 요약 대기 중
+    @Column(name = "path_seq", nullable = false)
+    private Long pathSeq;
+
+    // 등록 / 수정 시 받은 계획 경로 (단순화) -> 좌표 추가 / 요약으로 바뀌지 않음 (재기동 후 이탈 감시 구간 재생성용)
+    @Column(name = "planned_path", columnDefinition = "geometry(LineString,4326)")
+    private LineString plannedPath;
+
+    // 원본 좌표 기준 측지선 이동 거리 (m) -> 등록 / 수정 시 계산, 좌표 추가분은 RoutePathSummarizer 가 더함 (목록 조회 시 geometry 를 읽지 않도록)
+    @Column(name = "distance_meters", nullable = false)
+    private Double distanceMeters = 0.0;
+
+    // 원본 좌표 기준 bbox (위경도) -> 등록 / 수정 시 계산, 좌표 추가분은 RoutePathSummarizer 가 넓힘
+    @Column(name = "min_lat")
+    private Double minLat;
+
+    @Column(name = "min_lng")
+    private Double minLng;
+
+    @Column(name = "max_lat")
+    private Double maxLat;
+
+    @Column(name = "max_lng")
+    private Double maxLng;
+
+    // 등록 / 수정 시점에 경로가 위험 구역 (DangerZone) 을 지나는지
+    @Column(name = "is_risky", nullable = false)
+    private Boolean isRisky = false;
+
     // 양방향으로 member 연결 -> 회원에서 조회해야 함
     @Setter // 연관관계 메서드 활용을 위해서만 사용
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,27 +106,66 @@ public class SafeRoute extends BaseTimeEntity {
 
     // 생성자 -> 첫 생성
     @Builder
-    public SafeRoute(String startLocation, String endLocation, LocalDateTime startTime, LocalDateTime endTime, Member member, LineString routePath) {
+    public SafeRoute(String startLocation, String endLocation, LocalDateTime startTime, LocalDateTime endTime, Member member, LineString routePath, Long lastPointSeq, RouteMetrics metrics, Boolean isRisky) {
         this.startLocation = startLocation;
         this.endLocation = endLocation;
         this.startTime = startTime;
         this.endTime = endTime;
         this.member = member;
         this.routePath = routePath;
+        this.plannedPath = routePath;
+        this.lastPointSeq = lastPointSeq != null ? lastPointSeq : lastSeqOf(routePath);
+        this.pathSeq = this.lastPointSeq;
+        applyMetrics(metrics);
+        this.isRisky = isRisky != null ? isRisky : false;
     }
 
-    // update 메서드
-    public void update(String endLocation, LocalDateTime endTime, LineString routePath) {
+    // update 메서드 -> 도착지 / 도착 예정 시각 / 계획 경로만 교체 (지나온 경로 / 순번 / 거리 / bbox 는 이미 받은 좌표 (route_point) 기준이라 유지)
+    public void update(String endLocation, LocalDateTime endTime, LineString plannedPath) {
         this.endLocation = endLocation;
         this.endTime = endTime;
-        this.routePath = routePath;
+        this.plannedPath = plannedPath;
     }
 
-    // status 상태 변경
-    public void changeIsSuccess(RouteState isSuccess) {
+    // status 상태 변경 (changedAt : 상태가 바뀐 시각 -> FINISHED 로 처음 바뀔 때 도착 시각으로 기록)
+    public void changeIsSuccess(RouteState isSuccess, LocalDateTime changedAt) {
+        if (isSuccess != RouteState.FINISHED) {
+            this.finishedAt = null;
+        } else if (this.isSuccess != RouteState.FINISHED || this.finishedAt == null) {
+            this.finishedAt = changedAt;
+        }
         this.isSuccess = isSuccess;
+        this.stateChangedAt = changedAt;
+    }
+
+    // 단말에서 changedAt 에 일어난 상태 변경을 반영할 수 있는지 -> 진행 중 경로의 앞 방향 변경이면서 서버의 마지막 상태 변경 이후여야 함
+    public boolean canApplyStateChange(RouteState next, LocalDateTime changedAt) {
+        LocalDateTime lastChangedAt = stateChangedAt != null ? stateChangedAt : getCreatedDate();
+        return isSuccess.canChangeTo(next) && (lastChangedAt == null || !changedAt.isBefore(lastChangedAt));
     }
 
+    // 위험 구역 통과 여부 변경 (경로 수정 시 다시 판정)
+    public void changeIsRisky(boolean isRisky) {
+        this.isRisky = isRisky;
+    }
+
+
+    // 좌표 수 (순번은 0 부터)
+    public long getPointCount() {
+        return lastPointSeq + 1;
+    }
+
+    private void applyMetrics(RouteMetrics metrics) {
+        this.distanceMeters = metrics != null ? metrics.lengthMeters() : 0.0;
+        this.minLat = metrics != null ? metrics.minLat() : null;
+        this.minLng = metrics != null ? metrics.minLng() : null;
+        this.maxLat = metrics != null ? metrics.maxLat() : null;
+        this.maxLng = metrics != null ? metrics.maxLng() : null;
+    }
+
+    private static Long lastSeqOf(LineString routePath) {
+        return routePath == null ? -1L : routePath.getNumPoints() - 1L;
+    }
 
     // 양방향 연관관계 편의 메서드 (MessageLog)
     public void addMessageLog(MessageLog messageLog) {
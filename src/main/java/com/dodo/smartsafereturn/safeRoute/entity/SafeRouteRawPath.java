@@ -0,0 +1,36 @@
+package com.dodo.smartsafereturn.safeRoute.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.LineString;
+
+/**
+ * 단순화 전 원본 이동 경로 (cold storage)
+ * - SafeRoute.routePath 는 수집 시 단순화된 경로 -> 원본은 별도 테이블에 보관해서 일반 조회 시 읽지 않음
+ * - safe-route.simplify.keep-raw 설정 시에만 저장, ?detail=raw 조회 시에만 읽음
+ * - PK = safe_route_id (연관관계 매핑 없이 값만 공유)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "safe_route_raw_path")
+public class SafeRouteRawPath {
+
+    @Id
+    @Column(name = "safe_route_id")
+    private Long safeRouteId;
+
+    @Column(name = "raw_path", nullable = false, columnDefinition = "geometry(LineString,4326)")
+    private LineString rawPath;
+
+    public SafeRouteRawPath(Long safeRouteId, LineString rawPath) {
+        this.safeRouteId = safeRouteId;
+        this.rawPath = rawPath;
+    }
+
+    public void update(LineString rawPath) {
+        this.rawPath = rawPath;
+    }
+}
@@ -0,0 +1,12 @@
+package com.dodo.smartsafereturn.safeRoute.repository;
+
+import com.dodo.smartsafereturn.safeRoute.dto.RouteListCursor;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSummaryDto;
+
+import java.util.List;
+
+public interface CustomSafeRouteRepository {
+
+    // 회원 경로 요약 목록 (출발 시각 최신순, cursor 다음부터 limit 개)
+    List<SafeRouteSummaryDto> findSummariesByMemberNumber(Long memberNumber, RouteListCursor cursor, int limit);
+}
@@ -0,0 +1,67 @@
+package com.dodo.smartsafereturn.safeRoute.repository;
+
+import com.dodo.smartsafereturn.safeRoute.dto.QSafeRouteSummaryDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteListCursor;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSummaryDto;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.dodo.smartsafereturn.member.entity.QMember.member;
+import static com.dodo.smartsafereturn.safeRoute.entity.QSafeRoute.safeRoute;
+
+/**
+ * QueryDsl 구현을 위함 -> 적용한 커스텀 인터페이스를 spring data jpa 레포지토리에 적용
+ * - 요약 목록은 geometry 컬럼을 select 하지 않음
+ * - (member_number, start_time desc, safe_route_id desc) 인덱스 (db/schema/021) 순서 그대로 keyset 조회 -> offset 없이 페이지 깊이와 무관
+ */
+@RequiredArgsConstructor
+public class CustomSafeRouteRepositoryImpl implements CustomSafeRouteRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<SafeRouteSummaryDto> findSummariesByMemberNumber(Long memberNumber, RouteListCursor cursor, int limit) {
+        return queryFactory
+                .select(
+                        new QSafeRouteSummaryDto(
+                                safeRoute.id,
+                                safeRoute.startLocation,
+                                safeRoute.endLocation,
+                                safeRoute.startTime,
+                                safeRoute.endTime,
+                                safeRoute.isSuccess,
+                                safeRoute.distanceMeters,
+                                safeRoute.lastPointSeq,
+                                safeRoute.minLat,
+                                safeRoute.minLng,
+                                safeRoute.maxLat,
+                                safeRoute.maxLng,
+                                safeRoute.isRisky
+                        )
+                )
+                .from(safeRoute)
+                .join(safeRoute.member, member)
+                .where(
+                        member.memberNumber.eq(memberNumber),
+                        member.isDeleted.isFalse(),
+                        after(cursor)
+                )
+                .orderBy(safeRoute.startTime.desc(), safeRoute.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 커서보다 뒤 (출발 시각이 이전이거나, 같으면 ID 가 작은 경로)
+    // row 비교 (start_time, safe_route_id) < (?, ?) -> or 로 풀어 쓰면 인덱스 범위 조건이 아닌 필터로 처리됨
+    private BooleanExpression after(RouteListCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return Expressions.booleanTemplate("({0}, {1}) < ({2}, {3})",
+                safeRoute.startTime, safeRoute.id, cursor.startTime(), cursor.safeRouteId());
+    }
+}
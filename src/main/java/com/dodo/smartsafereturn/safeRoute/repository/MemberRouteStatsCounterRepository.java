@@ -0,0 +1,147 @@
+package com.dodo.smartsafereturn.safeRoute.repository;
+
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStatsDelta;
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * member_route_stats 카운터 JDBC 갱신
+ * - 경로 변경분만 원자적으로 더함 (col = col + ?) -> 읽고 쓰지 않으므로 동시에 갱신해도 유실 없음
+ * - 행이 없는 회원 (첫 경로) 은 upsert 로 생성
+ * - 호출하는 쪽 트랜잭션 (JpaTransactionManager) 의 커넥션을 그대로 사용 -> 경로 변경과 함께 커밋 / 롤백
+ * - 재계산 (rebuild) 과는 회원 단위 advisory lock 으로 직렬화 -> 재계산이 읽은 safe_route 에 없는 변경분을 덮어쓰지 않음
+ *   - apply : safe_route 변경 flush -> 회원 락 -> 카운터 더하기 (락은 커밋까지 유지)
+ *   - rebuild : 회원 락 + 통계 행 FOR UPDATE 를 먼저 잡고, 다음 문장 (새 snapshot) 에서 재계산
+ *   - markOverdue / 요약 경로 거리 누적 (SafeRoutePathBatchRepository) 은 한 문장에서 통계 행을 UPDATE -> 통계 행 락으로 재계산과 직렬화
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberRouteStatsCounterRepository {
+
+    // 회원 단위 트랜잭션 advisory lock (첫 번째 키 : 통계 락 구분용, 두 번째 키 : 회원 번호)
+    private static final int STATS_LOCK_CLASS = 22;
+
+    private static final String LOCK_MEMBER_SQL = "select pg_advisory_xact_lock(?, ?)";
+
+    private static final String APPLY_SQL = "insert into member_route_stats (member_number, route_count, finished_count, failed_count, " +
+            "cancelled_count, total_distance_meters, finished_duration_seconds, modified_date) values (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "on conflict (member_number) do update set " +
+            "route_count = member_route_stats.route_count + excluded.route_count, " +
+            "finished_count = member_route_stats.finished_count + excluded.finished_count, " +
+            "failed_count = member_route_stats.failed_count + excluded.failed_count, " +
+            "cancelled_count = member_route_stats.cancelled_count + excluded.cancelled_count, " +
+            "total_distance_meters = member_route_stats.total_distance_meters + excluded.total_distance_meters, " +
+            "finished_duration_seconds = member_route_stats.finished_duration_seconds + excluded.finished_duration_seconds, " +
+            "modified_date = excluded.modified_date";
+
+    // 진행 중 경로 FAILED 변경 + 실패 카운터 +1 을 한 문장으로 (도착 예정 시각 초과)
+    private static final String MARK_OVERDUE_SQL = "with failed as (" +
+            "  update safe_route set is_success = ?, modified_date = ? " +
+            "  where safe_route_id = ? and is_success in (?, ?) and end_time <= ? " +
+            "  returning member_number" +
+            "), stats as (" +
+            "  update member_route_stats set failed_count = failed_count + 1, modified_date = ? " +
+            "  where member_number in (select member_number from failed) " +
+            "  returning member_number" +
+            ") select count(*) from failed";
+
+    // 재계산할 회원 번호 구간 (afterMemberNumber, 다음 batchSize 명] 의 회원 락을 번호 순으로 획득 -> 구간의 마지막 회원 번호
+    private static final String LOCK_MEMBERS_SQL = "select max(member_number) from (" +
+            "  select m.member_number, pg_advisory_xact_lock(?, (m.member_number % 2147483647)::int) from (" +
+            "    select member_number from member where member_number > ? order by member_number limit ?" +
+            "  ) m order by m.member_number" +
+            ") locked";
+
+    // 구간의 통계 행 락 -> 한 문장으로 통계를 더하는 쪽 (markOverdue / 요약 경로 거리) 이 커밋될 때까지 대기
+    private static final String LOCK_STATS_SQL = "select member_number from member_route_stats " +
+            "where member_number > ? and member_number <= ? order by member_number for update";
+
+    // 회원 번호 구간 (afterMemberNumber, lastMemberNumber] 를 safe_route 기준으로 재계산 (db/schema/022 의 초기 적재와 같은 기준)
+    private static final String REBUILD_SQL = "insert into member_route_stats (member_number, route_count, finished_count, failed_count, " +
+            "cancelled_count, total_distance_meters, finished_duration_seconds, modified_date) " +
+            "select m.member_number, count(sr.safe_route_id), " +
+            "count(*) filter (where sr.is_success = 'FINISHED'), " +
+            "count(*) filter (where sr.is_success = 'FAILED'), " +
+            "count(*) filter (where sr.is_success = 'CANCELLED'), " +
+            "coalesce(sum(sr.distance_meters), 0), " +
+            "coalesce(sum(greatest(floor(extract(epoch from (sr.finished_at - sr.start_time))), 0)) " +
+            "  filter (where sr.is_success = 'FINISHED' and sr.finished_at is not null), 0), " +
+            "? " +
+            "from member m left join safe_route sr on sr.member_number = m.member_number " +
+            "where m.member_number > ? and m.member_number <= ? " +
+            "group by m.member_number " +
+            "on conflict (member_number) do update set " +
+            "route_count = excluded.route_count, finished_count = excluded.finished_count, " +
+            "failed_count = excluded.failed_count, cancelled_count = excluded.cancelled_count, " +
+            "total_distance_meters = excluded.total_distance_meters, " +
+            "finished_duration_seconds = excluded.finished_duration_seconds, modified_date = excluded.modified_date";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * 경로 하나의 변경 전 / 후 통계 차이를 회원 통계에 더함 (차이가 없으면 쿼리 X)
+     * @param before 변경 전 경로의 RouteStatsDelta.of() (새 경로면 ZERO)
+     * @param after 변경 후 경로의 RouteStatsDelta.of() (삭제면 ZERO)
+     */
+    public void apply(Long memberNumber, RouteStatsDelta before, RouteStatsDelta after, LocalDateTime now) {
+        RouteStatsDelta delta = after.minus(before);
+        if (memberNumber == null || delta.isZero()) {
+            return;
+        }
+        // 락 순서 safe_route 행 -> 회원 락 (커밋 시점 flush 가 회원 락을 잡은 채 safe_route 행 락을 기다리지 않도록)
+        entityManager.flush();
+        jdbcTemplate.queryForList(LOCK_MEMBER_SQL, STATS_LOCK_CLASS, lockKey(memberNumber));
+        jdbcTemplate.update(APPLY_SQL,
+                memberNumber,
+                delta.routeCount(),
+                delta.finishedCount(),
+                delta.failedCount(),
+                delta.cancelledCount(),
+                delta.distanceMeters(),
+                delta.finishedDurationSeconds(),
+                Timestamp.valueOf(now));
+    }
+
+    /**
+     * 도착 예정 시각이 지난 진행 중 경로를 FAILED 로 변경
+     * - 아직 진행 중이고 end_time 이 dueBefore 이전일 때만 변경 -> 여러 인스턴스가 동시에 처리해도 한 번만 성공
+     * @return 변경된 행 수 (0 이면 이미 종료되었거나 도착 예정 시각이 연장된 경로)
+     */
+    public int markOverdue(Long safeRouteId, LocalDateTime dueBefore, LocalDateTime now) {
+        Timestamp modifiedDate = Timestamp.valueOf(now);
+        Integer updated = jdbcTemplate.queryForObject(MARK_OVERDUE_SQL, Integer.class,
+                RouteState.FAILED.name(), modifiedDate, safeRouteId,
+                RouteState.STARTED.name(), RouteState.IN_PROGRESS.name(),
+                Timestamp.valueOf(dueBefore), modifiedDate);
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * afterMemberNumber 다음 회원부터 batchSize 명의 통계를 다시 계산해서 덮어씀 (구간 하나 = 트랜잭션 하나)
+     * - 락을 잡은 뒤의 문장에서 safe_route 를 읽음 -> 락 대기 중 커밋된 변경분은 재계산에 포함, 아직 커밋 전인 변경분은 락이 풀린 뒤 카운터에 더해짐
+     * @return 이번에 재계산한 마지막 회원 번호 (null 이면 더 이상 회원 없음)
+     */
+    @Transactional
+    public Long rebuild(long afterMemberNumber, int batchSize, LocalDateTime now) {
+        Long lastMemberNumber = jdbcTemplate.queryForObject(LOCK_MEMBERS_SQL, Long.class, STATS_LOCK_CLASS, afterMemberNumber, batchSize);
+        if (lastMemberNumber == null) {
+            return null;
+        }
+        jdbcTemplate.queryForList(LOCK_STATS_SQL, Long.class, afterMemberNumber, lastMemberNumber);
+        jdbcTemplate.update(REBUILD_SQL, Timestamp.valueOf(now), afterMemberNumber, lastMemberNumber);
+        return lastMemberNumber;
+    }
+
+    // REBUILD 의 (member_number % 2147483647)::int 와 같은 키 (겹치는 회원은 같은 락을 나눠 쓸 뿐)
+    private static int lockKey(long memberNumber) {
+        return (int) (memberNumber % Integer.MAX_VALUE);
+    }
+}
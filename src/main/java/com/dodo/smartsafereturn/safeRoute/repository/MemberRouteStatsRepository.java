@@ -0,0 +1,8 @@
+package com.dodo.smartsafereturn.safeRoute.repository;
+
+import com.dodo.smartsafereturn.safeRoute.entity.MemberRouteStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// 조회 전용 -> 갱신은 MemberRouteStatsCounterRepository (카운터 UPDATE)
+public interface MemberRouteStatsRepository extends JpaRepository<MemberRouteStats, Long> {
+}
@@ -0,0 +1,150 @@
+package com.dodo.smartsafereturn.safeRoute.repository;
+
+import com.dodo.smartsafereturn.safeRoute.dto.RoutePathAppend;
+import com.dodo.smartsafereturn.safeRoute.dto.TimedLatLngPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이동 경로 좌표 시계열 테이블 (route_point, 측정 시각 기준 월 파티션 / db/schema/019)
+ * - 좌표 추가는 좁은 행 INSERT 만 수행 (JDBC batch) -> 경로 geometry 는 RoutePathSummarizer 가 별도로 갱신
+ * - 조회는 (safe_route_id, seq) keyset 페이징 + 경로의 측정 시각 범위 조건 -> 실행 시 범위 밖 달의 파티션은 읽지 않음
+ * - 파티션 테이블이라 JPA 엔티티로 매핑하지 않음 (ddl-auto 로 생성 불가)
+ */
+@Repository
+public class RoutePointRepository {
+
+    private static final String INSERT_SQL = "insert into route_point (safe_route_id, seq, recorded_at, lat, lng, accuracy) " +
+            "values (?, ?, ?, ?, ?, ?)";
+
+    // 경로 좌표의 측정 시각 범위 (파티션 키 조건, 파라미터 : 시계 오차 초, 경로 ID, 시계 오차 초, 경로 ID)
+    // - 시작 : 등록 / 출발 시각 중 이른 쪽 - 시계 오차 (오프라인 업로드는 이보다 이른 측정 시각을 거부)
+    // - 끝 : 진행 중이면 제한 없음, 종료된 경로는 마지막 수정 / 출발 시각 중 늦은 쪽 + 시계 오차 (종료 후에는 좌표를 받지 않음)
+    private static final String RECORDED_RANGE = "recorded_at >= (select least(s.created_date, s.start_time) - ? * interval '1 second' " +
+            "from safe_route s where s.safe_route_id = ?) " +
+            "and recorded_at <= (select case when s.is_success in ('STARTED', 'IN_PROGRESS') then 'infinity'::timestamp " +
+            "else greatest(s.modified_date, s.start_time) + ? * interval '1 second' end from safe_route s where s.safe_route_id = ?)";
+
+    private static final String FIND_AFTER_SQL = "select seq, recorded_at, lat, lng, accuracy from route_point " +
+            "where safe_route_id = ? and seq > ? and " + RECORDED_RANGE + " order by seq limit ?";
+
+    private static final String FIND_RANGE_SQL = "select seq, recorded_at, lat, lng, accuracy from route_point " +
+            "where safe_route_id = ? and seq > ? and seq <= ? and " + RECORDED_RANGE + " order by seq";
+
+    private static final String DELETE_SQL = "delete from route_point where safe_route_id = ?";
+
+    private static final RowMapper<TimedLatLngPoint> POINT_MAPPER = (rs, rowNum) -> {
+        float accuracy = rs.getFloat(5);
+        return TimedLatLngPoint.builder()
+                .seq(rs.getLong(1))
+                .recordedAt(rs.getTimestamp(2).toLocalDateTime())
+                .lat(rs.getDouble(3))
+                .lng(rs.getDouble(4))
+                .accuracy(rs.wasNull() ? null : (double) accuracy)
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long clockSkewSeconds;
+
+    public RoutePointRepository(JdbcTemplate jdbcTemplate,
+                                @Value("${safe-route.point.insert-batch-size:500}") int batchSize,
+                                @Value("${safe-route.sync.clock-skew:PT5M}") Duration clockSkew) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.clockSkewSeconds = clockSkew.toSeconds();
+    }
+
+    // 한 경로의 좌표 추가
+    public void insert(Long safeRouteId, List<TimedLatLngPoint> points) {
+        insert(List.of(new RoutePathAppend(safeRouteId, 0, 0, points)));
+    }
+
+    // 여러 경로의 좌표를 batch-size 단위 JDBC batch 로 추가
+    public void insert(List<RoutePathAppend> appends) {
+        List<PointRow> rows = new ArrayList<>();
+        for (RoutePathAppend append : appends) {
+            for (TimedLatLngPoint point : append.points()) {
+                rows.add(new PointRow(append.safeRouteId(), point));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, (ps, row) -> {
+            TimedLatLngPoint point = row.point();
+            ps.setLong(1, row.safeRouteId());
+            ps.setLong(2, point.getSeq());
+            ps.setTimestamp(3, Timestamp.valueOf(point.getRecordedAt()));
+            ps.setDouble(4, point.getLat());
+            ps.setDouble(5, point.getLng());
+            if (point.getAccuracy() == null) {
+                ps.setNull(6, Types.REAL);
+            } else {
+                ps.setFloat(6, point.getAccuracy().floatValue());
+            }
+        });
+    }
+
+    /**
+     * 경로 전체 좌표 추가 (등록 / 경로 교체) -> 순번은 0 부터
+     * - 좌표 배열에서 바로 읽어서 batch-size 단위로 전송 (좌표마다 객체를 만들지 않음)
+     */
+    public void insert(Long safeRouteId, CoordinateSequence coordinates, LocalDateTime recordedAt) {
+        Timestamp timestamp = Timestamp.valueOf(recordedAt);
+        for (int offset = 0; offset < coordinates.size(); offset += batchSize) {
+            int from = offset;
+            int count = Math.min(batchSize, coordinates.size() - offset);
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int index = from + i;
+                    ps.setLong(1, safeRouteId);
+                    ps.setLong(2, index);
+                    ps.setTimestamp(3, timestamp);
+                    ps.setDouble(4, coordinates.getY(index));
+                    ps.setDouble(5, coordinates.getX(index));
+                    ps.setNull(6, Types.REAL);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return count;
+                }
+            });
+        }
+    }
+
+    // afterSeq 다음 순번부터 limit 개
+    public List<TimedLatLngPoint> findAfter(Long safeRouteId, long afterSeq, int limit) {
+        return jdbcTemplate.query(FIND_AFTER_SQL, POINT_MAPPER, safeRouteId, afterSeq,
+                clockSkewSeconds, safeRouteId, clockSkewSeconds, safeRouteId, limit);
+    }
+
+    // afterSeq 초과 ~ toSeq 이하 (요약 경로 갱신용)
+    public List<TimedLatLngPoint> findRange(Long safeRouteId, long afterSeq, long toSeq) {
+        return jdbcTemplate.query(FIND_RANGE_SQL, POINT_MAPPER, safeRouteId, afterSeq, toSeq,
+                clockSkewSeconds, safeRouteId, clockSkewSeconds, safeRouteId);
+    }
+
+    public int deleteBySafeRouteId(Long safeRouteId) {
+        return jdbcTemplate.update(DELETE_SQL, safeRouteId);
+    }
+
+    private record PointRow(Long safeRouteId, TimedLatLngPoint point) {
+    }
+}
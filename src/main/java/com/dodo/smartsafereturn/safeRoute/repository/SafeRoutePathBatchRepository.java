@@ -0,0 +1,94 @@
+package com.dodo.smartsafereturn.safeRoute.repository;
+
+import com.dodo.smartsafereturn.safeRoute.dto.RoutePathAppend;
+import com.dodo.smartsafereturn.safeRoute.dto.RoutePathSummaryTarget;
+import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * safe_route 경로 컬럼 JDBC 갱신
+ * - 여러 경로의 마지막 순번 갱신을 JDBC batch 로 한 번에 반영 (오프라인 일괄 업로드)
+ * - 요약 경로 (route_path / 원본 경로) 에 route_point 좌표 이어붙이기 (RoutePathSummarizer) -> 거리 / bbox 도 함께 갱신, 늘어난 거리는 회원 경로 통계에도 더함
+ * - 호출하는 쪽 트랜잭션 (JpaTransactionManager) 의 커넥션을 그대로 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class SafeRoutePathBatchRepository {
+
+    private static final String ADVANCE_SQL = "update safe_route set last_point_seq = ?, modified_date = ? " +
+            "where safe_route_id = ? and last_point_seq = ?";
+
+    private static final String FIND_UNSUMMARIZED_SQL = "select safe_route_id, path_seq, last_point_seq from safe_route " +
+            "where path_seq < last_point_seq order by modified_date limit ?";
+
+    // 요약 경로 + 원본 경로 + 회원 통계 거리를 한 문장으로 갱신 (요약 경로가 갱신된 경우에만 나머지도 갱신)
+    private static final String APPEND_SUMMARY_SQL = "with summary as (" +
+            "  update safe_route set route_path = ST_MakeLine(route_path, ST_GeomFromText(?, 4326)), path_seq = ?, " +
+            "  distance_meters = distance_meters + ?, " +
+            "  min_lat = least(min_lat, ?), min_lng = least(min_lng, ?), max_lat = greatest(max_lat, ?), max_lng = greatest(max_lng, ?) " +
+            "  where safe_route_id = ? and path_seq = ? and route_path is not null " +
+            "  returning safe_route_id, member_number" +
+            "), raw as (" +
+            "  update safe_route_raw_path set raw_path = ST_MakeLine(raw_path, ST_GeomFromText(?, 4326)) " +
+            "  where ? and safe_route_id in (select safe_route_id from summary) " +
+            "  returning safe_route_id" +
+            "), stats as (" +
+            "  update member_route_stats set total_distance_meters = total_distance_meters + ? " +
+            "  where member_number in (select member_number from summary) " +
+            "  returning member_number" +
+            ") select count(*) from summary";
+
+    private static final String MARK_SUMMARIZED_SQL = "update safe_route set path_seq = ? " +
+            "where safe_route_id = ? and path_seq = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 경로별 갱신 행 수 (0 이면 다른 요청이 먼저 좌표를 추가함)
+     */
+    public int[] advanceLastPointSeqs(List<RoutePathAppend> appends, LocalDateTime now) {
+        Timestamp modifiedDate = Timestamp.valueOf(now);
+        return jdbcTemplate.batchUpdate(ADVANCE_SQL, appends, appends.size(), (ps, append) -> {
+            ps.setLong(1, append.newLastSeq());
+            ps.setTimestamp(2, modifiedDate);
+            ps.setLong(3, append.safeRouteId());
+            ps.setLong(4, append.expectedLastSeq());
+        })[0];
+    }
+
+    // 요약 대기 경로 (오래 기다린 경로 먼저) -> partial index (db/schema/019)
+    public List<RoutePathSummaryTarget> findUnsummarized(int limit) {
+        return jdbcTemplate.query(FIND_UNSUMMARIZED_SQL,
+                (rs, rowNum) -> new RoutePathSummaryTarget(rs.getLong(1), rs.getLong(2), rs.getLong(3)),
+                limit);
+    }
+
+    /**
+     * 요약 경로 끝에 좌표 이어붙이기 (path_seq 가 expectedPathSeq 일 때만 -> 여러 인스턴스가 동시에 요약해도 한 번만 반영)
+     * - 1개면 POINT, 2개 이상이면 LINESTRING WKT
+     * @param pointsWkt 요약 경로에 이어붙일 좌표 (단순화)
+     * @param rawPointsWkt 원본 경로에 이어붙일 좌표 (null 이면 원본 경로는 갱신하지 않음)
+     * @param addedMeters 기존 마지막 좌표부터 이어붙인 좌표까지의 거리
+     * @param area 이어붙인 좌표의 bbox (x : 경도, y : 위도)
+     * @return 1 : 반영됨, 0 : 다른 인스턴스가 먼저 반영함
+     */
+    public int appendSummary(Long safeRouteId, long expectedPathSeq, long newPathSeq, String pointsWkt, String rawPointsWkt,
+                             double addedMeters, Envelope area) {
+        Integer updated = jdbcTemplate.queryForObject(APPEND_SUMMARY_SQL, Integer.class,
+                pointsWkt, newPathSeq, addedMeters, area.getMinY(), area.getMinX(), area.getMaxY(), area.getMaxX(),
+                safeRouteId, expectedPathSeq,
+                rawPointsWkt != null ? rawPointsWkt : pointsWkt, rawPointsWkt != null, addedMeters);
+        return updated != null ? updated : 0;
+    }
+
+    // 이어붙일 좌표가 없는 구간 (좌표 행이 없는 기존 데이터) 은 순번만 넘김
+    public int markSummarized(Long safeRouteId, long expectedPathSeq, long newPathSeq) {
+        return jdbcTemplate.update(MARK_SUMMARIZED_SQL, newPathSeq, safeRouteId, expectedPathSeq);
+    }
+}
@@ -0,0 +1,8 @@
+package com.dodo.smartsafereturn.safeRoute.repository;
+
+import com.dodo.smartsafereturn.safeRoute.entity.SafeRouteRawPath;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// 원본 경로 끝에 좌표 이어붙이기는 SafeRoutePathBatchRepository.appendSummary (RoutePathSummarizer)
+public interface SafeRouteRawPathRepository extends JpaRepository<SafeRouteRawPath, Long> {
+}
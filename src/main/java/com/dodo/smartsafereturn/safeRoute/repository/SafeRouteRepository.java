@@ -1,15 +1,133 @@
 package com.dodo.smartsafereturn.safeRoute.repository;
 
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDeadline;
+import com.dodo.smartsafereturn.safeRoute.dto.RoutePathCursor;
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
 import com.dodo.smartsafereturn.safeRoute.entity.SafeRoute;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface SafeRouteRepository extends JpaRepository<SafeRoute, Long> {
+public interface SafeRouteRepository extends JpaRepository<SafeRoute, Long>, CustomSafeRouteRepository {
 
     // 한 회원의 안전 귀가 루트 사용 내역 list 뽑아오기
     @Query("select sr from SafeRoute sr where sr.member.memberNumber = :memberNumber and sr.member.isDeleted = false ")
     List<SafeRoute> findRoutesByMemberNumber(@Param("memberNumber") Long memberNumber);
+
+    // 좌표 추가 전 마지막 순번 / 상태 / 측정 시각 하한만 조회
+    @Query("select new com.dodo.smartsafereturn.safeRoute.dto.RoutePathCursor(sr.lastPointSeq, sr.isSuccess, " +
+            "case when sr.createdDate < sr.startTime then sr.createdDate else sr.startTime end) " +
+            "from SafeRoute sr where sr.id = :safeRouteId")
+    Optional<RoutePathCursor> findPathCursor(@Param("safeRouteId") Long safeRouteId);
+
+    // 도착 예정 시각 감시 대상 (기동 시 OverdueRouteWheel 재구성)
+    @Query("select new com.dodo.smartsafereturn.safeRoute.dto.RouteDeadline(sr.id, sr.isSuccess, sr.endTime) from SafeRoute sr where sr.isSuccess in :states")
+    List<RouteDeadline> findDeadlinesByStates(@Param("states") Collection<RouteState> states);
+
+    @Query("select new com.dodo.smartsafereturn.safeRoute.dto.RouteDeadline(sr.id, sr.isSuccess, sr.endTime) from SafeRoute sr where sr.id = :safeRouteId")
+    Optional<RouteDeadline> findDeadline(@Param("safeRouteId") Long safeRouteId);
+
+    // 진행 중인 경로의 계획 경로 (이탈 감시 구간 재생성용, 지나온 좌표가 이어붙은 route_path 는 사용 X)
+    @Query("select sr.plannedPath from SafeRoute sr where sr.id = :safeRouteId and sr.isSuccess in :states and sr.plannedPath is not null")
+    Optional<LineString> findActivePlannedPath(@Param("safeRouteId") Long safeRouteId, @Param("states") Collection<RouteState> states);
+
+    // 진행 중인 경로의 회원 번호 (안심 구역 감시 대상 확인용)
+    @Query("select sr.member.memberNumber from SafeRoute sr where sr.id = :safeRouteId and sr.isSuccess in :states")
+    Optional<Long> findActiveMemberNumber(@Param("safeRouteId") Long safeRouteId, @Param("states") Collection<RouteState> states);
+
+    /**
+     * 좌표 추가 시 마지막 순번만 갱신 (좌표는 route_point 에 행으로 추가, 경로는 RoutePathSummarizer 가 나중에 이어붙임)
+     * - last_point_seq 가 expectedLastSeq 일 때만 갱신 -> 동시에 들어온 같은 요청은 한 번만 반영
+     */
+    @Modifying
+    @Query(value = "update safe_route set last_point_seq = :newLastSeq, modified_date = :now " +
+            "where safe_route_id = :safeRouteId and last_point_seq = :expectedLastSeq",
+            nativeQuery = true)
+    int advanceLastPointSeq(@Param("safeRouteId") Long safeRouteId,
+                            @Param("expectedLastSeq") Long expectedLastSeq,
+                            @Param("newLastSeq") Long newLastSeq,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 한 지점에서 radiusMeters 이내를 지나간 경로 (관리자 공간 검색)
+     * - route_path && ST_Expand(...) : GiST 인덱스로 후보 경로만 추림 (radiusDegrees 는 반경을 도 단위로 넉넉하게 변환한 값)
+     * - ST_DWithin(geography) : 후보 경로만 미터 단위 정확한 거리로 다시 거름
+     */
+    @Query(value = "select * from safe_route sr " +
+            "where sr.route_path && ST_Expand(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326), :radiusDegrees) " +
+            "and ST_DWithin(sr.route_path::geography, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography, :radiusMeters) " +
+            "order by sr.safe_route_id desc",
+            countQuery = "select count(*) from safe_route sr " +
+                    "where sr.route_path && ST_Expand(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326), :radiusDegrees) " +
+                    "and ST_DWithin(sr.route_path::geography, ST_SetSRID(ST_MakePoint(:lng, :lat), 4326)::geography, :radiusMeters)",
+            nativeQuery = true)
+    Page<SafeRoute> findRoutesNear(@Param("lat") double lat,
+                                   @Param("lng") double lng,
+                                   @Param("radiusMeters") double radiusMeters,
+                                   @Param("radiusDegrees") double radiusDegrees,
+                                   Pageable pageable);
+
+    /**
+     * bbox 영역을 지나간 경로 (관리자 공간 검색)
+     * - && : GiST 인덱스로 bbox 가 겹치는 후보만 추림
+     * - ST_Intersects : 후보 경로가 실제로 영역을 지나갔는지 확인
+     */
+    @Query(value = "select * from safe_route sr " +
+            "where sr.route_path && ST_MakeEnvelope(:minLng, :minLat, :maxLng, :maxLat, 4326) " +
+            "and ST_Intersects(sr.route_path, ST_MakeEnvelope(:minLng, :minLat, :maxLng, :maxLat, 4326)) " +
+            "order by sr.safe_route_id desc",
+            countQuery = "select count(*) from safe_route sr " +
+                    "where sr.route_path && ST_MakeEnvelope(:minLng, :minLat, :maxLng, :maxLat, 4326) " +
+                    "and ST_Intersects(sr.route_path, ST_MakeEnvelope(:minLng, :minLat, :maxLng, :maxLat, 4326))",
+            nativeQuery = true)
+    Page<SafeRoute> findRoutesIntersecting(@Param("minLat") double minLat,
+                                           @Param("minLng") double minLng,
+                                           @Param("maxLat") double maxLat,
+                                           @Param("maxLng") double maxLng,
+                                           Pageable pageable);
+
+    /**
+     * 관리자 지도용 Mapbox Vector Tile (z/x/y) 생성
+     * - routes 레이어 : 경로 (safe_route_id, state), sos 레이어 : SOS 메시지 발송 위치 (message_log_id, safe_route_id)
+     * - 타일 영역 (+ buffer) 을 4326 으로 바꿔 && 로 GiST 인덱스 후보만 추림
+     * - 경로는 Web Mercator 로 바꾼 뒤 zoom 별 허용 오차 (tolerance, m) 로 단순화 후 ST_AsMVTGeom 으로 타일 좌표로 변환
+     * - 레이어당 maxFeatures 개까지만 포함 (최신 경로 / 메시지 우선)
+     * @return MVT 바이너리 (두 레이어 모두 비어 있으면 길이 0)
+     */
+    @Query(value = "with bounds as (" +
+            "  select ST_TileEnvelope(:z, :x, :y) as tile, " +
+            "         ST_Transform(ST_Expand(ST_TileEnvelope(:z, :x, :y), :bufferMeters), 4326) as area" +
+            "), routes as (" +
+            "  select sr.safe_route_id, sr.is_success as state, " +
+            "         ST_AsMVTGeom(ST_Simplify(ST_Transform(sr.route_path, 3857), :tolerance, true), b.tile, :extent, :buffer, true) as geom " +
+            "  from safe_route sr, bounds b " +
+            "  where sr.route_path && b.area " +
+            "  order by sr.safe_route_id desc limit :maxFeatures" +
+            "), sos as (" +
+            "  select ml.message_log_id, ml.safe_route_id, " +
+            "         ST_AsMVTGeom(ST_Transform(ml.location, 3857), b.tile, :extent, :buffer, true) as geom " +
+            "  from message_log ml, bounds b " +
+            "  where ml.location && b.area " +
+            "  order by ml.message_log_id desc limit :maxFeatures" +
+            ") " +
+            "select coalesce((select ST_AsMVT(r, 'routes', :extent, 'geom') from routes r where r.geom is not null), ''::bytea) " +
+            "    || coalesce((select ST_AsMVT(s, 'sos', :extent, 'geom') from sos s where s.geom is not null), ''::bytea)",
+            nativeQuery = true)
+    byte[] buildMapTile(@Param("z") int z,
+                        @Param("x") int x,
+                        @Param("y") int y,
+                        @Param("extent") int extent,
+                        @Param("buffer") int buffer,
+                        @Param("bufferMeters") double bufferMeters,
+                        @Param("tolerance") double tolerance,
+                        @Param("maxFeatures") int maxFeatures);
 }
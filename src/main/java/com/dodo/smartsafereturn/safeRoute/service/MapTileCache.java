@@ -0,0 +1,223 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.messagelog.dto.MessageLogLocationEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteAreaChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRepository;
+import com.dodo.smartsafereturn.safeRoute.utils.TileKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 지도용 벡터 타일 (MVT) 생성 + LRU 캐시
+ * - 타일은 PostGIS ST_AsMVT 로 생성 (SafeRouteRepository.buildMapTile), zoom 별로 화면 1px 크기만큼 경로 단순화
+ * - 최근에 조회한 타일만 max-entries 개 / max-size 바이트까지 보관 (접근 순서 LinkedHashMap, 가장 오래 안 쓴 타일부터 제거)
+ * - 경로 / SOS 메시지 변경 커밋 후 변경 영역 (bbox) 과 겹치는 타일만 제거
+ * - 생성 도중 같은 영역이 변경되면 생성 결과를 캐싱하지 않음 (오래된 타일이 다시 들어가는 경쟁 방지)
+ * - ttl : 이벤트를 거치지 않는 변경 (도착 예정 시각 만료 일괄 처리 등) 대비 최대 보관 시간
+ *
+ * 메트릭
+ * - map.tile.cache.hits, map.tile.cache.misses, map.tile.cache.size, map.tile.cache.bytes
+ */
+@Slf4j
+@Component
+public class MapTileCache {
+
+    // Web Mercator (EPSG:3857) 전체 폭 (m)
+    private static final double WEB_MERCATOR_WIDTH = 2 * 20037508.342789244;
+    // 화면 타일 크기 (px) -> 단순화 허용 오차 계산 기준
+    private static final int TILE_PIXELS = 256;
+
+    private final SafeRouteRepository safeRouteRepository;
+    private final int minZoom;
+    private final int maxZoom;
+    private final int extent;
+    private final int buffer;
+    private final double simplifyPixels;
+    private final int maxFeatures;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlNanos;
+
+    // 아래 필드는 모두 synchronized (tiles) 안에서만 접근
+    private final LinkedHashMap<Long, Entry> tiles = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<Load> loading = new ArrayList<>();
+    private long totalBytes;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public MapTileCache(SafeRouteRepository safeRouteRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${safe-route.tile.min-zoom:10}") int minZoom,
+                        @Value("${safe-route.tile.max-zoom:20}") int maxZoom,
+                        @Value("${safe-route.tile.extent:4096}") int extent,
+                        @Value("${safe-route.tile.buffer:64}") int buffer,
+                        @Value("${safe-route.tile.simplify-pixels:1}") double simplifyPixels,
+                        @Value("${safe-route.tile.max-features:5000}") int maxFeatures,
+                        @Value("${safe-route.tile.cache.max-entries:2000}") int maxEntries,
+                        @Value("${safe-route.tile.cache.max-size:64MB}") DataSize maxSize,
+                        @Value("${safe-route.tile.cache.ttl:PT5M}") Duration ttl) {
+        if (minZoom < 0 || maxZoom > 24 || minZoom > maxZoom) {
+            throw new IllegalArgumentException("safe-route.tile zoom range must be within 0..24 : " + minZoom + ".." + maxZoom);
+        }
+        this.safeRouteRepository = safeRouteRepository;
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+        this.extent = extent;
+        this.buffer = buffer;
+        this.simplifyPixels = simplifyPixels;
+        this.maxFeatures = maxFeatures;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxSize.toBytes();
+        this.ttlNanos = ttl.toNanos();
+        this.hitCounter = Counter.builder("map.tile.cache.hits").register(meterRegistry);
+        this.missCounter = Counter.builder("map.tile.cache.misses").register(meterRegistry);
+        Gauge.builder("map.tile.cache.size", this, cache -> cache.snapshot()[0]).register(meterRegistry);
+        Gauge.builder("map.tile.cache.bytes", this, cache -> cache.snapshot()[1]).register(meterRegistry);
+    }
+
+    /**
+     * 타일 조회 (캐시 미스 시 DB 에서 생성)
+     * @return MVT 바이너리 (타일 안에 경로 / SOS 위치가 없으면 길이 0)
+     */
+    public byte[] get(int z, int x, int y) {
+        if (z < minZoom || z > maxZoom) {
+            throw new RuntimeException("[MapTileCache] get() : 지원하지 않는 zoom (" + minZoom + " ~ " + maxZoom + ")");
+        }
+        int size = 1 << z;
+        if (x < 0 || y < 0 || x >= size || y >= size) {
+            throw new RuntimeException("[MapTileCache] get() : 타일 좌표 범위를 벗어남");
+        }
+
+        long key = TileKey.of(z, x, y);
+        long now = System.nanoTime();
+        Load load = new Load(bounds(z, x, y));
+        synchronized (tiles) {
+            Entry entry = tiles.get(key);
+            if (entry != null && now - entry.loadedAt() < ttlNanos) {
+                hitCounter.increment();
+                return entry.tile();
+            }
+            loading.add(load);
+        }
+        missCounter.increment();
+
+        byte[] tile;
+        try {
+            double tileWidth = WEB_MERCATOR_WIDTH / size;
+            tile = safeRouteRepository.buildMapTile(z, x, y, extent, buffer,
+                    tileWidth * buffer / extent, tileWidth / TILE_PIXELS * simplifyPixels, maxFeatures);
+        } finally {
+            synchronized (tiles) {
+                loading.remove(load);
+            }
+        }
+        if (tile == null) {
+            tile = new byte[0];
+        }
+
+        synchronized (tiles) {
+            if (!load.stale) {
+                put(key, new Entry(tile, load.bounds, now));
+            }
+        }
+        return tile;
+    }
+
+    // 영역 (경도 / 위도 bbox) 과 겹치는 캐시 타일 제거 + 생성 중인 타일은 캐싱하지 않도록 표시
+    public void evict(Envelope area) {
+        int removed = 0;
+        synchronized (tiles) {
+            Iterator<Entry> iterator = tiles.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.bounds().intersects(area)) {
+                    totalBytes -= entry.tile().length;
+                    iterator.remove();
+                    removed++;
+                }
+            }
+            for (Load load : loading) {
+                if (load.bounds.intersects(area)) {
+                    load.stale = true;
+                }
+            }
+        }
+        log.debug("[MapTileCache] evict() : area={}, removed={}", area, removed);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRouteAreaChanged(SafeRouteAreaChangedEvent event) {
+        evict(event.area());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessageLocationChanged(MessageLogLocationEvent event) {
+        if (event.location() != null) {
+            evict(event.location().getEnvelopeInternal());
+        }
+    }
+
+    private void put(long key, Entry entry) {
+        Entry previous = tiles.put(key, entry);
+        totalBytes += entry.tile().length - (previous != null ? previous.tile().length : 0);
+
+        // 가장 오래 안 쓴 타일부터 제거
+        Iterator<Map.Entry<Long, Entry>> eldest = tiles.entrySet().iterator();
+        while ((tiles.size() > maxEntries || totalBytes > maxBytes) && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().tile().length;
+            eldest.remove();
+        }
+    }
+
+    // 타일 + buffer 영역의 경도 / 위도 bbox (buffer 밖의 변경은 타일에 그려지지 않음)
+    private Envelope bounds(int z, int x, int y) {
+        double n = 1 << z;
+        double margin = (double) buffer / extent;
+        return new Envelope(
+                lng((x - margin) / n), lng((x + 1 + margin) / n),
+                lat((y + 1 + margin) / n), lat((y - margin) / n));
+    }
+
+    private static double lng(double fraction) {
+        return fraction * 360.0 - 180.0;
+    }
+
+    private static double lat(double fraction) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * fraction))));
+    }
+
+    private long[] snapshot() {
+        synchronized (tiles) {
+            return new long[]{tiles.size(), totalBytes};
+        }
+    }
+
+    private record Entry(byte[] tile, Envelope bounds, long loadedAt) {
+    }
+
+    // 생성 중인 타일 (synchronized (tiles) 안에서만 변경)
+    private static final class Load {
+        private final Envelope bounds;
+        private boolean stale;
+
+        private Load(Envelope bounds) {
+            this.bounds = bounds;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.safeRoute.repository.MemberRouteStatsCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 경로 통계 재계산 스케쥴러
+ * - 통계는 경로 변경 시 카운터 UPDATE 로만 갱신 -> 거리 누적 오차 / 수동 데이터 수정 등은 주기적으로 safe_route 기준으로 덮어써서 보정
+ * - 회원 번호 순으로 batch-size 명씩 끊어서 재계산 (구간 하나 = 한 트랜잭션, 긴 락 방지)
+ * - 구간의 회원 락을 잡은 뒤 재계산 -> 재계산 도중 커밋되는 경로 변경분은 덮어쓰지 않음 (MemberRouteStatsCounterRepository)
+ */
+@Slf4j
+@Component
+public class MemberRouteStatsRebuilder {
+
+    private final MemberRouteStatsCounterRepository memberRouteStatsCounterRepository;
+    private final int batchSize;
+
+    public MemberRouteStatsRebuilder(MemberRouteStatsCounterRepository memberRouteStatsCounterRepository,
+                                     @Value("${safe-route.stats.rebuild-batch-size:500}") int batchSize) {
+        this.memberRouteStatsCounterRepository = memberRouteStatsCounterRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${safe-route.stats.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long afterMemberNumber = 0;
+        int batches = 0;
+
+        Long last;
+        while ((last = memberRouteStatsCounterRepository.rebuild(afterMemberNumber, batchSize, LocalDateTime.now())) != null) {
+            afterMemberNumber = last;
+            batches++;
+        }
+
+        log.info("[MemberRouteStatsRebuilder] 회원 경로 통계 재계산 완료 : batches={}, lastMemberNumber={}, elapsed={}ms",
+                batches, afterMemberNumber, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,108 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.safeRoute.dto.OverdueAction;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteOverdueEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteDeadlineChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import com.dodo.smartsafereturn.safeRoute.repository.MemberRouteStatsCounterRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 도착 예정 시각이 지난 경로 처리 (OverdueRouteWheel 의 만료 이벤트)
+ * - 아직 진행 중이고 예정 시각 + 유예 시간이 지났을 때만 FAILED 로 변경 (조건부 UPDATE 한 번, 회원 경로 통계 실패 수도 같은 문장에서 +1)
+ *   -> 그 사이 사용자가 도착 처리했거나, 다른 인스턴스에서 먼저 처리 / 예정 시각을 연장한 경우는 변경되지 않음
+ * - 연장된 경로는 DB 의 예정 시각으로 다시 예약
+ * - action = SOS 이면 FAILED 변경 후 SafeRouteService.sos() 로 비상연락망에 발송 (MessageLogService 경유)
+ *
+ * 메트릭
+ * - route.overdue.escalation{result=failed|sos|sos_error|skipped}
+ */
+@Slf4j
+@Component
+public class OverdueRouteEscalator {
+
+    private final SafeRouteRepository safeRouteRepository;
+    private final MemberRouteStatsCounterRepository memberRouteStatsCounterRepository;
+    private final SafeRouteService safeRouteService;
+    private final OverdueRouteWheel overdueRouteWheel;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OverdueAction action;
+    private final Duration grace;
+
+    private final Counter failedCounter;
+    private final Counter sosCounter;
+    private final Counter sosErrorCounter;
+    private final Counter skippedCounter;
+
+    public OverdueRouteEscalator(SafeRouteRepository safeRouteRepository,
+                                 MemberRouteStatsCounterRepository memberRouteStatsCounterRepository,
+                                 SafeRouteService safeRouteService,
+                                 OverdueRouteWheel overdueRouteWheel,
+                                 ApplicationEventPublisher eventPublisher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${safe-route.overdue.action:FAILED}") OverdueAction action,
+                                 @Value("${safe-route.overdue.grace:PT10M}") Duration grace) {
+        this.safeRouteRepository = safeRouteRepository;
+        this.memberRouteStatsCounterRepository = memberRouteStatsCounterRepository;
+        this.safeRouteService = safeRouteService;
+        this.overdueRouteWheel = overdueRouteWheel;
+        this.eventPublisher = eventPublisher;
+        this.action = action;
+        this.grace = grace;
+        this.failedCounter = escalationCounter(meterRegistry, "failed");
+        this.sosCounter = escalationCounter(meterRegistry, "sos");
+        this.sosErrorCounter = escalationCounter(meterRegistry, "sos_error");
+        this.skippedCounter = escalationCounter(meterRegistry, "skipped");
+    }
+
+    @EventListener
+    public void onOverdue(RouteOverdueEvent event) {
+        Long safeRouteId = event.safeRouteId();
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = memberRouteStatsCounterRepository.markOverdue(safeRouteId, now.minus(grace), now);
+        if (updated == 0) {
+            skippedCounter.increment();
+            // 예정 시각이 연장된 진행 중 경로 -> 다시 예약
+            safeRouteRepository.findDeadline(safeRouteId)
+                    .filter(deadline -> deadline.state().isActive())
+                    .ifPresent(deadline -> overdueRouteWheel.schedule(deadline.safeRouteId(), deadline.endTime()));
+            return;
+        }
+
+        // 벌크 UPDATE 로 변경했으므로 상태 변경 이벤트를 직접 발행 (위치 감시 등 정리)
+        eventPublisher.publishEvent(new SafeRouteDeadlineChangedEvent(safeRouteId, RouteState.FAILED, event.endTime()));
+
+        log.info("[OverdueRouteEscalator] onOverdue() : route overdue safeRouteId={}, endTime={}, action={}", safeRouteId, event.endTime(), action);
+        if (action != OverdueAction.SOS) {
+            failedCounter.increment();
+            return;
+        }
+
+        try {
+            safeRouteService.sos(safeRouteId, null);
+            sosCounter.increment();
+        } catch (Exception e) {
+            // 비상연락망 미등록 등 -> 경로는 FAILED 로 남김
+            sosErrorCounter.increment();
+            log.warn("[OverdueRouteEscalator] onOverdue() : SOS 발송 실패 safeRouteId={}", safeRouteId, e);
+        }
+    }
+
+    private static Counter escalationCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("route.overdue.escalation")
+                .tag("result", result)
+                .description("도착 예정 시각이 지난 경로 처리 결과")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,251 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.global.utils.NamedThreadFactory;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDeadline;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteOverdueEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteDeadlineChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 진행 중인 경로의 도착 예정 시각 감시 (hashed timing wheel)
+ * - 경로마다 (도착 예정 시각 + 유예 시간) 을 해당 tick 의 버킷에 넣어두고, tick 마다 현재 버킷만 확인
+ *   -> 주기적인 테이블 스캔 없이 진행 중 경로 수와 무관하게 tick 당 만료 대상만 처리
+ * - 버킷 수 x tick 이 한 바퀴 (기본 4096 x 1초 = 약 68분) -> 더 먼 예약은 바퀴를 더 돈 뒤 만료
+ * - 기동 시 DB 의 진행 중 경로로 재구성, 이후 create / update / changeStatus 커밋 이벤트로 예약 / 취소
+ *
+ * 스레드
+ * - 예약 / 취소 : 요청 스레드 (timeouts 맵 교체 + pending 큐 추가만 수행)
+ * - 버킷 : tick 스레드 하나만 접근 (락 없음)
+ * - 만료 처리 (DB / SMS) : 별도 단일 스레드 -> tick 이 밀리지 않음
+ *
+ * 메트릭
+ * - route.overdue.wheel.size, route.overdue.fired
+ */
+@Slf4j
+@Component
+public class OverdueRouteWheel {
+
+    private final SafeRouteRepository safeRouteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration grace;
+    private final long tickMillis;
+    private final int mask;
+
+    // 경로 ID -> 현재 유효한 예약 (교체 / 제거된 예약은 버킷에 남아 있어도 만료 시 무시)
+    private final ConcurrentHashMap<Long, Timeout> timeouts = new ConcurrentHashMap<>();
+    // 요청 스레드에서 추가된 예약 -> tick 스레드가 버킷으로 옮김
+    private final ConcurrentLinkedQueue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final List<Timeout>[] buckets;
+    private final long startMillis;
+    private long currentTick; // tick 스레드 전용
+
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService escalation;
+    private final Counter firedCounter;
+
+    @SuppressWarnings("unchecked")
+    public OverdueRouteWheel(SafeRouteRepository safeRouteRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${safe-route.overdue.enabled:true}") boolean enabled,
+                             @Value("${safe-route.overdue.grace:PT10M}") Duration grace,
+                             @Value("${safe-route.overdue.tick:PT1S}") Duration tick,
+                             @Value("${safe-route.overdue.wheel-size:4096}") int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("safe-route.overdue.wheel-size must be a power of two : " + wheelSize);
+        }
+        this.safeRouteRepository = safeRouteRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.grace = grace;
+        this.tickMillis = Math.max(tick.toMillis(), 1L);
+        this.mask = wheelSize - 1;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.startMillis = System.currentTimeMillis();
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("overdue-wheel-"));
+        this.escalation = Executors.newSingleThreadExecutor(new NamedThreadFactory("overdue-escalation-"));
+        if (enabled) {
+            ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+
+        this.firedCounter = Counter.builder("route.overdue.fired")
+                .description("도착 예정 시각이 지나 만료 처리로 넘긴 경로 수")
+                .register(meterRegistry);
+        Gauge.builder("route.overdue.wheel.size", timeouts, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    // 기동 시 DB 의 진행 중 경로로 재구성 (재구성 도중 이벤트로 먼저 들어온 예약은 덮어쓰지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<RouteDeadline> deadlines = safeRouteRepository.findDeadlinesByStates(RouteState.ACTIVE_STATES);
+        for (RouteDeadline deadline : deadlines) {
+            schedule(deadline.safeRouteId(), deadline.endTime(), false);
+        }
+        log.info("[OverdueRouteWheel] rebuild() : scheduled {} active routes", deadlines.size());
+    }
+
+    // 경로 저장 / 변경 트랜잭션 커밋 후 반영 (트랜잭션 밖에서 발행된 이벤트도 처리)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeadlineChanged(SafeRouteDeadlineChangedEvent event) {
+        if (event.isActive()) {
+            schedule(event.safeRouteId(), event.endTime());
+        } else {
+            cancel(event.safeRouteId());
+        }
+    }
+
+    // 예약 (이미 있으면 교체)
+    public void schedule(Long safeRouteId, LocalDateTime endTime) {
+        schedule(safeRouteId, endTime, true);
+    }
+
+    public void cancel(Long safeRouteId) {
+        timeouts.remove(safeRouteId);
+    }
+
+    public int size() {
+        return timeouts.size();
+    }
+
+    private void schedule(Long safeRouteId, LocalDateTime endTime, boolean replace) {
+        if (!enabled || endTime == null) {
+            return;
+        }
+        long deadlineMillis = endTime.plus(grace).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Timeout timeout = new Timeout(safeRouteId, endTime, deadlineTickOf(deadlineMillis));
+        if (replace) {
+            timeouts.put(safeRouteId, timeout);
+        } else if (timeouts.putIfAbsent(safeRouteId, timeout) != null) {
+            return;
+        }
+        pending.add(timeout);
+    }
+
+    private long deadlineTickOf(long deadlineMillis) {
+        long elapsed = deadlineMillis - startMillis;
+        // 올림 -> 예정 시각보다 먼저 만료되지 않음
+        return elapsed <= 0 ? 0 : (elapsed + tickMillis - 1) / tickMillis;
+    }
+
+    /**
+     * 밀린 tick 까지 차례로 처리
+     * - 각 tick 에서 pending 예약을 버킷에 넣은 뒤 현재 버킷만 확인
+     */
+    private void tick() {
+        try {
+            long targetTick = (System.currentTimeMillis() - startMillis) / tickMillis;
+            while (currentTick < targetTick) {
+                currentTick++;
+                transferPending();
+                expire(buckets[(int) (currentTick & mask)]);
+            }
+        } catch (Exception e) {
+            // 예외가 밖으로 나가면 scheduleAtFixedRate 가 중단되므로 여기서 처리
+            log.error("[OverdueRouteWheel] tick() : tick={}", currentTick, e);
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeouts.get(timeout.safeRouteId) != timeout) {
+                continue; // 이미 교체 / 취소된 예약
+            }
+            // 이미 지난 예약은 현재 버킷에 넣어서 바로 만료
+            long tick = Math.max(timeout.deadlineTick, currentTick);
+            buckets[(int) (tick & mask)].add(timeout);
+        }
+    }
+
+    // 버킷을 한 번 훑으면서 만료 / 교체된 예약은 제거하고, 아직 바퀴가 남은 예약만 남김
+    private void expire(List<Timeout> bucket) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeouts.get(timeout.safeRouteId) != timeout) {
+                continue;
+            }
+            if (timeout.deadlineTick > currentTick) {
+                bucket.set(kept++, timeout);
+                continue;
+            }
+            if (timeouts.remove(timeout.safeRouteId, timeout)) {
+                fire(timeout);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    private void fire(Timeout timeout) {
+        firedCounter.increment();
+        RouteOverdueEvent event = new RouteOverdueEvent(timeout.safeRouteId, timeout.endTime);
+        try {
+            escalation.execute(() -> {
+                try {
+                    eventPublisher.publishEvent(event);
+                } catch (Exception e) {
+                    log.error("[OverdueRouteWheel] fire() : 만료 처리 실패 safeRouteId={}", event.safeRouteId(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중 -> 다음 기동 시 재구성에서 다시 만료됨
+            log.warn("[OverdueRouteWheel] fire() : shutting down, safeRouteId={}", timeout.safeRouteId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        escalation.shutdown();
+        try {
+            if (!escalation.awaitTermination(10, TimeUnit.SECONDS)) {
+                escalation.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            escalation.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 예약 한 건 (교체 시 새 객체 -> 버킷에 남은 이전 객체는 참조 비교로 걸러짐)
+    private static final class Timeout {
+        private final Long safeRouteId;
+        private final LocalDateTime endTime;
+        private final long deadlineTick;
+
+        private Timeout(Long safeRouteId, LocalDateTime endTime, long deadlineTick) {
+            this.safeRouteId = safeRouteId;
+            this.endTime = endTime;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDeviationEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDeviationStateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteDeadlineChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePathChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointsAppendedEvent;
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRepository;
+import com.dodo.smartsafereturn.safeRoute.utils.GeoBounds;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.*;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 경로의 이탈 감시
+ * - 경로마다 계획 경로를 corridor-meters 만큼 넓힌 구간 (buffer) 을 PreparedGeometry 로 만들어 메모리에 보관
+ *   -> 새 좌표는 구간 포함 여부만 확인 (인덱스된 point-in-polygon, DB 조회 없음)
+ * - 구간 밖 좌표가 consecutive-points 번 연속으로 들어오면 RouteDeviationEvent 발행 (한 번만, 구간으로 돌아오면 초기화)
+ * - 미터 단위 buffer 는 RouteSimplifier 와 같이 경도를 cos(위도) 만큼 줄인 좌표계에서 계산
+ *
+ * 구간 생성
+ * - create / update 커밋 후 계획 경로로 생성
+ * - 재기동 등으로 구간이 없으면 첫 좌표 추가 때 DB 의 계획 경로 (planned_path) 로 생성
+ *   -> route_path 는 지나온 좌표 (이탈한 좌표 포함) 가 이어붙으므로 사용 X, 계획 경로가 없는 이전 경로는 감시 X
+ * - 진행 중이 아닌 상태로 바뀌거나 삭제되면 제거
+ *
+ * 메트릭
+ * - route.deviation.check (좌표 1개 확인 시간), route.deviation.events, route.deviation.corridors
+ */
+@Slf4j
+@Component
+public class RouteDeviationDetector {
+
+    // buffer 곡선 근사 (사분원당 선분 수)
+    private static final int QUADRANT_SEGMENTS = 4;
+
+    private final SafeRouteRepository safeRouteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final double corridorMeters;
+    private final int consecutivePoints;
+    private final int maxRoutes;
+
+    private final ConcurrentHashMap<Long, Corridor> corridors = new ConcurrentHashMap<>();
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    private final Timer checkTimer;
+    private final Counter deviationCounter;
+
+    public RouteDeviationDetector(SafeRouteRepository safeRouteRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${safe-route.deviation.enabled:true}") boolean enabled,
+                                  @Value("${safe-route.deviation.corridor-meters:50}") double corridorMeters,
+                                  @Value("${safe-route.deviation.consecutive-points:3}") int consecutivePoints,
+                                  @Value("${safe-route.deviation.max-routes:50000}") int maxRoutes) {
+        this.safeRouteRepository = safeRouteRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.corridorMeters = corridorMeters;
+        this.consecutivePoints = Math.max(consecutivePoints, 1);
+        this.maxRoutes = maxRoutes;
+        this.checkTimer = Timer.builder("route.deviation.check")
+                .description("좌표 1개의 경로 구간 포함 여부 확인 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.deviationCounter = Counter.builder("route.deviation.events")
+                .description("경로 이탈로 판단된 횟수")
+                .register(meterRegistry);
+        Gauge.builder("route.deviation.corridors", corridors, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    // create / update 커밋 후 계획 경로로 구간 생성
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPathChanged(SafeRoutePathChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Corridor corridor = buildCorridor(event.routePath());
+        if (corridor == null) {
+            corridors.remove(event.safeRouteId());
+            return;
+        }
+        put(event.safeRouteId(), corridor);
+    }
+
+    // 진행 중이 아닌 상태 / 삭제 -> 구간 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeadlineChanged(SafeRouteDeadlineChangedEvent event) {
+        if (!event.isActive()) {
+            corridors.remove(event.safeRouteId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointsAppended(SafeRoutePointsAppendedEvent event) {
+        if (!enabled || event.points().isEmpty()) {
+            return;
+        }
+        Corridor corridor = corridors.get(event.safeRouteId());
+        if (corridor == null) {
+            corridor = loadCorridor(event.safeRouteId());
+            if (corridor == null) {
+                return;
+            }
+        }
+        check(event.safeRouteId(), corridor, event.points());
+    }
+
+    public RouteDeviationStateDto getState(Long safeRouteId) {
+        Corridor corridor = corridors.get(safeRouteId);
+        if (corridor == null) {
+            return RouteDeviationStateDto.builder()
+                    .safeRouteId(safeRouteId)
+                    .tracked(false)
+                    .corridorMeters(corridorMeters)
+                    .build();
+        }
+        synchronized (corridor) {
+            return RouteDeviationStateDto.builder()
+                    .safeRouteId(safeRouteId)
+                    .tracked(true)
+                    .deviated(corridor.deviatedSince != null)
+                    .consecutiveOutside(corridor.consecutiveOutside)
+                    .corridorMeters(corridorMeters)
+                    .lastPosition(corridor.lastPosition)
+                    .lastCheckedAt(corridor.lastCheckedAt)
+                    .deviatedSince(corridor.deviatedSince)
+                    .build();
+        }
+    }
+
+    /**
+     * 좌표를 순서대로 확인
+     * - 같은 경로의 좌표 추가 요청이 동시에 들어와도 연속 횟수가 꼬이지 않도록 구간 단위로 동기화
+     */
+    private void check(Long safeRouteId, Corridor corridor, List<LatLngPoint> points) {
+        RouteDeviationEvent deviation = null;
+        synchronized (corridor) {
+            for (LatLngPoint point : points) {
+                long start = System.nanoTime();
+                boolean inside = corridor.covers(geometryFactory, point);
+                checkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                corridor.lastPosition = point;
+                if (inside) {
+                    corridor.consecutiveOutside = 0;
+                    corridor.deviatedSince = null;
+                    continue;
+                }
+                corridor.consecutiveOutside++;
+                if (corridor.deviatedSince == null && corridor.consecutiveOutside >= consecutivePoints) {
+                    corridor.deviatedSince = LocalDateTime.now();
+                    deviation = new RouteDeviationEvent(safeRouteId, point, corridor.consecutiveOutside, corridor.deviatedSince);
+                }
+            }
+            corridor.lastCheckedAt = LocalDateTime.now();
+        }
+
+        if (deviation != null) {
+            deviationCounter.increment();
+            log.info("[RouteDeviationDetector] check() : route deviated safeRouteId={}, position={}", safeRouteId, deviation.position());
+            eventPublisher.publishEvent(deviation);
+        }
+    }
+
+    // 재기동 등으로 구간이 없는 진행 중 경로 -> DB 의 계획 경로로 생성 (최대 개수를 넘으면 생성 X)
+    private Corridor loadCorridor(Long safeRouteId) {
+        if (isFull(safeRouteId)) {
+            return null;
+        }
+        Corridor corridor = safeRouteRepository.findActivePlannedPath(safeRouteId, RouteState.ACTIVE_STATES)
+                .map(this::buildCorridor)
+                .orElse(null);
+        if (corridor == null || isFull(safeRouteId)) {
+            return null;
+        }
+        Corridor existing = corridors.putIfAbsent(safeRouteId, corridor);
+        return existing != null ? existing : corridor;
+    }
+
+    private void put(Long safeRouteId, Corridor corridor) {
+        if (isFull(safeRouteId)) {
+            return;
+        }
+        corridors.put(safeRouteId, corridor);
+    }
+
+    // 이미 감시 중인 경로의 교체는 허용
+    private boolean isFull(Long safeRouteId) {
+        if (corridors.size() < maxRoutes || corridors.containsKey(safeRouteId)) {
+            return false;
+        }
+        log.warn("[RouteDeviationDetector] isFull() : corridor limit reached size={}, safeRouteId={}", corridors.size(), safeRouteId);
+        return true;
+    }
+
+    private Corridor buildCorridor(LineString routePath) {
+        if (routePath == null || routePath.isEmpty()) {
+            return null;
+        }
+        CoordinateSequence sequence = routePath.getCoordinateSequence();
+        double lonScale = Math.max(Math.cos(Math.toRadians(sequence.getY(0))), 1e-6);
+
+        Coordinate[] scaled = new Coordinate[sequence.size()];
+        for (int i = 0; i < scaled.length; i++) {
+            scaled[i] = new Coordinate(sequence.getX(i) * lonScale, sequence.getY(i));
+        }
+        Geometry path = scaled.length == 1
+                ? geometryFactory.createPoint(scaled[0])
+                : geometryFactory.createLineString(scaled);
+        Geometry buffer = path.buffer(corridorMeters / GeoBounds.METERS_PER_DEGREE, QUADRANT_SEGMENTS);
+        return new Corridor(PreparedGeometryFactory.prepare(buffer), lonScale);
+    }
+
+    // 경로 하나의 이탈 감시 구간 + 상태 (상태는 synchronized (corridor) 안에서만 변경)
+    private static final class Corridor {
+        private final PreparedGeometry area;
+        private final double lonScale;
+
+        private int consecutiveOutside;
+        private LatLngPoint lastPosition;
+        private LocalDateTime lastCheckedAt;
+        private LocalDateTime deviatedSince;
+
+        private Corridor(PreparedGeometry area, double lonScale) {
+            this.area = area;
+            this.lonScale = lonScale;
+        }
+
+        private boolean covers(GeometryFactory factory, LatLngPoint point) {
+            return area.covers(factory.createPoint(new Coordinate(point.getLng() * lonScale, point.getLat())));
+        }
+    }
+}
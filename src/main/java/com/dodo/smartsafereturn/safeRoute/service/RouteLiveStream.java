@@ -0,0 +1,416 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDeviationEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStalledEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStreamFrameDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteDeadlineChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointsAppendedEvent;
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import com.dodo.smartsafereturn.safezone.dto.SafeZoneTransitionEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 진행 중인 경로의 실시간 위치 / 상태 구독 (SSE)
+ * - 경로마다 채널 하나 : 고정 크기 링 버퍼 (frame 배열) + 쓰기 순번
+ *   -> 이벤트는 채널에 한 번만 직렬화해서 기록 (쓰기는 채널 락 안에서 한 번에 하나), 구독자 N 명은 각자 읽은 순번부터 같은 frame 을 전송
+ * - 구독자마다 가상 스레드 하나가 링 버퍼를 따라가며 전송 (느린 구독자가 다른 구독자 / 쓰기를 막지 않음)
+ * - 느린 구독자 : 아직 보내지 못한 frame 이 링 버퍼 크기를 넘으면 (덮어써짐) 연결 종료
+ * - 유휴 연결 정리 : heartbeat 주기마다 comment 를 보내 끊긴 연결을 감지, 최대 연결 시간 (timeout) 이 지나면 종료
+ * - 구독자가 없는 경로의 이벤트는 맵 조회 한 번으로 무시 (직렬화하지 않음)
+ * - 경로가 진행 중이 아닌 상태로 바뀌거나 삭제되면 마지막 상태 frame 을 보낸 뒤 모든 구독 종료
+ *
+ * 메트릭
+ * - route.stream.channels, route.stream.subscribers, route.stream.frames, route.stream.dropped
+ */
+@Slf4j
+@Component
+public class RouteLiveStream {
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribersPerRoute;
+    private final int maxSubscribers;
+    private final long heartbeatMillis;
+    private final long timeoutMillis;
+
+    private final ConcurrentHashMap<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService writers;
+
+    private final Counter frameCounter;
+    private final Counter droppedCounter;
+
+    public RouteLiveStream(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${safe-route.stream.buffer-size:64}") int bufferSize,
+                           @Value("${safe-route.stream.max-subscribers-per-route:10}") int maxSubscribersPerRoute,
+                           @Value("${safe-route.stream.max-subscribers:10000}") int maxSubscribers,
+                           @Value("${safe-route.stream.heartbeat:PT15S}") Duration heartbeat,
+                           @Value("${safe-route.stream.timeout:PT30M}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = Math.max(bufferSize, 2);
+        this.maxSubscribersPerRoute = maxSubscribersPerRoute;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatMillis = heartbeat.toMillis();
+        this.timeoutMillis = timeout.toMillis();
+        // 구독자마다 가상 스레드 하나 (전송 중 블로킹되어도 플랫폼 스레드를 점유하지 않음)
+        this.writers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("route-stream-", 0).factory());
+
+        this.frameCounter = Counter.builder("route.stream.frames")
+                .description("채널에 기록한 이벤트 수 (구독자 수와 무관하게 한 번씩)")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("route.stream.dropped")
+                .description("전송이 밀려 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("route.stream.channels", channels, ConcurrentHashMap::size)
+                .register(meterRegistry);
+        Gauge.builder("route.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 시작
+     * - 경로 존재 / 진행 중 여부 / 권한 검증은 호출하는 쪽 (SafeRouteService) 에서 수행
+     * - 첫 frame 으로 현재 상태를 보내고, 이후 들어오는 이벤트를 전송
+     */
+    public SseEmitter subscribe(Long safeRouteId, RouteState state) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new RuntimeException("[RouteLiveStream] subscribe() : 최대 구독자 수 초과");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber;
+        try {
+            subscriber = join(safeRouteId, emitter);
+        } catch (RuntimeException e) {
+            subscriberCount.decrementAndGet();
+            throw e;
+        }
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        subscriber.pending = toSse(RouteStreamFrameDto.builder()
+                .seq(0)
+                .safeRouteId(safeRouteId)
+                .type(RouteStreamFrameDto.FrameType.STATE)
+                .state(state)
+                .at(LocalDateTime.now())
+                .build());
+        try {
+            writers.execute(subscriber::run);
+        } catch (RejectedExecutionException e) {
+            subscriber.close();
+            throw new RuntimeException("[RouteLiveStream] subscribe() : 서버 종료 중");
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointsAppended(SafeRoutePointsAppendedEvent event) {
+        Channel channel = channels.get(event.safeRouteId());
+        if (channel == null || event.points().isEmpty()) {
+            return;
+        }
+        int last = event.points().size() - 1;
+        channel.publish(seq -> RouteStreamFrameDto.builder()
+                .seq(seq)
+                .safeRouteId(event.safeRouteId())
+                .type(RouteStreamFrameDto.FrameType.POSITION)
+                .position(event.points().get(last))
+                .pointSeq(event.fromSeq() + last)
+                .at(LocalDateTime.now())
+                .build(), false);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeadlineChanged(SafeRouteDeadlineChangedEvent event) {
+        Channel channel = channels.get(event.safeRouteId());
+        if (channel == null) {
+            return;
+        }
+        // 진행 중이 아님 / 삭제 -> 마지막 상태를 보낸 뒤 종료
+        channel.publish(seq -> RouteStreamFrameDto.builder()
+                .seq(seq)
+                .safeRouteId(event.safeRouteId())
+                .type(RouteStreamFrameDto.FrameType.STATE)
+                .state(event.state())
+                .at(LocalDateTime.now())
+                .build(), !event.isActive());
+        if (!event.isActive()) {
+            channels.remove(event.safeRouteId(), channel);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeviation(RouteDeviationEvent event) {
+        publishAlert(event.safeRouteId(), RouteStreamFrameDto.FrameType.DEVIATED, event.position());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStalled(RouteStalledEvent event) {
+        publishAlert(event.safeRouteId(), RouteStreamFrameDto.FrameType.STALLED, event.center());
+    }
+
+    // 안심 구역 진입 / 이탈 (도착 완료 시 이후 STATE 이벤트로 종료)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSafeZoneTransition(SafeZoneTransitionEvent event) {
+        publishAlert(event.safeRouteId(), event.transition() == SafeZoneTransitionEvent.Transition.ENTERED
+                ? RouteStreamFrameDto.FrameType.ZONE_ENTERED
+                : RouteStreamFrameDto.FrameType.ZONE_EXITED, event.position());
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void publishAlert(Long safeRouteId, RouteStreamFrameDto.FrameType type, LatLngPoint position) {
+        Channel channel = channels.get(safeRouteId);
+        if (channel == null) {
+            return;
+        }
+        channel.publish(seq -> RouteStreamFrameDto.builder()
+                .seq(seq)
+                .safeRouteId(safeRouteId)
+                .type(type)
+                .position(position)
+                .at(LocalDateTime.now())
+                .build(), false);
+    }
+
+    // 채널에 구독자 추가 (종료된 채널이면 새 채널로 다시 시도)
+    private Subscriber join(Long safeRouteId, SseEmitter emitter) {
+        while (true) {
+            Channel channel = channels.computeIfAbsent(safeRouteId, id -> new Channel(id, bufferSize));
+            Subscriber subscriber = channel.join(emitter, maxSubscribersPerRoute);
+            if (subscriber != null) {
+                return subscriber;
+            }
+            channels.remove(safeRouteId, channel);
+        }
+    }
+
+    private Set<SseEmitter.DataWithMediaType> toSse(RouteStreamFrameDto frame) {
+        try {
+            return SseEmitter.event()
+                    .id(String.valueOf(frame.getSeq()))
+                    .name(frame.getType().name())
+                    .data(objectMapper.writeValueAsString(frame), MediaType.TEXT_PLAIN)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("[RouteLiveStream] toSse() : 직렬화 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(Channel::close);
+        channels.clear();
+        writers.shutdown();
+        try {
+            if (!writers.awaitTermination(5, TimeUnit.SECONDS)) {
+                writers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface FrameFactory {
+        RouteStreamFrameDto create(long seq);
+    }
+
+    /**
+     * 경로 하나의 링 버퍼 (lock 안에서만 쓰기)
+     * - ring[seq % size] : seq 번째 frame (직렬화된 SSE 이벤트)
+     * - written : 마지막으로 기록한 순번 -> 구독자는 자신이 보낸 순번과 비교해서 따라감
+     */
+    private final class Channel {
+        private final Long safeRouteId;
+        private final Set<SseEmitter.DataWithMediaType>[] ring;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private long written;
+        private int subscribers;
+        private boolean closed;
+
+        @SuppressWarnings("unchecked")
+        private Channel(Long safeRouteId, int size) {
+            this.safeRouteId = safeRouteId;
+            this.ring = new Set[size];
+        }
+
+        private Subscriber join(SseEmitter emitter, int maxSubscribers) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return null;
+                }
+                if (subscribers >= maxSubscribers) {
+                    throw new RuntimeException("[RouteLiveStream] subscribe() : 경로당 최대 구독자 수 초과");
+                }
+                subscribers++;
+                return new Subscriber(this, emitter, written);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 쓰기는 한 번에 하나 (순번 부여 + 직렬화 + 기록), 직렬화는 구독자 수와 무관하게 이벤트당 한 번
+        private void publish(FrameFactory factory, boolean last) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                long seq = written + 1;
+                ring[(int) (seq % ring.length)] = toSse(factory.create(seq));
+                written = seq;
+                closed = last;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            frameCounter.increment();
+        }
+
+        private void leave() {
+            lock.lock();
+            try {
+                subscribers--;
+                if (subscribers == 0) {
+                    // 마지막 구독자 -> 채널 제거 (이후 구독은 새 채널에서)
+                    closed = true;
+                    channels.remove(safeRouteId, this);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void close() {
+            lock.lock();
+            try {
+                closed = true;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 구독자 한 명 (run 은 구독자 전용 가상 스레드에서만 실행)
+    private final class Subscriber {
+        private final Channel channel;
+        private final SseEmitter emitter;
+        private long sent;
+        private Set<SseEmitter.DataWithMediaType> pending; // 구독 직후 보낼 현재 상태
+        private volatile boolean disconnected;
+
+        private Subscriber(Channel channel, SseEmitter emitter, long sent) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.sent = sent;
+        }
+
+        private void run() {
+            try {
+                if (pending != null) {
+                    emitter.send(pending);
+                    pending = null;
+                }
+                while (!disconnected) {
+                    Set<SseEmitter.DataWithMediaType> frame = null;
+                    boolean finished = false;
+                    channel.lock.lock();
+                    try {
+                        if (channel.written == sent && !channel.closed) {
+                            channel.changed.await(heartbeatMillis, TimeUnit.MILLISECONDS);
+                        }
+                        if (channel.written - sent > channel.ring.length) {
+                            // 링 버퍼가 한 바퀴 넘게 앞서감 -> 보내지 못한 frame 이 덮어써짐
+                            droppedCounter.increment();
+                            log.debug("[RouteLiveStream] run() : slow subscriber dropped safeRouteId={}", channel.safeRouteId);
+                            break;
+                        }
+                        if (channel.written > sent) {
+                            sent++;
+                            frame = channel.ring[(int) (sent % channel.ring.length)];
+                        } else if (channel.closed) {
+                            finished = true;
+                        }
+                    } finally {
+                        channel.lock.unlock();
+                    }
+
+                    if (frame != null) {
+                        emitter.send(frame);
+                    } else if (finished) {
+                        break;
+                    } else {
+                        // 새 이벤트 없이 heartbeat 주기 경과 -> 끊긴 연결이면 여기서 IOException
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                }
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 끊김 / 이미 종료된 emitter
+                log.debug("[RouteLiveStream] run() : subscriber disconnected safeRouteId={}", channel.safeRouteId);
+            } catch (InterruptedException e) {
+                emitter.complete();
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        // 여러 번 호출되어도 한 번만 정리 (emitter 콜백 + run 종료)
+        private void close() {
+            boolean first;
+            synchronized (this) {
+                first = !disconnected;
+                disconnected = true;
+            }
+            if (first) {
+                subscriberCount.decrementAndGet();
+                channel.leave();
+                // 대기 중인 run 을 깨워서 종료
+                channel.lock.lock();
+                try {
+                    channel.changed.signalAll();
+                } finally {
+                    channel.lock.unlock();
+                }
+            }
+        }
+    }
+}
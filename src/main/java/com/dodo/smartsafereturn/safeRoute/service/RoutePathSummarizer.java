@@ -0,0 +1,167 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.safeRoute.dto.RoutePathSummaryTarget;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteAreaChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.TimedLatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.repository.RoutePointRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRoutePathBatchRepository;
+import com.dodo.smartsafereturn.safeRoute.utils.Geodesic;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 요약 경로 (safe_route.route_path / 원본 경로) 갱신 워커
+ * - 좌표 추가 요청은 route_point 에 행만 추가하고 last_point_seq 만 올림 (경로 geometry 는 건드리지 않음)
+ * - interval 주기로 path_seq < last_point_seq 인 경로를 찾아 path_seq 이후 좌표를 단순화해서 이어붙임 (이동 거리도 함께 누적)
+ * - 경로 하나당 UPDATE 한 문장 (path_seq 조건부) -> 여러 인스턴스가 동시에 돌아도 한 번만 반영
+ * - 반영 후 MapTileCache 에서 해당 영역 타일 제거 (SafeRouteAreaChangedEvent)
+ *
+ * 관리자 공간 검색 / 지도 타일 / 경로 조회의 route_path 는 최대 interval 만큼 늦게 반영됨
+ * (경로 이탈 / 멈춤 감시, 실시간 구독은 좌표 추가 이벤트로 바로 반영)
+ *
+ * 메트릭
+ * - route.path.summary.points
+ */
+@Slf4j
+@Component
+public class RoutePathSummarizer {
+
+    private final SafeRoutePathBatchRepository safeRoutePathBatchRepository;
+    private final RoutePointRepository routePointRepository;
+    private final RouteSimplifier routeSimplifier;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private final double toleranceMeters;
+    private final boolean keepRawPath;
+    private final int batchSize;
+    private final int maxPointsPerRoute;
+
+    private final Counter summarizedPoints;
+
+    public RoutePathSummarizer(SafeRoutePathBatchRepository safeRoutePathBatchRepository,
+                               RoutePointRepository routePointRepository,
+                               RouteSimplifier routeSimplifier,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${safe-route.simplify.tolerance-meters:3}") double toleranceMeters,
+                               @Value("${safe-route.simplify.keep-raw:true}") boolean keepRawPath,
+                               @Value("${safe-route.summary.batch-size:200}") int batchSize,
+                               @Value("${safe-route.summary.max-points-per-route:5000}") int maxPointsPerRoute) {
+        this.safeRoutePathBatchRepository = safeRoutePathBatchRepository;
+        this.routePointRepository = routePointRepository;
+        this.routeSimplifier = routeSimplifier;
+        this.eventPublisher = eventPublisher;
+        this.toleranceMeters = toleranceMeters;
+        this.keepRawPath = keepRawPath;
+        this.batchSize = batchSize;
+        this.maxPointsPerRoute = maxPointsPerRoute;
+        this.summarizedPoints = Counter.builder("route.path.summary.points")
+                .description("요약 경로에 이어붙인 좌표 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${safe-route.summary.interval:PT5S}", initialDelayString = "${safe-route.summary.initial-delay:PT10S}")
+    public void summarize() {
+        List<RoutePathSummaryTarget> targets;
+        try {
+            targets = safeRoutePathBatchRepository.findUnsummarized(batchSize);
+        } catch (Exception e) {
+            log.error("[RoutePathSummarizer] summarize() : 요약 대기 경로 조회 실패", e);
+            return;
+        }
+
+        for (RoutePathSummaryTarget target : targets) {
+            try {
+                summarize(target);
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도
+                log.warn("[RoutePathSummarizer] summarize() : 요약 경로 갱신 실패 safeRouteId={}", target.safeRouteId(), e);
+            }
+        }
+    }
+
+    // 한 번에 max-points-per-route 개까지만 이어붙임 (남은 좌표는 다음 주기)
+    private void summarize(RoutePathSummaryTarget target) {
+        long toSeq = Math.min(target.lastPointSeq(), target.pathSeq() + maxPointsPerRoute);
+        // 요약 경로의 마지막 좌표 (이음 좌표) 도 함께 읽음 -> 거리 계산에만 사용
+        List<TimedLatLngPoint> rows = routePointRepository.findRange(target.safeRouteId(),
+                target.pathSeq() >= 0 ? target.pathSeq() - 1 : target.pathSeq(), toSeq);
+        int start = !rows.isEmpty() && rows.get(0).getSeq() <= target.pathSeq() ? 1 : 0;
+        List<TimedLatLngPoint> points = rows.subList(start, rows.size());
+        if (points.isEmpty()) {
+            // 좌표 행이 없는 구간 -> 순번만 넘겨서 다시 찾지 않도록
+            safeRoutePathBatchRepository.markSummarized(target.safeRouteId(), target.pathSeq(), toSeq);
+            return;
+        }
+
+        long newPathSeq = points.get(points.size() - 1).getSeq();
+        String rawWkt = toWkt(points);
+        Envelope area = new Envelope();
+        for (TimedLatLngPoint point : points) {
+            area.expandToInclude(point.getLng(), point.getLat());
+        }
+        int updated = safeRoutePathBatchRepository.appendSummary(target.safeRouteId(), target.pathSeq(), newPathSeq,
+                points.size() > 2 ? simplifiedWkt(points) : rawWkt,
+                keepRawPath ? rawWkt : null,
+                lengthMeters(rows), area);
+        if (updated == 0) {
+            return; // 다른 인스턴스가 먼저 반영
+        }
+
+        summarizedPoints.increment(points.size());
+        eventPublisher.publishEvent(new SafeRouteAreaChangedEvent(target.safeRouteId(), area));
+    }
+
+    private static double lengthMeters(List<TimedLatLngPoint> points) {
+        double length = 0;
+        for (int i = 1; i < points.size(); i++) {
+            TimedLatLngPoint from = points.get(i - 1);
+            TimedLatLngPoint to = points.get(i);
+            length += Geodesic.distanceMeters(from.getLat(), from.getLng(), to.getLat(), to.getLng());
+        }
+        return length;
+    }
+
+    // 추가 좌표 묶음 단순화 후 WKT (기존 경로와의 이음매는 단순화하지 않음)
+    private String simplifiedWkt(List<TimedLatLngPoint> points) {
+        Coordinate[] coordinates = new Coordinate[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            coordinates[i] = new Coordinate(points.get(i).getLng(), points.get(i).getLat());
+        }
+        LineString simplified = routeSimplifier.simplify(geometryFactory.createLineString(coordinates), toleranceMeters);
+        StringBuilder wkt = new StringBuilder(simplified.getNumPoints() * 40 + 12).append("LINESTRING(");
+        for (int i = 0; i < simplified.getNumPoints(); i++) {
+            if (i > 0) {
+                wkt.append(',');
+            }
+            wkt.append(simplified.getCoordinateN(i).getX()).append(' ').append(simplified.getCoordinateN(i).getY());
+        }
+        return wkt.append(')').toString();
+    }
+
+    // 좌표 목록 -> WKT (1개면 POINT, 2개 이상이면 LINESTRING / 경도 위도 순서)
+    private static String toWkt(List<TimedLatLngPoint> points) {
+        StringBuilder wkt = new StringBuilder(points.size() * 40 + 12);
+        wkt.append(points.size() == 1 ? "POINT(" : "LINESTRING(");
+        for (int i = 0; i < points.size(); i++) {
+            if (i > 0) {
+                wkt.append(',');
+            }
+            TimedLatLngPoint point = points.get(i);
+            wkt.append(point.getLng()).append(' ').append(point.getLat());
+        }
+        return wkt.append(')').toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * route_point 월 파티션 생성 (db/schema/019)
+ * - 기동 시 + 매일 한 번 이번 달부터 months-ahead 달 뒤까지의 파티션을 미리 생성 (이미 있으면 무시)
+ * - 파티션이 없는 달의 좌표는 default 파티션에 들어감 -> default 에 해당 달 좌표가 있으면 그 달 파티션은 생성 실패 (로그만 남김)
+ * - 파티션마다 (safe_route_id, seq) 유니크 인덱스 (db/schema/019_route_point_seq_index) 를 같이 생성
+ */
+@Slf4j
+@Component
+public class RoutePointPartitionManager {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+
+    public RoutePointPartitionManager(JdbcTemplate jdbcTemplate,
+                                      @Value("${safe-route.point.partition.enabled:true}") boolean enabled,
+                                      @Value("${safe-route.point.partition.months-ahead:2}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "${safe-route.point.partition.cron:0 30 3 * * *}")
+    public void ensurePartitions() {
+        if (!enabled) {
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                String partition = "route_point_" + month.format(SUFFIX);
+                jdbcTemplate.execute("create table if not exists " + partition +
+                        " partition of route_point for values from ('" + month.atDay(1) + "') to ('" + month.plusMonths(1).atDay(1) + "')");
+                jdbcTemplate.execute("create unique index if not exists " + partition + "_seq_key on " + partition + " (safe_route_id, seq)");
+            } catch (Exception e) {
+                log.warn("[RoutePointPartitionManager] ensurePartitions() : {} 파티션 생성 실패", month, e);
+            }
+        }
+    }
+}
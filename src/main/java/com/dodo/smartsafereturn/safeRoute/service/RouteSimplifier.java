@@ -0,0 +1,57 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import org.locationtech.jts.geom.*;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이동 경로 단순화 (Douglas-Peucker, JTS TopologyPreservingSimplifier)
+ * - tolerance 는 미터 단위 -> 경로 첫 좌표 위도 기준으로 경도를 cos(위도) 만큼 줄인 좌표계에서 단순화
+ *   (위도 / 경도 1도의 실제 거리 차이 보정, 귀가 경로 정도의 범위에서는 오차 무시 가능)
+ * - 단순화된 경로의 좌표는 모두 원본 좌표 중 일부 (새 좌표를 만들지 않음)
+ * - 시작점 / 끝점은 항상 유지
+ */
+@Component
+public class RouteSimplifier {
+
+    // 위도 1도의 거리 (m)
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    public LineString simplify(LineString line, double toleranceMeters) {
+        if (line == null || toleranceMeters <= 0 || line.getNumPoints() <= 2) {
+            return line;
+        }
+
+        CoordinateSequence sequence = line.getCoordinateSequence();
+        int size = sequence.size();
+        double lonScale = Math.cos(Math.toRadians(sequence.getY(0)));
+        if (lonScale < 1e-6) {
+            return line;
+        }
+
+        // 경도만 축소한 좌표계로 변환
+        Coordinate[] scaled = new Coordinate[size];
+        for (int i = 0; i < size; i++) {
+            scaled[i] = new Coordinate(sequence.getX(i) * lonScale, sequence.getY(i));
+        }
+        GeometryFactory factory = line.getFactory();
+        Geometry simplified = TopologyPreservingSimplifier.simplify(
+                factory.createLineString(scaled), toleranceMeters / METERS_PER_DEGREE);
+
+        // 남은 좌표는 입력 순서를 유지한 부분집합 -> 한 번 훑으면서 원본 인덱스를 찾아 원본 좌표를 그대로 사용
+        Coordinate[] kept = simplified.getCoordinates();
+        if (kept.length == size) {
+            return line;
+        }
+        Coordinate[] result = new Coordinate[kept.length];
+        int index = 0;
+        for (int i = 0; i < kept.length; i++) {
+            while (index < size - 1 && !scaled[index].equals2D(kept[i])) {
+                index++;
+            }
+            result[i] = sequence.getCoordinateCopy(index);
+            index = Math.min(index + 1, size - 1);
+        }
+        return factory.createLineString(result);
+    }
+}
@@ -0,0 +1,245 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStalledEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStationaryStateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteDeadlineChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointsAppendedEvent;
+import com.dodo.smartsafereturn.safeRoute.utils.GeoBounds;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 경로의 멈춤 감시
+ * - 머물기 시작한 좌표 (기준점) 를 고정해 두고, 새 좌표가 기준점에서 radius-meters 보다 멀면 이동한 것으로 보고 그 좌표부터 다시 시작
+ *   -> 최근 좌표 중심과 비교하면 중심이 이동을 따라가므로 천천히 걷는 경로도 멈춘 것으로 판단됨
+ * - 기준점에서 radius-meters 안에서 duration 이상 머물면 stalled 상태 + RouteStalledEvent 발행 (한 번만)
+ * - 응답용 중심 / 반경은 최근 좌표 buffer-size 개만 고정 크기 링 버퍼 (double 배열) 에 보관해서 계산 -> 경로당 메모리 일정
+ *
+ * 좌표 시각은 이벤트의 측정 시각 사용 (실시간 추가는 서버 수신 시각, 일괄 업로드는 단말 측정 시각)
+ * - 일괄 업로드 좌표의 시각이 앞선 좌표보다 이르면 앞선 좌표 시각으로 봄 (머문 시간이 줄어들지 않도록)
+ *
+ * 메트릭
+ * - route.stationary.tracked, route.stationary.stalled, route.stationary.events
+ */
+@Slf4j
+@Component
+public class RouteStationaryDetector {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final double radiusMeters;
+    private final long durationMillis;
+    private final int bufferSize;
+    private final int maxRoutes;
+
+    private final ConcurrentHashMap<Long, Track> tracks = new ConcurrentHashMap<>();
+    private final Counter stalledCounter;
+
+    public RouteStationaryDetector(ApplicationEventPublisher eventPublisher,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${safe-route.stationary.enabled:true}") boolean enabled,
+                                   @Value("${safe-route.stationary.radius-meters:30}") double radiusMeters,
+                                   @Value("${safe-route.stationary.duration:PT10M}") Duration duration,
+                                   @Value("${safe-route.stationary.buffer-size:16}") int bufferSize,
+                                   @Value("${safe-route.stationary.max-routes:50000}") int maxRoutes) {
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.radiusMeters = radiusMeters;
+        this.durationMillis = duration.toMillis();
+        this.bufferSize = Math.max(bufferSize, 2);
+        this.maxRoutes = maxRoutes;
+        this.stalledCounter = Counter.builder("route.stationary.events")
+                .description("멈춤 상태로 판단된 횟수")
+                .register(meterRegistry);
+        Gauge.builder("route.stationary.tracked", tracks, ConcurrentHashMap::size)
+                .register(meterRegistry);
+        Gauge.builder("route.stationary.stalled", this, RouteStationaryDetector::stalledCount)
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointsAppended(SafeRoutePointsAppendedEvent event) {
+        if (!enabled || event.points().isEmpty()) {
+            return;
+        }
+        Track track = tracks.get(event.safeRouteId());
+        if (track == null) {
+            if (tracks.size() >= maxRoutes) {
+                log.warn("[RouteStationaryDetector] onPointsAppended() : track limit reached size={}, safeRouteId={}", tracks.size(), event.safeRouteId());
+                return;
+            }
+            track = tracks.computeIfAbsent(event.safeRouteId(), id -> new Track(bufferSize));
+        }
+
+        boolean stalled;
+        synchronized (track) {
+            boolean wasStalled = track.stalled;
+            List<LatLngPoint> points = event.points();
+            for (int i = 0; i < points.size(); i++) {
+                LatLngPoint point = points.get(i);
+                track.add(point.getLat(), point.getLng(), toEpochMillis(event.recordedAts().get(i)), radiusMeters);
+            }
+            track.stalled = track.dwellMillis() >= durationMillis;
+            stalled = track.stalled && !wasStalled;
+        }
+
+        if (stalled) {
+            RouteStationaryStateDto state = getState(event.safeRouteId());
+            stalledCounter.increment();
+            log.info("[RouteStationaryDetector] onPointsAppended() : route stalled safeRouteId={}, center={}", event.safeRouteId(), state.getCenter());
+            eventPublisher.publishEvent(new RouteStalledEvent(event.safeRouteId(), state.getCenter(), state.getStationarySince()));
+        }
+    }
+
+    // 진행 중이 아닌 상태 / 삭제 -> 감시 종료
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeadlineChanged(SafeRouteDeadlineChangedEvent event) {
+        if (!event.isActive()) {
+            tracks.remove(event.safeRouteId());
+        }
+    }
+
+    public RouteStationaryStateDto getState(Long safeRouteId) {
+        Track track = tracks.get(safeRouteId);
+        if (track == null) {
+            return RouteStationaryStateDto.builder()
+                    .safeRouteId(safeRouteId)
+                    .tracked(false)
+                    .build();
+        }
+        synchronized (track) {
+            return RouteStationaryStateDto.builder()
+                    .safeRouteId(safeRouteId)
+                    .tracked(true)
+                    .stalled(track.stalled)
+                    .center(new LatLngPoint(track.centerLat(), track.centerLng()))
+                    .dwellRadiusMeters(track.dwellRadius())
+                    .stationarySeconds(track.dwellMillis() / 1000)
+                    .stationarySince(toDateTime(track.dwellStartMillis))
+                    .lastPositionAt(toDateTime(track.lastMillis))
+                    .build();
+        }
+    }
+
+    // 현재 멈춤 상태인 경로 목록 (관리자 조회)
+    public List<RouteStationaryStateDto> getStalledStates() {
+        List<RouteStationaryStateDto> stalled = new ArrayList<>();
+        tracks.forEach((safeRouteId, track) -> {
+            if (track.stalled) {
+                stalled.add(getState(safeRouteId));
+            }
+        });
+        return stalled;
+    }
+
+    private double stalledCount() {
+        int count = 0;
+        for (Track track : tracks.values()) {
+            if (track.stalled) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 경로 하나의 머문 구간 상태 (synchronized (track) 안에서만 변경)
+     * - anchorLat / anchorLng : 머물기 시작한 좌표 (기준점)
+     * - 최근 좌표 링 버퍼 -> head : 다음에 쓸 위치, size : 보관 중인 좌표 수
+     */
+    private static final class Track {
+        private final double[] lats;
+        private final double[] lngs;
+        private int head;
+        private int size;
+        private double sumLat;
+        private double sumLng;
+
+        private double anchorLat;
+        private double anchorLng;
+        private long dwellStartMillis;
+        private long lastMillis;
+        private volatile boolean stalled;
+
+        private Track(int capacity) {
+            this.lats = new double[capacity];
+            this.lngs = new double[capacity];
+        }
+
+        private void add(double lat, double lng, long recordedAtMillis, double radiusMeters) {
+            long now = size == 0 ? recordedAtMillis : Math.max(recordedAtMillis, lastMillis);
+            // 기준점에서 벗어남 -> 이동 중, 이 좌표부터 머문 구간 다시 시작
+            if (size > 0 && GeoBounds.distanceMeters(anchorLat, anchorLng, lat, lng) > radiusMeters) {
+                size = 0;
+                sumLat = 0;
+                sumLng = 0;
+            }
+            if (size == 0) {
+                anchorLat = lat;
+                anchorLng = lng;
+                dwellStartMillis = now;
+            }
+            if (size == lats.length) {
+                // 가장 오래된 좌표를 밀어냄 (head 위치가 가장 오래된 좌표)
+                sumLat -= lats[head];
+                sumLng -= lngs[head];
+            } else {
+                size++;
+            }
+            lats[head] = lat;
+            lngs[head] = lng;
+            sumLat += lat;
+            sumLng += lng;
+            head = (head + 1) % lats.length;
+            lastMillis = now;
+        }
+
+        private double centerLat() {
+            return sumLat / size;
+        }
+
+        private double centerLng() {
+            return sumLng / size;
+        }
+
+        private long dwellMillis() {
+            return size == 0 ? 0 : lastMillis - dwellStartMillis;
+        }
+
+        // 보관 중인 좌표가 중심에서 떨어진 최대 거리 (최대 buffer-size 개 -> 상수 시간)
+        private double dwellRadius() {
+            double centerLat = centerLat();
+            double centerLng = centerLng();
+            double max = 0;
+            for (int i = 0; i < size; i++) {
+                int index = (head - 1 - i + lats.length) % lats.length;
+                max = Math.max(max, GeoBounds.distanceMeters(centerLat, centerLng, lats[index], lngs[index]));
+            }
+            return max;
+        }
+    }
+}
@@ -1,13 +1,30 @@
 package com.dodo.smartsafereturn.safeRoute.service;
 
-import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.dto.MemberRouteStatsDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDetail;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDeviationStateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RoutePointPageDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStationaryStateDto;
 import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteCreateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointAppendDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointAppendResultDto;
 import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteResponseDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSosDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteStreamTokenDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSummaryPageDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncResultDto;
 import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteUpdateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.TimedLatLngPoint;
 import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.LineString;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface SafeRouteService {
 
@@ -15,14 +32,44 @@ public interface SafeRouteService {
     SafeRouteResponseDto create(SafeRouteCreateDto dto);
     // 안전 귀가 루트 수정 (도착지, 도착시간)
     void update(SafeRouteUpdateDto dto);
+    // 이동 경로 좌표 추가 (새 좌표만 전송, 순번으로 중복 / 순서 확인)
+    SafeRoutePointAppendResultDto appendPoints(Long safeRouteId, SafeRoutePointAppendDto dto);
+    // 오프라인 좌표 / 상태 일괄 업로드 (배치별 ack)
+    SafeRouteSyncResultDto sync(SafeRouteSyncDto dto);
     // 안전 귀가 루트 상태 변경 (사용자 도중 포기, 실패, 완료)
     void changeStatus(RouteState state, Long safeRouteId);
+    // SOS 발송 (비상연락망 + SOS 메시지 서버에서 조회 -> 메시지 로그 등록, 상태 FAILED, SMS 발송 예약)
+    Long sos(Long safeRouteId, SafeRouteSosDto dto);
     // 안전 귀가 루트 삭제
     void delete(Long safeRouteId);
     // 안전 귀가 루트 가져오기 (현재 한 건)
-    SafeRouteResponseDto getSafeRoute(Long safeRouteId);
+    SafeRouteResponseDto getSafeRoute(Long safeRouteId, RouteDetail detail);
     // 안전 귀가 루트 가져오기 (마이페이지 - 회원 귀가 루트 내역 List)
-    List<SafeRouteResponseDto> getMemberSafeRoutes(Long memberNumber);
-    // json 위치 경도 배열 -> LineString 화
-    LineString generateLineString(List<LatLngPoint> points);
+    List<SafeRouteResponseDto> getMemberSafeRoutes(Long memberNumber, RouteDetail detail);
+    // 회원 경로 통계 (완수 / 실패 / 총 이동 거리 / 평균 소요 시간)
+    MemberRouteStatsDto getMemberRouteStats(Long memberNumber);
+    // 회원 경로 요약 목록 (geometry 없음, 출발 시각 최신순 keyset 페이징)
+    SafeRouteSummaryPageDto getMemberSafeRouteSummaries(Long memberNumber, String cursor, int size);
+    // 경로 좌표 재생 (측정 시각 포함, 순번 keyset 페이징)
+    RoutePointPageDto getPoints(Long safeRouteId, long afterSeq, int size);
+    // 경로 좌표 전체 재생 (페이지 단위로 consumer 호출 -> 스트리밍 응답용)
+    void replayPoints(Long safeRouteId, long afterSeq, Consumer<List<TimedLatLngPoint>> pageConsumer);
+    // 경로 이탈 감시 상태 조회
+    RouteDeviationStateDto getDeviationState(Long safeRouteId);
+    // 경로 멈춤 감시 상태 조회
+    RouteStationaryStateDto getStationaryState(Long safeRouteId);
+    // 현재 멈춤 상태인 경로 목록 (ADMIN 전용)
+    List<RouteStationaryStateDto> getStalledRoutes();
+    // 경로 실시간 위치 구독용 토큰 발급 (경로 소유 회원만)
+    SafeRouteStreamTokenDto issueStreamToken(Long safeRouteId, Long memberNumber);
+    // 경로 실시간 위치 / 상태 구독 (SSE, 구독용 토큰 필요)
+    SseEmitter subscribeStream(Long safeRouteId, String streamToken);
+    // 한 지점 반경 radiusMeters 이내를 지나간 경로 검색 (ADMIN 전용)
+    Page<SafeRouteResponseDto> searchRoutesNear(double lat, double lng, double radiusMeters, Pageable pageable);
+    // bbox 영역을 지나간 경로 검색 (ADMIN 전용)
+    Page<SafeRouteResponseDto> searchRoutesInBox(double minLat, double minLng, double maxLat, double maxLng, Pageable pageable);
+    // 관리자 지도용 경로 / SOS 위치 벡터 타일 (MVT) 조회 (ADMIN 전용)
+    byte[] getMapTile(int z, int x, int y);
+    // json 위치 경도 배열 (PackedPathDeserializer) -> LineString 화
+    LineString generateLineString(CoordinateSequence coordinates);
 }
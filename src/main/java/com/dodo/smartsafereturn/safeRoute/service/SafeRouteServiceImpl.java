@@ -1,38 +1,180 @@
 package com.dodo.smartsafereturn.safeRoute.service;
 
+import com.dodo.smartsafereturn.auth.utils.JwtUtil;
+import com.dodo.smartsafereturn.dangerzone.service.DangerZoneIndex;
 import com.dodo.smartsafereturn.member.entity.Member;
 import com.dodo.smartsafereturn.member.repository.MemberRepository;
+import com.dodo.smartsafereturn.messagelog.dto.MessageLogCreateDto;
+import com.dodo.smartsafereturn.messagelog.service.MessageLogService;
 import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.dto.MemberRouteStatsDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteBoundsDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDetail;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDeviationStateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteListCursor;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteMetrics;
+import com.dodo.smartsafereturn.safeRoute.dto.RoutePathAppend;
+import com.dodo.smartsafereturn.safeRoute.dto.RoutePathCursor;
+import com.dodo.smartsafereturn.safeRoute.dto.RoutePointPageDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStateChangeDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStationaryStateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStatsDelta;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteAreaChangedEvent;
 import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteCreateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteDeadlineChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePathChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointAppendDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointAppendResultDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointsAppendedEvent;
 import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteResponseDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSosDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteStreamTokenDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSummaryDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSummaryPageDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncAckDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncBatchDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncResultDto;
 import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteUpdateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.TimedLatLngPoint;
 import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
 import com.dodo.smartsafereturn.safeRoute.entity.SafeRoute;
+import com.dodo.smartsafereturn.safeRoute.entity.SafeRouteRawPath;
+import com.dodo.smartsafereturn.safeRoute.repository.MemberRouteStatsCounterRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.MemberRouteStatsRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.RoutePointRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRoutePathBatchRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRawPathRepository;
 import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRepository;
-import lombok.RequiredArgsConstructor;
+import com.dodo.smartsafereturn.safeRoute.utils.GeoBounds;
+import com.dodo.smartsafereturn.sosmessage.dto.SosRecipients;
+import com.dodo.smartsafereturn.sosmessage.service.SosRecipientCache;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @Transactional(readOnly = true)
 public class SafeRouteServiceImpl implements SafeRouteService {
 
+    // 회원 경로 요약 목록 페이지 크기 최대값
+    private static final int MAX_SUMMARY_PAGE_SIZE = 100;
+
     private final SafeRouteRepository safeRouteRepository;
+    private final SafeRouteRawPathRepository safeRouteRawPathRepository;
+    private final SafeRoutePathBatchRepository safeRoutePathBatchRepository;
+    private final RoutePointRepository routePointRepository;
+    private final MemberRouteStatsRepository memberRouteStatsRepository;
+    private final MemberRouteStatsCounterRepository memberRouteStatsCounterRepository;
     private final MemberRepository memberRepository;
+    private final MessageLogService messageLogService;
+    private final SosRecipientCache sosRecipientCache;
+    private final RouteSimplifier routeSimplifier;
     private final GeometryFactory geometryFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RouteDeviationDetector routeDeviationDetector;
+    private final RouteStationaryDetector routeStationaryDetector;
+    private final MapTileCache mapTileCache;
+    private final RouteLiveStream routeLiveStream;
+    private final JwtUtil jwtUtil;
+    private final DangerZoneIndex dangerZoneIndex;
+
+    // 수집 시 경로 단순화 허용 오차 (m) -> 0 이면 단순화하지 않음
+    @Value("${safe-route.simplify.tolerance-meters:3}")
+    private double simplifyToleranceMeters;
+
+    // ?detail=preview 조회 시 허용 오차 (m)
+    @Value("${safe-route.simplify.preview-tolerance-meters:20}")
+    private double previewToleranceMeters;
+
+    // 단순화 전 원본 경로를 raw_route_path 컬럼에 보관할지 여부
+    @Value("${safe-route.simplify.keep-raw:true}")
+    private boolean keepRawPath;
+
+    // 회원이 SOS 메시지를 등록하지 않았을 때 사용하는 기본 문구
+    @Value("${sos.default-message:[안전 귀가 알림] 귀가 중 도움이 필요합니다. 연락 부탁드립니다.}")
+    private String defaultSosMessage;
+
+    // 실시간 위치 구독용 토큰 유효 시간
+    @Value("${safe-route.stream.token-ttl:PT3H}")
+    private Duration streamTokenTtl;
+
+    // 좌표 재생 조회 페이지 크기 상한
+    @Value("${safe-route.point.max-page-size:1000}")
+    private int maxPointPageSize;
+
+    // 오프라인 일괄 업로드 한 요청당 최대 배치 수 / 좌표 수
+    @Value("${safe-route.sync.max-batches:100}")
+    private int maxSyncBatches;
+
+    @Value("${safe-route.sync.max-points:20000}")
+    private int maxSyncPoints;
+
+    // 단말 시계 오차 허용 범위 (측정 시각이 서버 시각보다 이만큼 넘게 미래면 거부)
+    @Value("${safe-route.sync.clock-skew:PT5M}")
+    private Duration syncClockSkew;
 
-    public SafeRouteServiceImpl(SafeRouteRepository safeRouteRepository, MemberRepository memberRepository) {
+    public SafeRouteServiceImpl(SafeRouteRepository safeRouteRepository,
+                                SafeRouteRawPathRepository safeRouteRawPathRepository,
+                                SafeRoutePathBatchRepository safeRoutePathBatchRepository,
+                                RoutePointRepository routePointRepository,
+                                MemberRouteStatsRepository memberRouteStatsRepository,
+                                MemberRouteStatsCounterRepository memberRouteStatsCounterRepository,
+                                MemberRepository memberRepository,
+                                MessageLogService messageLogService,
+                                SosRecipientCache sosRecipientCache,
+                                RouteSimplifier routeSimplifier,
+                                ApplicationEventPublisher eventPublisher,
+                                RouteDeviationDetector routeDeviationDetector,
+                                RouteStationaryDetector routeStationaryDetector,
+                                MapTileCache mapTileCache,
+                                RouteLiveStream routeLiveStream,
+                                JwtUtil jwtUtil,
+                                DangerZoneIndex dangerZoneIndex) {
         this.safeRouteRepository = safeRouteRepository;
+        this.safeRouteRawPathRepository = safeRouteRawPathRepository;
+        this.safeRoutePathBatchRepository = safeRoutePathBatchRepository;
+        this.routePointRepository = routePointRepository;
+        this.memberRouteStatsRepository = memberRouteStatsRepository;
+        this.memberRouteStatsCounterRepository = memberRouteStatsCounterRepository;
         this.memberRepository = memberRepository;
+        this.messageLogService = messageLogService;
+        this.sosRecipientCache = sosRecipientCache;
+        this.routeSimplifier = routeSimplifier;
         this.geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+        this.eventPublisher = eventPublisher;
+        this.routeDeviationDetector = routeDeviationDetector;
+        this.routeStationaryDetector = routeStationaryDetector;
+        this.mapTileCache = mapTileCache;
+        this.routeLiveStream = routeLiveStream;
+        this.jwtUtil = jwtUtil;
+        this.dangerZoneIndex = dangerZoneIndex;
     }
 
     @Transactional
@@ -42,8 +184,8 @@ public class SafeRouteServiceImpl implements SafeRouteService {
         Member member = memberRepository.findByMemberNumberAndIsDeletedIsFalse(dto.getMemberNumber())
                 .orElseThrow(() -> new RuntimeException("[SafeRouteService] create() : 존재하지 않는 회원"));
 
-        // 라인스트링 생성
-        LineString lineString = generateLineString(dto.getRoutePath());
+        // 라인스트링 생성 -> 단순화해서 저장 (순번은 원본 좌표 기준)
+        LineString rawPath = generateLineString(dto.getRoutePath());
 
         SafeRoute safeRoute = safeRouteRepository.save(
                 SafeRoute.builder()
@@ -52,10 +194,20 @@ public class SafeRouteServiceImpl implements SafeRouteService {
                         .startTime(dto.getStartTime())
                         .endTime(dto.getEndTime())
                         .member(member)
-                        .routePath(lineString)
+                        .routePath(routeSimplifier.simplify(rawPath, simplifyToleranceMeters))
+                        .lastPointSeq(rawPath.getNumPoints() - 1L)
+                        .metrics(RouteMetrics.of(rawPath.getCoordinateSequence()))
+                        .isRisky(dangerZoneIndex.intersects(rawPath)) // 원본 경로 기준 위험 구역 통과 여부 (메모리 인덱스)
                         .build()
         );
 
+        saveRawPath(safeRoute.getId(), rawPath);
+        routePointRepository.insert(safeRoute.getId(), rawPath.getCoordinateSequence(), LocalDateTime.now());
+        applyStats(safeRoute, RouteStatsDelta.ZERO, RouteStatsDelta.of(safeRoute));
+        publishDeadlineChanged(safeRoute);
+        eventPublisher.publishEvent(new SafeRoutePathChangedEvent(safeRoute.getId(), safeRoute.getRoutePath()));
+        publishAreaChanged(safeRoute.getId(), envelopeOf(safeRoute.getRoutePath()));
+
         return ofDto(safeRoute);
     }
 
@@ -65,10 +217,257 @@ public class SafeRouteServiceImpl implements SafeRouteService {
         SafeRoute safeRoute = safeRouteRepository.findById(dto.getSafeRouteId())
                 .orElseThrow(() -> new RuntimeException("[SafeRouteService] update() : 존재하지 않는 안전 귀가 경로"));
 
-        // 라인스트링 생성
-        LineString lineString = generateLineString(dto.getRoutePath());
+        // 계획 경로만 단순화해서 교체 -> 이미 받은 좌표 (route_point, 측정 시각) / 지나온 경로 / 통계 기여분은 그대로
+        LineString plannedPath = generateLineString(dto.getRoutePath());
+        safeRoute.update(dto.getEndLocation(), dto.getEndTime(), routeSimplifier.simplify(plannedPath, simplifyToleranceMeters));
+        safeRoute.changeIsRisky(dangerZoneIndex.intersects(plannedPath));
+
+        publishDeadlineChanged(safeRoute);
+        eventPublisher.publishEvent(new SafeRoutePathChangedEvent(safeRoute.getId(), safeRoute.getPlannedPath()));
+    }
+
+    /**
+     * 이동 경로 좌표 추가
+     * - 새 좌표만 route_point 에 행으로 추가하고 마지막 순번만 갱신 -> 요청당 작업량이 경로 길이와 무관 (경로 geometry 는 RoutePathSummarizer 가 갱신)
+     * - 이미 받은 순번은 건너뛰고, 순번이 비어 있으면 (순서 뒤바뀐 요청) 반영하지 않음
+     * - 측정 시각은 서버 수신 시각으로 기록 (측정 시각이 필요한 오프라인 좌표는 sync 로 업로드)
+     */
+    @Transactional
+    @Override
+    public SafeRoutePointAppendResultDto appendPoints(Long safeRouteId, SafeRoutePointAppendDto dto) {
+        RoutePathCursor cursor = safeRouteRepository.findPathCursor(safeRouteId)
+                .orElseThrow(() -> new RuntimeException("[SafeRouteService] appendPoints() : 존재하지 않는 안전 귀가 경로"));
+
+        if (!cursor.state().isActive()) {
+            throw new RuntimeException("[SafeRouteService] appendPoints() : 진행 중인 안전 귀가 경로가 아님");
+        }
+
+        long lastSeq = cursor.lastPointSeq();
+        List<LatLngPoint> points = dto.getPoints();
+        long fromSeq = dto.getFromSeq();
+        long toSeq = fromSeq + points.size() - 1;
+
+        // 순번이 비어 있음 -> 반영하지 않고 서버의 마지막 순번 응답
+        if (fromSeq > lastSeq + 1) {
+            return appendResult(safeRouteId, lastSeq, 0, SafeRoutePointAppendResultDto.AppendResult.GAP);
+        }
+        // 이미 받은 좌표만 있음
+        if (toSeq <= lastSeq) {
+            return appendResult(safeRouteId, lastSeq, 0, SafeRoutePointAppendResultDto.AppendResult.DUPLICATE);
+        }
+
+        // 겹치는 앞부분은 건너뛰고 새 좌표만 추가
+        int skip = (int) (lastSeq + 1 - fromSeq);
+        List<LatLngPoint> newPoints = points.subList(skip, points.size());
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = safeRouteRepository.advanceLastPointSeq(safeRouteId, lastSeq, toSeq, now);
+        if (updated == 0) {
+            // 같은 좌표를 담은 요청이 먼저 반영됨 -> 재전송과 동일하게 처리
+            RoutePathCursor current = safeRouteRepository.findPathCursor(safeRouteId).orElse(cursor);
+            return appendResult(safeRouteId, current.lastPointSeq(), 0, SafeRoutePointAppendResultDto.AppendResult.DUPLICATE);
+        }
+        routePointRepository.insert(safeRouteId, timedPoints(newPoints, lastSeq + 1, now));
+
+        // 커밋 후 위치 감시 (경로 이탈 등)
+        eventPublisher.publishEvent(new SafeRoutePointsAppendedEvent(safeRouteId, lastSeq + 1, List.copyOf(newPoints),
+                Collections.nCopies(newPoints.size(), now)));
+
+        return appendResult(safeRouteId, toSeq, newPoints.size(), SafeRoutePointAppendResultDto.AppendResult.APPENDED);
+    }
+
+    /**
+     * 오프라인 좌표 / 상태 일괄 업로드
+     * - 배치별 검증 (좌표 범위, 측정 / 변경 시각) -> 잘못된 배치만 REJECTED, 나머지는 반영
+     * - 배치 안의 좌표는 순번 순으로 정렬 + 중복 제거, 상태 변경은 변경 시각 순으로 정렬
+     * - 경로별로 배치를 모아 서버 마지막 순번 다음부터 이어지는 좌표만 추가 -> 경로 수만큼의 순번 UPDATE / 좌표 INSERT 를 각각 JDBC batch 로 반영
+     * - 측정 시각 / 정확도는 route_point 에 그대로 기록
+     * - 상태 변경은 좌표 반영 후 경로별 가장 마지막 변경만 적용 (진행 중 경로의 앞 방향 변경이면서 서버의 마지막 상태 변경 이후일 때만)
+     * @return 요청 배치 순서대로 ack (경로의 최종 순번 / 상태 포함)
+     */
+    @Transactional
+    @Override
+    public SafeRouteSyncResultDto sync(SafeRouteSyncDto dto) {
+        List<SafeRouteSyncBatchDto> batches = dto.getBatches();
+        if (batches.size() > maxSyncBatches) {
+            throw new RuntimeException("[SafeRouteService] sync() : 한 번에 업로드할 수 있는 배치 수 초과 (최대 " + maxSyncBatches + ")");
+        }
+        int totalPoints = 0;
+        for (SafeRouteSyncBatchDto batch : batches) {
+            totalPoints += batch.getPoints() != null ? batch.getPoints().size() : 0;
+        }
+        if (totalPoints > maxSyncPoints) {
+            throw new RuntimeException("[SafeRouteService] sync() : 한 번에 업로드할 수 있는 좌표 수 초과 (최대 " + maxSyncPoints + ")");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        SafeRouteSyncAckDto[] acks = new SafeRouteSyncAckDto[batches.size()];
+
+        // 1. 배치 검증 / 정렬 -> 경로별로 모음 (요청 순서 유지)
+        Map<Long, List<Integer>> routeBatches = new LinkedHashMap<>();
+        for (int i = 0; i < batches.size(); i++) {
+            SafeRouteSyncBatchDto batch = batches.get(i);
+            if (batch.getPoints() == null) {
+                batch.setPoints(new ArrayList<>());
+            }
+            if (batch.getStates() == null) {
+                batch.setStates(new ArrayList<>());
+            }
+            String error = validateSyncBatch(batch, now.plus(syncClockSkew));
+            if (error != null) {
+                acks[i] = syncAck(batch, SafeRoutePointAppendResultDto.AppendResult.REJECTED, 0, error);
+                continue;
+            }
+            batch.setPoints(sortedDistinct(batch.getPoints()));
+            batch.getStates().sort(Comparator.comparing(RouteStateChangeDto::getChangedAt));
+            routeBatches.computeIfAbsent(batch.getSafeRouteId(), k -> new ArrayList<>()).add(i);
+        }
+
+        // 2. 경로별로 서버 순번에 이어지는 좌표만 모음
+        Map<Long, RoutePathCursor> cursors = new HashMap<>();
+        Map<Long, List<LatLngPoint>> newPoints = new HashMap<>();
+        List<RoutePathAppend> appends = new ArrayList<>();
+        for (Map.Entry<Long, List<Integer>> entry : routeBatches.entrySet()) {
+            Long safeRouteId = entry.getKey();
+            List<Integer> indexes = entry.getValue();
+            RoutePathCursor cursor = safeRouteRepository.findPathCursor(safeRouteId).orElse(null);
+            if (cursor == null) {
+                for (int i : indexes) {
+                    acks[i] = syncAck(batches.get(i), SafeRoutePointAppendResultDto.AppendResult.REJECTED, 0, "존재하지 않는 안전 귀가 경로");
+                }
+                continue;
+            }
+            cursors.put(safeRouteId, cursor);
 
-        safeRoute.update(dto.getEndLocation(), dto.getEndTime(),lineString);
+            // 배치 전송 순서가 뒤바뀌어도 순번 순으로 이어붙임
+            indexes.sort(Comparator.comparingLong(i -> batches.get(i).getPoints().isEmpty()
+                    ? Long.MAX_VALUE : batches.get(i).getPoints().get(0).getSeq()));
+
+            long lastSeq = cursor.lastPointSeq();
+            List<TimedLatLngPoint> routePoints = new ArrayList<>();
+            for (int i : indexes) {
+                SafeRouteSyncBatchDto batch = batches.get(i);
+                List<TimedLatLngPoint> points = batch.getPoints();
+                if (points.isEmpty()) {
+                    acks[i] = syncAck(batch, SafeRoutePointAppendResultDto.AppendResult.DUPLICATE, 0, null);
+                    continue;
+                }
+                if (!cursor.state().isActive()) {
+                    acks[i] = syncAck(batch, SafeRoutePointAppendResultDto.AppendResult.REJECTED, 0, "진행 중인 안전 귀가 경로가 아님");
+                    continue;
+                }
+                // 측정 시각 하한 (route_point 조회 시 파티션 범위 조건) 보다 이른 좌표는 조회되지 않으므로 거부
+                String error = validateRecordedFrom(points, cursor.recordedFrom().minus(syncClockSkew));
+                if (error != null) {
+                    acks[i] = syncAck(batch, SafeRoutePointAppendResultDto.AppendResult.REJECTED, 0, error);
+                    continue;
+                }
+                int appended = 0;
+                for (TimedLatLngPoint point : points) {
+                    if (point.getSeq() <= lastSeq) {
+                        continue; // 이미 받은 좌표
+                    }
+                    if (point.getSeq() != lastSeq + 1) {
+                        break; // 순번이 비어 있음 -> 이후 좌표는 다음 업로드에서
+                    }
+                    routePoints.add(point);
+                    lastSeq++;
+                    appended++;
+                }
+                SafeRoutePointAppendResultDto.AppendResult result = appended > 0
+                        ? SafeRoutePointAppendResultDto.AppendResult.APPENDED
+                        : points.get(points.size() - 1).getSeq() <= lastSeq
+                                ? SafeRoutePointAppendResultDto.AppendResult.DUPLICATE
+                                : SafeRoutePointAppendResultDto.AppendResult.GAP;
+                acks[i] = syncAck(batch, result, appended, null);
+            }
+
+            if (!routePoints.isEmpty()) {
+                appends.add(new RoutePathAppend(safeRouteId, cursor.lastPointSeq(), lastSeq, routePoints));
+                newPoints.put(safeRouteId, routePoints.stream()
+                        .map(point -> new LatLngPoint(point.getLat(), point.getLng()))
+                        .toList());
+            }
+        }
+
+        // 3. 경로별 순번 갱신 / 좌표 추가를 한 번에 반영
+        Map<Long, Long> lastSeqs = new HashMap<>();
+        cursors.forEach((safeRouteId, cursor) -> lastSeqs.put(safeRouteId, cursor.lastPointSeq()));
+        if (!appends.isEmpty()) {
+            int[] updated = safeRoutePathBatchRepository.advanceLastPointSeqs(appends, now);
+            List<RoutePathAppend> applied = new ArrayList<>(appends.size());
+            for (int k = 0; k < appends.size(); k++) {
+                RoutePathAppend append = appends.get(k);
+                if (updated[k] != 0) {
+                    applied.add(append);
+                    lastSeqs.put(append.safeRouteId(), append.newLastSeq());
+                    continue;
+                }
+                // 같은 좌표를 담은 요청이 먼저 반영됨 -> 재전송과 동일하게 처리
+                long current = safeRouteRepository.findPathCursor(append.safeRouteId())
+                        .map(RoutePathCursor::lastPointSeq)
+                        .orElse(append.expectedLastSeq());
+                lastSeqs.put(append.safeRouteId(), current);
+                newPoints.remove(append.safeRouteId());
+                for (int i : routeBatches.get(append.safeRouteId())) {
+                    if (acks[i].getResult() == SafeRoutePointAppendResultDto.AppendResult.APPENDED) {
+                        acks[i].setAppended(0);
+                        acks[i].setResult(current >= append.newLastSeq()
+                                ? SafeRoutePointAppendResultDto.AppendResult.DUPLICATE
+                                : SafeRoutePointAppendResultDto.AppendResult.GAP);
+                    }
+                }
+            }
+
+            routePointRepository.insert(applied);
+            // 커밋 후 위치 감시 (경로 이탈 등)
+            for (RoutePathAppend append : applied) {
+                eventPublisher.publishEvent(new SafeRoutePointsAppendedEvent(append.safeRouteId(), append.expectedLastSeq() + 1,
+                        newPoints.get(append.safeRouteId()),
+                        append.points().stream().map(TimedLatLngPoint::getRecordedAt).toList()));
+            }
+        }
+
+        // 4. 경로별 마지막 상태 변경 적용 -> ack 에 경로의 최종 순번 / 상태 기록
+        for (Map.Entry<Long, RoutePathCursor> entry : cursors.entrySet()) {
+            Long safeRouteId = entry.getKey();
+            RouteState state = entry.getValue().state();
+            RouteStateChangeDto latest = null;
+            for (int i : routeBatches.get(safeRouteId)) {
+                if (acks[i].getResult() == SafeRoutePointAppendResultDto.AppendResult.REJECTED) {
+                    continue;
+                }
+                for (RouteStateChangeDto change : batches.get(i).getStates()) {
+                    if (latest == null || !change.getChangedAt().isBefore(latest.getChangedAt())) {
+                        latest = change;
+                    }
+                }
+            }
+            // 종료된 경로 / 뒤로 가는 변경 / 서버의 마지막 상태 변경보다 오래된 변경은 무시 (오프라인 중 쌓인 예전 상태가 늦게 도착)
+            SafeRoute safeRoute = latest != null && state.canChangeTo(latest.getState())
+                    ? safeRouteRepository.findById(safeRouteId)
+                            .orElseThrow(() -> new RuntimeException("[SafeRouteService] sync() : 존재하지 않는 안전 귀가 경로"))
+                    : null;
+            if (safeRoute != null && safeRoute.canApplyStateChange(latest.getState(), latest.getChangedAt())) {
+                RouteStatsDelta before = RouteStatsDelta.of(safeRoute);
+                // 변경 시각은 단말 기준 (오프라인 중 도착 -> 실제 도착 시각으로 소요 시간 계산)
+                safeRoute.changeIsSuccess(latest.getState(), latest.getChangedAt());
+                applyStats(safeRoute, before, RouteStatsDelta.of(safeRoute));
+                publishDeadlineChanged(safeRoute);
+                publishAreaChanged(safeRouteId, envelopeOf(safeRoute.getRoutePath()));
+            }
+            if (safeRoute != null) {
+                state = safeRoute.getIsSuccess();
+            }
+            for (int i : routeBatches.get(safeRouteId)) {
+                acks[i].setLastSeq(lastSeqs.get(safeRouteId));
+                acks[i].setState(state);
+            }
+        }
+
+        return SafeRouteSyncResultDto.builder()
+                .acks(List.of(acks))
+                .build();
     }
 
     @Transactional
@@ -77,7 +476,48 @@ public class SafeRouteServiceImpl implements SafeRouteService {
         SafeRoute safeRoute = safeRouteRepository.findById(safeRouteId)
                 .orElseThrow(() -> new RuntimeException("[SafeRouteService] changeStatus() : 존재하지 않는 안전 귀가 경로"));
 
-        safeRoute.changeIsSuccess(state);
+        RouteStatsDelta before = RouteStatsDelta.of(safeRoute);
+        safeRoute.changeIsSuccess(state, LocalDateTime.now());
+        applyStats(safeRoute, before, RouteStatsDelta.of(safeRoute));
+        publishDeadlineChanged(safeRoute);
+        publishAreaChanged(safeRouteId, envelopeOf(safeRoute.getRoutePath()));
+    }
+
+    /**
+     * SOS 발송
+     * - 비상연락망 번호 / SOS 메시지는 SosRecipientCache 에서 조회 (캐시 미스 시 각각 쿼리 1번)
+     * - 메시지 로그 등록 + 상태 FAILED 변경 + SMS outbox 저장을 한 트랜잭션으로 처리
+     * @return 등록된 메시지 로그 ID (발송 상태 조회용)
+     */
+    @Transactional
+    @Override
+    public Long sos(Long safeRouteId, SafeRouteSosDto dto) {
+        SafeRoute safeRoute = safeRouteRepository.findById(safeRouteId)
+                .orElseThrow(() -> new RuntimeException("[SafeRouteService] sos() : 존재하지 않는 안전 귀가 경로"));
+
+        SosRecipients recipients = sosRecipientCache.get(safeRoute.getMember().getMemberNumber());
+        if (recipients.phones().isEmpty()) {
+            throw new RuntimeException("[SafeRouteService] sos() : 비상연락망 등록한 사람이 없음");
+        }
+
+        Point location = null;
+        if (dto != null && dto.getLocation() != null) {
+            location = geometryFactory.createPoint(new Coordinate(dto.getLocation().getLng(), dto.getLocation().getLat()));
+        }
+
+        // 같은 트랜잭션 -> safeRoute 는 영속성 컨텍스트에서 다시 조회 (추가 쿼리 X)
+        Long messageLogId = messageLogService.save(
+                MessageLogCreateDto.builder()
+                        .safeRouteId(safeRouteId)
+                        .message(recipients.message() != null ? recipients.message() : defaultSosMessage)
+                        .location(location)
+                        .phoneList(recipients.phones())
+                        .build()
+        );
+        // 메시지 로그 등록 시 FAILED 로 변경됨 -> 도착 예정 시각 감시 취소
+        publishDeadlineChanged(safeRoute);
+        publishAreaChanged(safeRouteId, envelopeOf(safeRoute.getRoutePath()));
+        return messageLogId;
     }
 
     @Transactional
@@ -86,41 +526,338 @@ public class SafeRouteServiceImpl implements SafeRouteService {
         // 존재하는 검증
         SafeRoute safeRoute = safeRouteRepository.findById(safeRouteId)
                 .orElseThrow(() -> new RuntimeException("[SafeRouteService] delete() : 존재하지 않는 안전 귀가 경로"));
-        // 실제 삭제
+        // 실제 삭제 (원본 경로 / 좌표 포함) -> 회원 통계에서도 뺌
+        applyStats(safeRoute, RouteStatsDelta.of(safeRoute), RouteStatsDelta.ZERO);
+        routePointRepository.deleteBySafeRouteId(safeRouteId);
+        safeRouteRawPathRepository.deleteById(safeRouteId);
         safeRouteRepository.deleteById(safeRouteId);
+        eventPublisher.publishEvent(new SafeRouteDeadlineChangedEvent(safeRouteId, null, null));
+        publishAreaChanged(safeRouteId, envelopeOf(safeRoute.getRoutePath()));
     }
 
     @Override
-    public SafeRouteResponseDto getSafeRoute(Long safeRouteId) {
+    public SafeRouteResponseDto getSafeRoute(Long safeRouteId, RouteDetail detail) {
         SafeRoute safeRoute = safeRouteRepository.findById(safeRouteId)
                 .orElseThrow(() -> new RuntimeException("[SafeRouteService] getSafeRoute() : 존재하지 않는 안전 귀가 경로"));
 
-        return ofDto(safeRoute);
+        SafeRouteResponseDto responseDto = ofDto(safeRoute);
+        if (detail == RouteDetail.RAW) {
+            safeRouteRawPathRepository.findById(safeRouteId)
+                    .ifPresent(raw -> responseDto.setRoutePath(raw.getRawPath()));
+        } else if (detail == RouteDetail.PREVIEW) {
+            responseDto.setRoutePath(routeSimplifier.simplify(safeRoute.getRoutePath(), previewToleranceMeters));
+        }
+        return responseDto;
     }
 
     @Override
-    public List<SafeRouteResponseDto> getMemberSafeRoutes(Long memberNumber) {
+    public List<SafeRouteResponseDto> getMemberSafeRoutes(Long memberNumber, RouteDetail detail) {
 
-        return safeRouteRepository.findRoutesByMemberNumber(memberNumber)
+        List<SafeRouteResponseDto> responseDtos = safeRouteRepository.findRoutesByMemberNumber(memberNumber)
                 .stream()
                 .map(SafeRouteServiceImpl::ofDto)
                 .toList();
+
+        if (detail == RouteDetail.RAW) {
+            // 원본 경로는 한 번에 조회해서 교체 (원본이 없는 경로는 저장된 경로 그대로)
+            Map<Long, LineString> rawPaths = new HashMap<>();
+            safeRouteRawPathRepository.findAllById(responseDtos.stream().map(SafeRouteResponseDto::getSafeRouteId).toList())
+                    .forEach(raw -> rawPaths.put(raw.getSafeRouteId(), raw.getRawPath()));
+            for (SafeRouteResponseDto responseDto : responseDtos) {
+                LineString rawPath = rawPaths.get(responseDto.getSafeRouteId());
+                if (rawPath != null) {
+                    responseDto.setRoutePath(rawPath);
+                }
+            }
+        } else if (detail == RouteDetail.PREVIEW) {
+            for (SafeRouteResponseDto responseDto : responseDtos) {
+                responseDto.setRoutePath(routeSimplifier.simplify(responseDto.getRoutePath(), previewToleranceMeters));
+            }
+        }
+        return responseDtos;
     }
 
-    // 위도 경도 -> 라인스트링화
+    /**
+     * 회원 경로 요약 목록 -> geometry 없이 미리 계산된 거리 / 좌표 수만 조회
+     * - 출발 시각 최신순 keyset 페이징 (한 개 더 읽어서 다음 페이지 여부 확인), 페이지 크기는 MAX_SUMMARY_PAGE_SIZE 까지
+     */
     @Override
-    public LineString generateLineString(List<LatLngPoint> points) {
+    public SafeRouteSummaryPageDto getMemberSafeRouteSummaries(Long memberNumber, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SUMMARY_PAGE_SIZE));
+        List<SafeRouteSummaryDto> routes = safeRouteRepository.findSummariesByMemberNumber(
+                memberNumber, RouteListCursor.decode(cursor), limit + 1);
 
-        // 좌표 배열 갯수만큼
-        Coordinate[] coordinates = new Coordinate[points.size()];
-        // Coordinate 배열 구성
+        boolean hasNext = routes.size() > limit;
+        if (hasNext) {
+            routes = routes.subList(0, limit);
+        }
+        return SafeRouteSummaryPageDto.builder()
+                .routes(routes)
+                .nextCursor(hasNext ? RouteListCursor.of(routes.get(routes.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 회원 경로 통계 -> member_route_stats PK 조회 한 번 (아직 경로가 없으면 0)
+    @Override
+    public MemberRouteStatsDto getMemberRouteStats(Long memberNumber) {
+        return memberRouteStatsRepository.findById(memberNumber)
+                .map(MemberRouteStatsDto::of)
+                .orElseGet(() -> MemberRouteStatsDto.empty(memberNumber));
+    }
+
+    /**
+     * 반경 검색 -> GiST 인덱스로 후보를 추린 뒤 geography 거리로 확인 (SafeRouteRepository.findRoutesNear)
+     * - 정렬은 최신 경로 순으로 고정, 페이지 크기는 GeoBounds.MAX_SEARCH_PAGE_SIZE 까지
+     */
+    @Override
+    public Page<SafeRouteResponseDto> searchRoutesNear(double lat, double lng, double radiusMeters, Pageable pageable) {
+        GeoBounds.validatePoint(lat, lng);
+        GeoBounds.validateRadius(radiusMeters);
+
+        return safeRouteRepository.findRoutesNear(lat, lng, radiusMeters,
+                        GeoBounds.degreesForMeters(lat, radiusMeters), GeoBounds.searchPage(pageable))
+                .map(SafeRouteServiceImpl::ofDto);
+    }
+
+    @Override
+    public Page<SafeRouteResponseDto> searchRoutesInBox(double minLat, double minLng, double maxLat, double maxLng, Pageable pageable) {
+        GeoBounds.validateBox(minLat, minLng, maxLat, maxLng);
+
+        return safeRouteRepository.findRoutesIntersecting(minLat, minLng, maxLat, maxLng, GeoBounds.searchPage(pageable))
+                .map(SafeRouteServiceImpl::ofDto);
+    }
+
+    @Override
+    public RouteDeviationStateDto getDeviationState(Long safeRouteId) {
+        if (!safeRouteRepository.existsById(safeRouteId)) {
+            throw new RuntimeException("[SafeRouteService] getDeviationState() : 존재하지 않는 안전 귀가 경로");
+        }
+        return routeDeviationDetector.getState(safeRouteId);
+    }
+
+    @Override
+    public RouteStationaryStateDto getStationaryState(Long safeRouteId) {
+        if (!safeRouteRepository.existsById(safeRouteId)) {
+            throw new RuntimeException("[SafeRouteService] getStationaryState() : 존재하지 않는 안전 귀가 경로");
+        }
+        return routeStationaryDetector.getState(safeRouteId);
+    }
+
+    @Override
+    public List<RouteStationaryStateDto> getStalledRoutes() {
+        return routeStationaryDetector.getStalledStates();
+    }
+
+    @Override
+    public SafeRouteStreamTokenDto issueStreamToken(Long safeRouteId, Long memberNumber) {
+        SafeRoute safeRoute = safeRouteRepository.findById(safeRouteId)
+                .orElseThrow(() -> new RuntimeException("[SafeRouteService] issueStreamToken() : 존재하지 않는 안전 귀가 경로"));
+        // 회원 번호는 프록시 ID 로 비교 (회원 조회 쿼리 X)
+        if (!safeRoute.getMember().getMemberNumber().equals(memberNumber)) {
+            throw new RuntimeException("[SafeRouteService] issueStreamToken() : 본인의 안전 귀가 경로가 아님");
+        }
+        if (!safeRoute.getIsSuccess().isActive()) {
+            throw new RuntimeException("[SafeRouteService] issueStreamToken() : 진행 중인 안전 귀가 경로가 아님");
+        }
+
+        return SafeRouteStreamTokenDto.builder()
+                .safeRouteId(safeRouteId)
+                .streamToken(jwtUtil.generateStreamToken(safeRouteId, streamTokenTtl.toMillis()))
+                .expiresAt(LocalDateTime.now().plus(streamTokenTtl))
+                .build();
+    }
+
+    /**
+     * 실시간 위치 / 상태 구독
+     * - 토큰의 경로 ID 와 요청 경로 ID 가 같아야 함 (다른 경로 토큰 재사용 방지)
+     * - 진행 중인 경로만 구독 가능, 이후 전송은 RouteLiveStream 의 구독자 가상 스레드에서 수행
+     */
+    @Override
+    public SseEmitter subscribeStream(Long safeRouteId, String streamToken) {
+        Long tokenRouteId;
+        try {
+            tokenRouteId = jwtUtil.parseStreamToken(streamToken);
+        } catch (ExpiredJwtException e) {
+            throw new RuntimeException("[SafeRouteService] subscribeStream() : 구독 토큰이 만료되었습니다");
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new RuntimeException("[SafeRouteService] subscribeStream() : 잘못된 구독 토큰");
+        }
+        if (!safeRouteId.equals(tokenRouteId)) {
+            throw new RuntimeException("[SafeRouteService] subscribeStream() : 잘못된 구독 토큰");
+        }
+
+        RoutePathCursor cursor = safeRouteRepository.findPathCursor(safeRouteId)
+                .orElseThrow(() -> new RuntimeException("[SafeRouteService] subscribeStream() : 존재하지 않는 안전 귀가 경로"));
+        if (!cursor.state().isActive()) {
+            throw new RuntimeException("[SafeRouteService] subscribeStream() : 진행 중인 안전 귀가 경로가 아님");
+        }
+        return routeLiveStream.subscribe(safeRouteId, cursor.state());
+    }
+
+    /**
+     * 경로 좌표 재생 (순번 keyset 페이징)
+     * - afterSeq 다음 순번부터 size 개 (size 는 max-page-size 까지)
+     */
+    @Override
+    public RoutePointPageDto getPoints(Long safeRouteId, long afterSeq, int size) {
+        if (!safeRouteRepository.existsById(safeRouteId)) {
+            throw new RuntimeException("[SafeRouteService] getPoints() : 존재하지 않는 안전 귀가 경로");
+        }
+        int limit = Math.max(1, Math.min(size, maxPointPageSize));
+        // 한 개 더 읽어서 다음 페이지 여부 확인
+        List<TimedLatLngPoint> points = routePointRepository.findAfter(safeRouteId, afterSeq, limit + 1);
+        boolean hasNext = points.size() > limit;
+        if (hasNext) {
+            points = points.subList(0, limit);
+        }
+        return RoutePointPageDto.builder()
+                .safeRouteId(safeRouteId)
+                .points(points)
+                .nextSeq(points.isEmpty() ? null : points.get(points.size() - 1).getSeq())
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 경로 좌표 전체 재생 (스트리밍)
+     * - max-page-size 단위로 순번 keyset 조회 후 페이지마다 consumer 호출 -> 경로 전체를 메모리에 올리지 않음
+     * - 페이지마다 별도 조회 (한 트랜잭션 / 커넥션을 응답 전송 동안 잡고 있지 않음)
+     */
+    @Override
+    public void replayPoints(Long safeRouteId, long afterSeq, Consumer<List<TimedLatLngPoint>> pageConsumer) {
+        long cursor = afterSeq;
+        while (true) {
+            List<TimedLatLngPoint> points = routePointRepository.findAfter(safeRouteId, cursor, maxPointPageSize);
+            if (points.isEmpty()) {
+                return;
+            }
+            pageConsumer.accept(points);
+            if (points.size() < maxPointPageSize) {
+                return;
+            }
+            cursor = points.get(points.size() - 1).getSeq();
+        }
+    }
+
+    @Override
+    public byte[] getMapTile(int z, int x, int y) {
+        return mapTileCache.get(z, x, y);
+    }
+
+    // 요청에서 받은 좌표 배열 그대로 라인스트링화 (좌표 복사 X)
+    @Override
+    public LineString generateLineString(CoordinateSequence coordinates) {
+        return geometryFactory.createLineString(coordinates);
+    }
+
+    // 원본 경로 보관 설정 시 SafeRouteRawPath 저장 / 교체
+    private void saveRawPath(Long safeRouteId, LineString rawPath) {
+        if (!keepRawPath) {
+            return;
+        }
+        safeRouteRawPathRepository.findById(safeRouteId)
+                .ifPresentOrElse(
+                        raw -> raw.update(rawPath),
+                        () -> safeRouteRawPathRepository.save(new SafeRouteRawPath(safeRouteId, rawPath))
+                );
+    }
+
+    // 좌표 목록 -> 순번 / 측정 시각을 붙인 좌표 행
+    private static List<TimedLatLngPoint> timedPoints(List<LatLngPoint> points, long fromSeq, LocalDateTime recordedAt) {
+        List<TimedLatLngPoint> timedPoints = new ArrayList<>(points.size());
         for (int i = 0; i < points.size(); i++) {
             LatLngPoint point = points.get(i);
-            coordinates[i] = new Coordinate(point.getLng(), point.getLat());
+            timedPoints.add(TimedLatLngPoint.builder()
+                    .seq(fromSeq + i)
+                    .lat(point.getLat())
+                    .lng(point.getLng())
+                    .recordedAt(recordedAt)
+                    .build());
         }
+        return timedPoints;
+    }
 
-        // 라인스트링 생성
-        return geometryFactory.createLineString(coordinates);
+    private static SafeRoutePointAppendResultDto appendResult(Long safeRouteId, long lastSeq, int appended,
+                                                              SafeRoutePointAppendResultDto.AppendResult result) {
+        return SafeRoutePointAppendResultDto.builder()
+                .safeRouteId(safeRouteId)
+                .lastSeq(lastSeq)
+                .appended(appended)
+                .result(result)
+                .build();
+    }
+
+    // 배치 검증 -> 잘못된 경우 사유, 정상이면 null
+    private static String validateSyncBatch(SafeRouteSyncBatchDto batch, LocalDateTime latestAllowed) {
+        for (TimedLatLngPoint point : batch.getPoints()) {
+            if (point.getLat() < -90 || point.getLat() > 90 || point.getLng() < -180 || point.getLng() > 180) {
+                return "위도 / 경도 범위를 벗어난 좌표 (seq=" + point.getSeq() + ")";
+            }
+            if (point.getRecordedAt().isAfter(latestAllowed)) {
+                return "측정 시각이 서버 시각보다 미래인 좌표 (seq=" + point.getSeq() + ")";
+            }
+            if (point.getAccuracy() != null && (point.getAccuracy() < 0 || point.getAccuracy().isNaN())) {
+                return "정확도는 0 이상이어야 합니다 (seq=" + point.getSeq() + ")";
+            }
+        }
+        for (RouteStateChangeDto change : batch.getStates()) {
+            if (change.getChangedAt().isAfter(latestAllowed)) {
+                return "변경 시각이 서버 시각보다 미래인 상태 변경";
+            }
+        }
+        return null;
+    }
+
+    private static String validateRecordedFrom(List<TimedLatLngPoint> points, LocalDateTime earliestAllowed) {
+        for (TimedLatLngPoint point : points) {
+            if (point.getRecordedAt().isBefore(earliestAllowed)) {
+                return "측정 시각이 경로 등록 전인 좌표 (seq=" + point.getSeq() + ")";
+            }
+        }
+        return null;
+    }
+
+    // 순번 순 정렬 + 같은 순번은 먼저 온 좌표만 사용
+    private static List<TimedLatLngPoint> sortedDistinct(List<TimedLatLngPoint> points) {
+        List<TimedLatLngPoint> sorted = new ArrayList<>(points);
+        sorted.sort(Comparator.comparingLong(TimedLatLngPoint::getSeq)); // stable sort
+        List<TimedLatLngPoint> distinct = new ArrayList<>(sorted.size());
+        for (TimedLatLngPoint point : sorted) {
+            if (distinct.isEmpty() || distinct.get(distinct.size() - 1).getSeq() < point.getSeq()) {
+                distinct.add(point);
+            }
+        }
+        return distinct;
+    }
+
+    private static SafeRouteSyncAckDto syncAck(SafeRouteSyncBatchDto batch,
+                                               SafeRoutePointAppendResultDto.AppendResult result,
+                                               int appended, String message) {
+        return SafeRouteSyncAckDto.builder()
+                .batchId(batch.getBatchId())
+                .safeRouteId(batch.getSafeRouteId())
+                .result(result)
+                .appended(appended)
+                .message(message)
+                .build();
+    }
+
+    // 커밋 후 OverdueRouteWheel 에 상태 / 도착 예정 시각 반영
+    private void publishDeadlineChanged(SafeRoute safeRoute) {
+        eventPublisher.publishEvent(
+                new SafeRouteDeadlineChangedEvent(safeRoute.getId(), safeRoute.getIsSuccess(), safeRoute.getEndTime()));
+    }
+
+    // 커밋 후 MapTileCache 에서 영역과 겹치는 타일 제거
+    private void publishAreaChanged(Long safeRouteId, Envelope area) {
+        if (!area.isNull()) {
+            eventPublisher.publishEvent(new SafeRouteAreaChangedEvent(safeRouteId, area));
+        }
+    }
+
+    private static Envelope envelopeOf(LineString routePath) {
+        return routePath != null ? new Envelope(routePath.getEnvelopeInternal()) : new Envelope();
     }
 
     private static SafeRouteResponseDto ofDto(SafeRoute safeRoute) {
@@ -132,7 +869,18 @@ public class SafeRouteServiceImpl implements SafeRouteService {
                 .startTime(safeRoute.getStartTime())
                 .endTime(safeRoute.getEndTime())
                 .isSuccess(safeRoute.getIsSuccess())
+                .distanceMeters(safeRoute.getDistanceMeters())
+                .pointCount(safeRoute.getPointCount())
+                .isRisky(safeRoute.getIsRisky())
+                .bounds(RouteBoundsDto.of(safeRoute.getMinLat(), safeRoute.getMinLng(), safeRoute.getMaxLat(), safeRoute.getMaxLng()))
                 .routePath(safeRoute.getRoutePath())
                 .build();
     }
+
+    // 회원 경로 통계에 경로 변경분 반영 (같은 트랜잭션에서 카운터 UPDATE)
+    private void applyStats(SafeRoute safeRoute, RouteStatsDelta before, RouteStatsDelta after) {
+        if (safeRoute.getMember() != null) {
+            memberRouteStatsCounterRepository.apply(safeRoute.getMember().getMemberNumber(), before, after, LocalDateTime.now());
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위경도 (EPSG:4326) 검색 범위 계산 / 검증
+ * - geometry 컬럼의 GiST 인덱스는 도(degree) 단위이므로, 미터 반경 검색은
+ *   도 단위로 넉넉하게 넓힌 bbox 로 인덱스를 먼저 타고 geography 로 정확한 거리를 다시 거름
+ * - 관리자 공간 검색 (경로 / 메시지 로그) 의 페이지 크기 제한
+ * - 외곽선 좌표 -> 구역 다각형 (위험 구역 / 안심 구역)
+ */
+public final class GeoBounds {
+
+    // 위도 1도 당 거리 (m)
+    public static final double METERS_PER_DEGREE = 111_320.0;
+    // 반경 검색 최대값 (m) -> 너무 넓은 범위로 인덱스 의미가 없어지는 검색 방지
+    public static final double MAX_RADIUS_METERS = 50_000.0;
+    // 공간 검색 페이지 크기 최대값
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+    // 고위도에서 경도 1도 거리가 0 에 가까워지는 것 방지
+    private static final double MIN_COS_LAT = 0.01;
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private GeoBounds() {
+    }
+
+    /**
+     * 해당 위도에서 meters 를 덮는 도 단위 거리 (경도 방향 기준 -> 위도 방향보다 항상 크거나 같음)
+     */
+    public static double degreesForMeters(double lat, double meters) {
+        double cosLat = Math.max(Math.cos(Math.toRadians(lat)), MIN_COS_LAT);
+        return meters / (METERS_PER_DEGREE * cosLat);
+    }
+
+    /**
+     * 두 좌표 사이 거리 (m, equirectangular 근사)
+     * - 수 km 이내 거리에서는 haversine 과 차이가 무시할 수준이고 삼각함수 한 번으로 계산
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dx = (lng2 - lng1) * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+        double dy = lat2 - lat1;
+        return Math.sqrt(dx * dx + dy * dy) * METERS_PER_DEGREE;
+    }
+
+    // 위도 -90 ~ 90, 경도 -180 ~ 180 (NaN 은 범위 밖)
+    public static boolean isValidPoint(double lat, double lng) {
+        return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+
+    public static void validatePoint(double lat, double lng) {
+        if (!isValidPoint(lat, lng)) {
+            throw new RuntimeException("[GeoBounds] validatePoint() : 위도 / 경도 범위를 벗어남");
+        }
+    }
+
+    // 외곽선 좌표 -> 닫힌 Polygon (첫 좌표로 닫혀 있지 않으면 닫음), 자기 교차 등 잘못된 영역은 거부
+    public static Polygon polygonOf(List<LatLngPoint> points) {
+        List<Coordinate> ring = new ArrayList<>(points.size() + 1);
+        for (LatLngPoint point : points) {
+            validatePoint(point.getLat(), point.getLng());
+            ring.add(new Coordinate(point.getLng(), point.getLat()));
+        }
+        if (!ring.isEmpty() && !ring.get(0).equals2D(ring.get(ring.size() - 1))) {
+            ring.add(new Coordinate(ring.get(0)));
+        }
+        if (ring.size() < 4) {
+            throw new RuntimeException("[GeoBounds] polygonOf() : 영역은 서로 다른 좌표 3개 이상이어야 함");
+        }
+
+        Polygon polygon = GEOMETRY_FACTORY.createPolygon(ring.toArray(Coordinate[]::new));
+        if (!polygon.isValid()) {
+            throw new RuntimeException("[GeoBounds] polygonOf() : 외곽선이 자기 자신과 교차하는 영역");
+        }
+        return polygon;
+    }
+
+    public static void validateRadius(double radiusMeters) {
+        if (!(radiusMeters > 0) || radiusMeters > MAX_RADIUS_METERS) {
+            throw new RuntimeException("[GeoBounds] validateRadius() : 반경은 0 초과 " + (long) MAX_RADIUS_METERS + "m 이하여야 함");
+        }
+    }
+
+    public static void validateBox(double minLat, double minLng, double maxLat, double maxLng) {
+        validatePoint(minLat, minLng);
+        validatePoint(maxLat, maxLng);
+        if (minLat > maxLat || minLng > maxLng) {
+            throw new RuntimeException("[GeoBounds] validateBox() : 최소 좌표가 최대 좌표보다 큼");
+        }
+    }
+
+    /**
+     * 공간 검색 페이지 (크기는 MAX_SEARCH_PAGE_SIZE 까지)
+     * - native 쿼리에서 정렬을 고정하므로 요청 정렬 조건은 무시
+     */
+    public static Pageable searchPage(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_SEARCH_PAGE_SIZE));
+    }
+}
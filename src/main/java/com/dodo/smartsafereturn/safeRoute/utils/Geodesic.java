@@ -0,0 +1,119 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+
+/**
+ * WGS84 타원체 위 측지선 거리 (Vincenty inverse)
+ * - PostGIS ST_Length(geography) 와 mm 수준으로 일치 -> 저장해 둔 거리와 DB 재계산 결과가 어긋나지 않음
+ * - 경로 길이는 좌표마다 축소 위도 (U) 의 sin / cos 를 한 번만 계산해서 다음 구간에 재사용 (객체 생성 없음)
+ * - 대척점 근처에서 수렴하지 않으면 구면 (haversine) 거리로 대신함
+ */
+public final class Geodesic {
+
+    private static final double A = 6_378_137.0;
+    private static final double F = 1 / 298.257223563;
+    private static final double B = A * (1 - F);
+    private static final double MEAN_RADIUS = 6_371_008.8;
+    private static final int MAX_ITERATIONS = 20;
+    private static final double EPSILON = 1e-12;
+
+    private Geodesic() {
+    }
+
+    /**
+     * 두 좌표 사이 측지선 거리 (m)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double tanU1 = (1 - F) * Math.tan(Math.toRadians(lat1));
+        double cosU1 = 1 / Math.sqrt(1 + tanU1 * tanU1);
+        double tanU2 = (1 - F) * Math.tan(Math.toRadians(lat2));
+        double cosU2 = 1 / Math.sqrt(1 + tanU2 * tanU2);
+        return inverse(tanU1 * cosU1, cosU1, lat1, lng1, tanU2 * cosU2, cosU2, lat2, lng2);
+    }
+
+    /**
+     * 좌표 열 (x : 경도, y : 위도) 의 총 측지선 길이 (m)
+     */
+    public static double lengthMeters(CoordinateSequence coordinates) {
+        int size = coordinates.size();
+        if (size < 2) {
+            return 0;
+        }
+        double prevLat = coordinates.getY(0);
+        double prevLng = coordinates.getX(0);
+        double prevTanU = (1 - F) * Math.tan(Math.toRadians(prevLat));
+        double prevCosU = 1 / Math.sqrt(1 + prevTanU * prevTanU);
+        double prevSinU = prevTanU * prevCosU;
+
+        double length = 0;
+        for (int i = 1; i < size; i++) {
+            double lat = coordinates.getY(i);
+            double lng = coordinates.getX(i);
+            double tanU = (1 - F) * Math.tan(Math.toRadians(lat));
+            double cosU = 1 / Math.sqrt(1 + tanU * tanU);
+            double sinU = tanU * cosU;
+            length += inverse(prevSinU, prevCosU, prevLat, prevLng, sinU, cosU, lat, lng);
+            prevLat = lat;
+            prevLng = lng;
+            prevSinU = sinU;
+            prevCosU = cosU;
+        }
+        return length;
+    }
+
+    private static double inverse(double sinU1, double cosU1, double lat1, double lng1,
+                                  double sinU2, double cosU2, double lat2, double lng2) {
+        if (lat1 == lat2 && lng1 == lng2) {
+            return 0;
+        }
+        double l = Math.toRadians(lng2 - lng1);
+        double lambda = l;
+        double sinSigma;
+        double cosSigma;
+        double sigma;
+        double cosSqAlpha;
+        double cos2SigmaM;
+
+        int iteration = 0;
+        while (true) {
+            double sinLambda = Math.sin(lambda);
+            double cosLambda = Math.cos(lambda);
+            double t1 = cosU2 * sinLambda;
+            double t2 = cosU1 * sinU2 - sinU1 * cosU2 * cosLambda;
+            sinSigma = Math.sqrt(t1 * t1 + t2 * t2);
+            if (sinSigma == 0) {
+                return 0; // 같은 위치
+            }
+            cosSigma = sinU1 * sinU2 + cosU1 * cosU2 * cosLambda;
+            sigma = Math.atan2(sinSigma, cosSigma);
+            double sinAlpha = cosU1 * cosU2 * sinLambda / sinSigma;
+            cosSqAlpha = 1 - sinAlpha * sinAlpha;
+            cos2SigmaM = cosSqAlpha != 0 ? cosSigma - 2 * sinU1 * sinU2 / cosSqAlpha : 0; // 적도 위 구간
+            double c = F / 16 * cosSqAlpha * (4 + F * (4 - 3 * cosSqAlpha));
+            double prevLambda = lambda;
+            lambda = l + (1 - c) * F * sinAlpha
+                    * (sigma + c * sinSigma * (cos2SigmaM + c * cosSigma * (-1 + 2 * cos2SigmaM * cos2SigmaM)));
+            if (Math.abs(lambda - prevLambda) <= EPSILON) {
+                break;
+            }
+            if (++iteration >= MAX_ITERATIONS) {
+                return haversine(lat1, lng1, lat2, lng2); // 대척점 근처 -> 수렴하지 않음
+            }
+        }
+
+        double uSq = cosSqAlpha * (A * A - B * B) / (B * B);
+        double a = 1 + uSq / 16384 * (4096 + uSq * (-768 + uSq * (320 - 175 * uSq)));
+        double b = uSq / 1024 * (256 + uSq * (-128 + uSq * (74 - 47 * uSq)));
+        double deltaSigma = b * sinSigma * (cos2SigmaM + b / 4 * (cosSigma * (-1 + 2 * cos2SigmaM * cos2SigmaM)
+                - b / 6 * cos2SigmaM * (-3 + 4 * sinSigma * sinSigma) * (-3 + 4 * cos2SigmaM * cos2SigmaM)));
+        return B * a * (sigma - deltaSigma);
+    }
+
+    private static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * MEAN_RADIUS * Math.asin(Math.min(1, Math.sqrt(h)));
+    }
+}
@@ -0,0 +1,50 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로 좌표 목록 역직렬화
+ * - 기존 형식 : [{"lat": 37.39, "lng": 127.10}, ...]
+ * - 압축 형식 : "_p~iF~ps|U_ulLnnqC" (Google encoded polyline 문자열)
+ * 두 형식 모두 받기 때문에 기존 클라이언트는 그대로 동작
+ * - 위도 / 경도 범위 (GeoBounds), 좌표 수 (VarintRouteCodec.MAX_POINTS) 를 넘으면 입력 오류 (400)
+ */
+public class LatLngPathDeserializer extends JsonDeserializer<List<LatLngPoint>> {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<LatLngPoint> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return PolylineCodec.decode(p.getText());
+            } catch (RuntimeException e) {
+                return (List<LatLngPoint>) ctxt.handleWeirdStringValue(List.class, p.getText(), e.getMessage());
+            }
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return (List<LatLngPoint>) ctxt.handleUnexpectedToken(List.class, p);
+        }
+
+        List<LatLngPoint> points = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (points.size() >= VarintRouteCodec.MAX_POINTS) {
+                return (List<LatLngPoint>) ctxt.reportInputMismatch(List.class, "좌표 수 초과 (최대 %d)", VarintRouteCodec.MAX_POINTS);
+            }
+            LatLngPoint point = ctxt.readValue(p, LatLngPoint.class);
+            if (point == null || !GeoBounds.isValidPoint(point.getLat(), point.getLng())) {
+                return (List<LatLngPoint>) ctxt.reportInputMismatch(List.class, "%d 번째 좌표의 위도 / 경도 범위를 벗어남", points.size());
+            }
+            points.add(point);
+        }
+        return points;
+    }
+}
@@ -0,0 +1,89 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 경로 좌표 목록을 JTS PackedCoordinateSequence (double[] 하나) 로 바로 역직렬화
+ * - 기존 형식 : [{"lat": 37.39, "lng": 127.10}, ...]
+ * - 압축 형식 : "_p~iF~ps|U_ulLnnqC" (Google encoded polyline 문자열)
+ * - 좌표마다 LatLngPoint / Coordinate 객체를 만들지 않고 토큰을 읽으면서 배열에 바로 채움 -> 요청당 메모리는 좌표 수 x 16 byte 배열 하나
+ * - 읽는 중에 위도 / 경도 범위 / 좌표 수 (VarintRouteCodec.MAX_POINTS) 검증 (잘못된 좌표 / 초과는 400)
+ * 저장 순서는 JTS 규칙대로 경도(x), 위도(y)
+ */
+public class PackedPathDeserializer extends JsonDeserializer<CoordinateSequence> {
+
+    // 처음 배열 크기 (좌표 128개), 부족하면 두 배씩 늘림
+    private static final int INITIAL_CAPACITY = 256;
+
+    @Override
+    public CoordinateSequence deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            CoordinateSequence sequence;
+            try {
+                sequence = PolylineCodec.decodeSequence(p.getText());
+            } catch (RuntimeException e) {
+                return (CoordinateSequence) ctxt.handleWeirdStringValue(CoordinateSequence.class, p.getText(), e.getMessage());
+            }
+            if (sequence.size() > VarintRouteCodec.MAX_POINTS) {
+                return ctxt.reportInputMismatch(CoordinateSequence.class, "좌표 수 초과 (최대 %d)", VarintRouteCodec.MAX_POINTS);
+            }
+            return sequence;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return (CoordinateSequence) ctxt.handleUnexpectedToken(CoordinateSequence.class, p);
+        }
+
+        double[] coordinates = new double[INITIAL_CAPACITY];
+        int length = 0;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                return (CoordinateSequence) ctxt.handleUnexpectedToken(CoordinateSequence.class, p);
+            }
+            double lat = Double.NaN;
+            double lng = Double.NaN;
+            String field;
+            while ((field = p.nextFieldName()) != null) {
+                p.nextToken();
+                if ("lat".equals(field)) {
+                    lat = p.getValueAsDouble(Double.NaN);
+                } else if ("lng".equals(field)) {
+                    lng = p.getValueAsDouble(Double.NaN);
+                } else {
+                    p.skipChildren();
+                }
+            }
+
+            int index = length / 2;
+            if (Double.isNaN(lat) || Double.isNaN(lng)) {
+                return ctxt.reportInputMismatch(CoordinateSequence.class, "%d 번째 좌표에 lat / lng 가 없음", index);
+            }
+            if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+                return ctxt.reportInputMismatch(CoordinateSequence.class, "%d 번째 좌표의 위도 / 경도 범위를 벗어남", index);
+            }
+            if (index >= VarintRouteCodec.MAX_POINTS) {
+                return ctxt.reportInputMismatch(CoordinateSequence.class, "좌표 수 초과 (최대 %d)", VarintRouteCodec.MAX_POINTS);
+            }
+            if (length == coordinates.length) {
+                coordinates = Arrays.copyOf(coordinates, Math.min(length * 2, VarintRouteCodec.MAX_POINTS * 2));
+            }
+            coordinates[length++] = lng;
+            coordinates[length++] = lat;
+        }
+        return packed(coordinates, length);
+    }
+
+    // 좌표 수에 맞춘 배열로 감싸기 (PackedCoordinateSequence 는 배열을 복사하지 않음)
+    static PackedCoordinateSequence.Double packed(double[] coordinates, int length) {
+        return new PackedCoordinateSequence.Double(
+                length == coordinates.length ? coordinates : Arrays.copyOf(coordinates, length), 2, 0);
+    }
+}
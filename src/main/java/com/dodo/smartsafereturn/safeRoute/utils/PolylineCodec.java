@@ -0,0 +1,130 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Google encoded polyline 변환기 (precision 1e5, 약 1.1m)
+ * - 좌표마다 위도 / 경도 차이값을 zigzag 후 5bit 단위 ASCII 문자로 인코딩
+ * - 좌표 1개당 보통 4 ~ 8 byte (GeoJSON 대비 약 1/10)
+ */
+public final class PolylineCodec {
+
+    private static final double PRECISION = 1e5;
+
+    private PolylineCodec() {
+    }
+
+    public static String encode(LineString line) {
+        CoordinateSequence sequence = line.getCoordinateSequence();
+        StringBuilder encoded = new StringBuilder(sequence.size() * 8);
+        long prevLat = 0;
+        long prevLng = 0;
+        for (int i = 0; i < sequence.size(); i++) {
+            long lat = Math.round(sequence.getY(i) * PRECISION);
+            long lng = Math.round(sequence.getX(i) * PRECISION);
+            encodeValue(lat - prevLat, encoded);
+            encodeValue(lng - prevLng, encoded);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return encoded.toString();
+    }
+
+    public static String encode(List<LatLngPoint> points) {
+        StringBuilder encoded = new StringBuilder(points.size() * 8);
+        long prevLat = 0;
+        long prevLng = 0;
+        for (LatLngPoint point : points) {
+            long lat = Math.round(point.getLat() * PRECISION);
+            long lng = Math.round(point.getLng() * PRECISION);
+            encodeValue(lat - prevLat, encoded);
+            encodeValue(lng - prevLng, encoded);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * @throws RuntimeException 형식이 잘못된 문자열, 위도 / 경도 범위를 벗어난 좌표, 좌표 수 초과 (VarintRouteCodec.MAX_POINTS)
+     */
+    public static List<LatLngPoint> decode(String encoded) {
+        List<LatLngPoint> points = new ArrayList<>(Math.min(encoded.length() / 6 + 1, VarintRouteCodec.MAX_POINTS));
+        int[] index = {0};
+        long lat = 0;
+        long lng = 0;
+        while (index[0] < encoded.length()) {
+            lat += decodeValue(encoded, index);
+            lng += decodeValue(encoded, index);
+            if (points.size() >= VarintRouteCodec.MAX_POINTS) {
+                throw new RuntimeException("[PolylineCodec] decode() : 좌표 수 초과 (최대 " + VarintRouteCodec.MAX_POINTS + ")");
+            }
+            LatLngPoint point = new LatLngPoint(lat / PRECISION, lng / PRECISION);
+            if (!GeoBounds.isValidPoint(point.getLat(), point.getLng())) {
+                throw new RuntimeException("[PolylineCodec] decode() : 위도 / 경도 범위를 벗어남");
+            }
+            points.add(point);
+        }
+        return points;
+    }
+
+    /**
+     * 좌표 객체 없이 double[] 하나로 디코딩 (경도, 위도 순서)
+     * @throws RuntimeException 형식이 잘못된 문자열 또는 위도 / 경도 범위를 벗어난 좌표
+     */
+    public static PackedCoordinateSequence.Double decodeSequence(String encoded) {
+        // 좌표 1개당 최소 2 문자 -> 문자열 길이가 double 개수의 상한
+        double[] coordinates = new double[encoded.length()];
+        int length = 0;
+        int[] index = {0};
+        long lat = 0;
+        long lng = 0;
+        while (index[0] < encoded.length()) {
+            lat += decodeValue(encoded, index);
+            lng += decodeValue(encoded, index);
+            double latValue = lat / PRECISION;
+            double lngValue = lng / PRECISION;
+            if (latValue < -90 || latValue > 90 || lngValue < -180 || lngValue > 180) {
+                throw new RuntimeException("[PolylineCodec] decodeSequence() : 위도 / 경도 범위를 벗어남");
+            }
+            coordinates[length++] = lngValue;
+            coordinates[length++] = latValue;
+        }
+        return new PackedCoordinateSequence.Double(
+                length == coordinates.length ? coordinates : Arrays.copyOf(coordinates, length), 2, 0);
+    }
+
+    private static void encodeValue(long value, StringBuilder out) {
+        long zigzag = value < 0 ? ~(value << 1) : value << 1;
+        while (zigzag >= 0x20) {
+            out.append((char) ((0x20 | (zigzag & 0x1f)) + 63));
+            zigzag >>= 5;
+        }
+        out.append((char) (zigzag + 63));
+    }
+
+    private static long decodeValue(String encoded, int[] index) {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (index[0] >= encoded.length() || shift > 60) {
+                throw new RuntimeException("[PolylineCodec] decode() : 잘못된 polyline 형식");
+            }
+            b = encoded.charAt(index[0]++) - 63;
+            if (b < 0 || b > 63) {
+                throw new RuntimeException("[PolylineCodec] decode() : 잘못된 polyline 문자");
+            }
+            result |= (long) (b & 0x1f) << shift;
+            shift += 5;
+        } while (b >= 0x20);
+        return (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+
+/**
+ * LineString 을 GeoJSON 대신 encoded polyline 문자열로 직렬화하는 모듈
+ * - application/vnd.smartsafereturn.polyline+json 요청 전용 ObjectMapper 에만 등록 (WebMvcConfig)
+ * - JtsModule 보다 나중에 등록되어 LineString 직렬화를 덮어씀
+ */
+public class PolylineJacksonModule extends SimpleModule {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.smartsafereturn.polyline+json";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    public PolylineJacksonModule() {
+        super("PolylineJacksonModule");
+        addSerializer(LineString.class, new LineStringPolylineSerializer());
+    }
+
+    private static class LineStringPolylineSerializer extends JsonSerializer<LineString> {
+
+        @Override
+        public void serialize(LineString value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(PolylineCodec.encode(value));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+/**
+ * 지도 타일 좌표 (z / x / y) 를 long 하나로 묶은 키 (지도 타일 캐시, SOS 히트맵 칸)
+ * - zoom (상위 6bit) / x (29bit) / y (29bit) -> zoom 29 까지 겹치지 않음
+ */
+public final class TileKey {
+
+    private TileKey() {
+    }
+
+    public static long of(int z, int x, int y) {
+        return ((long) z << 58) | ((long) x << 29) | y;
+    }
+}
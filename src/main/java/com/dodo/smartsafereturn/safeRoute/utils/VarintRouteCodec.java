@@ -0,0 +1,115 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.LineString;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이동 경로 바이너리 변환기 (application/octet-stream)
+ *
+ * 형식
+ * - 1 byte : 버전 (1)
+ * - varint : 좌표 수
+ * - 좌표마다 zigzag varint 위도 차이, zigzag varint 경도 차이 (precision 1e6, 약 0.11m / 첫 좌표는 0 기준)
+ *
+ * 도보 이동 중 연속 좌표 차이는 보통 수십 ~ 수백 단위 -> 좌표 1개당 2 ~ 4 byte
+ */
+public final class VarintRouteCodec {
+
+    private static final byte VERSION = 1;
+    private static final double PRECISION = 1e6;
+    // 경로 하나의 최대 좌표 수 (JSON 경로 역직렬화도 같은 제한) -> 잘못된 / 악의적인 요청으로 큰 배열을 만들지 않도록 제한
+    public static final int MAX_POINTS = 100_000;
+
+    private VarintRouteCodec() {
+    }
+
+    // 경로가 없으면 좌표 수 0 으로 인코딩
+    public static byte[] encode(LineString line) {
+        if (line == null) {
+            return new byte[]{VERSION, 0};
+        }
+        CoordinateSequence sequence = line.getCoordinateSequence();
+        int size = sequence.size();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size * 4 + 8);
+        out.write(VERSION);
+        writeVarint(size, out);
+        long prevLat = 0;
+        long prevLng = 0;
+        for (int i = 0; i < size; i++) {
+            long lat = Math.round(sequence.getY(i) * PRECISION);
+            long lng = Math.round(sequence.getX(i) * PRECISION);
+            writeVarint(zigzag(lat - prevLat), out);
+            writeVarint(zigzag(lng - prevLng), out);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws RuntimeException 버전이 다르거나 형식이 잘못된 본문, 위도 / 경도 범위를 벗어난 좌표
+     */
+    public static List<LatLngPoint> decode(byte[] body) {
+        if (body == null || body.length < 2 || body[0] != VERSION) {
+            throw new RuntimeException("[VarintRouteCodec] decode() : 지원하지 않는 경로 바이너리 형식");
+        }
+        int[] index = {1};
+        long count = readVarint(body, index);
+        if (count > MAX_POINTS) {
+            throw new RuntimeException("[VarintRouteCodec] decode() : 좌표 수 초과 (" + count + ")");
+        }
+
+        List<LatLngPoint> points = new ArrayList<>((int) count);
+        long lat = 0;
+        long lng = 0;
+        for (int i = 0; i < count; i++) {
+            lat += unzigzag(readVarint(body, index));
+            lng += unzigzag(readVarint(body, index));
+            LatLngPoint point = new LatLngPoint(lat / PRECISION, lng / PRECISION);
+            if (!GeoBounds.isValidPoint(point.getLat(), point.getLng())) {
+                throw new RuntimeException("[VarintRouteCodec] decode() : " + i + " 번째 좌표의 위도 / 경도 범위를 벗어남");
+            }
+            points.add(point);
+        }
+        if (index[0] != body.length) {
+            throw new RuntimeException("[VarintRouteCodec] decode() : 좌표 수와 본문 길이가 맞지 않음");
+        }
+        return points;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(long value, ByteArrayOutputStream out) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] body, int[] index) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (index[0] >= body.length) {
+                throw new RuntimeException("[VarintRouteCodec] decode() : 본문이 중간에 끝남");
+            }
+            byte b = body[index[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new RuntimeException("[VarintRouteCodec] decode() : 잘못된 varint");
+    }
+}
@@ -0,0 +1,216 @@
+package com.dodo.smartsafereturn.safezone.controller;
+
+import com.dodo.smartsafereturn.auth.entity.CustomUserDetails;
+import com.dodo.smartsafereturn.safezone.dto.SafeZoneCreateDto;
+import com.dodo.smartsafereturn.safezone.dto.SafeZoneResponseDto;
+import com.dodo.smartsafereturn.safezone.dto.SafeZoneUpdateDto;
+import com.dodo.smartsafereturn.safezone.service.SafeZoneService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/safe-zone")
+@RequiredArgsConstructor
+@Tag(name = "안심 구역 API", description = "집 / 학교 등 회원 본인의 안심 구역 CRUD (도착 시 진행 중인 안전 귀가 경로 자동 완료)")
+public class SafeZoneController {
+
+    private final SafeZoneService safeZoneService;
+
+    // 안심 구역 등록
+    @Operation(
+            summary = "안심 구역 등록",
+            description = "로그인한 회원의 안심 구역을 등록합니다. type 이 CIRCLE 이면 center + radius_meters (최대 1000m), " +
+                    "POLYGON 이면 area (외곽선 좌표 3개 이상, 첫 좌표로 닫지 않아도 됨) 가 필요합니다. 회원당 최대 10개까지 등록할 수 있습니다. " +
+                    "finish_on_arrival 이 true (기본값) 인 구역에 진행 중인 경로가 들어오면 경로가 FINISHED 로 완료됩니다. " +
+                    "경로를 시작한 위치가 이미 구역 안이면 (집에서 출발) 구역을 벗어났다가 다시 들어와야 완료됩니다.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "등록할 안심 구역 정보",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SafeZoneCreateDto.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "원형 구역 등록 요청 예시",
+                                            summary = "집 (반경 50m)",
+                                            value = """
+                                                    {
+                                                      "name": "집",
+                                                      "type": "CIRCLE",
+                                                      "center": { "lat": 37.4835, "lng": 126.9821 },
+                                                      "radius_meters": 50,
+                                                      "finish_on_arrival": true
+                                                    }
+                                                    """
+                                    ),
+                                    @ExampleObject(
+                                            name = "다각형 구역 등록 요청 예시",
+                                            summary = "학교 (도착 시 완료하지 않음)",
+                                            value = """
+                                                    {
+                                                      "name": "학교",
+                                                      "type": "POLYGON",
+                                                      "area": [
+                                                        { "lat": 37.4951, "lng": 126.9573 },
+                                                        { "lat": 37.4951, "lng": 126.9602 },
+                                                        { "lat": 37.4972, "lng": 126.9602 },
+                                                        { "lat": 37.4972, "lng": 126.9573 }
+                                                      ],
+                                                      "finish_on_arrival": false
+                                                    }
+                                                    """
+                                    )
+                            }
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "안심 구역 등록 성공 (등록된 안심 구역 ID 반환)"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "잘못된 요청 (좌표 / 반경 범위 오류, 자기 교차 영역, 등록 개수 초과)",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("")
+    public ResponseEntity<Long> create(@Validated @RequestBody SafeZoneCreateDto dto,
+                                       @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(safeZoneService.create(userDetails.getMemberInfoDto().getMemberNumber(), dto));
+    }
+
+    // 안심 구역 수정
+    @Operation(
+            summary = "안심 구역 수정",
+            description = "본인의 안심 구역을 수정합니다. type 을 바꿀 수 있으며, finish_on_arrival 을 보내지 않으면 기존 값을 유지합니다. " +
+                    "진행 중인 경로에는 다음 좌표부터 반영됩니다.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "수정할 안심 구역 정보",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SafeZoneUpdateDto.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "안심 구역 수정 요청 예시",
+                                            summary = "반경 확장",
+                                            value = """
+                                                    {
+                                                      "safe_zone_id": 1,
+                                                      "name": "집",
+                                                      "type": "CIRCLE",
+                                                      "center": { "lat": 37.4835, "lng": 126.9821 },
+                                                      "radius_meters": 80
+                                                    }
+                                                    """
+                                    )
+                            }
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "안심 구역 수정 성공"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "존재하지 않는 안심 구역 / 본인 구역이 아님 / 잘못된 영역",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @PutMapping("")
+    public ResponseEntity<?> update(@Validated @RequestBody SafeZoneUpdateDto dto,
+                                    @AuthenticationPrincipal CustomUserDetails userDetails) {
+        safeZoneService.update(userDetails.getMemberInfoDto().getMemberNumber(), dto);
+        return ResponseEntity.ok().build();
+    }
+
+    // 안심 구역 삭제
+    @Operation(
+            summary = "안심 구역 삭제",
+            description = "본인의 안심 구역을 삭제합니다.",
+            parameters = {
+                    @Parameter(name = "safeZoneId", description = "삭제할 안심 구역 ID", required = true, example = "1")
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "안심 구역 삭제 성공"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "존재하지 않는 안심 구역 / 본인 구역이 아님",
+                            content = @Content(schema = @Schema(implementation = RuntimeException.class))
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @DeleteMapping("/{safeZoneId}")
+    public ResponseEntity<?> delete(@PathVariable Long safeZoneId,
+                                    @AuthenticationPrincipal CustomUserDetails userDetails) {
+        safeZoneService.delete(userDetails.getMemberInfoDto().getMemberNumber(), safeZoneId);
+        return ResponseEntity.ok().build();
+    }
+
+    // 본인 안심 구역 목록 조회
+    @Operation(
+            summary = "안심 구역 목록 조회",
+            description = "로그인한 회원의 안심 구역을 등록 순서대로 조회합니다. CIRCLE 은 center / radius_meters, " +
+                    "POLYGON 은 area (마지막 좌표가 첫 좌표와 같은 닫힌 외곽선) 만 값이 있습니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "안심 구역 목록 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SafeZoneResponseDto.class, type = "array"),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "안심 구역 목록 응답 예시",
+                                                    summary = "원형 구역 1개",
+                                                    value = """
+                                                            [
+                                                              {
+                                                                "safe_zone_id": 1,
+                                                                "name": "집",
+                                                                "type": "CIRCLE",
+                                                                "center": { "lat": 37.4835, "lng": 126.9821 },
+                                                                "radius_meters": 50.0,
+                                                                "area": null,
+                                                                "finish_on_arrival": true,
+                                                                "modified_date": "2025-04-03T17:20:15"
+                                                              }
+                                                            ]
+                                                            """
+                                            )
+                                    }
+                            )
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("")
+    public ResponseEntity<List<SafeZoneResponseDto>> getSafeZones(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(safeZoneService.getSafeZones(userDetails.getMemberInfoDto().getMemberNumber()));
+    }
+}
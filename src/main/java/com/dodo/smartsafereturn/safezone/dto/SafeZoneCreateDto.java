@@ -0,0 +1,33 @@
+package com.dodo.smartsafereturn.safezone.dto;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safezone.entity.SafeZoneType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SafeZoneCreateDto {
+
+    @NotBlank(message = "name 은 필수 값")
+    private String name;
+    @NotNull(message = "type 은 필수 값")
+    private SafeZoneType type;
+    // CIRCLE : 중심 + 반경 (m)
+    private LatLngPoint center;
+    private Double radiusMeters;
+    // POLYGON : 외곽선 좌표 (3개 이상, 첫 좌표로 닫지 않아도 됨)
+    @Size(min = 3, max = 100, message = "area 는 좌표 3개 이상 100개 이하")
+    private List<LatLngPoint> area;
+    // 진행 중인 경로가 이 구역에 들어오면 완료 처리 (기본 true)
+    private Boolean finishOnArrival;
+}
@@ -0,0 +1,29 @@
+package com.dodo.smartsafereturn.safezone.dto;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safezone.entity.SafeZoneType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SafeZoneResponseDto {
+
+    private Long safeZoneId;
+    private String name;
+    private SafeZoneType type;
+    // CIRCLE 만 값이 있음
+    private LatLngPoint center;
+    private Double radiusMeters;
+    // POLYGON 만 값이 있음 (마지막 좌표 = 첫 좌표)
+    private List<LatLngPoint> area;
+    private Boolean finishOnArrival;
+    private LocalDateTime modifiedDate;
+}
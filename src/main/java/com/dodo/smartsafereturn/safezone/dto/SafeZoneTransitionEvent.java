@@ -0,0 +1,18 @@
+package com.dodo.smartsafereturn.safezone.dto;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 경로가 회원의 안심 구역에 들어오거나 나갔음을 알리는 이벤트
+ * - SafeZoneMonitor 가 구역 포함 여부가 바뀐 순간 한 번 발행 (경로 시작 위치의 구역은 기준 상태로만 사용)
+ * - position : 포함 여부가 확정된 좌표
+ */
+public record SafeZoneTransitionEvent(Long safeRouteId, Long memberNumber, Long safeZoneId, Transition transition,
+                                      LatLngPoint position, LocalDateTime at) {
+
+    public enum Transition {
+        ENTERED, EXITED
+    }
+}
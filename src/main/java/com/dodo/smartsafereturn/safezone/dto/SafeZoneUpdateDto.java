@@ -0,0 +1,33 @@
+package com.dodo.smartsafereturn.safezone.dto;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safezone.entity.SafeZoneType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SafeZoneUpdateDto {
+
+    @NotNull(message = "safe_zone_id 는 필수 값")
+    private Long safeZoneId;
+    @NotBlank(message = "name 은 필수 값")
+    private String name;
+    @NotNull(message = "type 은 필수 값")
+    private SafeZoneType type;
+    private LatLngPoint center;
+    private Double radiusMeters;
+    @Size(min = 3, max = 100, message = "area 는 좌표 3개 이상 100개 이하")
+    private List<LatLngPoint> area;
+    // null 이면 기존 값 유지
+    private Boolean finishOnArrival;
+}
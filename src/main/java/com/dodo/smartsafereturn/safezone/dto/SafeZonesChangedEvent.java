@@ -0,0 +1,7 @@
+package com.dodo.smartsafereturn.safezone.dto;
+
+/**
+ * 회원의 안심 구역 등록 / 수정 / 삭제 -> 커밋 후 SafeZoneIndex 에서 해당 회원 구역 다시 읽기
+ */
+public record SafeZonesChangedEvent(Long memberNumber) {
+}
@@ -0,0 +1,75 @@
+package com.dodo.smartsafereturn.safezone.entity;
+
+import com.dodo.smartsafereturn.global.entity.BaseTimeEntity;
+import com.dodo.smartsafereturn.member.entity.Member;
+import jakarta.persistence.*;
+import lombok.*;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * 회원이 지정한 안심 구역 (집, 학교 등)
+ * - CIRCLE : center_lat / center_lng + radius_meters, POLYGON : area
+ * - 진행 중인 경로의 좌표 포함 판정은 메모리의 SafeZoneIndex 에서 수행 (DB 조회 없음)
+ * - finishOnArrival 이면 진행 중인 경로가 이 구역에 들어올 때 경로를 완료 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SafeZone extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "safe_zone_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_number", nullable = false)
+    private Member member;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "zone_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private SafeZoneType type;
+
+    @Column(name = "center_lat")
+    private Double centerLat;
+
+    @Column(name = "center_lng")
+    private Double centerLng;
+
+    @Column(name = "radius_meters")
+    private Double radiusMeters;
+
+    @Column(name = "area", columnDefinition = "geometry(Polygon,4326)")
+    private Polygon area;
+
+    @Column(name = "finish_on_arrival", nullable = false)
+    private Boolean finishOnArrival = true;
+
+    @Builder
+    public SafeZone(Member member, String name, SafeZoneType type, Double centerLat, Double centerLng, Double radiusMeters,
+                    Polygon area, Boolean finishOnArrival) {
+        this.member = member;
+        this.name = name;
+        this.type = type;
+        this.centerLat = centerLat;
+        this.centerLng = centerLng;
+        this.radiusMeters = radiusMeters;
+        this.area = area;
+        this.finishOnArrival = finishOnArrival != null ? finishOnArrival : true;
+    }
+
+    public void update(String name, SafeZoneType type, Double centerLat, Double centerLng, Double radiusMeters,
+                       Polygon area, Boolean finishOnArrival) {
+        this.name = name;
+        this.type = type;
+        this.centerLat = centerLat;
+        this.centerLng = centerLng;
+        this.radiusMeters = radiusMeters;
+        this.area = area;
+        if (finishOnArrival != null) {
+            this.finishOnArrival = finishOnArrival;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.dodo.smartsafereturn.safezone.entity;
+
+public enum SafeZoneType {
+    // 중심 + 반경, 외곽선 좌표
+    CIRCLE, POLYGON
+}
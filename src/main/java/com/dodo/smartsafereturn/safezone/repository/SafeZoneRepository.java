@@ -0,0 +1,18 @@
+package com.dodo.smartsafereturn.safezone.repository;
+
+import com.dodo.smartsafereturn.safezone.entity.SafeZone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SafeZoneRepository extends JpaRepository<SafeZone, Long> {
+
+    // 한 회원의 안심 구역 목록 (등록 순서 -> SafeZoneIndex 의 비트 순서)
+    @Query("select sz from SafeZone sz where sz.member.memberNumber = :memberNumber order by sz.id")
+    List<SafeZone> findByMemberNumber(@Param("memberNumber") Long memberNumber);
+
+    @Query("select count(sz) from SafeZone sz where sz.member.memberNumber = :memberNumber")
+    long countByMemberNumber(@Param("memberNumber") Long memberNumber);
+}
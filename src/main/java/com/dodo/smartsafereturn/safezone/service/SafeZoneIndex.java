@@ -0,0 +1,90 @@
+package com.dodo.smartsafereturn.safezone.service;
+
+import com.dodo.smartsafereturn.safezone.dto.SafeZonesChangedEvent;
+import com.dodo.smartsafereturn.safezone.entity.SafeZone;
+import com.dodo.smartsafereturn.safezone.repository.SafeZoneRepository;
+import com.dodo.smartsafereturn.safezone.utils.PackedSafeZones;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 안심 구역 메모리 인덱스 (진행 중인 경로의 좌표 포함 판정)
+ * - 회원마다 구역을 PackedSafeZones (primitive 배열) 로 만들어 보관, 처음 필요할 때 DB 에서 읽음
+ *   -> 진행 중인 경로가 있는 회원만 올라감
+ * - 구역이 바뀌면 새로 만든 PackedSafeZones 로 통째로 교체 (읽기 전용 -> 조회는 락 없음)
+ * - 구역 쓰기 트랜잭션 커밋 후 해당 회원을 비우고, 다른 인스턴스의 변경은 refresh-interval 이 지난 뒤 다시 읽어서 반영
+ *
+ * 메트릭
+ * - safe_zone.index.members : 인덱스에 올라간 회원 수
+ */
+@Slf4j
+@Component
+public class SafeZoneIndex {
+
+    private final SafeZoneRepository safeZoneRepository;
+    private final long refreshMillis;
+    private final int maxMembers;
+
+    private final ConcurrentHashMap<Long, PackedSafeZones> members = new ConcurrentHashMap<>();
+
+    public SafeZoneIndex(SafeZoneRepository safeZoneRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${safe-zone.refresh-interval:PT1M}") Duration refreshInterval,
+                         @Value("${safe-zone.max-members:50000}") int maxMembers) {
+        this.safeZoneRepository = safeZoneRepository;
+        this.refreshMillis = refreshInterval.toMillis();
+        this.maxMembers = maxMembers;
+        Gauge.builder("safe_zone.index.members", members, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 안심 구역 (인덱스에 없거나 refresh-interval 이 지났으면 DB 에서 다시 읽음)
+     */
+    public PackedSafeZones get(Long memberNumber) {
+        long now = System.currentTimeMillis();
+        PackedSafeZones zones = members.get(memberNumber);
+        if (zones != null && now - zones.loadedAtMillis() < refreshMillis) {
+            return zones;
+        }
+        return load(memberNumber, now);
+    }
+
+    // 커밋 후 해당 회원 구역 비움 -> 다음 좌표 판정 때 다시 읽음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSafeZonesChanged(SafeZonesChangedEvent event) {
+        members.remove(event.memberNumber());
+    }
+
+    // 진행 중인 경로가 끝난 회원의 구역이 계속 남지 않도록 오래된 회원 제거
+    @Scheduled(fixedDelayString = "${safe-zone.refresh-interval:PT1M}", initialDelayString = "${safe-zone.refresh-interval:PT1M}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        members.values().removeIf(zones -> now - zones.loadedAtMillis() >= refreshMillis);
+    }
+
+    private PackedSafeZones load(Long memberNumber, long now) {
+        List<SafeZone> zones = safeZoneRepository.findByMemberNumber(memberNumber);
+        if (zones.size() > PackedSafeZones.MAX_ZONES) {
+            log.warn("[SafeZoneIndex] load() : too many safe zones memberNumber={}, size={}", memberNumber, zones.size());
+            zones = zones.subList(0, PackedSafeZones.MAX_ZONES);
+        }
+        PackedSafeZones packed = new PackedSafeZones(zones, now);
+        if (members.size() < maxMembers || members.containsKey(memberNumber)) {
+            members.put(memberNumber, packed);
+        } else {
+            log.warn("[SafeZoneIndex] load() : member limit reached size={}, memberNumber={}", members.size(), memberNumber);
+        }
+        return packed;
+    }
+}
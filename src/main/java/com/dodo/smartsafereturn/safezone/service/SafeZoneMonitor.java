@@ -0,0 +1,271 @@
+package com.dodo.smartsafereturn.safezone.service;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDeadline;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteDeadlineChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointsAppendedEvent;
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRepository;
+import com.dodo.smartsafereturn.safeRoute.service.SafeRouteService;
+import com.dodo.smartsafereturn.safezone.dto.SafeZoneTransitionEvent;
+import com.dodo.smartsafereturn.safezone.utils.PackedSafeZones;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 경로의 안심 구역 진입 / 이탈 감시
+ * - 경로마다 회원 번호 + 구역 포함 비트 (long) 만 보관, 좌표 판정은 SafeZoneIndex 의 PackedSafeZones 로 수행
+ *   -> 좌표 1개 판정에 객체 생성 / DB 조회 없음 (진입 / 이탈이 확정된 순간에만 이벤트 생성)
+ * - 포함 비트가 confirm-points 번 연속으로 같아야 확정 (경계 근처 GPS 튐으로 진입 / 이탈이 반복되지 않도록)
+ * - 감시를 시작한 첫 좌표의 포함 여부는 기준 상태로만 사용 (집에서 출발할 때 바로 완료되지 않도록)
+ *   -> 재기동 직후 이미 구역 안에 있던 경로도 다시 들어와야 완료됨
+ * - finish_on_arrival 구역에 들어오면 경로를 FINISHED 로 변경 (좌표 추가 트랜잭션은 이미 커밋됨 -> 새 트랜잭션)
+ *
+ * 메트릭
+ * - safe_zone.check (좌표 추가 요청 1건 판정 시간), safe_zone.transitions (tag : transition), safe_zone.arrivals, safe_zone.tracked
+ */
+@Slf4j
+@Component
+public class SafeZoneMonitor {
+
+    private final SafeRouteRepository safeRouteRepository;
+    private final SafeRouteService safeRouteService;
+    private final SafeZoneIndex safeZoneIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate finishTransaction;
+    private final boolean enabled;
+    private final int confirmPoints;
+    private final int maxRoutes;
+
+    private final ConcurrentHashMap<Long, Track> tracks = new ConcurrentHashMap<>();
+
+    private final Timer checkTimer;
+    private final Counter enteredCounter;
+    private final Counter exitedCounter;
+    private final Counter arrivalCounter;
+
+    public SafeZoneMonitor(SafeRouteRepository safeRouteRepository,
+                           SafeRouteService safeRouteService,
+                           SafeZoneIndex safeZoneIndex,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${safe-zone.monitor.enabled:true}") boolean enabled,
+                           @Value("${safe-zone.monitor.confirm-points:2}") int confirmPoints,
+                           @Value("${safe-zone.monitor.max-routes:50000}") int maxRoutes) {
+        this.safeRouteRepository = safeRouteRepository;
+        this.safeRouteService = safeRouteService;
+        this.safeZoneIndex = safeZoneIndex;
+        this.eventPublisher = eventPublisher;
+        this.finishTransaction = new TransactionTemplate(transactionManager);
+        this.finishTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.confirmPoints = Math.max(confirmPoints, 1);
+        this.maxRoutes = maxRoutes;
+        this.checkTimer = Timer.builder("safe_zone.check")
+                .description("좌표 추가 요청 1건의 안심 구역 판정 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.enteredCounter = Counter.builder("safe_zone.transitions")
+                .tag("transition", "entered")
+                .register(meterRegistry);
+        this.exitedCounter = Counter.builder("safe_zone.transitions")
+                .tag("transition", "exited")
+                .register(meterRegistry);
+        this.arrivalCounter = Counter.builder("safe_zone.arrivals")
+                .description("안심 구역 도착으로 완료 처리된 경로 수")
+                .register(meterRegistry);
+        Gauge.builder("safe_zone.tracked", tracks, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointsAppended(SafeRoutePointsAppendedEvent event) {
+        if (!enabled || event.points().isEmpty()) {
+            return;
+        }
+        Track track = tracks.get(event.safeRouteId());
+        if (track == null) {
+            track = startTrack(event.safeRouteId());
+            if (track == null) {
+                return;
+            }
+        }
+        PackedSafeZones zones = safeZoneIndex.get(track.memberNumber);
+
+        long start = System.nanoTime();
+        List<SafeZoneTransitionEvent> transitions = null;
+        Long arrivedZoneId = null;
+        synchronized (track) {
+            track.rebase(zones);
+            List<LatLngPoint> points = event.points();
+            for (int p = 0; p < points.size(); p++) {
+                LatLngPoint point = points.get(p);
+                long previous = track.inside;
+                if (!track.observe(zones.contains(point.getLat(), point.getLng()), confirmPoints)) {
+                    continue;
+                }
+                // 진입 / 이탈이 확정된 구역마다 이벤트
+                if (transitions == null) {
+                    transitions = new ArrayList<>();
+                }
+                LocalDateTime now = LocalDateTime.now();
+                for (long changed = previous ^ track.inside; changed != 0; changed &= changed - 1) {
+                    int index = Long.numberOfTrailingZeros(changed);
+                    long bit = 1L << index;
+                    boolean entered = (track.inside & bit) != 0;
+                    transitions.add(new SafeZoneTransitionEvent(event.safeRouteId(), track.memberNumber, zones.zoneId(index),
+                            entered ? SafeZoneTransitionEvent.Transition.ENTERED : SafeZoneTransitionEvent.Transition.EXITED,
+                            point, now));
+                    if (entered && (zones.finishMask() & bit) != 0 && !track.finishing) {
+                        track.finishing = true;
+                        arrivedZoneId = zones.zoneId(index);
+                    }
+                }
+            }
+        }
+        checkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (transitions != null) {
+            for (SafeZoneTransitionEvent transition : transitions) {
+                (transition.transition() == SafeZoneTransitionEvent.Transition.ENTERED ? enteredCounter : exitedCounter).increment();
+                eventPublisher.publishEvent(transition);
+            }
+        }
+        if (arrivedZoneId != null) {
+            finish(event.safeRouteId(), arrivedZoneId, track);
+        }
+    }
+
+    // 진행 중이 아닌 상태 / 삭제 -> 감시 종료 (도착 완료 처리 포함)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeadlineChanged(SafeRouteDeadlineChangedEvent event) {
+        if (!event.isActive()) {
+            tracks.remove(event.safeRouteId());
+        }
+    }
+
+    // 처음 좌표가 들어온 진행 중 경로 -> 회원 번호만 한 번 조회
+    private Track startTrack(Long safeRouteId) {
+        if (tracks.size() >= maxRoutes) {
+            log.warn("[SafeZoneMonitor] startTrack() : track limit reached size={}, safeRouteId={}", tracks.size(), safeRouteId);
+            return null;
+        }
+        Long memberNumber = safeRouteRepository.findActiveMemberNumber(safeRouteId, RouteState.ACTIVE_STATES).orElse(null);
+        if (memberNumber == null) {
+            return null;
+        }
+        return tracks.computeIfAbsent(safeRouteId, id -> new Track(memberNumber));
+    }
+
+    /**
+     * 안심 구역 도착 -> 경로 완료 (FINISHED)
+     * - 커밋 후 리스너에서 호출되므로 REQUIRES_NEW 로 새 트랜잭션에서 변경 (기존 트랜잭션에 참여하면 커밋되지 않음)
+     * - 그 사이 취소 / SOS 등으로 진행 중이 아니게 된 경로는 그대로 둠
+     */
+    private void finish(Long safeRouteId, Long safeZoneId, Track track) {
+        try {
+            Boolean finished = finishTransaction.execute(status -> {
+                RouteState state = safeRouteRepository.findDeadline(safeRouteId)
+                        .map(RouteDeadline::state)
+                        .orElse(null);
+                if (state == null || !state.isActive()) {
+                    return false;
+                }
+                safeRouteService.changeStatus(RouteState.FINISHED, safeRouteId);
+                return true;
+            });
+            if (Boolean.TRUE.equals(finished)) {
+                arrivalCounter.increment();
+                log.info("[SafeZoneMonitor] finish() : route finished on arrival safeRouteId={}, safeZoneId={}", safeRouteId, safeZoneId);
+            }
+        } catch (Exception e) {
+            // 다음 진입 때 다시 시도
+            synchronized (track) {
+                track.finishing = false;
+            }
+            log.warn("[SafeZoneMonitor] finish() : 도착 완료 처리 실패 safeRouteId={}, safeZoneId={}", safeRouteId, safeZoneId, e);
+        }
+    }
+
+    /**
+     * 경로 하나의 구역 포함 상태 (synchronized (track) 안에서만 변경)
+     * - inside : 확정된 포함 비트 (zones 기준 비트 위치)
+     * - candidate / candidateCount : 확정 대기 중인 포함 비트와 연속 횟수
+     * - pending : 아직 기준 상태가 없는 구역 비트 (감시 중 새로 추가된 구역) -> 다음 좌표로 기준만 잡음
+     */
+    private static final class Track {
+        private final Long memberNumber;
+        private PackedSafeZones zones = PackedSafeZones.EMPTY;
+        private boolean seeded;
+        private long inside;
+        private long candidate;
+        private int candidateCount;
+        private long pending;
+        private boolean finishing;
+
+        private Track(Long memberNumber) {
+            this.memberNumber = memberNumber;
+        }
+
+        // 구역 인덱스가 바뀌었으면 구역 ID 기준으로 비트 위치를 옮김
+        private void rebase(PackedSafeZones current) {
+            if (current == zones) {
+                return;
+            }
+            if (seeded) {
+                inside = current.remap(zones, inside);
+                pending = current.addedMask(zones);
+                candidate = 0L;
+                candidateCount = 0;
+            }
+            zones = current;
+        }
+
+        /**
+         * @return true : 포함 비트가 바뀌어 확정됨 (inside 갱신)
+         */
+        private boolean observe(long mask, int confirmPoints) {
+            if (!seeded) {
+                inside = mask;
+                seeded = true;
+                return false;
+            }
+            if (pending != 0) {
+                inside = (inside & ~pending) | (mask & pending);
+                pending = 0L;
+            }
+            if (mask == inside) {
+                candidateCount = 0;
+                return false;
+            }
+            if (mask != candidate) {
+                candidate = mask;
+                candidateCount = 0;
+            }
+            if (++candidateCount < confirmPoints) {
+                return false;
+            }
+            inside = mask;
+            candidateCount = 0;
+            return true;
+        }
+    }
+}
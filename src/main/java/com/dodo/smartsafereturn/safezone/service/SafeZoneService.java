@@ -0,0 +1,19 @@
+package com.dodo.smartsafereturn.safezone.service;
+
+import com.dodo.smartsafereturn.safezone.dto.SafeZoneCreateDto;
+import com.dodo.smartsafereturn.safezone.dto.SafeZoneResponseDto;
+import com.dodo.smartsafereturn.safezone.dto.SafeZoneUpdateDto;
+
+import java.util.List;
+
+public interface SafeZoneService {
+
+    // 안심 구역 등록
+    Long create(Long memberNumber, SafeZoneCreateDto dto);
+    // 안심 구역 수정 (본인 구역만)
+    void update(Long memberNumber, SafeZoneUpdateDto dto);
+    // 안심 구역 삭제 (본인 구역만)
+    void delete(Long memberNumber, Long safeZoneId);
+    // 회원의 안심 구역 목록 조회
+    List<SafeZoneResponseDto> getSafeZones(Long memberNumber);
+}
@@ -0,0 +1,160 @@
+package com.dodo.smartsafereturn.safezone.service;
+
+import com.dodo.smartsafereturn.member.entity.Member;
+import com.dodo.smartsafereturn.member.repository.MemberRepository;
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.utils.GeoBounds;
+import com.dodo.smartsafereturn.safezone.dto.SafeZoneCreateDto;
+import com.dodo.smartsafereturn.safezone.dto.SafeZoneResponseDto;
+import com.dodo.smartsafereturn.safezone.dto.SafeZoneUpdateDto;
+import com.dodo.smartsafereturn.safezone.dto.SafeZonesChangedEvent;
+import com.dodo.smartsafereturn.safezone.entity.SafeZone;
+import com.dodo.smartsafereturn.safezone.entity.SafeZoneType;
+import com.dodo.smartsafereturn.safezone.repository.SafeZoneRepository;
+import com.dodo.smartsafereturn.safezone.utils.PackedSafeZones;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Polygon;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SafeZoneServiceImpl implements SafeZoneService {
+
+    private final SafeZoneRepository safeZoneRepository;
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxPerMember;
+    private final double maxRadiusMeters;
+
+    public SafeZoneServiceImpl(SafeZoneRepository safeZoneRepository,
+                               MemberRepository memberRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${safe-zone.max-per-member:10}") int maxPerMember,
+                               @Value("${safe-zone.max-radius-meters:1000}") double maxRadiusMeters) {
+        this.safeZoneRepository = safeZoneRepository;
+        this.memberRepository = memberRepository;
+        this.eventPublisher = eventPublisher;
+        // 포함 여부를 long 비트로 관리 -> 64개 초과 불가
+        this.maxPerMember = Math.min(maxPerMember, PackedSafeZones.MAX_ZONES);
+        this.maxRadiusMeters = maxRadiusMeters;
+    }
+
+    @Transactional
+    @Override
+    public Long create(Long memberNumber, SafeZoneCreateDto dto) {
+        Member member = memberRepository.findByMemberNumberAndIsDeletedIsFalse(memberNumber)
+                .orElseThrow(() -> new RuntimeException("[SafeZoneService] create() : 존재하지 않는 회원"));
+        if (safeZoneRepository.countByMemberNumber(memberNumber) >= maxPerMember) {
+            throw new RuntimeException("[SafeZoneService] create() : 안심 구역은 회원당 " + maxPerMember + "개까지 등록 가능");
+        }
+
+        SafeZone.SafeZoneBuilder builder = SafeZone.builder()
+                .member(member)
+                .name(dto.getName())
+                .type(dto.getType())
+                .finishOnArrival(dto.getFinishOnArrival());
+        if (dto.getType() == SafeZoneType.CIRCLE) {
+            validateCircle(dto.getCenter(), dto.getRadiusMeters());
+            builder.centerLat(dto.getCenter().getLat())
+                    .centerLng(dto.getCenter().getLng())
+                    .radiusMeters(dto.getRadiusMeters());
+        } else {
+            builder.area(polygonOf(dto.getArea()));
+        }
+
+        SafeZone safeZone = safeZoneRepository.save(builder.build());
+        eventPublisher.publishEvent(new SafeZonesChangedEvent(memberNumber));
+        return safeZone.getId();
+    }
+
+    @Transactional
+    @Override
+    public void update(Long memberNumber, SafeZoneUpdateDto dto) {
+        SafeZone safeZone = findOwnedZone(memberNumber, dto.getSafeZoneId());
+
+        if (dto.getType() == SafeZoneType.CIRCLE) {
+            validateCircle(dto.getCenter(), dto.getRadiusMeters());
+            safeZone.update(dto.getName(), dto.getType(), dto.getCenter().getLat(), dto.getCenter().getLng(),
+                    dto.getRadiusMeters(), null, dto.getFinishOnArrival());
+        } else {
+            safeZone.update(dto.getName(), dto.getType(), null, null, null,
+                    polygonOf(dto.getArea()), dto.getFinishOnArrival());
+        }
+        eventPublisher.publishEvent(new SafeZonesChangedEvent(memberNumber));
+    }
+
+    @Transactional
+    @Override
+    public void delete(Long memberNumber, Long safeZoneId) {
+        SafeZone safeZone = findOwnedZone(memberNumber, safeZoneId);
+
+        safeZoneRepository.delete(safeZone);
+        eventPublisher.publishEvent(new SafeZonesChangedEvent(memberNumber));
+    }
+
+    @Override
+    public List<SafeZoneResponseDto> getSafeZones(Long memberNumber) {
+        return safeZoneRepository.findByMemberNumber(memberNumber)
+                .stream()
+                .map(SafeZoneServiceImpl::ofDto)
+                .toList();
+    }
+
+    private SafeZone findOwnedZone(Long memberNumber, Long safeZoneId) {
+        SafeZone safeZone = safeZoneRepository.findById(safeZoneId)
+                .orElseThrow(() -> new RuntimeException("[SafeZoneService] findOwnedZone() : 존재하지 않는 안심 구역"));
+        if (!safeZone.getMember().getMemberNumber().equals(memberNumber)) {
+            throw new RuntimeException("[SafeZoneService] findOwnedZone() : 본인의 안심 구역이 아님");
+        }
+        return safeZone;
+    }
+
+    private void validateCircle(LatLngPoint center, Double radiusMeters) {
+        if (center == null || radiusMeters == null) {
+            throw new RuntimeException("[SafeZoneService] validateCircle() : 원형 구역은 center / radius_meters 필수");
+        }
+        GeoBounds.validatePoint(center.getLat(), center.getLng());
+        if (!(radiusMeters > 0) || radiusMeters > maxRadiusMeters) {
+            throw new RuntimeException("[SafeZoneService] validateCircle() : 반경은 0 초과 " + (long) maxRadiusMeters + "m 이하여야 함");
+        }
+    }
+
+    private static Polygon polygonOf(List<LatLngPoint> points) {
+        if (points == null) {
+            throw new RuntimeException("[SafeZoneService] polygonOf() : 다각형 구역은 area 필수");
+        }
+        return GeoBounds.polygonOf(points);
+    }
+
+    private static SafeZoneResponseDto ofDto(SafeZone safeZone) {
+        SafeZoneResponseDto.SafeZoneResponseDtoBuilder builder = SafeZoneResponseDto.builder()
+                .safeZoneId(safeZone.getId())
+                .name(safeZone.getName())
+                .type(safeZone.getType())
+                .finishOnArrival(safeZone.getFinishOnArrival())
+                .modifiedDate(safeZone.getModifiedDate());
+        if (safeZone.getType() == SafeZoneType.CIRCLE) {
+            return builder
+                    .center(new LatLngPoint(safeZone.getCenterLat(), safeZone.getCenterLng()))
+                    .radiusMeters(safeZone.getRadiusMeters())
+                    .build();
+        }
+
+        Coordinate[] coordinates = safeZone.getArea().getExteriorRing().getCoordinates();
+        List<LatLngPoint> area = new ArrayList<>(coordinates.length);
+        for (Coordinate coordinate : coordinates) {
+            area.add(new LatLngPoint(coordinate.getY(), coordinate.getX()));
+        }
+        return builder
+                .area(area)
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.dodo.smartsafereturn.safezone.utils;
+
+import com.dodo.smartsafereturn.safeRoute.utils.GeoBounds;
+import com.dodo.smartsafereturn.safezone.entity.SafeZone;
+import com.dodo.smartsafereturn.safezone.entity.SafeZoneType;
+import org.locationtech.jts.geom.CoordinateSequence;
+
+import java.util.List;
+
+/**
+ * 회원 한 명의 안심 구역을 primitive 배열에 모아둔 읽기 전용 인덱스
+ * - 구역 i 의 포함 여부를 long 비트 i 로 표현 -> 회원당 최대 MAX_ZONES 개
+ * - bbox 로 먼저 거르고 원형은 중심 거리, 다각형은 외곽선 ray casting 으로 판정
+ * - contains() 는 객체를 만들지 않음 (GPS 좌표마다 호출)
+ * - 다각형 꼭짓점은 모든 구역을 한 배열에 이어서 보관 (구역 i : vertexStart[i] ~ vertexStart[i + 1], 닫는 좌표 제외)
+ */
+public final class PackedSafeZones {
+
+    // 포함 여부를 long 비트로 표현하므로 64개까지
+    public static final int MAX_ZONES = Long.SIZE;
+    public static final PackedSafeZones EMPTY = new PackedSafeZones(List.of(), 0);
+
+    private final int size;
+    private final long[] zoneIds;
+    private final long finishMask;
+    private final double[] minLat;
+    private final double[] minLng;
+    private final double[] maxLat;
+    private final double[] maxLng;
+    // 원형 구역 (다각형은 radius 0)
+    private final double[] centerLat;
+    private final double[] centerLng;
+    private final double[] radiusMeters;
+    // 다각형 구역 꼭짓점 (원형은 빈 구간)
+    private final int[] vertexStart;
+    private final double[] vertexLat;
+    private final double[] vertexLng;
+    private final long loadedAtMillis;
+
+    public PackedSafeZones(List<SafeZone> zones, long loadedAtMillis) {
+        if (zones.size() > MAX_ZONES) {
+            throw new RuntimeException("[PackedSafeZones] PackedSafeZones() : 회원당 안심 구역은 " + MAX_ZONES + "개 이하");
+        }
+        this.size = zones.size();
+        this.loadedAtMillis = loadedAtMillis;
+        this.zoneIds = new long[size];
+        this.minLat = new double[size];
+        this.minLng = new double[size];
+        this.maxLat = new double[size];
+        this.maxLng = new double[size];
+        this.centerLat = new double[size];
+        this.centerLng = new double[size];
+        this.radiusMeters = new double[size];
+        this.vertexStart = new int[size + 1];
+
+        int vertexCount = 0;
+        for (SafeZone zone : zones) {
+            if (zone.getType() == SafeZoneType.POLYGON) {
+                vertexCount += zone.getArea().getExteriorRing().getNumPoints() - 1;
+            }
+        }
+        this.vertexLat = new double[vertexCount];
+        this.vertexLng = new double[vertexCount];
+
+        long finish = 0L;
+        int vertex = 0;
+        for (int i = 0; i < size; i++) {
+            SafeZone zone = zones.get(i);
+            zoneIds[i] = zone.getId();
+            if (Boolean.TRUE.equals(zone.getFinishOnArrival())) {
+                finish |= 1L << i;
+            }
+            vertexStart[i] = vertex;
+
+            if (zone.getType() == SafeZoneType.CIRCLE) {
+                double latDelta = zone.getRadiusMeters() / GeoBounds.METERS_PER_DEGREE;
+                double lngDelta = GeoBounds.degreesForMeters(zone.getCenterLat(), zone.getRadiusMeters());
+                centerLat[i] = zone.getCenterLat();
+                centerLng[i] = zone.getCenterLng();
+                radiusMeters[i] = zone.getRadiusMeters();
+                minLat[i] = zone.getCenterLat() - latDelta;
+                maxLat[i] = zone.getCenterLat() + latDelta;
+                minLng[i] = zone.getCenterLng() - lngDelta;
+                maxLng[i] = zone.getCenterLng() + lngDelta;
+                continue;
+            }
+
+            // 외곽선 (x : 경도, y : 위도), 마지막 닫는 좌표는 첫 좌표와 같으므로 제외
+            CoordinateSequence ring = zone.getArea().getExteriorRing().getCoordinateSequence();
+            minLat[i] = Double.POSITIVE_INFINITY;
+            minLng[i] = Double.POSITIVE_INFINITY;
+            maxLat[i] = Double.NEGATIVE_INFINITY;
+            maxLng[i] = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < ring.size() - 1; j++) {
+                double lat = ring.getY(j);
+                double lng = ring.getX(j);
+                vertexLat[vertex] = lat;
+                vertexLng[vertex] = lng;
+                vertex++;
+                minLat[i] = Math.min(minLat[i], lat);
+                minLng[i] = Math.min(minLng[i], lng);
+                maxLat[i] = Math.max(maxLat[i], lat);
+                maxLng[i] = Math.max(maxLng[i], lng);
+            }
+        }
+        this.vertexStart[size] = vertex;
+        this.finishMask = finish;
+    }
+
+    /**
+     * 좌표를 포함하는 구역 비트 (경계 위 좌표는 원형은 포함, 다각형은 ray casting 결과를 따름)
+     */
+    public long contains(double lat, double lng) {
+        long mask = 0L;
+        for (int i = 0; i < size; i++) {
+            if (lat < minLat[i] || lat > maxLat[i] || lng < minLng[i] || lng > maxLng[i]) {
+                continue;
+            }
+            boolean inside = radiusMeters[i] > 0
+                    ? GeoBounds.distanceMeters(centerLat[i], centerLng[i], lat, lng) <= radiusMeters[i]
+                    : polygonContains(vertexStart[i], vertexStart[i + 1], lat, lng);
+            if (inside) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 다른 시점의 인덱스 기준 포함 비트를 이 인덱스의 비트 위치로 옮김 (구역 ID 기준)
+     * - 구역이 추가 / 삭제 / 재조회되어 인덱스가 바뀐 경우 진행 중인 경로의 상태 유지용
+     * @return 이 인덱스 기준 포함 비트 (previous 에 없던 구역은 0)
+     */
+    public long remap(PackedSafeZones previous, long mask) {
+        long remapped = 0L;
+        for (int i = 0; i < size; i++) {
+            int j = previous.indexOf(zoneIds[i]);
+            if (j >= 0 && (mask & (1L << j)) != 0) {
+                remapped |= 1L << i;
+            }
+        }
+        return remapped;
+    }
+
+    /**
+     * previous 에 없던 (새로 추가된) 구역 비트
+     */
+    public long addedMask(PackedSafeZones previous) {
+        long added = 0L;
+        for (int i = 0; i < size; i++) {
+            if (previous.indexOf(zoneIds[i]) < 0) {
+                added |= 1L << i;
+            }
+        }
+        return added;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long zoneId(int index) {
+        return zoneIds[index];
+    }
+
+    // 도착 시 경로를 완료 처리하는 구역 비트
+    public long finishMask() {
+        return finishMask;
+    }
+
+    public long loadedAtMillis() {
+        return loadedAtMillis;
+    }
+
+    private int indexOf(long zoneId) {
+        for (int i = 0; i < size; i++) {
+            if (zoneIds[i] == zoneId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // even-odd ray casting (경도 방향으로 반직선을 그어 외곽선과 만나는 횟수)
+    private boolean polygonContains(int start, int end, double lat, double lng) {
+        boolean inside = false;
+        for (int i = start, j = end - 1; i < end; j = i++) {
+            double latI = vertexLat[i];
+            double latJ = vertexLat[j];
+            if ((latI > lat) != (latJ > lat)
+                    && lng < (vertexLng[j] - vertexLng[i]) * (lat - latI) / (latJ - latI) + vertexLng[i]) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+}
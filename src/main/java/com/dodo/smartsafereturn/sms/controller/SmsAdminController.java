@@ -0,0 +1,94 @@
+package com.dodo.smartsafereturn.sms.controller;
+
+import com.dodo.smartsafereturn.sms.dto.SmsBalanceDto;
+import com.dodo.smartsafereturn.sms.service.SmsBalanceLedger;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/sms")
+@RequiredArgsConstructor
+@Tag(name = "SMS 관리자 API", description = "CoolSMS 잔액 장부 조회 및 동기화 (관리자 전용)")
+public class SmsAdminController {
+
+    private final SmsBalanceLedger balanceLedger;
+
+    // 잔액 장부 조회
+    @Operation(
+            summary = "SMS 잔액 장부 조회",
+            description = "메모리 잔액 장부의 추정 잔액 / 포인트와 마지막 동기화 정보를 조회합니다. (CoolSMS 호출 없음)",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "잔액 장부 조회 성공",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SmsBalanceDto.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "잔액 장부 조회 응답 예시",
+                                                    summary = "마지막 동기화 후 3건 발송",
+                                                    value = """
+                                                            {
+                                                              "balance": 10000,
+                                                              "point": 940,
+                                                              "synced_balance": 10000,
+                                                              "synced_point": 1000,
+                                                              "cost_per_sms": 20,
+                                                              "sendable_count": 500,
+                                                              "sent_since_sync": 3,
+                                                              "last_synced_at": "2025-04-03T14:30:00.000",
+                                                              "last_sync_error": null
+                                                            }
+                                                            """
+                                            )
+                                    }
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/balance")
+    public ResponseEntity<SmsBalanceDto> getBalance() {
+        return ResponseEntity.ok(balanceLedger.getState());
+    }
+
+    // 잔액 장부 즉시 동기화
+    @Operation(
+            summary = "SMS 잔액 장부 동기화",
+            description = "CoolSMS 에서 실제 잔액 / 포인트를 조회해서 장부를 즉시 동기화합니다. (충전 직후 등)",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "동기화 결과 (실패 시 last_sync_error 에 사유 포함)",
+                            content = @Content(schema = @Schema(implementation = SmsBalanceDto.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "관리자 권한 없음"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/balance/refresh")
+    public ResponseEntity<SmsBalanceDto> refreshBalance() {
+        return ResponseEntity.ok(balanceLedger.refresh());
+    }
+}
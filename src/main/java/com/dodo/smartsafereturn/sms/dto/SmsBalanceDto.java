@@ -0,0 +1,33 @@
+package com.dodo.smartsafereturn.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SMS 잔액 장부 상태 (관리자 조회용)
+ * - balance / point : 마지막 동기화 값에서 발송 건수만큼 차감한 추정치
+ * - syncedBalance / syncedPoint : 마지막으로 CoolSMS 에서 조회한 실제 값
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SmsBalanceDto {
+
+    private long balance;
+    private long point;
+    private long syncedBalance;
+    private long syncedPoint;
+    private long costPerSms;
+    // 추정 잔액으로 보낼 수 있는 SMS 건수
+    private long sendableCount;
+    // 마지막 동기화 이후 장부에서 차감한 SMS 건수
+    private long sentSinceSync;
+    private LocalDateTime lastSyncedAt;
+    // 마지막 동기화 실패 메시지 (성공 시 null)
+    private String lastSyncError;
+}
@@ -0,0 +1,25 @@
+package com.dodo.smartsafereturn.sms.dto;
+
+import com.dodo.smartsafereturn.sms.entity.SmsDispatchStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SmsDispatchStatusDto {
+
+    private Long messageLogId;
+    private SmsDispatchStatus status;
+    // 지금까지 발송 시도 횟수
+    private int attempts;
+    // PENDING 일 때 다음 재시도 시각
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime sentAt;
+    private String lastError;
+}
@@ -0,0 +1,8 @@
+package com.dodo.smartsafereturn.sms.dto;
+
+/**
+ * outbox 에 발송 건이 저장되었음을 알리는 이벤트
+ * - 트랜잭션 커밋 후에만 SmsOutboxRelay 가 받아서 폴링 주기를 기다리지 않고 바로 발송
+ */
+public record SmsOutboxEnqueuedEvent(Long outboxId) {
+}
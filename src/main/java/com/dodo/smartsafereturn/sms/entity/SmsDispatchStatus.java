@@ -0,0 +1,12 @@
+package com.dodo.smartsafereturn.sms.entity;
+
+/**
+ * SMS outbox 발송 상태
+ * - PENDING : 발송 대기 (재시도 대기 포함)
+ * - SENDING : 워커가 가져가서 발송 중 (lease 시간이 지나면 다시 가져갈 수 있음)
+ * - SENT : 발송 완료
+ * - FAILED : 최대 재시도 횟수 초과
+ */
+public enum SmsDispatchStatus {
+    PENDING, SENDING, SENT, FAILED
+}
@@ -0,0 +1,79 @@
+package com.dodo.smartsafereturn.sms.entity;
+
+import com.dodo.smartsafereturn.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SMS 발송 outbox
+ * - MessageLog 와 같은 트랜잭션에서 저장 -> 커밋된 메시지 로그는 반드시 발송 대상이 됨
+ * - 실제 CoolSMS 호출은 SmsOutboxRelay 워커가 트랜잭션 밖에서 수행 (JDBC 커넥션을 잡고 외부 API 를 기다리지 않음)
+ * - message_log_id 는 FK 없이 값만 저장 (메시지 로그 삭제와 발송 기록을 분리)
+ * - 상태 변경은 SmsOutboxRepository 의 조건부 UPDATE 로만 (가져가기 / 발송 결과 기록)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "sms_outbox",
+        indexes = {
+                @Index(name = "uk_sms_outbox_message_log_id", columnList = "message_log_id", unique = true),
+                @Index(name = "idx_sms_outbox_status_next_attempt_at", columnList = "status, next_attempt_at")
+        }
+)
+public class SmsOutbox extends BaseTimeEntity {
+
+    private static final String RECIPIENT_DELIMITER = ",";
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sms_outbox_id")
+    private Long id;
+
+    @Column(name = "message_log_id", nullable = false)
+    private Long messageLogId;
+
+    // 수신 번호 목록 (콤마 구분)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String recipients;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SmsDispatchStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 발송 가능 시각 (PENDING : 재시도 시각, SENDING : lease 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Builder
+    public SmsOutbox(Long messageLogId, List<String> recipients, String message) {
+        this.messageLogId = messageLogId;
+        this.recipients = String.join(RECIPIENT_DELIMITER, recipients);
+        this.message = message;
+        this.status = SmsDispatchStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public List<String> getRecipientList() {
+        return Arrays.asList(recipients.split(RECIPIENT_DELIMITER));
+    }
+}
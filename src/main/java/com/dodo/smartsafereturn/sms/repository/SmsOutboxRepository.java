@@ -0,0 +1,50 @@
+package com.dodo.smartsafereturn.sms.repository;
+
+import com.dodo.smartsafereturn.sms.entity.SmsDispatchStatus;
+import com.dodo.smartsafereturn.sms.entity.SmsOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface SmsOutboxRepository extends JpaRepository<SmsOutbox, Long> {
+
+    Optional<SmsOutbox> findByMessageLogId(Long messageLogId);
+
+    // 발송 가능한 행을 잠그고 id 만 조회 -> 다른 인스턴스가 잠근 행은 건너뜀 (skip locked)
+    // lease 가 만료된 SENDING 행 (발송 도중 인스턴스 종료 등) 도 다시 가져감
+    @Query(value = "select sms_outbox_id from sms_outbox " +
+            "where status in ('PENDING', 'SENDING') and next_attempt_at <= :now " +
+            "order by next_attempt_at limit :limit for update skip locked", nativeQuery = true)
+    List<Long> lockDispatchable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 잠근 행을 SENDING 으로 변경 + 시도 횟수 증가 + lease 만료 시각 설정
+    @Modifying
+    @Query("update SmsOutbox o set o.status = com.dodo.smartsafereturn.sms.entity.SmsDispatchStatus.SENDING, " +
+            "o.attempts = o.attempts + 1, o.nextAttemptAt = :leaseUntil where o.id in :ids")
+    int markSending(@Param("ids") List<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 발송 결과 기록 -> 이 워커가 가져간 시도 (SENDING + 가져갈 때의 시도 횟수) 일 때만 변경
+    // 0 이면 lease 만료 후 다른 워커가 다시 가져간 건 (시도 횟수가 증가했거나 이미 결과가 기록됨)
+    @Modifying
+    @Query("update SmsOutbox o set o.status = com.dodo.smartsafereturn.sms.entity.SmsDispatchStatus.SENT, " +
+            "o.sentAt = :now, o.lastError = null, o.modifiedDate = :now " +
+            "where o.id = :id and o.status = com.dodo.smartsafereturn.sms.entity.SmsDispatchStatus.SENDING and o.attempts = :attempts")
+    int markSent(@Param("id") Long id, @Param("attempts") int attempts, @Param("now") LocalDateTime now);
+
+    // 재시도 예약 (PENDING + 다음 시도 시각) or FAILED -> markSent 와 같은 조건
+    @Modifying
+    @Query("update SmsOutbox o set o.status = :status, o.nextAttemptAt = :nextAttemptAt, o.lastError = :error, o.modifiedDate = :now " +
+            "where o.id = :id and o.status = com.dodo.smartsafereturn.sms.entity.SmsDispatchStatus.SENDING and o.attempts = :attempts")
+    int markFailure(@Param("id") Long id, @Param("attempts") int attempts, @Param("status") SmsDispatchStatus status,
+                    @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from SmsOutbox o where o.messageLogId = :messageLogId")
+    int deleteByMessageLogId(@Param("messageLogId") Long messageLogId);
+}
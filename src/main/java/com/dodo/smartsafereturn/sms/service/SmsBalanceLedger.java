@@ -0,0 +1,159 @@
+package com.dodo.smartsafereturn.sms.service;
+
+import com.dodo.smartsafereturn.sms.dto.SmsBalanceDto;
+import com.dodo.smartsafereturn.sms.exception.InsufficientBalanceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.sdk.message.model.Balance;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CoolSMS 잔액 장부
+ * - 발송할 때마다 잔액 / 포인트를 조회하지 않고 메모리의 추정 잔액으로 비교
+ * - refresh-interval 주기 + 다중 발송 직후 + 발송 실패 시 + 추정 잔액 부족 시 CoolSMS 에서 실제 값으로 동기화 (조회 1회로 잔액, 포인트 모두 갱신)
+ * - 발송 전 reserve() 로 cost-per-sms * 건수 만큼 원자적으로 차감 (포인트 우선, 부족하면 현금 잔액)
+ *
+ * 상태는 불변 Snapshot 하나를 AtomicReference 로 교체 -> 잔액 / 포인트가 항상 같은 시점의 값
+ *
+ * 메트릭
+ * - sms.balance.estimated, sms.point.estimated
+ */
+@Slf4j
+@Component
+public class SmsBalanceLedger {
+
+    private final DefaultMessageService messageService;
+    private final long costPerSms;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    public SmsBalanceLedger(DefaultMessageService messageService,
+                            MeterRegistry meterRegistry,
+                            @Value("${cool-sms.cost-per-sms:20}") long costPerSms) {
+        this.messageService = messageService;
+        this.costPerSms = costPerSms;
+
+        Gauge.builder("sms.balance.estimated", snapshot, ref -> ref.get().balance()).register(meterRegistry);
+        Gauge.builder("sms.point.estimated", snapshot, ref -> ref.get().point()).register(meterRegistry);
+    }
+
+    /**
+     * messageCount 건 발송 비용을 장부에서 차감
+     * - 한 번도 동기화되지 않았으면 (기동 직후 조회 실패 등) 먼저 동기화
+     * - 추정 잔액이 부족하면 충전 등으로 실제 잔액과 어긋났을 수 있으므로 한 번 동기화 후 다시 차감
+     * @throws InsufficientBalanceException 동기화 후에도 포인트, 현금 잔액 모두 부족
+     */
+    public void reserve(int messageCount) {
+        if (!snapshot.get().synced()) {
+            refresh();
+            if (!snapshot.get().synced()) {
+                throw new RuntimeException("[SmsBalanceLedger] reserve() : 잔액 조회 실패");
+            }
+        }
+
+        long required = costPerSms * messageCount;
+        if (deduct(required, messageCount)) {
+            return;
+        }
+
+        refresh();
+        if (deduct(required, messageCount)) {
+            return;
+        }
+
+        Snapshot current = snapshot.get();
+        log.warn("[SmsBalanceLedger] Insufficient balance: balance={}, point={}, required={}",
+                current.balance(), current.point(), required);
+        throw new InsufficientBalanceException("SMS 발송을 위한 잔액이 부족합니다. 현재 잔액: " + current.balance() + "원, 현재 포인트: " + current.point(),
+                current.balance(), current.point());
+    }
+
+    /**
+     * CoolSMS 에서 실제 잔액 / 포인트 조회 후 장부 교체
+     * - 실패하면 기존 추정치를 유지하고 에러만 기록
+     */
+    @Scheduled(fixedDelayString = "${cool-sms.balance.refresh-interval:PT5M}")
+    public SmsBalanceDto refresh() {
+        try {
+            Balance balance = messageService.getBalance();
+            long currentBalance = balance.getBalance() != null ? balance.getBalance().longValue() : 0L;
+            long currentPoint = balance.getPoint() != null ? balance.getPoint().longValue() : 0L;
+            snapshot.set(Snapshot.synced(currentBalance, currentPoint, LocalDateTime.now()));
+            log.debug("[SmsBalanceLedger] refresh() : balance={}, point={}", currentBalance, currentPoint);
+        } catch (Exception e) {
+            log.error("[SmsBalanceLedger] Failed to refresh balance: {}", e.getMessage(), e);
+            snapshot.updateAndGet(current -> current.withError(e.getMessage()));
+        }
+        return getState();
+    }
+
+    // 현재 장부에서 원자적으로 차감 -> 잔액 부족이면 false
+    private boolean deduct(long required, int messageCount) {
+        while (true) {
+            Snapshot current = snapshot.get();
+            Snapshot next = current.deduct(required, messageCount);
+            if (next == null) {
+                return false;
+            }
+            if (snapshot.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    public long getBalance() {
+        return snapshot.get().balance();
+    }
+
+    public long getPoint() {
+        return snapshot.get().point();
+    }
+
+    public SmsBalanceDto getState() {
+        Snapshot current = snapshot.get();
+        return SmsBalanceDto.builder()
+                .balance(current.balance())
+                .point(current.point())
+                .syncedBalance(current.syncedBalance())
+                .syncedPoint(current.syncedPoint())
+                .costPerSms(costPerSms)
+                .sendableCount(costPerSms > 0 ? Math.max(current.balance(), current.point()) / costPerSms : Long.MAX_VALUE)
+                .sentSinceSync(current.sentSinceSync())
+                .lastSyncedAt(current.syncedAt())
+                .lastSyncError(current.error())
+                .build();
+    }
+
+    private record Snapshot(boolean synced, long balance, long point, long syncedBalance, long syncedPoint,
+                            long sentSinceSync, LocalDateTime syncedAt, String error) {
+
+        private static final Snapshot EMPTY = new Snapshot(false, 0L, 0L, 0L, 0L, 0L, null, null);
+
+        private static Snapshot synced(long balance, long point, LocalDateTime syncedAt) {
+            return new Snapshot(true, balance, point, balance, point, 0L, syncedAt, null);
+        }
+
+        // CoolSMS 는 포인트를 우선 사용하고, 포인트가 부족하면 현금 잔액을 사용 -> 둘 다 부족하면 null
+        private Snapshot deduct(long required, int messageCount) {
+            if (point >= required) {
+                return new Snapshot(synced, balance, point - required, syncedBalance, syncedPoint,
+                        sentSinceSync + messageCount, syncedAt, error);
+            }
+            if (balance >= required) {
+                return new Snapshot(synced, balance - required, point, syncedBalance, syncedPoint,
+                        sentSinceSync + messageCount, syncedAt, error);
+            }
+            return null;
+        }
+
+        private Snapshot withError(String error) {
+            return new Snapshot(synced, balance, point, syncedBalance, syncedPoint, sentSinceSync, syncedAt, error);
+        }
+    }
+}
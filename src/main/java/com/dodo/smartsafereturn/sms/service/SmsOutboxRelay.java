@@ -0,0 +1,196 @@
+package com.dodo.smartsafereturn.sms.service;
+
+import com.dodo.smartsafereturn.global.utils.NamedThreadFactory;
+import com.dodo.smartsafereturn.sms.dto.SmsOutboxEnqueuedEvent;
+import com.dodo.smartsafereturn.sms.entity.SmsDispatchStatus;
+import com.dodo.smartsafereturn.sms.entity.SmsOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SMS outbox 발송 워커
+ * - outbox 에서 발송 건을 가져와 (짧은 트랜잭션) 고정 크기 워커 풀에서 CoolSMS 호출 (트랜잭션 밖)
+ * - 결과는 다시 짧은 트랜잭션으로 SENT / 재시도 예약 / FAILED 기록
+ * - 새 발송 건은 커밋 직후 이벤트로 바로 깨우고, 재시도 / 누락분은 poll-interval 주기로 가져감
+ * - 워커 풀 여유분만큼만 가져가므로 SMS 제공자가 느려져도 대기열이 무한히 쌓이지 않음
+ *
+ * 발송 도중 인스턴스가 종료되면 lease 만료 후 다시 발송 (at-least-once)
+ * - lease 가 만료된 건은 다른 워커가 다시 가져갈 수 있음 -> 대기열에서 lease 가 지난 건은 발송하지 않고,
+ *   결과 기록 시 lease 를 이미 잃었으면 (0 행 갱신) 새로 가져간 워커의 결과를 덮어쓰지 않음
+ *
+ * 메트릭
+ * - sms.outbox.dispatch{result=sent|retry|failed|lost}, sms.outbox.workers.active
+ */
+@Slf4j
+@Component
+public class SmsOutboxRelay {
+
+    private final SmsOutboxService smsOutboxService;
+    private final SmsService smsService;
+    private final int poolSize;
+    private final int queueCapacity;
+
+    private final ThreadPoolExecutor workers;
+    // 커밋 직후 깨우기용 단일 스레드 (요청 스레드에서 DB 조회를 하지 않도록)
+    private final ExecutorService waker;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Counter lostCounter;
+
+    public SmsOutboxRelay(SmsOutboxService smsOutboxService,
+                          SmsService smsService,
+                          MeterRegistry meterRegistry,
+                          @Value("${sms.outbox.pool-size:4}") int poolSize,
+                          @Value("${sms.outbox.queue-capacity:100}") int queueCapacity) {
+        this.smsOutboxService = smsOutboxService;
+        this.smsService = smsService;
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.workers = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory("sms-outbox-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.waker = Executors.newSingleThreadExecutor(new NamedThreadFactory("sms-outbox-waker-"));
+
+        this.sentCounter = dispatchCounter(meterRegistry, "sent");
+        this.retryCounter = dispatchCounter(meterRegistry, "retry");
+        this.failedCounter = dispatchCounter(meterRegistry, "failed");
+        this.lostCounter = dispatchCounter(meterRegistry, "lost");
+        Gauge.builder("sms.outbox.workers.active", workers, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    // outbox 저장 트랜잭션 커밋 후 바로 발송 시도
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnqueued(SmsOutboxEnqueuedEvent event) {
+        try {
+            waker.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 -> 다음 기동 시 폴링으로 발송
+            log.warn("[SmsOutboxRelay] onEnqueued() : relay is shutting down, outboxId={}", event.outboxId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sms.outbox.poll-interval:PT1S}", initialDelayString = "${sms.outbox.initial-delay:PT10S}")
+    public void poll() {
+        drain();
+    }
+
+    /**
+     * 워커 풀 여유분만큼 발송 건을 가져와서 제출
+     * - 동시에 한 스레드만 가져감 (이미 가져가는 중이면 바로 반환, 남은 건은 다음 폴링에서 처리)
+     */
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int free = poolSize + queueCapacity - workers.getActiveCount() - workers.getQueue().size();
+            if (free <= 0) {
+                return;
+            }
+            List<SmsOutbox> claimed = smsOutboxService.claim(free);
+            for (SmsOutbox outbox : claimed) {
+                try {
+                    workers.execute(() -> dispatch(outbox));
+                } catch (RejectedExecutionException e) {
+                    // SENDING 상태로 남음 -> lease 만료 후 다시 가져감
+                    log.warn("[SmsOutboxRelay] drain() : worker queue is full, outboxId={}", outbox.getId());
+                }
+            }
+        } catch (Exception e) {
+            log.error("[SmsOutboxRelay] drain() : outbox 조회 실패", e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private void dispatch(SmsOutbox outbox) {
+        // 대기열에서 기다리는 동안 lease 만료 -> 다른 워커가 이미 가져갔을 수 있으므로 발송하지 않음 (다음 폴링에서 다시 가져감)
+        if (!LocalDateTime.now().isBefore(outbox.getNextAttemptAt())) {
+            lostLease(outbox, "dispatch");
+            return;
+        }
+
+        List<String> recipients = outbox.getRecipientList();
+        try {
+            if (recipients.size() == 1) {
+                smsService.sendSms(recipients.get(0), outbox.getMessage());
+            } else {
+                smsService.sendSmsToMany(recipients, outbox.getMessage());
+            }
+        } catch (Exception e) {
+            log.warn("[SmsOutboxRelay] dispatch() : 발송 실패 outboxId={}, attempts={}", outbox.getId(), outbox.getAttempts(), e);
+            recordFailure(outbox, e);
+            return;
+        }
+
+        if (!smsOutboxService.recordSuccess(outbox.getId(), outbox.getAttempts())) {
+            lostLease(outbox, "recordSuccess");
+            return;
+        }
+        sentCounter.increment();
+    }
+
+    private void recordFailure(SmsOutbox outbox, Exception e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        Optional<SmsDispatchStatus> status = smsOutboxService.recordFailure(outbox.getId(), outbox.getAttempts(), cause.getMessage());
+        if (status.isEmpty()) {
+            lostLease(outbox, "recordFailure");
+        } else if (status.get() == SmsDispatchStatus.FAILED) {
+            failedCounter.increment();
+        } else {
+            retryCounter.increment();
+        }
+    }
+
+    // lease 만료 후 다른 워커가 다시 가져간 건 -> 결과는 그 워커가 기록
+    private void lostLease(SmsOutbox outbox, String stage) {
+        lostCounter.increment();
+        log.warn("[SmsOutboxRelay] {}() : lease 만료로 발송 건을 다른 워커가 가져감 outboxId={}, attempts={}, leaseUntil={}",
+                stage, outbox.getId(), outbox.getAttempts(), outbox.getNextAttemptAt());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        waker.shutdown();
+        workers.shutdown();
+        try {
+            // 진행 중인 발송은 마무리 (남은 건은 lease 만료 후 다른 인스턴스 / 재기동 시 발송)
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Counter dispatchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("sms.outbox.dispatch")
+                .tag("result", result)
+                .description("SMS outbox 발송 결과")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,24 @@
+package com.dodo.smartsafereturn.sms.service;
+
+import com.dodo.smartsafereturn.sms.dto.SmsDispatchStatusDto;
+import com.dodo.smartsafereturn.sms.entity.SmsDispatchStatus;
+import com.dodo.smartsafereturn.sms.entity.SmsOutbox;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SmsOutboxService {
+
+    // 발송 건 저장 (호출한 쪽 트랜잭션에 참여) -> 커밋 후 워커가 발송
+    Long enqueue(Long messageLogId, List<String> recipients, String message);
+    // 발송 가능한 건을 최대 limit 개 가져가서 SENDING 으로 변경
+    List<SmsOutbox> claim(int limit);
+    // 발송 성공 기록 (attempts : 가져갈 때의 시도 횟수) -> false 면 lease 만료로 다른 워커가 다시 가져간 건 (기록 X)
+    boolean recordSuccess(Long outboxId, int attempts);
+    // 발송 실패 기록 -> 재시도 예약 (PENDING) or FAILED 반환, lease 를 잃었으면 empty (기록 X)
+    Optional<SmsDispatchStatus> recordFailure(Long outboxId, int attempts, String error);
+    // 메시지 로그별 발송 상태 조회
+    SmsDispatchStatusDto getDispatchStatus(Long messageLogId);
+    // 메시지 로그 삭제 시 발송 기록 삭제
+    void deleteByMessageLogId(Long messageLogId);
+}
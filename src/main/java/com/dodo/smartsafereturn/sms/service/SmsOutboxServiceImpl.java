@@ -0,0 +1,135 @@
+package com.dodo.smartsafereturn.sms.service;
+
+import com.dodo.smartsafereturn.sms.dto.SmsDispatchStatusDto;
+import com.dodo.smartsafereturn.sms.dto.SmsOutboxEnqueuedEvent;
+import com.dodo.smartsafereturn.sms.entity.SmsDispatchStatus;
+import com.dodo.smartsafereturn.sms.entity.SmsOutbox;
+import com.dodo.smartsafereturn.sms.repository.SmsOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SMS outbox 상태 관리
+ * - 재시도 간격 : base-backoff * 2^(시도횟수 - 1), 최대 max-backoff
+ * - max-attempts 만큼 실패하면 FAILED
+ * - 발송 결과는 가져간 워커가 아직 lease 를 가지고 있을 때만 기록 (SENDING + 시도 횟수 조건부 UPDATE)
+ *   -> lease 만료 후 다른 워커가 다시 가져간 건을 예전 워커가 덮어쓰지 않음
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SmsOutboxServiceImpl implements SmsOutboxService {
+
+    private final SmsOutboxRepository smsOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public SmsOutboxServiceImpl(SmsOutboxRepository smsOutboxRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${sms.outbox.max-attempts:5}") int maxAttempts,
+                                @Value("${sms.outbox.base-backoff:PT5S}") Duration baseBackoff,
+                                @Value("${sms.outbox.max-backoff:PT5M}") Duration maxBackoff,
+                                @Value("${sms.outbox.lease:PT1M}") Duration lease) {
+        this.smsOutboxRepository = smsOutboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    @Transactional
+    @Override
+    public Long enqueue(Long messageLogId, List<String> recipients, String message) {
+        SmsOutbox saved = smsOutboxRepository.save(
+                SmsOutbox.builder()
+                        .messageLogId(messageLogId)
+                        .recipients(recipients)
+                        .message(message)
+                        .build()
+        );
+        // @TransactionalEventListener(AFTER_COMMIT) -> 롤백되면 발송 X
+        eventPublisher.publishEvent(new SmsOutboxEnqueuedEvent(saved.getId()));
+        return saved.getId();
+    }
+
+    @Transactional
+    @Override
+    public List<SmsOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = smsOutboxRepository.lockDispatchable(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        smsOutboxRepository.markSending(ids, now.plus(lease));
+        return smsOutboxRepository.findAllById(ids);
+    }
+
+    @Transactional
+    @Override
+    public boolean recordSuccess(Long outboxId, int attempts) {
+        LocalDateTime now = LocalDateTime.now();
+        return smsOutboxRepository.markSent(outboxId, attempts, now) > 0;
+    }
+
+    @Transactional
+    @Override
+    public Optional<SmsDispatchStatus> recordFailure(Long outboxId, int attempts, String error) {
+        boolean retry = attempts < maxAttempts;
+        SmsDispatchStatus status = retry ? SmsDispatchStatus.PENDING : SmsDispatchStatus.FAILED;
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = smsOutboxRepository.markFailure(outboxId, attempts, status, now.plus(backoff(attempts)), truncate(error), now);
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        if (!retry) {
+            log.error("[SmsOutboxService] recordFailure() : 최대 재시도 초과 outboxId={}, attempts={}", outboxId, attempts);
+        }
+        return Optional.of(status);
+    }
+
+    @Override
+    public SmsDispatchStatusDto getDispatchStatus(Long messageLogId) {
+        SmsOutbox outbox = smsOutboxRepository.findByMessageLogId(messageLogId)
+                .orElseThrow(() -> new RuntimeException("[SmsOutboxService] getDispatchStatus() : 발송 기록이 없는 메시지 로그"));
+
+        return SmsDispatchStatusDto.builder()
+                .messageLogId(outbox.getMessageLogId())
+                .status(outbox.getStatus())
+                .attempts(outbox.getAttempts())
+                .nextAttemptAt(outbox.getNextAttemptAt())
+                .sentAt(outbox.getSentAt())
+                .lastError(outbox.getLastError())
+                .build();
+    }
+
+    @Transactional
+    @Override
+    public void deleteByMessageLogId(Long messageLogId) {
+        smsOutboxRepository.deleteByMessageLogId(messageLogId);
+    }
+
+    // last_error 컬럼 길이
+    private static String truncate(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    private Duration backoff(int attempts) {
+        // 2^(attempts-1) 이 너무 커지지 않도록 지수 상한
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = baseBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,11 @@
+package com.dodo.smartsafereturn.sosmessage.dto;
+
+import java.util.List;
+
+/**
+ * SOS 발송에 필요한 회원별 데이터 (SosRecipientCache 캐싱 단위)
+ * - phones : 비상연락망 전화번호 목록
+ * - message : 회원이 등록한 SOS 메시지 (없으면 null)
+ */
+public record SosRecipients(List<String> phones, String message) {
+}
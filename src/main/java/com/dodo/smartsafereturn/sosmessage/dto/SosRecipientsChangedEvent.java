@@ -0,0 +1,9 @@
+package com.dodo.smartsafereturn.sosmessage.dto;
+
+/**
+ * 회원의 비상연락망 or SOS 메시지가 변경되었음을 알리는 이벤트
+ * - EmergencyContactServiceImpl, SosMessageServiceImpl 쓰기 작업에서 발행
+ * - 트랜잭션 커밋 후 SosRecipientCache 에서 해당 회원 캐시 제거
+ */
+public record SosRecipientsChangedEvent(Long memberNumber) {
+}
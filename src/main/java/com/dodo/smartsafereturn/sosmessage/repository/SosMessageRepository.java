@@ -17,4 +17,8 @@ public interface SosMessageRepository extends JpaRepository<SosMessage, Long> {
     Optional<SosMessage> findMemberSosMessage(@Param("memberNumber") Long memberNumber);
 
     Optional<SosMessage> findByMember_memberNumber(Long memberMemberNumber);
+
+    // SOS 발송용 -> 메시지 내용만 조회
+    @Query("select sm.content from SosMessage sm where sm.member.memberNumber = :memberNumber and sm.isDeleted = false ")
+    Optional<String> findMemberSosContent(@Param("memberNumber") Long memberNumber);
 }
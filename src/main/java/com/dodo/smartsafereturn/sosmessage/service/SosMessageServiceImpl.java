@@ -5,10 +5,12 @@ import com.dodo.smartsafereturn.member.repository.MemberRepository;
 import com.dodo.smartsafereturn.sosmessage.dto.SosMessageCreateDto;
 import com.dodo.smartsafereturn.sosmessage.dto.SosMessageResponseDto;
 import com.dodo.smartsafereturn.sosmessage.dto.SosMessageUpdateDto;
+import com.dodo.smartsafereturn.sosmessage.dto.SosRecipientsChangedEvent;
 import com.dodo.smartsafereturn.sosmessage.entity.SosMessage;
 import com.dodo.smartsafereturn.sosmessage.repository.SosMessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class SosMessageServiceImpl implements SosMessageService {
 
     private final SosMessageRepository sosMessageRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -56,6 +59,9 @@ public class SosMessageServiceImpl implements SosMessageService {
                             .member(member)
                             .build());
         }
+
+        // SOS 발송 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(new SosRecipientsChangedEvent(createDto.getMemberNumber()));
     }
 
     @Transactional
@@ -66,6 +72,7 @@ public class SosMessageServiceImpl implements SosMessageService {
 
         sosMessage.update(updateDto.getContent());
 
+        eventPublisher.publishEvent(new SosRecipientsChangedEvent(sosMessage.getMember().getMemberNumber()));
     }
 
     @Transactional
@@ -81,6 +88,8 @@ public class SosMessageServiceImpl implements SosMessageService {
         } else {
             throw new RuntimeException("SosMessageService : 이미 삭제되어 있음");
         }
+
+        eventPublisher.publishEvent(new SosRecipientsChangedEvent(sosMessage.getMember().getMemberNumber()));
     }
 
     @Override
@@ -0,0 +1,92 @@
+package com.dodo.smartsafereturn.sosmessage.service;
+
+import com.dodo.smartsafereturn.emergencycontact.repository.EmergencyContactRepository;
+import com.dodo.smartsafereturn.sosmessage.dto.SosRecipients;
+import com.dodo.smartsafereturn.sosmessage.dto.SosRecipientsChangedEvent;
+import com.dodo.smartsafereturn.sosmessage.repository.SosMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 SOS 발송 데이터 (비상연락망 번호 + SOS 메시지) 캐시
+ * - SOS 요청 시 비상연락망 / 메시지를 매번 조회하지 않도록 함 (캐시 미스 시 각각 쿼리 1번)
+ * - 비상연락망 / SOS 메시지 쓰기 트랜잭션 커밋 후 SosRecipientsChangedEvent 로 해당 회원 제거
+ * - 조회 도중 무효화가 일어나면 조회 결과를 캐싱하지 않음 (오래된 값이 다시 들어가는 경쟁 방지)
+ * - ttl : 이벤트를 거치지 않는 변경 (회원 삭제 등) 대비 최대 보관 시간
+ * - max-size 도달 시 만료 항목부터 정리, 그래도 가득 차 있으면 캐싱하지 않음
+ */
+@Slf4j
+@Component
+public class SosRecipientCache {
+
+    private final EmergencyContactRepository emergencyContactRepository;
+    private final SosMessageRepository sosMessageRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final ConcurrentHashMap<Long, Entry> cache = new ConcurrentHashMap<>();
+    // 무효화 횟수 -> 조회 시작 시점과 다르면 캐싱하지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public SosRecipientCache(EmergencyContactRepository emergencyContactRepository,
+                             SosMessageRepository sosMessageRepository,
+                             @Value("${sos.recipient-cache.ttl:PT30M}") Duration ttl,
+                             @Value("${sos.recipient-cache.max-size:10000}") int maxSize) {
+        this.emergencyContactRepository = emergencyContactRepository;
+        this.sosMessageRepository = sosMessageRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    public SosRecipients get(Long memberNumber) {
+        long now = System.nanoTime();
+        Entry entry = cache.get(memberNumber);
+        if (entry != null && now - entry.loadedAt() < ttlNanos) {
+            return entry.recipients();
+        }
+
+        long stamp = invalidations.get();
+        List<String> phones = emergencyContactRepository.findMemberContactPhones(memberNumber);
+        String message = sosMessageRepository.findMemberSosContent(memberNumber).orElse(null);
+        SosRecipients recipients = new SosRecipients(List.copyOf(phones), message);
+
+        if (invalidations.get() == stamp) {
+            put(memberNumber, new Entry(recipients, now));
+        }
+        return recipients;
+    }
+
+    public void evict(Long memberNumber) {
+        invalidations.incrementAndGet();
+        cache.remove(memberNumber);
+    }
+
+    // 쓰기 트랜잭션 커밋 후 무효화 (트랜잭션 밖에서 발행된 경우도 바로 무효화)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecipientsChanged(SosRecipientsChangedEvent event) {
+        evict(event.memberNumber());
+    }
+
+    private void put(Long memberNumber, Entry entry) {
+        if (cache.size() >= maxSize) {
+            long now = System.nanoTime();
+            cache.values().removeIf(e -> now - e.loadedAt() >= ttlNanos);
+            if (cache.size() >= maxSize) {
+                log.debug("[SosRecipientCache] cache is full : size={}", cache.size());
+                return;
+            }
+        }
+        cache.put(memberNumber, entry);
+    }
+
+    private record Entry(SosRecipients recipients, long loadedAt) {
+    }
+}
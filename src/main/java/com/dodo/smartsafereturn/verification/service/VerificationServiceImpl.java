@@ -1,5 +1,6 @@
 package com.dodo.smartsafereturn.verification.service;
 
+import com.dodo.smartsafereturn.auth.dto.JwtClaims;
 import com.dodo.smartsafereturn.auth.dto.JwtType;
 import com.dodo.smartsafereturn.auth.entity.Token;
 import com.dodo.smartsafereturn.auth.entity.TokenType;
@@ -166,18 +167,17 @@ public class VerificationServiceImpl implements VerificationService {
     @Override
     public Boolean resetPassword(PasswordResetDto dto) {
         
-        // resetToken 유효성 검사
-        // 비밀 번호 리셋용 검증 토큰 여부 검사
-        String type = jwtUtil.getType(dto.getToken());
-        if (!type.equals(JwtType.RESET.getValue())) {
-            throw new RuntimeException("[비밀번호 변경 요청] 비밀번호 변경 자격이 없습니다. 다시 비밀번호 찾기를 시도해주세요");
-        }
-        // 토큰 소멸시간 검사
+        // resetToken 유효성 검사 (파싱 + 서명 검증 + 소멸시간 검사 한 번에)
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(dto.getToken());
+            claims = jwtUtil.parseClaims(dto.getToken());
         } catch (ExpiredJwtException e) {
             throw new RuntimeException("[비밀번호 변경 요청] 비밀번호 변경 검증 토큰이 만료되었습니다. 다시 비밀번호 찾기를 시도해주세요");
         }
+        // 비밀 번호 리셋용 검증 토큰 여부 검사
+        if (!claims.isType(JwtType.RESET)) {
+            throw new RuntimeException("[비밀번호 변경 요청] 비밀번호 변경 자격이 없습니다. 다시 비밀번호 찾기를 시도해주세요");
+        }
 
         // 변경할 회원 쿼리
         Member member = memberService.getMemberById(dto.getMemberId());
@@ -0,0 +1,25 @@
+-- 리프레시 토큰 저장소 : 원문(TEXT) -> SHA-256 다이제스트 + 만료 시각 인덱스
+-- (pgcrypto 없이 PostgreSQL 11+ 기본 함수 sha256() 사용)
+
+SET search_path TO :"schema", public;
+
+ALTER TABLE token ADD COLUMN token_hash VARCHAR(64);
+ALTER TABLE token ADD COLUMN expires_at TIMESTAMP;
+
+-- 기존 토큰 이관 : 원문 -> 다이제스트, 만료 시각은 Date.toString() 문자열이라 파싱 대신 최대 수명(30일)으로 채움
+UPDATE token
+SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex'),
+    expires_at = now() + INTERVAL '30 days';
+
+-- 중복 원문이 있었다면 하나만 남김
+DELETE FROM token t
+USING token d
+WHERE t.token_hash = d.token_hash AND t.token_id > d.token_id;
+
+ALTER TABLE token ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE token ALTER COLUMN expires_at SET NOT NULL;
+ALTER TABLE token DROP COLUMN token;
+ALTER TABLE token DROP COLUMN expiration;
+
+CREATE UNIQUE INDEX uk_token_token_hash ON token (token_hash);
+CREATE INDEX idx_token_expires_at ON token (expires_at);
@@ -0,0 +1,20 @@
+-- SMS 발송 outbox : 메시지 로그와 같은 트랜잭션에서 저장, SmsOutboxRelay 워커가 발송
+
+SET search_path TO :"schema", public;
+
+CREATE TABLE sms_outbox (
+    sms_outbox_id   BIGSERIAL PRIMARY KEY,
+    message_log_id  BIGINT       NOT NULL,
+    recipients      TEXT         NOT NULL,
+    message         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at TIMESTAMP    NOT NULL,
+    last_error      VARCHAR(500),
+    sent_at         TIMESTAMP,
+    created_date    TIMESTAMP    NOT NULL,
+    modified_date   TIMESTAMP    NOT NULL
+);
+
+CREATE UNIQUE INDEX uk_sms_outbox_message_log_id ON sms_outbox (message_log_id);
+CREATE INDEX idx_sms_outbox_status_next_attempt_at ON sms_outbox (status, next_attempt_at);
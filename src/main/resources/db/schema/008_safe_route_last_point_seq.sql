@@ -0,0 +1,10 @@
+-- 이동 경로 좌표 추가 API : 경로 마지막 좌표 순번 (첫 좌표 0)
+
+SET search_path TO :"schema", public;
+
+ALTER TABLE safe_route ADD COLUMN last_point_seq BIGINT;
+
+UPDATE safe_route
+SET last_point_seq = COALESCE(ST_NPoints(route_path), 0) - 1;
+
+ALTER TABLE safe_route ALTER COLUMN last_point_seq SET NOT NULL;
@@ -0,0 +1,12 @@
+-- 수집 시 단순화 전 원본 이동 경로 보관 테이블 (safe-route.simplify.keep-raw)
+
+SET search_path TO :"schema", public;
+
+CREATE TABLE safe_route_raw_path (
+    safe_route_id BIGINT PRIMARY KEY,
+    raw_path      geometry(LineString, 4326) NOT NULL
+);
+
+-- 기존 경로는 단순화되지 않은 상태이므로 그대로 원본으로 복사
+INSERT INTO safe_route_raw_path (safe_route_id, raw_path)
+SELECT safe_route_id, route_path FROM safe_route WHERE route_path IS NOT NULL;
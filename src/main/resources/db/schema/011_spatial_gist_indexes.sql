@@ -0,0 +1,10 @@
+-- 관리자 공간 검색 (SafeRouteAdminController, MessageLogAdminController) 용 GiST 인덱스
+-- 검색 쿼리는 geometry 컬럼에 && / ST_Intersects 를 걸어 이 인덱스를 타고, 미터 거리는 후보에만 geography 로 계산
+
+SET search_path TO :"schema", public;
+
+CREATE INDEX IF NOT EXISTS idx_safe_route_route_path_gist ON safe_route USING GIST (route_path);
+CREATE INDEX IF NOT EXISTS idx_message_log_location_gist ON message_log USING GIST (location);
+
+ANALYZE safe_route;
+ANALYZE message_log;
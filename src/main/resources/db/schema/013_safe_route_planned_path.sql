@@ -0,0 +1,7 @@
+-- 이동 경로 이탈 감시 : 등록 / 수정 시 받은 계획 경로 (재기동 후 감시 구간 재생성용)
+-- route_path 는 좌표 추가 / 요약으로 지나온 좌표가 이어붙으므로 계획 경로와 분리해서 보관
+-- 기존 경로는 계획 경로를 구분할 수 없어 NULL 로 둠 (재기동 후 이탈 감시 X, 경로 수정 시 채워짐)
+
+SET search_path TO :"schema", public;
+
+ALTER TABLE safe_route ADD COLUMN IF NOT EXISTS planned_path geometry(LineString, 4326);
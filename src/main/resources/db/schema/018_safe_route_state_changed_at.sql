@@ -0,0 +1,7 @@
+-- 오프라인 일괄 업로드 : 경로의 마지막 상태 변경 시각
+-- 늦게 도착한 단말 상태 변경 (예: 오프라인 중 IN_PROGRESS) 이 서버에서 이미 바뀐 상태 (FAILED 등) 를 덮어쓰지 않도록 비교
+-- 기존 경로는 NULL 로 둠 (등록 시각 기준으로 비교, 다음 상태 변경 시 채워짐)
+
+SET search_path TO :"schema", public;
+
+ALTER TABLE safe_route ADD COLUMN IF NOT EXISTS state_changed_at TIMESTAMP(6);
@@ -0,0 +1,47 @@
+-- 이동 경로 좌표 시계열 테이블 (좌표마다 측정 시각 / 정확도 보관) + safe_route.route_path 는 요약 경로로 변경
+-- 측정 시각 기준 월 단위 파티션 -> 다음 달 파티션은 RoutePointPartitionManager 가 미리 생성 (범위 밖 좌표는 default 파티션)
+-- 파티션 테이블의 PK 에는 파티션 키가 포함되어야 하므로 (safe_route_id, seq) 중복은 safe_route.last_point_seq 조건부 갱신으로 막음
+
+SET search_path TO :"schema", public;
+
+CREATE TABLE route_point (
+    safe_route_id BIGINT           NOT NULL,
+    seq           BIGINT           NOT NULL,
+    recorded_at   TIMESTAMP        NOT NULL,
+    lat           DOUBLE PRECISION NOT NULL,
+    lng           DOUBLE PRECISION NOT NULL,
+    accuracy      REAL,
+    PRIMARY KEY (safe_route_id, seq, recorded_at)
+) PARTITION BY RANGE (recorded_at);
+
+CREATE TABLE route_point_default PARTITION OF route_point DEFAULT;
+
+-- 이번 달 / 다음 달 파티션 (이후는 애플리케이션이 생성)
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR i IN 0..1 LOOP
+        month_start := (date_trunc('month', now()) + make_interval(months => i))::date;
+        EXECUTE format('CREATE TABLE IF NOT EXISTS route_point_%s PARTITION OF route_point FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month_start, 'YYYYMM'), month_start, (month_start + interval '1 month')::date);
+    END LOOP;
+END $$;
+
+-- 요약 경로 (route_path) 에 반영된 마지막 좌표 순번 -> last_point_seq 보다 작으면 RoutePathSummarizer 가 이어붙임
+ALTER TABLE safe_route ADD COLUMN path_seq BIGINT;
+
+UPDATE safe_route SET path_seq = last_point_seq;
+
+ALTER TABLE safe_route ALTER COLUMN path_seq SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_safe_route_unsummarized ON safe_route (modified_date) WHERE path_seq < last_point_seq;
+
+-- 기존 경로는 원본 경로 좌표를 순번대로 옮김 (측정 시각은 알 수 없으므로 출발 시각으로 기록 -> default 파티션)
+INSERT INTO route_point (safe_route_id, seq, recorded_at, lat, lng)
+SELECT r.safe_route_id, dp.path[1] - 1, s.start_time, ST_Y(dp.geom), ST_X(dp.geom)
+FROM safe_route_raw_path r
+         JOIN safe_route s ON s.safe_route_id = r.safe_route_id,
+     LATERAL ST_DumpPoints(r.raw_path) dp;
+
+ANALYZE route_point;
@@ -0,0 +1,17 @@
+-- route_point 파티션별 (safe_route_id, seq) 유니크 인덱스
+-- 파티션 테이블의 PK (safe_route_id, seq, recorded_at) 는 측정 시각만 다른 같은 순번을 막지 못하므로 파티션마다 순번 중복을 막음
+-- (달이 다른 중복은 safe_route.last_point_seq 조건부 갱신으로 막음) -> 이후 생성되는 파티션은 RoutePointPartitionManager 가 같이 생성
+
+SET search_path TO :"schema", public;
+
+DO $$
+DECLARE
+    part RECORD;
+BEGIN
+    FOR part IN SELECT c.relname
+                FROM pg_inherits i
+                         JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'route_point'::regclass LOOP
+        EXECUTE format('CREATE UNIQUE INDEX IF NOT EXISTS %I ON %I (safe_route_id, seq)', part.relname || '_seq_key', part.relname);
+    END LOOP;
+END $$;
@@ -0,0 +1,23 @@
+-- 회원 경로 요약 목록 (GET /api/safe-route/member/{memberNumber}/summaries) 용 이동 거리 컬럼 + keyset 인덱스
+-- 목록 조회에서 geometry 를 읽지 않도록 이동 거리를 미리 계산해 둠 (이후 수집 / 요약 시 누적)
+
+SET search_path TO :"schema", public;
+
+ALTER TABLE safe_route ADD COLUMN IF NOT EXISTS distance_meters DOUBLE PRECISION;
+
+-- 기존 경로는 원본 경로 (없으면 저장된 경로) 길이로 채움
+UPDATE safe_route sr
+SET distance_meters = COALESCE(ST_Length(COALESCE(raw.raw_path, sr.route_path)::geography), 0)
+FROM safe_route sr2
+LEFT JOIN safe_route_raw_path raw ON raw.safe_route_id = sr2.safe_route_id
+WHERE sr2.safe_route_id = sr.safe_route_id
+  AND sr.distance_meters IS NULL;
+
+ALTER TABLE safe_route ALTER COLUMN distance_meters SET DEFAULT 0;
+ALTER TABLE safe_route ALTER COLUMN distance_meters SET NOT NULL;
+
+-- 출발 시각 최신순 keyset 페이징 (start_time, safe_route_id) < (?, ?)
+CREATE INDEX IF NOT EXISTS idx_safe_route_member_start_time
+    ON safe_route (member_number, start_time DESC, safe_route_id DESC);
+
+ANALYZE safe_route;
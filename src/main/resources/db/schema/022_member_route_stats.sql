@@ -0,0 +1,43 @@
+-- 회원 경로 통계 읽기 모델 (GET /api/safe-route/member/{memberNumber}/stats)
+-- 경로 변경 시 같은 트랜잭션에서 카운터 UPDATE 로 갱신 (MemberRouteStatsCounterRepository), 매일 safe_route 기준으로 재계산
+
+SET search_path TO :"schema", public;
+
+-- 실제 도착 (FINISHED 변경) 시각 -> 완수 경로 소요 시간 = finished_at - start_time
+ALTER TABLE safe_route ADD COLUMN IF NOT EXISTS finished_at TIMESTAMP(6);
+
+-- 기존 완수 경로는 도착 시각을 따로 기록하지 않았으므로 마지막 변경 시각으로 채움
+UPDATE safe_route
+SET finished_at = modified_date
+WHERE is_success = 'FINISHED'
+  AND finished_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS member_route_stats (
+    member_number             BIGINT           PRIMARY KEY,
+    route_count               BIGINT           NOT NULL DEFAULT 0,
+    finished_count            BIGINT           NOT NULL DEFAULT 0,
+    failed_count              BIGINT           NOT NULL DEFAULT 0,
+    cancelled_count           BIGINT           NOT NULL DEFAULT 0,
+    total_distance_meters     DOUBLE PRECISION NOT NULL DEFAULT 0,
+    finished_duration_seconds BIGINT           NOT NULL DEFAULT 0,
+    modified_date             TIMESTAMP(6)     NOT NULL
+);
+
+-- 기존 회원 초기 적재 (021 의 distance_meters 가 먼저 적용되어 있어야 함, 재계산 SQL 과 같은 기준)
+INSERT INTO member_route_stats (member_number, route_count, finished_count, failed_count, cancelled_count,
+                                total_distance_meters, finished_duration_seconds, modified_date)
+SELECT m.member_number,
+       count(sr.safe_route_id),
+       count(*) FILTER (WHERE sr.is_success = 'FINISHED'),
+       count(*) FILTER (WHERE sr.is_success = 'FAILED'),
+       count(*) FILTER (WHERE sr.is_success = 'CANCELLED'),
+       coalesce(sum(sr.distance_meters), 0),
+       coalesce(sum(greatest(floor(extract(EPOCH FROM (sr.finished_at - sr.start_time))), 0))
+                FILTER (WHERE sr.is_success = 'FINISHED' AND sr.finished_at IS NOT NULL), 0),
+       now()
+FROM member m
+LEFT JOIN safe_route sr ON sr.member_number = m.member_number
+GROUP BY m.member_number
+ON CONFLICT (member_number) DO NOTHING;
+
+ANALYZE member_route_stats;
@@ -0,0 +1,38 @@
+-- 경로 bbox 컬럼 + 이동 거리 측지선 재계산
+-- 거리 / bbox 는 수집 시 한 번 계산 (RouteMetrics), 좌표 추가분은 RoutePathSummarizer 가 누적 -> 조회 시 geometry 를 읽지 않음
+-- 좌표 수는 last_point_seq + 1 (별도 컬럼 없음)
+
+SET search_path TO :"schema", public;
+
+ALTER TABLE safe_route ADD COLUMN IF NOT EXISTS min_lat DOUBLE PRECISION;
+ALTER TABLE safe_route ADD COLUMN IF NOT EXISTS min_lng DOUBLE PRECISION;
+ALTER TABLE safe_route ADD COLUMN IF NOT EXISTS max_lat DOUBLE PRECISION;
+ALTER TABLE safe_route ADD COLUMN IF NOT EXISTS max_lng DOUBLE PRECISION;
+
+-- 021 이후 equirectangular 근사로 저장된 거리도 측지선 (WGS84 타원체) 기준으로 다시 계산
+UPDATE safe_route sr
+SET distance_meters = ST_Length(p.path::geography),
+    min_lat = ST_YMin(p.path),
+    min_lng = ST_XMin(p.path),
+    max_lat = ST_YMax(p.path),
+    max_lng = ST_XMax(p.path)
+FROM (
+    SELECT s.safe_route_id, COALESCE(raw.raw_path, s.route_path) AS path
+    FROM safe_route s
+    LEFT JOIN safe_route_raw_path raw ON raw.safe_route_id = s.safe_route_id
+) p
+WHERE p.safe_route_id = sr.safe_route_id
+  AND p.path IS NOT NULL;
+
+-- 회원 경로 통계 (022) 의 총 이동 거리도 맞춤
+UPDATE member_route_stats st
+SET total_distance_meters = d.total,
+    modified_date = now()
+FROM (
+    SELECT member_number, sum(distance_meters) AS total
+    FROM safe_route
+    GROUP BY member_number
+) d
+WHERE d.member_number = st.member_number;
+
+ANALYZE safe_route;
@@ -0,0 +1,20 @@
+-- 관리자 지정 위험 구역 + 경로 위험 구역 통과 여부
+-- 경로 등록 / 수정 시 교차 판정은 메모리 인덱스 (DangerZoneIndex) 에서 수행 (애플리케이션은 area 로 공간 쿼리를 하지 않음)
+-- GiST 인덱스는 DB 에서 직접 실행하는 공간 조회용
+
+SET search_path TO :"schema", public;
+
+CREATE TABLE IF NOT EXISTS danger_zone (
+    danger_zone_id BIGSERIAL              PRIMARY KEY,
+    name           VARCHAR(255)           NOT NULL,
+    description    VARCHAR(255),
+    area           geometry(Polygon,4326) NOT NULL,
+    created_date   TIMESTAMP(6)           NOT NULL,
+    modified_date  TIMESTAMP(6)           NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_danger_zone_area_gist ON danger_zone USING GIST (area);
+
+ALTER TABLE safe_route ADD COLUMN IF NOT EXISTS is_risky BOOLEAN NOT NULL DEFAULT false;
+
+ANALYZE danger_zone;
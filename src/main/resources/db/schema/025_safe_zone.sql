@@ -0,0 +1,24 @@
+-- 회원 안심 구역 (집 / 학교 등)
+-- 진행 중 경로의 진입 / 이탈 판정은 메모리 인덱스 (SafeZoneIndex) 에서 수행, DB 는 회원별 구역 조회만 함
+
+SET search_path TO :"schema", public;
+
+CREATE TABLE IF NOT EXISTS safe_zone (
+    safe_zone_id      BIGSERIAL              PRIMARY KEY,
+    member_number     BIGINT                 NOT NULL REFERENCES member (member_number),
+    name              VARCHAR(255)           NOT NULL,
+    zone_type         VARCHAR(255)           NOT NULL CHECK (zone_type IN ('CIRCLE', 'POLYGON')),
+    center_lat        DOUBLE PRECISION,
+    center_lng        DOUBLE PRECISION,
+    radius_meters     DOUBLE PRECISION,
+    area              geometry(Polygon,4326),
+    finish_on_arrival BOOLEAN                NOT NULL DEFAULT true,
+    created_date      TIMESTAMP(6)           NOT NULL,
+    modified_date     TIMESTAMP(6)           NOT NULL,
+    CONSTRAINT chk_safe_zone_shape CHECK (
+        (zone_type = 'CIRCLE' AND center_lat IS NOT NULL AND center_lng IS NOT NULL AND radius_meters > 0)
+        OR (zone_type = 'POLYGON' AND area IS NOT NULL)
+    )
+);
+
+CREATE INDEX IF NOT EXISTS idx_safe_zone_member_number ON safe_zone (member_number);
@@ -0,0 +1,66 @@
+package com.dodo.smartsafereturn.global.config;
+
+import com.dodo.smartsafereturn.safeRoute.utils.PolylineJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+
+/**
+ * 경로 압축 JSON 컨버터는 Accept 헤더로 직접 선택했을 때만 쓰이는지 검증
+ */
+class WebMvcConfigTest {
+
+    @RestController
+    static class SampleController {
+        @GetMapping("/sample")
+        Map<String, Object> sample() {
+            return Map.of("safe_route_id", 1);
+        }
+    }
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new MappingJackson2HttpMessageConverter(objectMapper));
+        new WebMvcConfig(objectMapper).extendMessageConverters(converters);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new SampleController())
+                .setMessageConverters(converters.toArray(HttpMessageConverter[]::new))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Accept 가 없거나 */* 이면 기존 application/json 응답")
+    void wildcardAcceptGetsJson() throws Exception {
+        mockMvc.perform(get("/sample"))
+                .andExpect(content().contentType("application/json"));
+        mockMvc.perform(get("/sample").header("Accept", "*/*"))
+                .andExpect(content().contentType("application/json"));
+        mockMvc.perform(get("/sample").header("Accept", "application/*"))
+                .andExpect(content().contentType("application/json"));
+    }
+
+    @Test
+    @DisplayName("Accept 에 polyline 타입을 적으면 압축 JSON 컨버터가 응답")
+    void explicitAcceptGetsPolyline() throws Exception {
+        mockMvc.perform(get("/sample").header("Accept", PolylineJacksonModule.MEDIA_TYPE_VALUE))
+                .andExpect(content().contentType(PolylineJacksonModule.MEDIA_TYPE_VALUE));
+    }
+}
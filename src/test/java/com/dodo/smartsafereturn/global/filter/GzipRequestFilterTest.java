@@ -0,0 +1,93 @@
+package com.dodo.smartsafereturn.global.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * gzip 요청 본문 압축 해제 스트림을 비동기 (ReadListener) 로 읽을 수 있는지 검증
+ */
+class GzipRequestFilterTest {
+
+    @Test
+    @DisplayName("ReadListener 등록 시 바로 압축 해제한 본문을 읽고 완료 알림")
+    void readListenerReadsDecompressedBody() throws Exception {
+        byte[] body = "{\"batches\":[]}".getBytes(StandardCharsets.UTF_8);
+        ServletInputStream in = filteredInputStream(gzip(body), 1024);
+        List<String> calls = new ArrayList<>();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+
+        in.setReadListener(new RecordingListener(in, read, calls));
+
+        assertThat(calls).containsExactly("data", "done");
+        assertThat(read.toByteArray()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("압축 해제 크기 초과 -> onError")
+    void oversizedBodyReportsError() throws Exception {
+        ServletInputStream in = filteredInputStream(gzip(new byte[4096]), 1024);
+        List<String> calls = new ArrayList<>();
+
+        in.setReadListener(new RecordingListener(in, new ByteArrayOutputStream(), calls));
+
+        assertThat(calls).containsExactly("data", "error");
+    }
+
+    private static ServletInputStream filteredInputStream(byte[] compressed, long maxBytes) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/safe-route/sync");
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        request.setContent(compressed);
+
+        AtomicReference<ServletRequest> filtered = new AtomicReference<>();
+        new GzipRequestFilter(maxBytes).doFilter(request, new MockHttpServletResponse(), (req, res) -> filtered.set(req));
+        return filtered.get().getInputStream();
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    // isReady() 인 동안 끝까지 읽는 리스너
+    private record RecordingListener(ServletInputStream in, ByteArrayOutputStream read, List<String> calls) implements ReadListener {
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            calls.add("data");
+            byte[] buffer = new byte[256];
+            int n;
+            while (in.isReady() && (n = in.read(buffer)) != -1) {
+                read.write(buffer, 0, n);
+            }
+        }
+
+        @Override
+        public void onAllDataRead() {
+            calls.add("done");
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            calls.add("error");
+        }
+    }
+}
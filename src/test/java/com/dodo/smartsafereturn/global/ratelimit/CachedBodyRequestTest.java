@@ -0,0 +1,81 @@
+package com.dodo.smartsafereturn.global.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미리 읽어둔 본문을 비동기 (ReadListener) 로 다시 읽을 수 있는지 검증
+ */
+class CachedBodyRequestTest {
+
+    @Test
+    @DisplayName("ReadListener 등록 시 바로 본문을 읽고 완료 알림")
+    void readListenerReadsCachedBody() throws IOException {
+        byte[] body = "{\"id\":\"test1\"}".getBytes(StandardCharsets.UTF_8);
+        ServletInputStream in = new CachedBodyRequest(new MockHttpServletRequest(), body).getInputStream();
+        List<String> calls = new ArrayList<>();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("data");
+                byte[] buffer = new byte[4];
+                int n;
+                while (in.isReady() && (n = in.read(buffer)) != -1) {
+                    read.write(buffer, 0, n);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+
+        assertThat(calls).containsExactly("data", "done");
+        assertThat(read.toByteArray()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("빈 본문은 바로 완료 알림")
+    void emptyBodyCompletesImmediately() {
+        ServletInputStream in = new CachedBodyRequest(new MockHttpServletRequest(), new byte[0]).getInputStream();
+        List<String> calls = new ArrayList<>();
+
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                calls.add("data");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+
+        assertThat(calls).containsExactly("done");
+    }
+}
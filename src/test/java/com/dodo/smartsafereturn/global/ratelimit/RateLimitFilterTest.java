@@ -0,0 +1,52 @@
+package com.dodo.smartsafereturn.global.ratelimit;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 본문 식별자 (전화번호가 없으면 회원 아이디) 를 Jackson 이름 규칙에 맞는 필드에서 읽는지 검증
+ */
+class RateLimitFilterTest {
+
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+
+    @Test
+    @DisplayName("SNAKE_CASE 설정이면 member_id 필드를 식별자로 사용")
+    void snakeCaseMemberId() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, false, PropertyNamingStrategies.SNAKE_CASE);
+
+        filter.doFilter(verificationRequest("{\"member_id\":\"user123\",\"name\":\"홍길동\"}"), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire(eq(RateLimiter.Route.VERIFICATION), any(), eq("user123"));
+    }
+
+    @Test
+    @DisplayName("이름 규칙 설정이 없으면 memberId 필드, 전화번호가 있으면 전화번호 우선")
+    void defaultMemberIdAndPhoneFirst() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, false, null);
+
+        filter.doFilter(verificationRequest("{\"memberId\":\"user123\"}"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(verificationRequest("{\"memberId\":\"user123\",\"phone\":\"01012345678\"}"), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire(eq(RateLimiter.Route.VERIFICATION), any(), eq("user123"));
+        verify(rateLimiter).tryAcquire(eq(RateLimiter.Route.VERIFICATION), any(), eq("01012345678"));
+    }
+
+    private static MockHttpServletRequest verificationRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/verification/password/sms");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,42 @@
+package com.dodo.smartsafereturn.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키별 토큰 버킷의 제한 / 메모리 상한 (stripe 가 가득 찼을 때) 검증
+ */
+class TokenBucketTableTest {
+
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy("test", 2, Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("용량만큼 허용 후 다음 토큰까지 대기 시간 반환")
+    void limitsPerKey() {
+        TokenBucketTable table = new TokenBucketTable(POLICY, 1, 10);
+
+        assertThat(table.tryAcquire("a", 0L)).isZero();
+        assertThat(table.tryAcquire("a", 0L)).isZero();
+        assertThat(table.tryAcquire("a", 0L)).isEqualTo(Duration.ofSeconds(10).toNanos());
+        assertThat(table.tryAcquire("a", Duration.ofSeconds(10).toNanos())).isZero();
+    }
+
+    @Test
+    @DisplayName("stripe 가 가득 차면 가장 오래 사용하지 않은 버킷을 제거하고 새 키도 제한 (통과시키지 않음)")
+    void fullStripeEvictsEldestInsteadOfFailingOpen() {
+        // stripe 2개, stripe 당 키 1개
+        TokenBucketTable table = new TokenBucketTable(POLICY, 2, 2);
+
+        for (int i = 0; i < 100; i++) {
+            String key = "key" + i;
+            assertThat(table.tryAcquire(key, i)).isZero();
+            assertThat(table.tryAcquire(key, i)).isZero();
+            assertThat(table.tryAcquire(key, i)).isPositive();
+            assertThat(table.size()).isLessThanOrEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.dodo.smartsafereturn.safeRoute.dto;
+
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경로 하나가 회원 경로 통계에 더하는 값 (RouteStatsDelta.of) 검증
+ * - 서비스를 거친 카운터와 재계산의 일치는 MemberRouteStatsIntegrationTest (PostGIS) 에서 검증
+ */
+class RouteStatsDeltaTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 4, 3, 17, 0, 0);
+
+    @Test
+    @DisplayName("완수 경로의 소요 시간은 출발 ~ 실제 도착 시각")
+    void finishedDurationUsesFinishedAt() {
+        RouteStatsDelta stats = RouteStatsDelta.of(RouteState.FINISHED, 1500.0, BASE_TIME, BASE_TIME.plusMinutes(35));
+
+        assertThat(stats).isEqualTo(new RouteStatsDelta(1, 1, 0, 0, 1500.0, 35 * 60));
+    }
+
+    @Test
+    @DisplayName("완수가 아닌 경로는 상태별 수와 거리만 더함")
+    void notFinishedHasNoDuration() {
+        assertThat(RouteStatsDelta.of(RouteState.FAILED, 300.0, BASE_TIME, null))
+                .isEqualTo(new RouteStatsDelta(1, 0, 1, 0, 300.0, 0));
+        assertThat(RouteStatsDelta.of(RouteState.CANCELLED, null, BASE_TIME, null))
+                .isEqualTo(new RouteStatsDelta(1, 0, 0, 1, 0.0, 0));
+        assertThat(RouteStatsDelta.of(RouteState.STARTED, 10.0, BASE_TIME, null))
+                .isEqualTo(new RouteStatsDelta(1, 0, 0, 0, 10.0, 0));
+    }
+
+    @Test
+    @DisplayName("도착 시각이 없거나 출발 시각보다 이르면 소요 시간은 0")
+    void invalidDurationClampedToZero() {
+        assertThat(RouteStatsDelta.of(RouteState.FINISHED, 10.0, BASE_TIME, BASE_TIME.minusMinutes(5)).finishedDurationSeconds()).isZero();
+        assertThat(RouteStatsDelta.of(RouteState.FINISHED, 10.0, BASE_TIME, null).finishedDurationSeconds()).isZero();
+    }
+
+    @Test
+    @DisplayName("변경 전 / 후 차이 -> 그대로면 갱신할 차이가 없음")
+    void minusIsDifference() {
+        RouteStatsDelta started = RouteStatsDelta.of(RouteState.STARTED, 100.0, BASE_TIME, null);
+        RouteStatsDelta finished = RouteStatsDelta.of(RouteState.FINISHED, 100.0, BASE_TIME, BASE_TIME.plusMinutes(10));
+
+        assertThat(finished.minus(started)).isEqualTo(new RouteStatsDelta(0, 1, 0, 0, 0.0, 10 * 60));
+        assertThat(started.plus(finished.minus(started))).isEqualTo(finished);
+        assertThat(started.minus(started).isZero()).isTrue();
+    }
+}
@@ -0,0 +1,235 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.member.entity.Member;
+import com.dodo.smartsafereturn.member.repository.MemberRepository;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteOverdueEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStateChangeDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteCreateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncBatchDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncDto;
+import com.dodo.smartsafereturn.safeRoute.entity.MemberRouteStats;
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import com.dodo.smartsafereturn.safeRoute.repository.MemberRouteStatsCounterRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.MemberRouteStatsRepository;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.impl.CoordinateArraySequence;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 회원 경로 통계 카운터를 서비스 경로 (등록 / 완수 / 실패 / 취소 / 삭제 / 도착 예정 시각 초과 / 오프라인 업로드) 로 갱신한 결과가
+ * safe_route 기준 재계산 (MemberRouteStatsCounterRepository.rebuild) 과 같은지 실제 PostGIS 에서 검증
+ * - Docker 가 없는 환경에서는 건너뜀
+ * - 스키마는 엔티티 기준 create-drop, JDBC 전용 테이블 (route_point) 만 직접 생성
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.profiles.active=test",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.spatial.dialect.postgis.PostgisPG10Dialect",
+        "spring.cloud.gcp.core.enabled=false",
+        "spring.cloud.gcp.storage.enabled=false",
+        "spring.cloud.gcp.sql.enabled=false",
+        "spring.cloud.gcp.storage.project-id=test",
+        "google.cloud.storage.bucket-name=test",
+        "cool-sms.api-key=test",
+        "cool-sms.secret-key=test",
+        "cool-sms.from-number=01000000000",
+        "jwt.secret=member-route-stats-integration-test-secret-key-0123456789",
+        "jwt.access-expiration=3600000",
+        "jwt.refresh-expiration=2592000000",
+        "cors.allowed-origins=http://localhost:3000",
+        "safe-route.point.partition.enabled=false",
+        "safe-route.stats.rebuild-cron=-"
+})
+class MemberRouteStatsIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGIS = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:15-3.4").asCompatibleSubstituteFor("postgres"));
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGIS::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGIS::getUsername);
+        registry.add("spring.datasource.password", POSTGIS::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGIS::getDriverClassName);
+    }
+
+    // 프로필 사진 업로드용 (dev / prod 프로필에서만 생성되는 빈)
+    @MockBean
+    private Storage storage;
+
+    @Autowired
+    private SafeRouteService safeRouteService;
+
+    @Autowired
+    private OverdueRouteEscalator overdueRouteEscalator;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberRouteStatsRepository memberRouteStatsRepository;
+
+    @Autowired
+    private MemberRouteStatsCounterRepository memberRouteStatsCounterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long memberNumber;
+
+    @BeforeEach
+    void setUp() {
+        // db/schema/019 의 좌표 테이블 (테스트는 파티션 없이)
+        jdbcTemplate.execute("create table if not exists route_point (" +
+                "safe_route_id bigint not null, seq bigint not null, recorded_at timestamp not null, " +
+                "lat double precision not null, lng double precision not null, accuracy real, " +
+                "primary key (safe_route_id, seq, recorded_at))");
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        memberNumber = memberRepository.save(Member.builder()
+                .id("stats-" + suffix)
+                .password("password")
+                .phone("010" + Math.abs(suffix.hashCode()))
+                .build()).getMemberNumber();
+    }
+
+    @Test
+    @DisplayName("등록 / 완수 / 실패 / 취소 / 삭제 / 도착 예정 시각 초과 / 오프라인 완수 후 카운터가 재계산 결과와 같음")
+    void countersMatchRebuild() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 완수 -> 소요 시간은 도착 예정 시각 (1시간) 이 아니라 실제 도착 시각 기준 (약 30분)
+        Long finished = createRoute(now.minusMinutes(30), now.plusMinutes(30));
+        safeRouteService.changeStatus(RouteState.FINISHED, finished);
+
+        // 오프라인 중 완수 -> 단말의 변경 시각 기준 (40분)
+        LocalDateTime syncedStart = now.minusHours(2);
+        Long synced = createRoute(syncedStart, now.plusHours(1));
+        safeRouteService.sync(new SafeRouteSyncDto(List.of(SafeRouteSyncBatchDto.builder()
+                .batchId("batch-1")
+                .safeRouteId(synced)
+                .states(List.of(new RouteStateChangeDto(RouteState.FINISHED, syncedStart.plusMinutes(40))))
+                .build())));
+
+        Long failed = createRoute(now, now.plusHours(1));
+        safeRouteService.changeStatus(RouteState.FAILED, failed);
+
+        Long cancelled = createRoute(now, now.plusHours(1));
+        safeRouteService.changeStatus(RouteState.CANCELLED, cancelled);
+
+        // 도착 예정 시각 + 유예 시간이 지난 경로 (타이밍 휠이 먼저 처리했어도 한 번만 반영)
+        LocalDateTime overdueEnd = now.minusHours(1);
+        Long overdue = createRoute(now.minusHours(2), overdueEnd);
+        overdueRouteEscalator.onOverdue(new RouteOverdueEvent(overdue, overdueEnd));
+
+        Long deleted = createRoute(now, now.plusHours(1));
+        safeRouteService.changeStatus(RouteState.FINISHED, deleted);
+        safeRouteService.delete(deleted);
+
+        createRoute(now, now.plusHours(1)); // 진행 중
+
+        MemberRouteStats counters = stats();
+        assertThat(counters.getRouteCount()).isEqualTo(6);
+        assertThat(counters.getFinishedCount()).isEqualTo(2);
+        assertThat(counters.getFailedCount()).isEqualTo(2);
+        assertThat(counters.getCancelledCount()).isEqualTo(1);
+        assertThat(counters.getFinishedDurationSeconds()).isBetween(30 * 60L + 40 * 60L, 31 * 60L + 40 * 60L);
+
+        rebuild();
+
+        MemberRouteStats rebuilt = stats();
+        assertThat(rebuilt.getRouteCount()).isEqualTo(counters.getRouteCount());
+        assertThat(rebuilt.getFinishedCount()).isEqualTo(counters.getFinishedCount());
+        assertThat(rebuilt.getFailedCount()).isEqualTo(counters.getFailedCount());
+        assertThat(rebuilt.getCancelledCount()).isEqualTo(counters.getCancelledCount());
+        assertThat(rebuilt.getFinishedDurationSeconds()).isEqualTo(counters.getFinishedDurationSeconds());
+        assertThat(rebuilt.getTotalDistanceMeters()).isCloseTo(counters.getTotalDistanceMeters(), within(1e-6));
+    }
+
+    @Test
+    @DisplayName("재계산은 커밋 전인 경로 변경을 기다렸다가 포함 (덮어쓰지 않음)")
+    void rebuildWaitsForUncommittedChange() throws Exception {
+        Long safeRouteId = createRoute(LocalDateTime.now().minusMinutes(20), LocalDateTime.now().plusMinutes(20));
+
+        CountDownLatch changed = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> change = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            safeRouteService.changeStatus(RouteState.FINISHED, safeRouteId);
+            changed.countDown();
+            await(commit);
+        }));
+        assertThat(changed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(this::rebuild);
+        Thread.sleep(500);
+        assertThat(rebuild).isNotDone(); // 회원 락 대기
+
+        commit.countDown();
+        change.get(10, TimeUnit.SECONDS);
+        rebuild.get(10, TimeUnit.SECONDS);
+
+        MemberRouteStats stats = stats();
+        assertThat(stats.getFinishedCount()).isEqualTo(1);
+        assertThat(stats.getFinishedDurationSeconds()).isGreaterThanOrEqualTo(20 * 60L);
+    }
+
+    private Long createRoute(LocalDateTime startTime, LocalDateTime endTime) {
+        return safeRouteService.create(SafeRouteCreateDto.builder()
+                .memberNumber(memberNumber)
+                .startLocation("출발지")
+                .endLocation("도착지")
+                .startTime(startTime)
+                .endTime(endTime)
+                .routePath(new CoordinateArraySequence(new Coordinate[]{
+                        new Coordinate(126.9780, 37.5665),
+                        new Coordinate(126.9790, 37.5670),
+                        new Coordinate(126.9800, 37.5680)
+                }))
+                .build()).getSafeRouteId();
+    }
+
+    private void rebuild() {
+        memberRouteStatsCounterRepository.rebuild(memberNumber - 1, 1, LocalDateTime.now());
+    }
+
+    private MemberRouteStats stats() {
+        return memberRouteStatsRepository.findById(memberNumber).orElseThrow();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDeadline;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteOverdueEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteDeadlineChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 도착 예정 시각 감시 (hashed timing wheel) 의 만료 / 바퀴 넘김 / 교체 / 취소 검증
+ * - tick 10ms, 버킷 4개 -> 한 바퀴 40ms, 실제 시간으로 동작하므로 여유 있게 대기
+ */
+class OverdueRouteWheelTest {
+
+    private static final Duration TICK = Duration.ofMillis(10);
+    private static final int WHEEL_SIZE = 4;
+    private static final long WAIT_MILLIS = 3000;
+
+    private final SafeRouteRepository safeRouteRepository = mock(SafeRouteRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private SimpleMeterRegistry meterRegistry;
+    private OverdueRouteWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("지난 예약은 다음 tick 에 바로 만료")
+    void pastDeadlineFiresOnNextTick() {
+        wheel = wheel(Duration.ZERO);
+        LocalDateTime endTime = LocalDateTime.now().minusMinutes(5);
+
+        wheel.schedule(1L, endTime);
+
+        verify(eventPublisher, timeout(WAIT_MILLIS)).publishEvent(new RouteOverdueEvent(1L, endTime));
+        assertThat(wheel.size()).isZero();
+        assertThat(meterRegistry.counter("route.overdue.fired").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 예약은 버킷을 여러 번 지나친 뒤 만료 (예정 시각 전에는 만료 X)")
+    void rolloverFiresAfterDeadline() throws InterruptedException {
+        // 유예 600ms = 60 tick = 15 바퀴
+        wheel = wheel(Duration.ofMillis(600));
+        LocalDateTime endTime = LocalDateTime.now();
+
+        wheel.schedule(1L, endTime);
+        Thread.sleep(300);
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(wheel.size()).isEqualTo(1);
+
+        verify(eventPublisher, timeout(WAIT_MILLIS)).publishEvent(new RouteOverdueEvent(1L, endTime));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 경로를 다시 예약하면 이전 예약은 무시되고 새 예약으로 한 번만 만료")
+    void rescheduleReplacesPrevious() throws InterruptedException {
+        wheel = wheel(Duration.ofMillis(200));
+        LocalDateTime first = LocalDateTime.now();
+        LocalDateTime second = first.plusNanos(Duration.ofMillis(300).toNanos());
+
+        wheel.schedule(1L, first);
+        wheel.schedule(1L, second);
+
+        verify(eventPublisher, timeout(WAIT_MILLIS)).publishEvent(new RouteOverdueEvent(1L, second));
+        Thread.sleep(100);
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("취소 / 진행 중이 아닌 상태로 변경된 경로는 만료 X")
+    void cancelledNeverFires() throws InterruptedException {
+        wheel = wheel(Duration.ofMillis(100));
+        LocalDateTime endTime = LocalDateTime.now();
+
+        wheel.schedule(1L, endTime);
+        wheel.schedule(2L, endTime);
+        wheel.cancel(1L);
+        wheel.onDeadlineChanged(new SafeRouteDeadlineChangedEvent(2L, RouteState.FINISHED, endTime));
+        Thread.sleep(400);
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("기동 시 재구성은 이벤트로 먼저 들어온 예약을 덮어쓰지 않음")
+    void rebuildKeepsNewerSchedule() {
+        wheel = wheel(Duration.ZERO);
+        LocalDateTime stale = LocalDateTime.now().minusMinutes(5);
+        LocalDateTime newer = LocalDateTime.now().plusHours(1);
+        given(safeRouteRepository.findDeadlinesByStates(any()))
+                .willReturn(List.of(
+                        new RouteDeadline(1L, RouteState.STARTED, stale),
+                        new RouteDeadline(2L, RouteState.IN_PROGRESS, stale)));
+
+        wheel.schedule(1L, newer);
+        wheel.rebuild();
+
+        verify(eventPublisher, timeout(WAIT_MILLIS)).publishEvent(new RouteOverdueEvent(2L, stale));
+        verify(eventPublisher, never()).publishEvent(new RouteOverdueEvent(1L, stale));
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버킷 수는 2의 거듭제곱만 허용")
+    void wheelSizeMustBePowerOfTwo() {
+        assertThatThrownBy(() -> new OverdueRouteWheel(safeRouteRepository, eventPublisher, meterRegistry,
+                true, Duration.ZERO, TICK, 6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OverdueRouteWheel wheel(Duration grace) {
+        return new OverdueRouteWheel(safeRouteRepository, eventPublisher, meterRegistry, true, grace, TICK, WHEEL_SIZE);
+    }
+}
@@ -0,0 +1,159 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteDeviationEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteDeadlineChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePathChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointsAppendedEvent;
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 경로 이탈 감시 구간 (계획 경로 + corridor-meters) 포함 판정 / 연속 이탈 / 재기동 후 재생성 검증
+ * - 계획 경로 : 기준점에서 북쪽으로 500m 직선, 구간 폭 50m, 연속 3개
+ */
+class RouteDeviationDetectorTest {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double BASE_LAT = 37.5;
+    private static final double BASE_LNG = 127.0;
+
+    private final SafeRouteRepository safeRouteRepository = mock(SafeRouteRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final GeometryFactory factory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Test
+    @DisplayName("구간 폭은 경도를 위도 기준 미터로 환산해서 판정")
+    void corridorWidthInMeters() {
+        RouteDeviationDetector detector = detector(1000);
+        detector.onPathChanged(new SafeRoutePathChangedEvent(1L, plannedPath()));
+
+        append(detector, 1L, point(250, 40));
+        assertThat(detector.getState(1L).getConsecutiveOutside()).isZero();
+
+        append(detector, 1L, point(250, 60));
+        assertThat(detector.getState(1L).getConsecutiveOutside()).isEqualTo(1);
+        // 끝점 주변도 반경 50m
+        append(detector, 1L, point(540, 0));
+        assertThat(detector.getState(1L).getConsecutiveOutside()).isZero();
+    }
+
+    @Test
+    @DisplayName("구간 밖 좌표가 연속 3개면 한 번만 이탈 알림, 구간으로 돌아오면 초기화")
+    void deviationAfterConsecutivePoints() {
+        RouteDeviationDetector detector = detector(1000);
+        detector.onPathChanged(new SafeRoutePathChangedEvent(1L, plannedPath()));
+
+        append(detector, 1L, point(100, 80), point(110, 90));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        append(detector, 1L, point(120, 100), point(130, 110));
+        ArgumentCaptor<RouteDeviationEvent> event = ArgumentCaptor.forClass(RouteDeviationEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().consecutiveOutside()).isEqualTo(3);
+        assertThat(detector.getState(1L).isDeviated()).isTrue();
+
+        append(detector, 1L, point(140, 0));
+        assertThat(detector.getState(1L).isDeviated()).isFalse();
+        assertThat(detector.getState(1L).getConsecutiveOutside()).isZero();
+    }
+
+    @Test
+    @DisplayName("재기동 후 첫 좌표 추가 시 DB 의 계획 경로로 구간 생성 (지나온 경로 X)")
+    void restartLoadsPlannedPath() {
+        RouteDeviationDetector detector = detector(1000);
+        given(safeRouteRepository.findActivePlannedPath(eq(1L), any())).willReturn(Optional.of(plannedPath()));
+
+        append(detector, 1L, point(100, 80), point(110, 90), point(120, 100));
+
+        verify(safeRouteRepository).findActivePlannedPath(eq(1L), any());
+        verify(eventPublisher).publishEvent(any(RouteDeviationEvent.class));
+        assertThat(detector.getState(1L).isTracked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("계획 경로가 없는 경로는 감시 X")
+    void missingPlannedPathNotTracked() {
+        RouteDeviationDetector detector = detector(1000);
+        given(safeRouteRepository.findActivePlannedPath(anyLong(), any())).willReturn(Optional.empty());
+
+        append(detector, 1L, point(100, 80), point(110, 90), point(120, 100));
+
+        verifyNoInteractions(eventPublisher);
+        assertThat(detector.getState(1L).isTracked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 경로 수에 도달하면 새 구간은 DB 조회 없이 생성 X (기존 경로 교체는 허용)")
+    void maxRoutesEnforced() {
+        RouteDeviationDetector detector = detector(1);
+        detector.onPathChanged(new SafeRoutePathChangedEvent(1L, plannedPath()));
+
+        detector.onPathChanged(new SafeRoutePathChangedEvent(2L, plannedPath()));
+        append(detector, 3L, point(0, 0));
+        detector.onPathChanged(new SafeRoutePathChangedEvent(1L, plannedPath()));
+
+        verify(safeRouteRepository, never()).findActivePlannedPath(anyLong(), any());
+        assertThat(detector.getState(1L).isTracked()).isTrue();
+        assertThat(detector.getState(2L).isTracked()).isFalse();
+        assertThat(detector.getState(3L).isTracked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("진행 중이 아닌 상태로 바뀌면 구간 제거")
+    void finishedRouteRemoved() {
+        RouteDeviationDetector detector = detector(1000);
+        detector.onPathChanged(new SafeRoutePathChangedEvent(1L, plannedPath()));
+
+        detector.onDeadlineChanged(new SafeRouteDeadlineChangedEvent(1L, RouteState.FINISHED, LocalDateTime.now()));
+
+        assertThat(detector.getState(1L).isTracked()).isFalse();
+    }
+
+    private RouteDeviationDetector detector(int maxRoutes) {
+        return new RouteDeviationDetector(safeRouteRepository, eventPublisher, new SimpleMeterRegistry(), true, 50, 3, maxRoutes);
+    }
+
+    private LineString plannedPath() {
+        return factory.createLineString(new Coordinate[]{coordinate(0, 0), coordinate(500, 0)});
+    }
+
+    private static void append(RouteDeviationDetector detector, Long safeRouteId, LatLngPoint... points) {
+        List<LocalDateTime> recordedAts = Collections.nCopies(points.length, LocalDateTime.now());
+        detector.onPointsAppended(new SafeRoutePointsAppendedEvent(safeRouteId, 0, Arrays.asList(points), recordedAts));
+    }
+
+    // 기준점에서 북쪽 northMeters, 동쪽 eastMeters 만큼 떨어진 좌표
+    private static LatLngPoint point(double northMeters, double eastMeters) {
+        Coordinate coordinate = coordinate(northMeters, eastMeters);
+        return new LatLngPoint(coordinate.y, coordinate.x);
+    }
+
+    private static Coordinate coordinate(double northMeters, double eastMeters) {
+        double lat = BASE_LAT + northMeters / METERS_PER_DEGREE;
+        double lng = BASE_LNG + eastMeters / (METERS_PER_DEGREE * Math.cos(Math.toRadians(BASE_LAT)));
+        return new Coordinate(lng, lat);
+    }
+}
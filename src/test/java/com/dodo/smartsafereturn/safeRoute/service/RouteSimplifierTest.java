@@ -0,0 +1,98 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이동 경로 단순화 (미터 단위 허용 오차, 원본 좌표 유지) 검증
+ */
+class RouteSimplifierTest {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double BASE_LAT = 37.5;
+    private static final double BASE_LNG = 127.0;
+
+    private final GeometryFactory factory = new GeometryFactory(new PrecisionModel(), 4326);
+    private final RouteSimplifier simplifier = new RouteSimplifier();
+
+    @Test
+    @DisplayName("허용 오차보다 작게 흔들리는 직선은 시작 / 끝점만 남음")
+    void jitterRemoved() {
+        // 북쪽으로 10m 씩 이동하며 동서로 1m 흔들림
+        Coordinate[] coordinates = new Coordinate[20];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = offset(i * 10.0, i % 2 == 0 ? 0.0 : 1.0);
+        }
+        LineString line = factory.createLineString(coordinates);
+
+        LineString simplified = simplifier.simplify(line, 3);
+
+        assertThat(simplified.getCoordinates()).containsExactly(coordinates[0], coordinates[coordinates.length - 1]);
+    }
+
+    @Test
+    @DisplayName("허용 오차보다 크게 벗어난 좌표는 유지 (경도는 위도 기준 미터로 환산)")
+    void offsetBeyondToleranceKept() {
+        Coordinate start = offset(0, 0);
+        Coordinate bend = offset(100, 5); // 동쪽으로 5m
+        Coordinate end = offset(200, 0);
+        LineString line = factory.createLineString(new Coordinate[]{start, bend, end});
+
+        assertThat(simplifier.simplify(line, 3).getCoordinates()).containsExactly(start, bend, end);
+        assertThat(simplifier.simplify(line, 8).getCoordinates()).containsExactly(start, end);
+    }
+
+    @Test
+    @DisplayName("계단 모양 경로는 모서리만 남고, 남은 좌표는 원본 좌표 그대로")
+    void cornersKeptWithOriginalCoordinates() {
+        // 북 -> 동 -> 북 -> 동 (변마다 10m 간격 좌표 10개)
+        List<Coordinate> coordinates = new ArrayList<>();
+        double north = 0;
+        double east = 0;
+        coordinates.add(offset(north, east));
+        for (int side = 0; side < 4; side++) {
+            for (int i = 0; i < 10; i++) {
+                if (side % 2 == 0) {
+                    north += 10;
+                } else {
+                    east += 10;
+                }
+                coordinates.add(offset(north, east));
+            }
+        }
+        LineString line = factory.createLineString(coordinates.toArray(Coordinate[]::new));
+
+        LineString simplified = simplifier.simplify(line, 3);
+
+        assertThat(simplified.getCoordinates()).containsExactly(
+                coordinates.get(0), coordinates.get(10), coordinates.get(20), coordinates.get(30), coordinates.get(40));
+        assertThat(simplified.getSRID()).isEqualTo(4326);
+    }
+
+    @Test
+    @DisplayName("허용 오차 0 / 좌표 2개 이하 / null 은 그대로 반환")
+    void unchangedInputs() {
+        LineString line = factory.createLineString(new Coordinate[]{offset(0, 0), offset(10, 1), offset(20, 0)});
+        LineString segment = factory.createLineString(new Coordinate[]{offset(0, 0), offset(10, 0)});
+
+        assertThat(simplifier.simplify(line, 0)).isSameAs(line);
+        assertThat(simplifier.simplify(segment, 3)).isSameAs(segment);
+        assertThat(simplifier.simplify(null, 3)).isNull();
+    }
+
+    // 기준점에서 북쪽 northMeters, 동쪽 eastMeters 만큼 떨어진 좌표 (x : 경도, y : 위도)
+    private static Coordinate offset(double northMeters, double eastMeters) {
+        double lat = BASE_LAT + northMeters / METERS_PER_DEGREE;
+        double lng = BASE_LNG + eastMeters / (METERS_PER_DEGREE * Math.cos(Math.toRadians(BASE_LAT)));
+        return new Coordinate(lng, lat);
+    }
+}
@@ -0,0 +1,129 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStalledEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointsAppendedEvent;
+import com.dodo.smartsafereturn.safeRoute.utils.GeoBounds;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 멈춤 감시 (radius 30m / 10분 / 버퍼 16개) 에 걷는 경로 / 머무는 경로 좌표를 1초 간격으로 넣어서 검증
+ */
+class RouteStationaryDetectorTest {
+
+    private static final Long SAFE_ROUTE_ID = 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 4, 3, 21, 0, 0);
+    private static final double START_LAT = 37.4835;
+    private static final double START_LNG = 126.9821;
+
+    private final List<Object> events = new ArrayList<>();
+    private RouteStationaryDetector detector;
+    private long nextSeq;
+
+    @BeforeEach
+    void setUp() {
+        detector = new RouteStationaryDetector(events::add, new SimpleMeterRegistry(),
+                true, 30, Duration.ofMinutes(10), 16, 100);
+    }
+
+    // 좌표를 batchSize 개씩 나눠서 좌표 추가 이벤트로 넣음
+    private void feed(List<LatLngPoint> points, List<LocalDateTime> recordedAts, int batchSize) {
+        for (int from = 0; from < points.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, points.size());
+            detector.onPointsAppended(new SafeRoutePointsAppendedEvent(SAFE_ROUTE_ID, nextSeq,
+                    points.subList(from, to), recordedAts.subList(from, to)));
+            nextSeq += to - from;
+        }
+    }
+
+    private static List<LocalDateTime> everySecond(int count) {
+        List<LocalDateTime> times = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            times.add(BASE_TIME.plusSeconds(i));
+        }
+        return times;
+    }
+
+    // 북쪽으로 metersPerPoint 씩 이동
+    private static List<LatLngPoint> walking(int count, double metersPerPoint) {
+        List<LatLngPoint> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(new LatLngPoint(START_LAT + i * metersPerPoint / GeoBounds.METERS_PER_DEGREE, START_LNG));
+        }
+        return points;
+    }
+
+    // 시작 위치 주변 jitterMeters 안에서 흔들림 (GPS 오차)
+    private static List<LatLngPoint> stationary(int count, double jitterMeters) {
+        Random random = new Random(42);
+        List<LatLngPoint> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double dLat = (random.nextDouble() * 2 - 1) * jitterMeters / GeoBounds.METERS_PER_DEGREE;
+            double dLng = (random.nextDouble() * 2 - 1) * GeoBounds.degreesForMeters(START_LAT, jitterMeters);
+            points.add(new LatLngPoint(START_LAT + dLat, START_LNG + dLng));
+        }
+        return points;
+    }
+
+    @Test
+    @DisplayName("천천히 걷는 경로 (1초에 1.4m, 20분) 는 멈춤으로 판단하지 않음")
+    void walkingTraceIsNotStalled() {
+        int count = 20 * 60;
+        feed(walking(count, 1.4), everySecond(count), 1);
+
+        assertThat(events).isEmpty();
+        assertThat(detector.getState(SAFE_ROUTE_ID).isStalled()).isFalse();
+        assertThat(detector.getState(SAFE_ROUTE_ID).getStationarySeconds()).isLessThan(60);
+    }
+
+    @Test
+    @DisplayName("한 자리에서 GPS 오차만큼 흔들리며 10분 이상 머물면 한 번만 멈춤 이벤트 발행")
+    void stationaryTraceIsStalledOnce() {
+        int count = 15 * 60;
+        feed(stationary(count, 10), everySecond(count), 5);
+
+        assertThat(events).hasSize(1);
+        RouteStalledEvent event = (RouteStalledEvent) events.get(0);
+        assertThat(event.safeRouteId()).isEqualTo(SAFE_ROUTE_ID);
+        assertThat(event.stationarySince()).isEqualTo(BASE_TIME);
+        assertThat(GeoBounds.distanceMeters(START_LAT, START_LNG, event.center().getLat(), event.center().getLng())).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("머문 시간은 좌표 측정 시각 기준 (한 번에 올라온 오프라인 좌표도 판단)")
+    void usesRecordedAtOfBatchedPoints() {
+        int count = 11 * 60;
+        feed(stationary(count, 5), everySecond(count), count);
+
+        assertThat(events).hasSize(1);
+        assertThat(detector.getState(SAFE_ROUTE_ID).getStationarySeconds()).isEqualTo(count - 1);
+    }
+
+    @Test
+    @DisplayName("머물다가 다시 걸으면 멈춤 상태 해제")
+    void movingAgainClearsStall() {
+        int count = 11 * 60;
+        feed(stationary(count, 5), everySecond(count), 10);
+        assertThat(detector.getState(SAFE_ROUTE_ID).isStalled()).isTrue();
+
+        List<LatLngPoint> walk = walking(60, 1.4);
+        List<LocalDateTime> times = new ArrayList<>();
+        for (int i = 0; i < walk.size(); i++) {
+            times.add(BASE_TIME.plusSeconds(count + i));
+        }
+        feed(walk, times, 1);
+
+        assertThat(detector.getState(SAFE_ROUTE_ID).isStalled()).isFalse();
+    }
+}
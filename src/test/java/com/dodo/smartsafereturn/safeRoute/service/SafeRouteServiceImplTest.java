@@ -0,0 +1,244 @@
+package com.dodo.smartsafereturn.safeRoute.service;
+
+import com.dodo.smartsafereturn.auth.utils.JwtUtil;
+import com.dodo.smartsafereturn.dangerzone.service.DangerZoneIndex;
+import com.dodo.smartsafereturn.member.repository.MemberRepository;
+import com.dodo.smartsafereturn.messagelog.service.MessageLogService;
+import com.dodo.smartsafereturn.safeRoute.dto.RoutePathCursor;
+import com.dodo.smartsafereturn.safeRoute.dto.RouteStateChangeDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePathChangedEvent;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointAppendResultDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncAckDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncBatchDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteSyncDto;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRouteUpdateDto;
+import com.dodo.smartsafereturn.safeRoute.dto.TimedLatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.entity.RouteState;
+import com.dodo.smartsafereturn.safeRoute.entity.SafeRoute;
+import com.dodo.smartsafereturn.safeRoute.repository.MemberRouteStatsCounterRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.MemberRouteStatsRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.RoutePointRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRoutePathBatchRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRawPathRepository;
+import com.dodo.smartsafereturn.safeRoute.repository.SafeRouteRepository;
+import com.dodo.smartsafereturn.sosmessage.service.SosRecipientCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.CoordinateArraySequence;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 오프라인 일괄 업로드의 상태 변경 반영 / 경로 수정 검증
+ * - 늦게 도착한 예전 상태 변경이 서버에서 이미 바뀐 상태 (종료, 더 최근 변경) 를 덮어쓰지 않음
+ * - 경로 수정은 계획 경로만 교체 (이미 받은 좌표 / 측정 시각은 유지)
+ */
+@ExtendWith(MockitoExtension.class)
+class SafeRouteServiceImplTest {
+
+    private static final Long SAFE_ROUTE_ID = 1L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.now().minusHours(1);
+
+    @Mock
+    private SafeRouteRepository safeRouteRepository;
+
+    @Mock
+    private SafeRouteRawPathRepository safeRouteRawPathRepository;
+
+    @Mock
+    private SafeRoutePathBatchRepository safeRoutePathBatchRepository;
+
+    @Mock
+    private RoutePointRepository routePointRepository;
+
+    @Mock
+    private MemberRouteStatsRepository memberRouteStatsRepository;
+
+    @Mock
+    private MemberRouteStatsCounterRepository memberRouteStatsCounterRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MessageLogService messageLogService;
+
+    @Mock
+    private SosRecipientCache sosRecipientCache;
+
+    @Mock
+    private RouteSimplifier routeSimplifier;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RouteDeviationDetector routeDeviationDetector;
+
+    @Mock
+    private RouteStationaryDetector routeStationaryDetector;
+
+    @Mock
+    private MapTileCache mapTileCache;
+
+    @Mock
+    private RouteLiveStream routeLiveStream;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private DangerZoneIndex dangerZoneIndex;
+
+    private final GeometryFactory factory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private SafeRouteServiceImpl safeRouteService;
+
+    @BeforeEach
+    void setUp() {
+        safeRouteService = new SafeRouteServiceImpl(safeRouteRepository, safeRouteRawPathRepository, safeRoutePathBatchRepository,
+                routePointRepository, memberRouteStatsRepository, memberRouteStatsCounterRepository, memberRepository,
+                messageLogService, sosRecipientCache, routeSimplifier, eventPublisher, routeDeviationDetector,
+                routeStationaryDetector, mapTileCache, routeLiveStream, jwtUtil, dangerZoneIndex);
+        ReflectionTestUtils.setField(safeRouteService, "maxSyncBatches", 100);
+        ReflectionTestUtils.setField(safeRouteService, "maxSyncPoints", 20000);
+        ReflectionTestUtils.setField(safeRouteService, "syncClockSkew", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("이미 FAILED 인 경로에 오프라인 중 IN_PROGRESS 가 늦게 도착하면 무시")
+    void staleStateAfterFailedIgnored() {
+        given(safeRouteRepository.findPathCursor(SAFE_ROUTE_ID)).willReturn(Optional.of(new RoutePathCursor(3L, RouteState.FAILED, CREATED_AT)));
+
+        SafeRouteSyncAckDto ack = sync(RouteState.IN_PROGRESS, LocalDateTime.now().minusMinutes(10));
+
+        assertThat(ack.getState()).isEqualTo(RouteState.FAILED);
+        verify(safeRouteRepository, never()).findById(any());
+        verifyNoInteractions(memberRouteStatsCounterRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("진행 중 경로라도 서버의 마지막 상태 변경보다 오래된 변경은 무시")
+    void stateOlderThanServerChangeIgnored() {
+        LocalDateTime serverChangedAt = LocalDateTime.now().minusMinutes(5);
+        SafeRoute safeRoute = route(RouteState.IN_PROGRESS, serverChangedAt);
+        given(safeRouteRepository.findPathCursor(SAFE_ROUTE_ID)).willReturn(Optional.of(new RoutePathCursor(3L, RouteState.IN_PROGRESS, CREATED_AT)));
+        given(safeRouteRepository.findById(SAFE_ROUTE_ID)).willReturn(Optional.of(safeRoute));
+
+        SafeRouteSyncAckDto ack = sync(RouteState.FINISHED, serverChangedAt.minusMinutes(1));
+
+        assertThat(ack.getState()).isEqualTo(RouteState.IN_PROGRESS);
+        assertThat(safeRoute.getIsSuccess()).isEqualTo(RouteState.IN_PROGRESS);
+        assertThat(safeRoute.getFinishedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("진행 중 경로의 더 최근 도착은 단말 변경 시각으로 반영")
+    void newerForwardStateApplied() {
+        LocalDateTime serverChangedAt = LocalDateTime.now().minusMinutes(5);
+        LocalDateTime arrivedAt = serverChangedAt.plusMinutes(2);
+        SafeRoute safeRoute = route(RouteState.IN_PROGRESS, serverChangedAt);
+        given(safeRouteRepository.findPathCursor(SAFE_ROUTE_ID)).willReturn(Optional.of(new RoutePathCursor(3L, RouteState.IN_PROGRESS, CREATED_AT)));
+        given(safeRouteRepository.findById(SAFE_ROUTE_ID)).willReturn(Optional.of(safeRoute));
+
+        SafeRouteSyncAckDto ack = sync(RouteState.FINISHED, arrivedAt);
+
+        assertThat(ack.getState()).isEqualTo(RouteState.FINISHED);
+        assertThat(safeRoute.getFinishedAt()).isEqualTo(arrivedAt);
+        assertThat(safeRoute.getStateChangedAt()).isEqualTo(arrivedAt);
+    }
+
+    @Test
+    @DisplayName("경로 등록 전 (시계 오차 초과) 측정 시각의 좌표는 거부 -> route_point 조회 범위 밖")
+    void pointBeforeRouteRejected() {
+        given(safeRouteRepository.findPathCursor(SAFE_ROUTE_ID)).willReturn(Optional.of(new RoutePathCursor(0L, RouteState.IN_PROGRESS, CREATED_AT)));
+        SafeRouteSyncBatchDto batch = SafeRouteSyncBatchDto.builder()
+                .batchId("batch-1")
+                .safeRouteId(SAFE_ROUTE_ID)
+                .points(new ArrayList<>(List.of(TimedLatLngPoint.builder()
+                        .seq(1L).lat(37.5).lng(127.0).recordedAt(CREATED_AT.minusMinutes(10)).build())))
+                .build();
+
+        SafeRouteSyncAckDto ack = safeRouteService.sync(new SafeRouteSyncDto(List.of(batch))).getAcks().get(0);
+
+        assertThat(ack.getResult()).isEqualTo(SafeRoutePointAppendResultDto.AppendResult.REJECTED);
+        verifyNoInteractions(safeRoutePathBatchRepository, routePointRepository);
+    }
+
+    @Test
+    @DisplayName("경로 수정은 계획 경로만 교체하고 이미 받은 좌표 (route_point) / 순번 / 지나온 경로는 그대로")
+    void updateReplacesPlannedPathOnly() {
+        LineString routePath = factory.createLineString(new Coordinate[]{new Coordinate(127.0, 37.5), new Coordinate(127.001, 37.501)});
+        SafeRoute safeRoute = SafeRoute.builder()
+                .startLocation("집")
+                .endLocation("회사")
+                .startTime(CREATED_AT)
+                .endTime(CREATED_AT.plusHours(1))
+                .routePath(routePath)
+                .lastPointSeq(1L)
+                .build();
+        ReflectionTestUtils.setField(safeRoute, "id", SAFE_ROUTE_ID);
+        given(safeRouteRepository.findById(SAFE_ROUTE_ID)).willReturn(Optional.of(safeRoute));
+        given(routeSimplifier.simplify(any(), anyDouble())).willAnswer(invocation -> invocation.getArgument(0));
+        CoordinateSequence plannedPath = new CoordinateArraySequence(new Coordinate[]{
+                new Coordinate(127.0, 37.5), new Coordinate(127.002, 37.5), new Coordinate(127.002, 37.502)});
+
+        safeRouteService.update(SafeRouteUpdateDto.builder()
+                .safeRouteId(SAFE_ROUTE_ID)
+                .endLocation("학교")
+                .endTime(CREATED_AT.plusHours(2))
+                .routePath(plannedPath)
+                .build());
+
+        assertThat(safeRoute.getEndLocation()).isEqualTo("학교");
+        assertThat(safeRoute.getPlannedPath().getNumPoints()).isEqualTo(3);
+        assertThat(safeRoute.getRoutePath()).isSameAs(routePath);
+        assertThat(safeRoute.getLastPointSeq()).isEqualTo(1L);
+        verifyNoInteractions(routePointRepository, safeRouteRawPathRepository, memberRouteStatsCounterRepository);
+        verify(eventPublisher).publishEvent(new SafeRoutePathChangedEvent(SAFE_ROUTE_ID, safeRoute.getPlannedPath()));
+    }
+
+    // 좌표 없이 상태 변경 하나만 담은 배치 업로드
+    private SafeRouteSyncAckDto sync(RouteState state, LocalDateTime changedAt) {
+        SafeRouteSyncBatchDto batch = SafeRouteSyncBatchDto.builder()
+                .batchId("batch-1")
+                .safeRouteId(SAFE_ROUTE_ID)
+                .states(new ArrayList<>(List.of(new RouteStateChangeDto(state, changedAt))))
+                .build();
+        return safeRouteService.sync(new SafeRouteSyncDto(List.of(batch))).getAcks().get(0);
+    }
+
+    private static SafeRoute route(RouteState state, LocalDateTime changedAt) {
+        SafeRoute safeRoute = SafeRoute.builder()
+                .startLocation("집")
+                .endLocation("회사")
+                .startTime(changedAt.minusMinutes(30))
+                .endTime(changedAt.plusMinutes(30))
+                .lastPointSeq(3L)
+                .build();
+        ReflectionTestUtils.setField(safeRoute, "id", SAFE_ROUTE_ID);
+        safeRoute.changeIsSuccess(state, changedAt);
+        return safeRoute;
+    }
+}
@@ -0,0 +1,55 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Polygon;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 외곽선 좌표 -> 구역 다각형 변환 (위험 구역 / 안심 구역 공용) 확인
+ */
+class GeoBoundsTest {
+
+    @Test
+    @DisplayName("닫히지 않은 외곽선은 첫 좌표로 닫고 경도(x), 위도(y) 순서로 만듦")
+    void closesRing() {
+        Polygon polygon = GeoBounds.polygonOf(List.of(
+                new LatLngPoint(37.50, 127.00),
+                new LatLngPoint(37.50, 127.01),
+                new LatLngPoint(37.51, 127.01)));
+
+        assertThat(polygon.getSRID()).isEqualTo(4326);
+        assertThat(polygon.getExteriorRing().getNumPoints()).isEqualTo(4);
+        assertThat(polygon.getExteriorRing().isClosed()).isTrue();
+        assertThat(polygon.getCoordinates()[1].getX()).isEqualTo(127.01);
+        assertThat(polygon.getCoordinates()[1].getY()).isEqualTo(37.50);
+    }
+
+    @Test
+    @DisplayName("좌표 부족 / 자기 교차 / 범위 밖 좌표 -> 거부")
+    void invalidAreaRejected() {
+        assertThatThrownBy(() -> GeoBounds.polygonOf(List.of()))
+                .hasMessageContaining("서로 다른 좌표 3개 이상");
+        assertThatThrownBy(() -> GeoBounds.polygonOf(List.of(
+                new LatLngPoint(37.50, 127.00),
+                new LatLngPoint(37.50, 127.01),
+                new LatLngPoint(37.50, 127.00))))
+                .hasMessageContaining("서로 다른 좌표 3개 이상");
+        assertThatThrownBy(() -> GeoBounds.polygonOf(List.of(
+                new LatLngPoint(37.50, 127.00),
+                new LatLngPoint(37.51, 127.01),
+                new LatLngPoint(37.50, 127.01),
+                new LatLngPoint(37.51, 127.00))))
+                .hasMessageContaining("자기 자신과 교차");
+        assertThatThrownBy(() -> GeoBounds.polygonOf(List.of(
+                new LatLngPoint(91, 127.00),
+                new LatLngPoint(37.50, 127.01),
+                new LatLngPoint(37.51, 127.01))))
+                .isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,63 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+/**
+ * WGS84 측지선 거리 (Vincenty inverse) 의 기준값 일치 / 대척점 근처 대체 계산 검증
+ */
+class GeodesicTest {
+
+    @Test
+    @DisplayName("Vincenty 논문 예제 (Flinders Peak -> Buninyong) 와 mm 수준으로 일치")
+    void matchesReferenceDistance() {
+        double distance = Geodesic.distanceMeters(-37.95103342, 144.42486789, -37.65282114, 143.92649554);
+
+        assertThat(distance).isCloseTo(54_972.271, within(0.001));
+    }
+
+    @Test
+    @DisplayName("적도 위 경도 1도 / 적도 -> 극 (자오선 사분호)")
+    void equatorAndMeridian() {
+        assertThat(Geodesic.distanceMeters(0, 0, 0, 1)).isCloseTo(111_319.491, within(0.001));
+        assertThat(Geodesic.distanceMeters(0, 0, 90, 0)).isCloseTo(10_001_965.729, within(0.001));
+    }
+
+    @Test
+    @DisplayName("같은 좌표는 0, 방향을 바꿔도 같은 거리")
+    void zeroAndSymmetric() {
+        assertThat(Geodesic.distanceMeters(37.5, 127.0, 37.5, 127.0)).isZero();
+        assertThat(Geodesic.distanceMeters(37.5665, 126.978, 35.1796, 129.0756))
+                .isCloseTo(Geodesic.distanceMeters(35.1796, 129.0756, 37.5665, 126.978), within(1e-6));
+    }
+
+    @Test
+    @DisplayName("대척점 근처 (수렴하지 않는 경우) 는 구면 거리로 대신 -> 유한한 근사값")
+    void nearAntipodalFallsBack() {
+        // 실제 측지선 거리 19,936,288.579m (Vincenty 가 수렴하지 않는 대표적인 예)
+        double nearAntipodal = Geodesic.distanceMeters(0, 0, 0.5, 179.5);
+        // 실제 측지선 거리 20,003,931.459m
+        double antipodal = Geodesic.distanceMeters(0, 0, 0, 180);
+
+        assertThat(nearAntipodal).isFinite().isCloseTo(19_936_288.579, withinPercentage(0.5));
+        assertThat(antipodal).isFinite().isCloseTo(20_003_931.459, withinPercentage(0.5));
+    }
+
+    @Test
+    @DisplayName("경로 길이 = 구간 거리의 합 (좌표 1개 이하는 0)")
+    void lengthIsSumOfSegments() {
+        double[] coordinates = {126.978, 37.5665, 127.0276, 37.4979, 129.0756, 35.1796}; // 경도, 위도 순서
+        PackedCoordinateSequence.Double sequence = new PackedCoordinateSequence.Double(coordinates, 2, 0);
+
+        double expected = Geodesic.distanceMeters(37.5665, 126.978, 37.4979, 127.0276)
+                + Geodesic.distanceMeters(37.4979, 127.0276, 35.1796, 129.0756);
+
+        assertThat(Geodesic.lengthMeters(sequence)).isCloseTo(expected, within(1e-6));
+        assertThat(Geodesic.lengthMeters(new PackedCoordinateSequence.Double(new double[]{127.0, 37.5}, 2, 0))).isZero();
+    }
+}
@@ -0,0 +1,64 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.dodo.smartsafereturn.safeRoute.dto.SafeRoutePointAppendDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 좌표 추가 요청의 좌표 목록 역직렬화 (좌표 배열 / encoded polyline) 검증 / 좌표 수 제한 확인
+ */
+class LatLngPathDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("좌표 배열 / polyline 문자열 모두 같은 좌표 목록으로 읽음")
+    void readsArrayAndPolyline() throws Exception {
+        List<LatLngPoint> array = read("[{\"lat\": 38.5, \"lng\": -120.2}, {\"lat\": 40.7, \"lng\": -120.95}]");
+        List<LatLngPoint> polyline = read("\"_p~iF~ps|U_ulLnnqC\"");
+
+        assertThat(array).containsExactly(new LatLngPoint(38.5, -120.2), new LatLngPoint(40.7, -120.95));
+        assertThat(polyline).isEqualTo(array);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 좌표 -> 입력 오류 (400)")
+    void outOfRangeRejected() {
+        assertThatThrownBy(() -> read("[{\"lat\": 37.5, \"lng\": 127}, {\"lat\": 91, \"lng\": 127}]"))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("1 번째 좌표의 위도 / 경도 범위를 벗어남");
+        String encoded = PolylineCodec.encode(List.of(new LatLngPoint(37.5, 181.0)));
+        assertThatThrownBy(() -> read("\"" + encoded + "\""))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("범위를 벗어남");
+    }
+
+    @Test
+    @DisplayName("좌표 배열 / polyline 문자열이 최대 좌표 수를 넘으면 입력 오류 (400)")
+    void tooManyPointsRejected() {
+        String point = "{\"lat\":37.5,\"lng\":127.0}";
+        String array = "[" + String.join(",", Collections.nCopies(VarintRouteCodec.MAX_POINTS + 1, point)) + "]";
+        String encoded = PolylineCodec.encode(Collections.nCopies(VarintRouteCodec.MAX_POINTS + 1, new LatLngPoint(37.5, 127.0)));
+
+        assertThatThrownBy(() -> read(array))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("좌표 수 초과");
+        assertThatThrownBy(() -> read("\"" + encoded + "\""))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("좌표 수 초과");
+    }
+
+    // 좌표 추가 요청 본문으로 읽어서 필드에 붙은 역직렬화기 사용
+    private List<LatLngPoint> read(String points) throws Exception {
+        return objectMapper.readValue("{\"fromSeq\": 0, \"points\": " + points + "}", SafeRoutePointAppendDto.class).getPoints();
+    }
+}
@@ -0,0 +1,73 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.CoordinateSequence;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 경로 좌표 목록 역직렬화 (좌표 배열 / encoded polyline) 의 검증 / 좌표 수 제한 확인
+ */
+class PackedPathDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addDeserializer(CoordinateSequence.class, new PackedPathDeserializer()));
+
+    @Test
+    @DisplayName("좌표 배열 / polyline 문자열 모두 경도(x), 위도(y) 순서로 읽음")
+    void readsArrayAndPolyline() throws Exception {
+        CoordinateSequence array = read("[{\"lat\": 38.5, \"lng\": -120.2}, {\"lng\": -120.95, \"lat\": 40.7}]");
+        CoordinateSequence polyline = read("\"_p~iF~ps|U_ulLnnqC\"");
+
+        assertThat(array.size()).isEqualTo(2);
+        assertThat(array.getX(1)).isEqualTo(-120.95);
+        assertThat(array.getY(1)).isEqualTo(40.7);
+        assertThat(polyline.size()).isEqualTo(2);
+        assertThat(polyline.getX(0)).isEqualTo(-120.2);
+        assertThat(polyline.getY(0)).isEqualTo(38.5);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 / 빠진 좌표 -> 입력 오류 (400)")
+    void invalidCoordinateRejected() {
+        assertThatThrownBy(() -> read("[{\"lat\": 91, \"lng\": 127}]"))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("범위를 벗어남");
+        assertThatThrownBy(() -> read("[{\"lat\": 37.5}]"))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("lat / lng 가 없음");
+    }
+
+    @Test
+    @DisplayName("좌표 배열이 최대 좌표 수를 넘으면 입력 오류 (400)")
+    void tooManyArrayPointsRejected() {
+        String point = "{\"lat\":37.5,\"lng\":127.0}";
+        String body = "[" + String.join(",", Collections.nCopies(VarintRouteCodec.MAX_POINTS + 1, point)) + "]";
+
+        assertThatThrownBy(() -> read(body))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("좌표 수 초과");
+    }
+
+    @Test
+    @DisplayName("polyline 문자열이 최대 좌표 수를 넘으면 입력 오류 (400)")
+    void tooManyPolylinePointsRejected() {
+        String encoded = PolylineCodec.encode(Collections.nCopies(VarintRouteCodec.MAX_POINTS + 1, new LatLngPoint(37.5, 127.0)));
+
+        assertThatThrownBy(() -> read("\"" + encoded + "\""))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("좌표 수 초과");
+    }
+
+    private CoordinateSequence read(String json) throws Exception {
+        return objectMapper.readValue(json, CoordinateSequence.class);
+    }
+}
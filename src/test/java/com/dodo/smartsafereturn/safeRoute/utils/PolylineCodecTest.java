@@ -0,0 +1,108 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Google encoded polyline 인코딩 / 디코딩 (왕복, 잘린 문자열, 범위 초과) 검증
+ */
+class PolylineCodecTest {
+
+    // Google polyline 문서의 예제
+    private static final String EXAMPLE = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+    private static final List<LatLngPoint> EXAMPLE_POINTS = List.of(
+            new LatLngPoint(38.5, -120.2),
+            new LatLngPoint(40.7, -120.95),
+            new LatLngPoint(43.252, -126.453));
+
+    private final GeometryFactory factory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Test
+    @DisplayName("문서 예제와 같은 문자열로 인코딩 / 디코딩")
+    void encodesKnownExample() {
+        assertThat(PolylineCodec.encode(EXAMPLE_POINTS)).isEqualTo(EXAMPLE);
+        assertThat(PolylineCodec.decode(EXAMPLE)).isEqualTo(EXAMPLE_POINTS);
+    }
+
+    @Test
+    @DisplayName("LineString 인코딩 -> 좌표 시퀀스 디코딩 왕복 (precision 1e5)")
+    void lineStringRoundTrip() {
+        LineString line = factory.createLineString(new Coordinate[]{
+                new Coordinate(127.027621, 37.497942),
+                new Coordinate(127.028013, 37.498310),
+                new Coordinate(126.978388, 37.566536)});
+
+        PackedCoordinateSequence.Double sequence = PolylineCodec.decodeSequence(PolylineCodec.encode(line));
+
+        assertThat(sequence.size()).isEqualTo(3);
+        for (int i = 0; i < sequence.size(); i++) {
+            assertThat(sequence.getX(i)).isCloseTo(line.getCoordinateN(i).x, within(1e-5));
+            assertThat(sequence.getY(i)).isCloseTo(line.getCoordinateN(i).y, within(1e-5));
+        }
+    }
+
+    @Test
+    @DisplayName("빈 문자열은 좌표 0개")
+    void emptyString() {
+        assertThat(PolylineCodec.decode("")).isEmpty();
+        assertThat(PolylineCodec.decodeSequence("").size()).isZero();
+    }
+
+    @Test
+    @DisplayName("중간에 잘린 문자열 -> 예외")
+    void truncatedRejected() {
+        String truncated = EXAMPLE.substring(0, EXAMPLE.length() - 1);
+
+        assertThatThrownBy(() -> PolylineCodec.decode(truncated)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> PolylineCodec.decodeSequence(truncated)).isInstanceOf(RuntimeException.class);
+        // 위도만 있고 경도가 없는 좌표
+        assertThatThrownBy(() -> PolylineCodec.decode("_p~iF")).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("끝나지 않는 값 (long 범위 초과) / 허용 범위 밖 문자 -> 예외")
+    void overflowAndInvalidCharRejected() {
+        assertThatThrownBy(() -> PolylineCodec.decode("~".repeat(20)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("잘못된 polyline 형식");
+        assertThatThrownBy(() -> PolylineCodec.decode("_p~iF ps|U"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("잘못된 polyline 문자");
+    }
+
+    @Test
+    @DisplayName("위도 / 경도 범위를 벗어난 좌표 -> 예외")
+    void outOfRangeRejected() {
+        String encoded = PolylineCodec.encode(List.of(new LatLngPoint(91.0, 127.0)));
+
+        assertThatThrownBy(() -> PolylineCodec.decodeSequence(encoded))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("범위를 벗어남");
+        assertThatThrownBy(() -> PolylineCodec.decode(encoded))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("범위를 벗어남");
+    }
+
+    @Test
+    @DisplayName("좌표 목록 디코딩은 최대 좌표 수를 넘으면 예외")
+    void tooManyPointsRejected() {
+        String encoded = PolylineCodec.encode(Collections.nCopies(VarintRouteCodec.MAX_POINTS + 1, new LatLngPoint(37.5, 127.0)));
+
+        assertThatThrownBy(() -> PolylineCodec.decode(encoded))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("좌표 수 초과");
+    }
+}
@@ -0,0 +1,121 @@
+package com.dodo.smartsafereturn.safeRoute.utils;
+
+import com.dodo.smartsafereturn.safeRoute.dto.LatLngPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 이동 경로 바이너리 인코딩 / 디코딩 (왕복, 잘린 본문, 좌표 수 / varint 초과) 검증
+ */
+class VarintRouteCodecTest {
+
+    private final GeometryFactory factory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Test
+    @DisplayName("인코딩 -> 디코딩 왕복 (precision 1e6, 음수 차이 포함)")
+    void roundTrip() {
+        LineString line = factory.createLineString(new Coordinate[]{
+                new Coordinate(127.027621, 37.497942),
+                new Coordinate(127.027580, 37.497990),
+                new Coordinate(-73.985656, -40.748433)});
+
+        List<LatLngPoint> points = VarintRouteCodec.decode(VarintRouteCodec.encode(line));
+
+        assertThat(points).hasSize(3);
+        for (int i = 0; i < points.size(); i++) {
+            assertThat(points.get(i).getLat()).isCloseTo(line.getCoordinateN(i).y, within(1e-6));
+            assertThat(points.get(i).getLng()).isCloseTo(line.getCoordinateN(i).x, within(1e-6));
+        }
+    }
+
+    @Test
+    @DisplayName("가까운 연속 좌표는 좌표 1개당 2 ~ 4 byte")
+    void compactForWalkingSteps() {
+        Coordinate[] coordinates = new Coordinate[100];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(127.0 + i * 0.00005, 37.5 + i * 0.00005);
+        }
+
+        byte[] encoded = VarintRouteCodec.encode(factory.createLineString(coordinates));
+
+        assertThat(encoded.length).isLessThan(2 + 10 + coordinates.length * 4);
+    }
+
+    @Test
+    @DisplayName("경로가 없으면 좌표 수 0 으로 인코딩")
+    void nullLineEncodesEmpty() {
+        assertThat(VarintRouteCodec.encode(null)).containsExactly(1, 0);
+        assertThat(VarintRouteCodec.decode(new byte[]{1, 0})).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중간에 잘린 본문 / 좌표 수와 맞지 않는 본문 -> 예외")
+    void truncatedRejected() {
+        byte[] encoded = VarintRouteCodec.encode(factory.createLineString(new Coordinate[]{
+                new Coordinate(127.0, 37.5), new Coordinate(127.001, 37.501)}));
+
+        assertThatThrownBy(() -> VarintRouteCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("본문이 중간에 끝남");
+        assertThatThrownBy(() -> VarintRouteCodec.decode(Arrays.copyOf(encoded, encoded.length + 1)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("본문 길이가 맞지 않음");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전 / 너무 짧은 본문 -> 예외")
+    void unsupportedFormatRejected() {
+        assertThatThrownBy(() -> VarintRouteCodec.decode(new byte[]{2, 0}))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("지원하지 않는");
+        assertThatThrownBy(() -> VarintRouteCodec.decode(new byte[]{1}))
+                .isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> VarintRouteCodec.decode(null))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("좌표 수 초과 -> 배열을 만들기 전에 예외")
+    void tooManyPointsRejected() {
+        // varint 100_001 = 0xA1 0x8D 0x06
+        byte[] body = {1, (byte) 0xA1, (byte) 0x8D, 0x06};
+
+        assertThatThrownBy(() -> VarintRouteCodec.decode(body))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("좌표 수 초과");
+    }
+
+    @Test
+    @DisplayName("위도 / 경도 범위를 벗어난 좌표 -> 예외")
+    void outOfRangeRejected() {
+        byte[] body = VarintRouteCodec.encode(factory.createLineString(new Coordinate[]{
+                new Coordinate(127.0, 37.5), new Coordinate(127.0, 91.0)}));
+
+        assertThatThrownBy(() -> VarintRouteCodec.decode(body))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("1 번째 좌표의 위도 / 경도 범위를 벗어남");
+    }
+
+    @Test
+    @DisplayName("64bit 를 넘는 varint -> 예외")
+    void varintOverflowRejected() {
+        byte[] body = new byte[12];
+        body[0] = 1;
+        Arrays.fill(body, 1, body.length, (byte) 0x80);
+
+        assertThatThrownBy(() -> VarintRouteCodec.decode(body))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("잘못된 varint");
+    }
+}
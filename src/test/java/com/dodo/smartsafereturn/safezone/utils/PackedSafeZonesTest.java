@@ -0,0 +1,140 @@
+package com.dodo.smartsafereturn.safezone.utils;
+
+import com.dodo.smartsafereturn.safezone.entity.SafeZone;
+import com.dodo.smartsafereturn.safezone.entity.SafeZoneType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 회원 안심 구역 인덱스의 포함 판정 (원형 / 다각형) 과 인덱스 교체 시 비트 옮기기 검증
+ */
+class PackedSafeZonesTest {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double BASE_LAT = 37.5;
+    private static final double BASE_LNG = 127.0;
+
+    private final GeometryFactory factory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Test
+    @DisplayName("원형 구역은 중심에서 반경 이내면 포함 (경도 방향도 미터 기준)")
+    void circleContains() {
+        PackedSafeZones zones = new PackedSafeZones(List.of(circle(1L, 0, 0, 100, true)), 0);
+
+        assertThat(zones.contains(lat(0), lng(0))).isEqualTo(1L);
+        assertThat(zones.contains(lat(95), lng(0))).isEqualTo(1L);
+        assertThat(zones.contains(lat(0), lng(95))).isEqualTo(1L);
+        assertThat(zones.contains(lat(0), lng(105))).isZero();
+        // bbox 모서리 (대각선 약 141m)
+        assertThat(zones.contains(lat(90), lng(90))).isZero();
+    }
+
+    @Test
+    @DisplayName("다각형 구역은 ray casting 으로 판정 (오목한 부분은 제외)")
+    void polygonContains() {
+        // ㄷ 모양 : 200m x 200m 에서 동쪽 가운데 (북 60 ~ 140m, 동 100 ~ 200m) 를 파냄
+        PackedSafeZones zones = new PackedSafeZones(List.of(polygon(1L,
+                0, 0, 0, 200, 60, 200, 60, 100, 140, 100, 140, 200, 200, 200, 200, 0)), 0);
+
+        assertThat(zones.contains(lat(30), lng(150))).isEqualTo(1L);
+        assertThat(zones.contains(lat(100), lng(50))).isEqualTo(1L);
+        assertThat(zones.contains(lat(100), lng(150))).isZero();
+        assertThat(zones.contains(lat(250), lng(50))).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 구역이 겹치면 각 구역 비트를 모두 반환, 도착 시 완료 구역은 finishMask")
+    void overlappingZonesAndFinishMask() {
+        PackedSafeZones zones = new PackedSafeZones(List.of(
+                circle(10L, 0, 0, 100, true),
+                polygon(20L, -50, -50, -50, 50, 50, 50, 50, -50),
+                circle(30L, 1000, 1000, 100, false)), 0);
+
+        assertThat(zones.contains(lat(0), lng(0))).isEqualTo(0b011L);
+        assertThat(zones.contains(lat(80), lng(0))).isEqualTo(0b001L);
+        assertThat(zones.contains(lat(1000), lng(1000))).isEqualTo(0b100L);
+        assertThat(zones.finishMask()).isEqualTo(0b001L);
+        assertThat(zones.zoneId(2)).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("구역 순서가 바뀌거나 추가 / 삭제되어도 구역 ID 기준으로 비트를 옮김")
+    void remapAndAddedMask() {
+        SafeZone a = circle(10L, 0, 0, 100, true);
+        SafeZone b = circle(20L, 500, 0, 100, true);
+        SafeZone c = circle(30L, 1000, 0, 100, true);
+        SafeZone d = circle(40L, 1500, 0, 100, true);
+        PackedSafeZones previous = new PackedSafeZones(List.of(a, b, c), 0);
+        // b 삭제, d 추가, 순서 변경
+        PackedSafeZones current = new PackedSafeZones(List.of(d, c, a), 1);
+
+        // previous 기준 a, b 안에 있던 상태
+        long remapped = current.remap(previous, 0b011L);
+
+        assertThat(remapped).isEqualTo(0b100L);
+        assertThat(current.addedMask(previous)).isEqualTo(0b001L);
+        assertThat(current.remap(PackedSafeZones.EMPTY, 0b111L)).isZero();
+        assertThat(PackedSafeZones.EMPTY.addedMask(previous)).isZero();
+    }
+
+    @Test
+    @DisplayName("회원당 64개까지 허용 (마지막 구역은 부호 비트), 넘으면 예외")
+    void tooManyZonesRejected() {
+        List<SafeZone> zones = new ArrayList<>();
+        for (int i = 0; i <= PackedSafeZones.MAX_ZONES; i++) {
+            zones.add(circle((long) i, i * 300, 0, 100, true));
+        }
+
+        assertThatThrownBy(() -> new PackedSafeZones(zones, 0)).isInstanceOf(RuntimeException.class);
+        assertThat(new PackedSafeZones(zones.subList(0, PackedSafeZones.MAX_ZONES), 0).contains(lat(63 * 300), lng(0)))
+                .isEqualTo(Long.MIN_VALUE);
+    }
+
+    private static SafeZone circle(Long id, double northMeters, double eastMeters, double radiusMeters, boolean finishOnArrival) {
+        SafeZone zone = SafeZone.builder()
+                .name("zone" + id)
+                .type(SafeZoneType.CIRCLE)
+                .centerLat(lat(northMeters))
+                .centerLng(lng(eastMeters))
+                .radiusMeters(radiusMeters)
+                .finishOnArrival(finishOnArrival)
+                .build();
+        ReflectionTestUtils.setField(zone, "id", id);
+        return zone;
+    }
+
+    // (북, 동) 미터 쌍 목록으로 다각형 (닫는 좌표는 자동 추가)
+    private SafeZone polygon(Long id, double... northEastMeters) {
+        Coordinate[] ring = new Coordinate[northEastMeters.length / 2 + 1];
+        for (int i = 0; i < ring.length - 1; i++) {
+            ring[i] = new Coordinate(lng(northEastMeters[i * 2 + 1]), lat(northEastMeters[i * 2]));
+        }
+        ring[ring.length - 1] = ring[0];
+        SafeZone zone = SafeZone.builder()
+                .name("zone" + id)
+                .type(SafeZoneType.POLYGON)
+                .area(factory.createPolygon(ring))
+                .finishOnArrival(false)
+                .build();
+        ReflectionTestUtils.setField(zone, "id", id);
+        return zone;
+    }
+
+    private static double lat(double northMeters) {
+        return BASE_LAT + northMeters / METERS_PER_DEGREE;
+    }
+
+    private static double lng(double eastMeters) {
+        return BASE_LNG + eastMeters / (METERS_PER_DEGREE * Math.cos(Math.toRadians(BASE_LAT)));
+    }
+}
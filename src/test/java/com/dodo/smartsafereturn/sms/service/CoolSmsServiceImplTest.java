@@ -0,0 +1,69 @@
+package com.dodo.smartsafereturn.sms.service;
+
+import com.dodo.smartsafereturn.sms.exception.InsufficientBalanceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.nurigo.sdk.message.model.Balance;
+import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 발송 전 잔액 장부 차감 -> 추정 잔액이 실제보다 낮을 때 (충전 등) 한 번 동기화 후 발송하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class CoolSmsServiceImplTest {
+
+    private static final long COST_PER_SMS = 20L;
+
+    @Mock
+    private DefaultMessageService messageService;
+
+    private SmsBalanceLedger balanceLedger;
+    private CoolSmsServiceImpl smsService;
+
+    @BeforeEach
+    void setUp() {
+        balanceLedger = new SmsBalanceLedger(messageService, new SimpleMeterRegistry(), COST_PER_SMS);
+        smsService = new CoolSmsServiceImpl(messageService, balanceLedger);
+        ReflectionTestUtils.setField(smsService, "fromNumber", "01000000000");
+    }
+
+    @Test
+    @DisplayName("장부 잔액이 부족해도 실제 잔액이 충전되어 있으면 동기화 후 발송")
+    void staleBalanceRefreshedBeforeSend() throws Exception {
+        // 장부 동기화 시점 잔액 0원 -> 이후 충전되어 실제 잔액 1000원
+        given(messageService.getBalance()).willReturn(new Balance(0f, 0f), new Balance(1000f, 0f));
+        balanceLedger.refresh();
+
+        smsService.sendSms("01012345678", "SOS");
+
+        verify(messageService).sendOne(any(SingleMessageSendingRequest.class));
+        verify(messageService, times(2)).getBalance();
+        assertThat(balanceLedger.getBalance()).isEqualTo(1000L - COST_PER_SMS);
+    }
+
+    @Test
+    @DisplayName("동기화 후에도 잔액이 부족하면 발송하지 않고 예외")
+    void insufficientAfterRefreshRejected() throws Exception {
+        given(messageService.getBalance()).willReturn(new Balance(10f, 0f));
+        balanceLedger.refresh();
+
+        assertThatThrownBy(() -> smsService.sendSms("01012345678", "SOS"))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        verify(messageService, never()).sendOne(any(SingleMessageSendingRequest.class));
+        verify(messageService, times(2)).getBalance();
+    }
+}
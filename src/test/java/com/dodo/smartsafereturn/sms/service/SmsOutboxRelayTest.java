@@ -0,0 +1,123 @@
+package com.dodo.smartsafereturn.sms.service;
+
+import com.dodo.smartsafereturn.sms.entity.SmsDispatchStatus;
+import com.dodo.smartsafereturn.sms.entity.SmsOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * SMS outbox 워커의 발송 / 재시도 / lease 만료 처리 검증
+ * - 워커 풀에서 비동기로 발송하므로 shutdown() (진행 중인 발송 대기) 후 확인
+ */
+class SmsOutboxRelayTest {
+
+    private final SmsOutboxService smsOutboxService = mock(SmsOutboxService.class);
+    private final SmsService smsService = mock(SmsService.class);
+    private SimpleMeterRegistry meterRegistry;
+    private SmsOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new SmsOutboxRelay(smsOutboxService, smsService, meterRegistry, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    @DisplayName("가져간 건 발송 -> 가져갈 때의 시도 횟수로 성공 기록")
+    void dispatchSent() {
+        SmsOutbox outbox = claimed(7L, 1, LocalDateTime.now().plusMinutes(1));
+        given(smsOutboxService.claim(anyInt())).willReturn(List.of(outbox));
+        given(smsOutboxService.recordSuccess(7L, 1)).willReturn(true);
+
+        relay.drain();
+        relay.shutdown();
+
+        verify(smsService).sendSms("01012345678", "SOS");
+        assertThat(dispatched("sent")).isEqualTo(1.0);
+        assertThat(dispatched("lost")).isZero();
+    }
+
+    @Test
+    @DisplayName("발송 실패 -> 재시도 예약 / 최대 시도 초과는 FAILED")
+    void dispatchRetryAndFailed() {
+        SmsOutbox retry = claimed(7L, 1, LocalDateTime.now().plusMinutes(1));
+        SmsOutbox failed = claimed(8L, 3, LocalDateTime.now().plusMinutes(1));
+        given(smsOutboxService.claim(anyInt())).willReturn(List.of(retry, failed));
+        willThrow(new RuntimeException("timeout")).given(smsService).sendSms(anyString(), anyString());
+        given(smsOutboxService.recordFailure(eq(7L), eq(1), any())).willReturn(Optional.of(SmsDispatchStatus.PENDING));
+        given(smsOutboxService.recordFailure(eq(8L), eq(3), any())).willReturn(Optional.of(SmsDispatchStatus.FAILED));
+
+        relay.drain();
+        relay.shutdown();
+
+        assertThat(dispatched("retry")).isEqualTo(1.0);
+        assertThat(dispatched("failed")).isEqualTo(1.0);
+        verify(smsOutboxService, never()).recordSuccess(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("대기열에서 lease 가 만료된 건은 발송하지 않음")
+    void expiredLeaseNotSent() {
+        SmsOutbox outbox = claimed(7L, 1, LocalDateTime.now().minusSeconds(1));
+        given(smsOutboxService.claim(anyInt())).willReturn(List.of(outbox));
+
+        relay.drain();
+        relay.shutdown();
+
+        verifyNoInteractions(smsService);
+        verify(smsOutboxService, never()).recordSuccess(anyLong(), anyInt());
+        assertThat(dispatched("lost")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("발송 중 lease 를 잃으면 (0 행 갱신) 성공으로 세지 않음")
+    void lostLeaseOnRecord() {
+        SmsOutbox outbox = claimed(7L, 1, LocalDateTime.now().plusMinutes(1));
+        given(smsOutboxService.claim(anyInt())).willReturn(List.of(outbox));
+        given(smsOutboxService.recordSuccess(7L, 1)).willReturn(false);
+
+        relay.drain();
+        relay.shutdown();
+
+        verify(smsService).sendSms("01012345678", "SOS");
+        assertThat(dispatched("sent")).isZero();
+        assertThat(dispatched("lost")).isEqualTo(1.0);
+    }
+
+    // claim() 이 돌려주는 SENDING 상태의 건 (시도 횟수 / lease 만료 시각은 markSending 이 설정)
+    private static SmsOutbox claimed(Long id, int attempts, LocalDateTime leaseUntil) {
+        SmsOutbox outbox = SmsOutbox.builder()
+                .messageLogId(id)
+                .recipients(List.of("01012345678"))
+                .message("SOS")
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        ReflectionTestUtils.setField(outbox, "status", SmsDispatchStatus.SENDING);
+        ReflectionTestUtils.setField(outbox, "attempts", attempts);
+        ReflectionTestUtils.setField(outbox, "nextAttemptAt", leaseUntil);
+        return outbox;
+    }
+
+    private double dispatched(String result) {
+        return meterRegistry.counter("sms.outbox.dispatch", "result", result).count();
+    }
+}
@@ -0,0 +1,129 @@
+package com.dodo.smartsafereturn.sms.service;
+
+import com.dodo.smartsafereturn.sms.entity.SmsDispatchStatus;
+import com.dodo.smartsafereturn.sms.entity.SmsOutbox;
+import com.dodo.smartsafereturn.sms.repository.SmsOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * SMS outbox 가져가기 (lease) / 발송 결과 기록 (재시도 예약, lease 를 잃은 워커) 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class SmsOutboxServiceImplTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(1);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    @Mock
+    private SmsOutboxRepository smsOutboxRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SmsOutboxServiceImpl smsOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        smsOutboxService = new SmsOutboxServiceImpl(smsOutboxRepository, eventPublisher, 3, BASE_BACKOFF, MAX_BACKOFF, LEASE);
+    }
+
+    @Test
+    @DisplayName("가져간 건은 lease 만료 시각까지 SENDING")
+    void claimMarksSendingUntilLease() {
+        SmsOutbox outbox = SmsOutbox.builder().messageLogId(1L).recipients(List.of("01012345678")).message("SOS").build();
+        given(smsOutboxRepository.lockDispatchable(any(), eq(10))).willReturn(List.of(7L));
+        given(smsOutboxRepository.findAllById(List.of(7L))).willReturn(List.of(outbox));
+
+        LocalDateTime before = LocalDateTime.now();
+        List<SmsOutbox> claimed = smsOutboxService.claim(10);
+
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(smsOutboxRepository).markSending(eq(List.of(7L)), leaseUntil.capture());
+        assertThat(leaseUntil.getValue()).isCloseTo(before.plus(LEASE), within(1, ChronoUnit.SECONDS));
+        assertThat(claimed).containsExactly(outbox);
+    }
+
+    @Test
+    @DisplayName("가져갈 건이 없으면 SENDING 변경 X")
+    void claimNothing() {
+        given(smsOutboxRepository.lockDispatchable(any(), anyInt())).willReturn(List.of());
+
+        assertThat(smsOutboxService.claim(10)).isEmpty();
+        verify(smsOutboxRepository, never()).markSending(any(), any());
+    }
+
+    @Test
+    @DisplayName("발송 실패 -> 시도 횟수에 따라 지수 backoff 로 재시도 예약")
+    void failureSchedulesRetryWithBackoff() {
+        given(smsOutboxRepository.markFailure(eq(7L), eq(2), eq(SmsDispatchStatus.PENDING), any(), eq("timeout"), any()))
+                .willReturn(1);
+
+        LocalDateTime before = LocalDateTime.now();
+        Optional<SmsDispatchStatus> status = smsOutboxService.recordFailure(7L, 2, "timeout");
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(smsOutboxRepository).markFailure(eq(7L), eq(2), eq(SmsDispatchStatus.PENDING), nextAttemptAt.capture(), any(), any());
+        assertThat(status).contains(SmsDispatchStatus.PENDING);
+        // base * 2^(2 - 1)
+        assertThat(nextAttemptAt.getValue()).isCloseTo(before.plusSeconds(10), within(1, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패하면 FAILED")
+    void failureAtMaxAttemptsIsFailed() {
+        given(smsOutboxRepository.markFailure(eq(7L), eq(3), eq(SmsDispatchStatus.FAILED), any(), any(), any()))
+                .willReturn(1);
+
+        assertThat(smsOutboxService.recordFailure(7L, 3, "timeout")).contains(SmsDispatchStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("오류 메시지는 컬럼 길이 (500) 로 자름")
+    void failureErrorTruncated() {
+        given(smsOutboxRepository.markFailure(anyLong(), anyInt(), any(), any(), any(), any())).willReturn(1);
+
+        smsOutboxService.recordFailure(7L, 1, "x".repeat(600));
+
+        ArgumentCaptor<String> error = ArgumentCaptor.forClass(String.class);
+        verify(smsOutboxRepository).markFailure(eq(7L), eq(1), any(), any(), error.capture(), any());
+        assertThat(error.getValue()).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("lease 만료 후 다른 워커가 다시 가져간 건은 예전 워커의 결과를 기록하지 않음")
+    void lostLeaseIsNotRecorded() {
+        given(smsOutboxRepository.markSent(eq(7L), eq(1), any())).willReturn(0);
+        given(smsOutboxRepository.markFailure(eq(7L), eq(1), any(), any(), any(), any())).willReturn(0);
+
+        assertThat(smsOutboxService.recordSuccess(7L, 1)).isFalse();
+        assertThat(smsOutboxService.recordFailure(7L, 1, "timeout")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("lease 를 가지고 있으면 발송 성공 기록")
+    void successRecorded() {
+        given(smsOutboxRepository.markSent(eq(7L), eq(1), any())).willReturn(1);
+
+        assertThat(smsOutboxService.recordSuccess(7L, 1)).isTrue();
+    }
+}